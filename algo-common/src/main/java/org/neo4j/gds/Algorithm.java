@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds;
 
+import org.neo4j.gds.core.checkpoint.Checkpoints;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -27,6 +28,8 @@ public abstract class Algorithm<RESULT> implements TerminationFlag {
 
     protected TerminationFlag terminationFlag = TerminationFlag.RUNNING_TRUE;
 
+    protected Checkpoints checkpoints = Checkpoints.DISABLED;
+
     protected Algorithm(ProgressTracker progressTracker) {
         this.progressTracker = progressTracker;
     }
@@ -47,6 +50,13 @@ public abstract class Algorithm<RESULT> implements TerminationFlag {
         return terminationFlag;
     }
 
+    /**
+     * Only algorithms that support resuming from a checkpoint make use of it, all others ignore it.
+     */
+    public void setCheckpoints(Checkpoints checkpoints) {
+        this.checkpoints = checkpoints;
+    }
+
     public ProgressTracker getProgressTracker() {
         return this.progressTracker;
     }
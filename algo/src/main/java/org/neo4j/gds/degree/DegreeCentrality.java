@@ -25,6 +25,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.WorkStealing;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -33,7 +34,6 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Function;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -79,9 +79,8 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                 progressTracker.logProgress(graph.nodeCount());
                 return graph::degree;
             case REVERSE:
-                return computeDegreeAtomic((partition, degrees) -> new ReverseDegreeTask(
+                return computeDegreeAtomic(degrees -> new ReverseDegreeWorker(
                         graph.concurrentCopy(),
-                        partition,
                         progressTracker,
                         (sourceNodeId, targetNodeId, weight) -> {
                             degrees.getAndAdd(targetNodeId, 1);
@@ -90,9 +89,8 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                     )
                 );
             case UNDIRECTED:
-                return computeDegreeAtomic((partition, degrees) -> new UndirectedDegreeTask(
+                return computeDegreeAtomic(degrees -> new UndirectedDegreeWorker(
                         graph.concurrentCopy(),
-                        partition,
                         degrees,
                         progressTracker
                     )
@@ -115,9 +113,8 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                     progressTracker
                 ));
             case REVERSE:
-                return computeDegreeAtomic((partition, degrees) -> new ReverseDegreeTask(
+                return computeDegreeAtomic(degrees -> new ReverseDegreeWorker(
                         graph.concurrentCopy(),
-                        partition,
                         progressTracker,
                         (sourceNodeId, targetNodeId, weight) -> {
                             if (weight > 0.0D) {
@@ -128,9 +125,8 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                     )
                 );
             case UNDIRECTED:
-                return computeDegreeAtomic((partition, degrees) -> new UndirectedWeightedDegreeTask(
+                return computeDegreeAtomic(degrees -> new UndirectedWeightedDegreeWorker(
                     graph.concurrentCopy(),
-                    partition,
                     degrees,
                     progressTracker
                 ));
@@ -148,8 +144,8 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
     }
 
     @FunctionalInterface
-    interface TaskFunctionAtomic {
-        Runnable apply(Partition partition, HugeAtomicDoubleArray array);
+    interface WorkerFunctionAtomic {
+        WorkStealing.RelationshipWorker apply(HugeAtomicDoubleArray array);
     }
 
     private DegreeFunction computeDegree(TaskFunction taskFunction) {
@@ -164,15 +160,22 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
         return degrees::get;
     }
 
-    private DegreeFunction computeDegreeAtomic(TaskFunctionAtomic taskFunction) {
+    /**
+     * The degrees are updated atomically per relationship,
+     * so the adjacency lists of high-degree nodes are split to not leave a single thread with a super node.
+     */
+    private DegreeFunction computeDegreeAtomic(WorkerFunctionAtomic workerFunction) {
         var degrees = HugeAtomicDoubleArray.newArray(graph.nodeCount());
-        var tasks = PartitionUtils.degreePartition(
-            graph,
+        WorkStealing.forEachNode(
             config.concurrency(),
-            partition -> taskFunction.apply(partition, degrees),
-            Optional.of(config.minBatchSize())
+            executor,
+            graph.nodeCount(),
+            config.minBatchSize(),
+            graph::degree,
+            WorkStealing.DEFAULT_SPLIT_DEGREE,
+            this,
+            () -> workerFunction.apply(degrees)
         );
-        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executor);
         return degrees::get;
     }
 
@@ -221,104 +224,138 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
         }
     }
 
-    private static class ReverseDegreeTask implements Runnable {
+    private static class ReverseDegreeWorker implements WorkStealing.RelationshipWorker {
 
         private final Graph graph;
-        private final Partition partition;
         private final ProgressTracker progressTracker;
         private final RelationshipWithPropertyConsumer consumer;
 
-        ReverseDegreeTask(
+        ReverseDegreeWorker(
             Graph graph,
-            Partition partition,
             ProgressTracker progressTracker,
             RelationshipWithPropertyConsumer consumer
         ) {
             this.graph = graph;
-            this.partition = partition;
             this.progressTracker = progressTracker;
             this.consumer = consumer;
         }
 
         @Override
-        public void run() {
-            partition.consume(node -> graph.forEachRelationship(node, DEFAULT_WEIGHT, consumer));
-            progressTracker.logProgress(partition.nodeCount());
+        public void processNode(long nodeId) {
+            graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
+            progressTracker.logProgress(1);
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipWithPropertyConsumer consumer) {
+            graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
+        }
+
+        @Override
+        public void processRelationships(long nodeId, long[] targets, double[] properties, int fromIndex, int toIndex) {
+            WorkStealing.forEachRelationship(nodeId, targets, properties, fromIndex, toIndex, consumer);
+            if (fromIndex == 0) {
+                progressTracker.logProgress(1);
+            }
         }
     }
 
-    private static class UndirectedDegreeTask implements Runnable {
+    private static class UndirectedDegreeWorker implements WorkStealing.RelationshipWorker {
 
         private final Graph graph;
-        private final Partition partition;
         private final HugeAtomicDoubleArray degrees;
         private final ProgressTracker progressTracker;
 
-        UndirectedDegreeTask(
+        UndirectedDegreeWorker(
             Graph graph,
-            Partition partition,
             HugeAtomicDoubleArray degrees,
             ProgressTracker progressTracker
         ) {
             this.graph = graph;
-            this.partition = partition;
             this.degrees = degrees;
             this.progressTracker = progressTracker;
         }
 
         @Override
-        public void run() {
-            Function<Long, Integer> degreeFn = graph::degree;
-
-            partition.consume(node -> {
-                // outgoing
-                degrees.getAndAdd(node, degreeFn.apply(node));
-                // incoming
-                graph.forEachRelationship(node, (sourceNodeId, targetNodeId) -> {
-                    degrees.getAndAdd(targetNodeId, 1);
-                    return true;
-                });
+        public void processNode(long nodeId) {
+            // outgoing
+            degrees.getAndAdd(nodeId, graph.degree(nodeId));
+            // incoming
+            graph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                degrees.getAndAdd(targetNodeId, 1);
+                return true;
             });
-            progressTracker.logProgress(partition.nodeCount());
+            progressTracker.logProgress(1);
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipWithPropertyConsumer consumer) {
+            graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
+        }
+
+        @Override
+        public void processRelationships(long nodeId, long[] targets, double[] properties, int fromIndex, int toIndex) {
+            if (fromIndex == 0) {
+                // outgoing, only counted by the first chunk
+                degrees.getAndAdd(nodeId, graph.degree(nodeId));
+                progressTracker.logProgress(1);
+            }
+            // incoming
+            for (int index = fromIndex; index < toIndex; index++) {
+                degrees.getAndAdd(targets[index], 1);
+            }
         }
     }
 
-    private static class UndirectedWeightedDegreeTask implements Runnable {
+    private static class UndirectedWeightedDegreeWorker implements WorkStealing.RelationshipWorker {
 
         private final Graph graph;
-        private final Partition partition;
         private final HugeAtomicDoubleArray degrees;
         private final ProgressTracker progressTracker;
+        private final MutableDouble nodeWeight;
+        private final RelationshipWithPropertyConsumer consumer;
 
-        UndirectedWeightedDegreeTask(
+        UndirectedWeightedDegreeWorker(
             Graph graph,
-            Partition partition,
             HugeAtomicDoubleArray degrees,
             ProgressTracker progressTracker
         ) {
             this.graph = graph;
-            this.partition = partition;
             this.degrees = degrees;
             this.progressTracker = progressTracker;
+            this.nodeWeight = new MutableDouble();
+            this.consumer = (sourceNodeId, targetNodeId, weight) -> {
+                if (weight > 0.0D) {
+                    // outgoing
+                    nodeWeight.add(weight);
+                    // incoming
+                    degrees.getAndAdd(targetNodeId, weight);
+                }
+                return true;
+            };
         }
 
         @Override
-        public void run() {
-            var nodeWeight = new MutableDouble();
-            partition.consume(node -> {
-                nodeWeight.setValue(0);
-                graph.forEachRelationship(node, DEFAULT_WEIGHT, ((sourceNodeId, targetNodeId, weight) -> {
-                    if (weight > 0.0D) {
-                        // outgoing
-                        nodeWeight.add(weight);
-                        // incoming
-                        degrees.getAndAdd(targetNodeId, weight);
-                    }
-                    return true;
-                }));
-                degrees.getAndAdd(node, nodeWeight.doubleValue());
-            });
-            progressTracker.logProgress(partition.nodeCount());
+        public void processNode(long nodeId) {
+            nodeWeight.setValue(0);
+            graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
+            degrees.getAndAdd(nodeId, nodeWeight.doubleValue());
+            progressTracker.logProgress(1);
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipWithPropertyConsumer consumer) {
+            graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
+        }
+
+        @Override
+        public void processRelationships(long nodeId, long[] targets, double[] properties, int fromIndex, int toIndex) {
+            nodeWeight.setValue(0);
+            WorkStealing.forEachRelationship(nodeId, targets, properties, fromIndex, toIndex, consumer);
+            degrees.getAndAdd(nodeId, nodeWeight.doubleValue());
+            if (fromIndex == 0) {
+                progressTracker.logProgress(1);
+            }
         }
     }
 }
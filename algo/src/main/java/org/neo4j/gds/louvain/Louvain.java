@@ -31,6 +31,7 @@ import org.neo4j.gds.beta.modularity.ModularityOptimization;
 import org.neo4j.gds.beta.modularity.ModularityOptimizationFactory;
 import org.neo4j.gds.beta.modularity.ModularityOptimizationStreamConfig;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.checkpoint.Checkpoints;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
@@ -44,6 +45,7 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
 
 import static org.neo4j.gds.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
 
@@ -79,9 +81,18 @@ public final class Louvain extends Algorithm<Louvain> {
 
         Graph workingGraph = rootGraph;
         NodePropertyValues nextSeedingValues = seedingValues;
+        int firstLevel = 0;
+
+        if (restoreCheckpoint()) {
+            // the condensed graph of the last completed level is rebuilt from the root graph
+            var lastDendrogram = dendrograms[ranLevels - 1];
+            workingGraph = summarizeGraph(rootGraph, lastDendrogram::get, maxCommunityId(lastDendrogram));
+            nextSeedingValues = summarizedSeedingValues(workingGraph);
+            firstLevel = ranLevels;
+        }
 
-        long oldNodeCount = rootGraph.nodeCount();
-        for (ranLevels = 0; ranLevels < config.maxLevels(); ranLevels++) {
+        long oldNodeCount = workingGraph.nodeCount();
+        for (ranLevels = firstLevel; ranLevels < config.maxLevels(); ranLevels++) {
 
             assertRunning();
 
@@ -95,14 +106,8 @@ public final class Louvain extends Algorithm<Louvain> {
             dendrograms[ranLevels] = HugeLongArray.newArray(rootGraph.nodeCount());
             long maxCommunityId = buildDendrogram(workingGraph, ranLevels, modularityOptimization);
 
-            workingGraph = summarizeGraph(workingGraph, modularityOptimization, maxCommunityId);
-            nextSeedingValues = new OriginalIdNodePropertyValues(workingGraph) {
-                @Override
-                public OptionalLong getMaxLongPropertyValue() {
-                    // We want to use the maxSeedCommunity with value 0 in all subsequent iterations
-                    return OptionalLong.empty();
-                }
-            };
+            workingGraph = summarizeGraph(workingGraph, modularityOptimization::getCommunityId, maxCommunityId);
+            nextSeedingValues = summarizedSeedingValues(workingGraph);
 
             if (workingGraph.nodeCount() == oldNodeCount
                 || workingGraph.nodeCount() == 1
@@ -112,12 +117,58 @@ public final class Louvain extends Algorithm<Louvain> {
                 break;
             }
             oldNodeCount = workingGraph.nodeCount();
+            saveCheckpoint(ranLevels + 1);
         }
 
+        checkpoints.delete();
         progressTracker.endSubTask();
         return this;
     }
 
+    private static NodePropertyValues summarizedSeedingValues(Graph summarizedGraph) {
+        return new OriginalIdNodePropertyValues(summarizedGraph) {
+            @Override
+            public OptionalLong getMaxLongPropertyValue() {
+                // We want to use the maxSeedCommunity with value 0 in all subsequent iterations
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * A checkpoint holds the dendrograms and modularities of all completed levels.
+     */
+    private void saveCheckpoint(int completedLevels) {
+        checkpoints.save(output -> {
+            output.writeInt(completedLevels);
+            for (int level = 0; level < completedLevels; level++) {
+                output.writeDouble(modularities[level]);
+                Checkpoints.writeLongArray(output, dendrograms[level]);
+            }
+        });
+    }
+
+    private boolean restoreCheckpoint() {
+        var restoredLevels = checkpoints.restore(input -> {
+            int completedLevels = input.readInt();
+            for (int level = 0; level < completedLevels; level++) {
+                modularities[level] = input.readDouble();
+                dendrograms[level] = Checkpoints.readLongArray(input);
+            }
+            return completedLevels;
+        });
+        restoredLevels.ifPresent(levels -> this.ranLevels = levels);
+        return restoredLevels.isPresent();
+    }
+
+    private long maxCommunityId(HugeLongArray dendrogram) {
+        long maxCommunityId = 0L;
+        for (long nodeId = 0; nodeId < dendrogram.size(); nodeId++) {
+            maxCommunityId = Math.max(maxCommunityId, dendrogram.get(nodeId));
+        }
+        return maxCommunityId;
+    }
+
     private void resizeResultArrays() {
         int numLevels = levels();
         HugeLongArray[] resizedDendrogram = new HugeLongArray[numLevels];
@@ -184,7 +235,7 @@ public final class Louvain extends Algorithm<Louvain> {
 
     private Graph summarizeGraph(
         Graph workingGraph,
-        ModularityOptimization modularityOptimization,
+        LongUnaryOperator communities,
         long maxCommunityId
     ) {
         var nodesBuilder = GraphFactory.initNodesBuilder()
@@ -195,7 +246,7 @@ public final class Louvain extends Algorithm<Louvain> {
         assertRunning();
 
         workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimization.getCommunityId(nodeId));
+            nodesBuilder.addNode(communities.applyAsLong(nodeId));
             return true;
         });
 
@@ -216,7 +267,7 @@ public final class Louvain extends Algorithm<Louvain> {
             partition ->
                 new RelationshipCreator(
                     relationshipsBuilder,
-                    modularityOptimization,
+                    communities,
                     workingGraph.concurrentCopy(),
                     partition
                 ),
@@ -277,7 +328,7 @@ public final class Louvain extends Algorithm<Louvain> {
 
         private final RelationshipsBuilder relationshipsBuilder;
 
-        private final ModularityOptimization modularityOptimization;
+        private final LongUnaryOperator communities;
 
         private final RelationshipIterator relationshipIterator;
 
@@ -286,12 +337,12 @@ public final class Louvain extends Algorithm<Louvain> {
 
         private RelationshipCreator(
             RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimization modularityOptimization,
+            LongUnaryOperator communities,
             RelationshipIterator relationshipIterator,
             Partition partition
         ) {
             this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimization = modularityOptimization;
+            this.communities = communities;
             this.relationshipIterator = relationshipIterator;
             this.partition = partition;
         }
@@ -299,9 +350,9 @@ public final class Louvain extends Algorithm<Louvain> {
         @Override
         public void run() {
             partition.consume(nodeId -> {
-                long communityId = modularityOptimization.getCommunityId(nodeId);
+                long communityId = communities.applyAsLong(nodeId);
                 relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    relationshipsBuilder.add(communityId, modularityOptimization.getCommunityId(target), property);
+                    relationshipsBuilder.add(communityId, communities.applyAsLong(target), property);
                     return true;
                 });
             });
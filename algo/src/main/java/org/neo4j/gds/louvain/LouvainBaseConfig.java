@@ -22,6 +22,7 @@ package org.neo4j.gds.louvain;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.CheckpointConfig;
 import org.neo4j.gds.config.ConsecutiveIdsConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
@@ -34,7 +35,8 @@ public interface LouvainBaseConfig extends
     ConsecutiveIdsConfig,
     RelationshipWeightConfig,
     ToleranceConfig,
-    IterationsConfig {
+    IterationsConfig,
+    CheckpointConfig {
 
     @Value.Default
     @Override
@@ -43,6 +43,7 @@ public final class FilteredKnn extends Algorithm<FilteredKnnResult> {
 
     private final TargetNodeFiltering targetNodeFiltering;
     private final NodeFilter sourceNodeFilter;
+    private final int concurrency;
 
     public static FilteredKnn create(Graph graph, FilteredKnnBaseConfig config, KnnContext context) {
         var targetNodeFilter = config.targetNodeFilter().toNodeFilter(graph);
@@ -50,24 +51,35 @@ public final class FilteredKnn extends Algorithm<FilteredKnnResult> {
         var knn = Knn.createWithDefaultsAndInstrumentation(graph, config, context, targetNodeFiltering);
         var sourceNodeFilter = config.sourceNodeFilter().toNodeFilter(graph);
 
-        return new FilteredKnn(context.progressTracker(), knn, targetNodeFiltering, sourceNodeFilter);
+        return new FilteredKnn(
+            context.progressTracker(),
+            knn,
+            targetNodeFiltering,
+            sourceNodeFilter,
+            config.concurrency()
+        );
     }
 
     private FilteredKnn(
         ProgressTracker progressTracker,
         Knn delegate,
         TargetNodeFiltering targetNodeFiltering,
-        NodeFilter sourceNodeFilter
+        NodeFilter sourceNodeFilter,
+        int concurrency
     ) {
         super(progressTracker);
         this.delegate = delegate;
         this.targetNodeFiltering = targetNodeFiltering;
         this.sourceNodeFilter = sourceNodeFilter;
+        this.concurrency = concurrency;
     }
 
     @Override
     public FilteredKnnResult compute() {
         Knn.Result result = delegate.compute();
+        delegate
+            .rerankSimilarityComputer()
+            .ifPresent(exactComputer -> targetNodeFiltering.rescore(exactComputer, concurrency));
 
         return ImmutableFilteredKnnResult.of(
             result.ranIterations(),
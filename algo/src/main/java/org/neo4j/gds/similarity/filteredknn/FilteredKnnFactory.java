@@ -35,6 +35,7 @@ import org.neo4j.gds.similarity.knn.KnnFactory;
 import org.neo4j.gds.similarity.knn.KnnSampler;
 import org.neo4j.gds.similarity.knn.NeighborList;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
@@ -81,7 +82,7 @@ public class FilteredKnnFactory<CONFIG extends FilteredKnnBaseConfig> extends Gr
                         sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
                     ))
                 );
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(FilteredKnn.class)
                     .add(
                         "top-k-neighbors-list",
@@ -100,8 +101,14 @@ public class FilteredKnnFactory<CONFIG extends FilteredKnnBaseConfig> extends Gr
                         MemoryRange.of(
                             sizeOfIntArray(sizeOfOpenHashContainer(sampledK)) * concurrency
                         )
-                    )
-                    .build();
+                    );
+                if (configuration.quantizeEmbeddings()) {
+                    builder.fixed(
+                        "quantized-embeddings",
+                        KnnFactory.quantizationMemoryEstimation(configuration, dim)
+                    );
+                }
+                return builder.build();
             }
         );
     }
@@ -116,18 +123,17 @@ public class FilteredKnnFactory<CONFIG extends FilteredKnnBaseConfig> extends Gr
     }
 
     public static Task knnTaskTree(Graph graph, FilteredKnnBaseConfig config) {
-        return Tasks.task(
-            KNN_BASE_TASK_NAME,
-            Tasks.leaf("Initialize random neighbors", graph.nodeCount()),
-            Tasks.iterativeDynamic(
-                "Iteration",
-                () -> List.of(
-                    Tasks.leaf("Split old and new neighbors", graph.nodeCount()),
-                    Tasks.leaf("Reverse old and new neighbors", graph.nodeCount()),
-                    Tasks.leaf("Join neighbors", graph.nodeCount())
-                ),
-                config.maxIterations()
-            )
-        );
+        var tasks = new ArrayList<>(KnnFactory.quantizationTasks(graph, config));
+        tasks.add(Tasks.leaf("Initialize random neighbors", graph.nodeCount()));
+        tasks.add(Tasks.iterativeDynamic(
+            "Iteration",
+            () -> List.of(
+                Tasks.leaf("Split old and new neighbors", graph.nodeCount()),
+                Tasks.leaf("Reverse old and new neighbors", graph.nodeCount()),
+                Tasks.leaf("Join neighbors", graph.nodeCount())
+            ),
+            config.maxIterations()
+        ));
+        return Tasks.task(KNN_BASE_TASK_NAME, tasks);
     }
 }
@@ -21,6 +21,6 @@ package org.neo4j.gds.similarity.filteredknn;
 
 import java.util.function.LongPredicate;
 
-interface NodeFilter extends LongPredicate {
+public interface NodeFilter extends LongPredicate {
     NodeFilter noOp = (nodeId) -> true;
 }
@@ -22,10 +22,12 @@ package org.neo4j.gds.similarity.filteredknn;
 import org.apache.commons.lang3.tuple.Pair;
 import org.neo4j.gds.similarity.SimilarityResult;
 import org.neo4j.gds.similarity.knn.NeighbourConsumer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
 import java.util.Comparator;
 import java.util.TreeSet;
 import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -61,6 +63,18 @@ public class TargetNodeFilter implements NeighbourConsumer {
         if (priorityQueue.size() > bound) priorityQueue.pollLast();
     }
 
+    /**
+     * Replaces the priorities with the ones from the given computer, e.g. to re-rank approximate similarities.
+     */
+    void rescore(long nodeId, SimilarityComputer similarityComputer) {
+        var rescored = priorityQueue
+            .stream()
+            .map(p -> Pair.of(similarityComputer.safeSimilarity(nodeId, p.getRight()), p.getRight()))
+            .collect(Collectors.toList());
+        priorityQueue.clear();
+        priorityQueue.addAll(rescored);
+    }
+
     /**
      * As part of an instrumentation of KNN this is a handy utility.
      */
@@ -19,11 +19,13 @@
  */
 package org.neo4j.gds.similarity.filteredknn;
 
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeCursor;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.similarity.SimilarityResult;
 import org.neo4j.gds.similarity.knn.NeighbourConsumer;
 import org.neo4j.gds.similarity.knn.NeighbourConsumers;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
 import java.util.function.Function;
 import java.util.function.LongPredicate;
@@ -56,6 +58,14 @@ public final class TargetNodeFiltering implements NeighbourConsumers {
         return neighbourConsumers.get(nodeId);
     }
 
+    void rescore(SimilarityComputer similarityComputer, int concurrency) {
+        ParallelUtil.parallelForEachNode(
+            neighbourConsumers.size(),
+            concurrency,
+            nodeId -> neighbourConsumers.get(nodeId).rescore(nodeId, similarityComputer)
+        );
+    }
+
     Stream<SimilarityResult> asSimilarityResultStream(LongPredicate sourceNodePredicate) {
         return Stream
             .iterate(
@@ -0,0 +1,559 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.loading.GraphIndex;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.ToDoubleBiFunction;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A hierarchical navigable small world graph over a float or double array node property.
+ *
+ * Every node is assigned a random top level with exponentially decaying probability and is linked to
+ * its most similar nodes on every level up to that one. Searches descend greedily from a single entry point
+ * on the upper levels and run a best-first search with a candidate list of size {@code ef} on the bottom level.
+ * Similarities are those of the {@link SimilarityMetric}, so larger values are closer.
+ *
+ * Node ids are the internal ids of the graph the index was built for.
+ *
+ * See Malkov and Yashunin, "Efficient and robust approximate nearest neighbor search
+ * using Hierarchical Navigable Small World graphs".
+ */
+public final class HnswIndex implements GraphIndex {
+
+    public static final String INDEX_TYPE = "HNSW";
+
+    private static final int MAX_LEVEL = 16;
+
+    private final String nodeProperty;
+    private final SimilarityMetric metric;
+    private final NodePropertyValues properties;
+    private final SimilarityComputer similarityComputer;
+    private final int maxConnections;
+    private final HugeObjectArray<NodeLinks> links;
+    private final long entryPoint;
+    private final int topLevel;
+
+    HnswIndex(
+        String nodeProperty,
+        SimilarityMetric metric,
+        NodePropertyValues properties,
+        SimilarityComputer similarityComputer,
+        int maxConnections,
+        long nodeCount,
+        long randomSeed
+    ) {
+        this.nodeProperty = nodeProperty;
+        this.metric = metric;
+        this.properties = properties;
+        this.similarityComputer = similarityComputer;
+        this.maxConnections = maxConnections;
+        this.links = HugeObjectArray.newArray(NodeLinks.class, nodeCount);
+
+        var levelMultiplier = 1.0 / Math.log(maxConnections);
+        long entryPoint = 0;
+        int topLevel = -1;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int level = randomLevel(nodeId, randomSeed, levelMultiplier);
+            links.set(nodeId, new NodeLinks(level, maxConnections));
+            if (level > topLevel) {
+                topLevel = level;
+                entryPoint = nodeId;
+            }
+        }
+        this.entryPoint = entryPoint;
+        this.topLevel = topLevel;
+    }
+
+    /**
+     * Most nodes only live on the bottom level, a fraction of {@code 1 / maxConnections} also on the level above
+     * and exponentially fewer on the levels further up.
+     * The upper bound assumes every node has links on one upper level.
+     */
+    public static MemoryEstimation memoryEstimation(int maxConnections) {
+        long bottomLevel = sizeOfInstance(NodeLinks.class)
+                           + sizeOfObjectArray(1)
+                           + sizeOfIntArray(1)
+                           + sizeOfLongArray(2L * maxConnections);
+        long upperLevel = sizeOfObjectArray(2) - sizeOfObjectArray(1)
+                          + sizeOfIntArray(2) - sizeOfIntArray(1)
+                          + sizeOfLongArray(maxConnections);
+        return MemoryEstimations
+            .builder(HnswIndex.class)
+            .add(
+                "links",
+                HugeObjectArray.memoryEstimation(
+                    MemoryEstimations.of("node-links", MemoryRange.of(bottomLevel, bottomLevel + upperLevel))
+                )
+            )
+            .build();
+    }
+
+    private static int randomLevel(long nodeId, long randomSeed, double levelMultiplier) {
+        // a hash instead of a shared random keeps the levels independent of the insertion order
+        var uniform = ((BitMixer.mix64(randomSeed + nodeId) >>> 11) + 1) * 0x1.0p-53;
+        return Math.min(MAX_LEVEL, (int) (-Math.log(uniform) * levelMultiplier));
+    }
+
+    @Override
+    public String indexType() {
+        return INDEX_TYPE;
+    }
+
+    public String nodeProperty() {
+        return nodeProperty;
+    }
+
+    public SimilarityMetric similarityMetric() {
+        return metric;
+    }
+
+    public long nodeCount() {
+        return links.size();
+    }
+
+    public int maxConnections() {
+        return maxConnections;
+    }
+
+    long entryPoint() {
+        return entryPoint;
+    }
+
+    /**
+     * Finds the {@code k} most similar nodes to the given node, excluding the node itself.
+     *
+     * @param ef           size of the candidate list on the bottom level, larger values increase recall
+     * @param targetFilter only nodes matching the filter are returned, but all nodes are used for navigation
+     */
+    public SearchResult search(long nodeId, int k, int ef, LongPredicate targetFilter) {
+        return search(
+            other -> similarityComputer.safeSimilarity(nodeId, other),
+            k,
+            ef,
+            other -> other != nodeId && targetFilter.test(other)
+        );
+    }
+
+    /**
+     * Finds the {@code k} most similar nodes to the given vector.
+     *
+     * @see #search(long, int, int, LongPredicate)
+     */
+    public SearchResult search(double[] vector, int k, int ef, LongPredicate targetFilter) {
+        if (links.size() > 0) {
+            int dimension = properties.valueType() == ValueType.FLOAT_ARRAY
+                ? properties.floatArrayValue(entryPoint).length
+                : properties.doubleArrayValue(entryPoint).length;
+            if (vector.length != dimension) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The query vector has %d dimensions, but the property `%s` has %d dimensions.",
+                    vector.length,
+                    nodeProperty,
+                    dimension
+                ));
+            }
+        }
+        return search(vectorScore(vector), k, ef, targetFilter);
+    }
+
+    private SearchResult search(LongToDoubleFunction score, int k, int ef, LongPredicate targetFilter) {
+        if (links.size() == 0 || k <= 0) {
+            return SearchResult.EMPTY;
+        }
+        var buffer = new long[2 * maxConnections];
+        long current = entryPoint;
+        double currentScore = score.applyAsDouble(current);
+        for (int level = topLevel; level > 0; level--) {
+            current = greedySearch(score, current, currentScore, level, buffer);
+            currentScore = score.applyAsDouble(current);
+        }
+        var results = searchLayer(score, current, currentScore, Math.max(k, ef), 0, targetFilter, buffer);
+        return results.limit(k);
+    }
+
+    void insert(long nodeId, int efConstruction) {
+        if (nodeId == entryPoint) {
+            return;
+        }
+        var nodeLinks = links.get(nodeId);
+        var buffer = new long[2 * maxConnections];
+        var backEdge = new long[]{nodeId};
+        LongToDoubleFunction score = other -> similarityComputer.safeSimilarity(nodeId, other);
+
+        long current = entryPoint;
+        double currentScore = score.applyAsDouble(current);
+        for (int level = topLevel; level > nodeLinks.topLevel(); level--) {
+            current = greedySearch(score, current, currentScore, level, buffer);
+            currentScore = score.applyAsDouble(current);
+        }
+
+        for (int level = Math.min(nodeLinks.topLevel(), topLevel); level >= 0; level--) {
+            var candidates = searchLayer(
+                score,
+                current,
+                currentScore,
+                efConstruction,
+                level,
+                other -> other != nodeId,
+                buffer
+            );
+            var selected = selectNeighbors(candidates.nodeIds, candidates.similarities, candidates.size(), maxConnections);
+            // other threads may already have linked back to this node, so merge instead of overwriting
+            link(nodeId, selected, level);
+            for (long neighbor : selected) {
+                link(neighbor, backEdge, level);
+            }
+            current = candidates.nodeId(0);
+            currentScore = candidates.similarity(0);
+        }
+    }
+
+    /**
+     * Adds the new neighbours to the links of the node on the given level, under the monitor of the node.
+     * If they do not all fit, the best neighbours are kept according to the selection heuristic.
+     */
+    private void link(long nodeId, long[] newNeighbors, int level) {
+        var nodeLinks = links.get(nodeId);
+        synchronized (nodeLinks) {
+            int added = 0;
+            while (added < newNeighbors.length && nodeLinks.tryAdd(level, newNeighbors[added])) {
+                added++;
+            }
+            if (added == newNeighbors.length) {
+                return;
+            }
+            // the list is full, keep the best neighbours according to the selection heuristic
+            int capacity = nodeLinks.capacity(level);
+            var candidates = ScoredNodeHeap.maxHeap(capacity + newNeighbors.length - added);
+            var buffer = new long[capacity];
+            int size = nodeLinks.copy(level, buffer);
+            for (int i = 0; i < size; i++) {
+                candidates.push(buffer[i], similarityComputer.safeSimilarity(nodeId, buffer[i]));
+            }
+            for (int i = added; i < newNeighbors.length; i++) {
+                if (!contains(buffer, size, newNeighbors[i])) {
+                    candidates.push(newNeighbors[i], similarityComputer.safeSimilarity(nodeId, newNeighbors[i]));
+                }
+            }
+
+            var sorted = SearchResult.drainDescending(candidates);
+            var selected = selectNeighbors(sorted.nodeIds, sorted.similarities, sorted.size(), capacity);
+            nodeLinks.set(level, selected, selected.length);
+        }
+    }
+
+    private static boolean contains(long[] nodeIds, int size, long nodeId) {
+        for (int i = 0; i < size; i++) {
+            if (nodeIds[i] == nodeId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The neighbour selection heuristic from the paper: a candidate is only linked if it is closer to the base node
+     * than to any neighbour selected before, which keeps links to other clusters. Remaining slots are filled with the
+     * pruned candidates in order of similarity.
+     */
+    private long[] selectNeighbors(long[] candidates, double[] similarities, int candidateCount, int count) {
+        if (candidateCount <= count) {
+            return Arrays.copyOf(candidates, candidateCount);
+        }
+        var selected = new long[count];
+        var pruned = new long[candidateCount];
+        int selectedCount = 0;
+        int prunedCount = 0;
+        for (int i = 0; i < candidateCount && selectedCount < count; i++) {
+            long candidate = candidates[i];
+            boolean keep = true;
+            for (int j = 0; j < selectedCount; j++) {
+                if (similarityComputer.safeSimilarity(candidate, selected[j]) > similarities[i]) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                selected[selectedCount++] = candidate;
+            } else {
+                pruned[prunedCount++] = candidate;
+            }
+        }
+        for (int i = 0; i < prunedCount && selectedCount < count; i++) {
+            selected[selectedCount++] = pruned[i];
+        }
+        return selectedCount == count ? selected : Arrays.copyOf(selected, selectedCount);
+    }
+
+    private long greedySearch(LongToDoubleFunction score, long start, double startScore, int level, long[] buffer) {
+        long current = start;
+        double currentScore = startScore;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int size = links.get(current).copy(level, buffer);
+            for (int i = 0; i < size; i++) {
+                double similarity = score.applyAsDouble(buffer[i]);
+                if (similarity > currentScore) {
+                    currentScore = similarity;
+                    current = buffer[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private SearchResult searchLayer(
+        LongToDoubleFunction score,
+        long start,
+        double startScore,
+        int ef,
+        int level,
+        LongPredicate accept,
+        long[] buffer
+    ) {
+        var visited = new LongHashSet();
+        var candidates = ScoredNodeHeap.maxHeap(ef);
+        var results = ScoredNodeHeap.minHeap(ef + 1);
+
+        visited.add(start);
+        candidates.push(start, startScore);
+        if (accept.test(start)) {
+            results.push(start, startScore);
+        }
+
+        while (!candidates.isEmpty()) {
+            long candidate = candidates.topNode();
+            double candidateScore = candidates.topScore();
+            candidates.pop();
+            if (results.size() >= ef && candidateScore < results.topScore()) {
+                break;
+            }
+
+            int size = links.get(candidate).copy(level, buffer);
+            for (int i = 0; i < size; i++) {
+                long neighbor = buffer[i];
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                double similarity = score.applyAsDouble(neighbor);
+                if (results.size() < ef || similarity > results.topScore()) {
+                    candidates.push(neighbor, similarity);
+                    if (accept.test(neighbor)) {
+                        results.push(neighbor, similarity);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+        }
+
+        return SearchResult.drainDescending(results);
+    }
+
+    private LongToDoubleFunction vectorScore(double[] vector) {
+        if (properties.valueType() == ValueType.FLOAT_ARRAY) {
+            var query = new float[vector.length];
+            for (int i = 0; i < vector.length; i++) {
+                query[i] = (float) vector[i];
+            }
+            ToDoubleBiFunction<float[], float[]> floatMetric;
+            switch (metric) {
+                case EUCLIDEAN:
+                    floatMetric = Euclidean::floatMetric;
+                    break;
+                case PEARSON:
+                    floatMetric = Pearson::floatMetric;
+                    break;
+                default:
+                    floatMetric = Cosine::floatMetric;
+            }
+            return nodeId -> finiteOrZero(floatMetric.applyAsDouble(query, properties.floatArrayValue(nodeId)));
+        }
+
+        ToDoubleBiFunction<double[], double[]> doubleMetric;
+        switch (metric) {
+            case EUCLIDEAN:
+                doubleMetric = Euclidean::doubleMetric;
+                break;
+            case PEARSON:
+                doubleMetric = Pearson::doubleMetric;
+                break;
+            default:
+                doubleMetric = Cosine::doubleMetric;
+        }
+        return nodeId -> finiteOrZero(doubleMetric.applyAsDouble(vector, properties.doubleArrayValue(nodeId)));
+    }
+
+    private static double finiteOrZero(double similarity) {
+        return Double.isFinite(similarity) ? similarity : 0.0;
+    }
+
+    /**
+     * Nodes ordered by descending similarity.
+     */
+    public static final class SearchResult {
+
+        static final SearchResult EMPTY = new SearchResult(new long[0], new double[0], 0);
+
+        private final long[] nodeIds;
+        private final double[] similarities;
+        private final int size;
+
+        private SearchResult(long[] nodeIds, double[] similarities, int size) {
+            this.nodeIds = nodeIds;
+            this.similarities = similarities;
+            this.size = size;
+        }
+
+        static SearchResult drainDescending(ScoredNodeHeap heap) {
+            int size = heap.size();
+            var nodeIds = new long[size];
+            var similarities = new double[size];
+            if (heap.isMaxHeap()) {
+                for (int i = 0; i < size; i++) {
+                    nodeIds[i] = heap.topNode();
+                    similarities[i] = heap.topScore();
+                    heap.pop();
+                }
+            } else {
+                for (int i = size - 1; i >= 0; i--) {
+                    nodeIds[i] = heap.topNode();
+                    similarities[i] = heap.topScore();
+                    heap.pop();
+                }
+            }
+            return new SearchResult(nodeIds, similarities, size);
+        }
+
+        SearchResult limit(int k) {
+            return k >= size ? this : new SearchResult(nodeIds, similarities, k);
+        }
+
+        /**
+         * Drops the array slots beyond {@link #size()}, which are left over from the candidate list of the search.
+         */
+        SearchResult compact() {
+            if (size == nodeIds.length) {
+                return this;
+            }
+            return size == 0
+                ? EMPTY
+                : new SearchResult(Arrays.copyOf(nodeIds, size), Arrays.copyOf(similarities, size), size);
+        }
+
+        static long memoryEstimation(int k) {
+            return sizeOfInstance(SearchResult.class) + sizeOfLongArray(k) + sizeOfDoubleArray(k);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long nodeId(int index) {
+            return nodeIds[index];
+        }
+
+        public double similarity(int index) {
+            return similarities[index];
+        }
+    }
+
+    /**
+     * The neighbours of a node on every level it is part of. Guarded by its own monitor during construction.
+     */
+    private static final class NodeLinks {
+        private final long[][] neighbors;
+        private final int[] sizes;
+
+        NodeLinks(int topLevel, int maxConnections) {
+            this.neighbors = new long[topLevel + 1][];
+            this.sizes = new int[topLevel + 1];
+            for (int level = 0; level <= topLevel; level++) {
+                // the bottom level holds twice as many links as recommended in the paper
+                this.neighbors[level] = new long[level == 0 ? 2 * maxConnections : maxConnections];
+            }
+        }
+
+        int topLevel() {
+            return neighbors.length - 1;
+        }
+
+        int capacity(int level) {
+            return neighbors[level].length;
+        }
+
+        synchronized int copy(int level, long[] buffer) {
+            if (level >= neighbors.length) {
+                return 0;
+            }
+            int size = sizes[level];
+            System.arraycopy(neighbors[level], 0, buffer, 0, size);
+            return size;
+        }
+
+        synchronized boolean tryAdd(int level, long neighbor) {
+            var levelNeighbors = neighbors[level];
+            int size = sizes[level];
+            for (int i = 0; i < size; i++) {
+                if (levelNeighbors[i] == neighbor) {
+                    return true;
+                }
+            }
+            if (size == levelNeighbors.length) {
+                return false;
+            }
+            levelNeighbors[size] = neighbor;
+            sizes[level] = size + 1;
+            return true;
+        }
+
+        synchronized void set(int level, long[] newNeighbors, int count) {
+            System.arraycopy(newNeighbors, 0, neighbors[level], 0, count);
+            sizes[level] = count;
+        }
+    }
+}
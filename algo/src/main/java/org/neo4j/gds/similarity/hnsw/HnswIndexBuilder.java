@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.knn.metrics.NullCheckingNodePropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds an {@link HnswIndex} by inserting all nodes of the graph concurrently.
+ * Insertions lock only the neighbour lists they modify, so the resulting links depend on the thread scheduling.
+ */
+public final class HnswIndexBuilder extends Algorithm<HnswIndex> {
+
+    private final Graph graph;
+    private final HnswIndexConfig config;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(Graph graph) {
+        return Tasks.leaf("HnswIndex", graph.nodeCount());
+    }
+
+    public HnswIndexBuilder(
+        Graph graph,
+        HnswIndexConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.config = config;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public HnswIndex compute() {
+        progressTracker.beginSubTask();
+
+        var propertyName = config.nodeProperty();
+        var properties = Objects.requireNonNull(
+            graph.nodeProperties(propertyName),
+            () -> formatWithLocale("The property `%s` has not been loaded", propertyName)
+        );
+        var valueType = properties.valueType();
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The HNSW index only supports properties of type FLOAT_ARRAY and DOUBLE_ARRAY, but [%s] is of type [%s].",
+                propertyName,
+                valueType
+            ));
+        }
+        var metric = SimilarityMetric.parse(config.similarityMetric());
+        if (metric == SimilarityMetric.DEFAULT) {
+            metric = SimilarityMetric.defaultMetricForType(valueType);
+        }
+
+        var index = new HnswIndex(
+            propertyName,
+            metric,
+            NullCheckingNodePropertyValues.create(properties, propertyName, graph),
+            SimilarityComputer.ofProperty(graph, propertyName, properties, metric),
+            config.maxConnections(),
+            graph.nodeCount(),
+            config.randomSeed().orElseGet(System::nanoTime)
+        );
+
+        var tasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                partition.consume(nodeId -> {
+                    terminationFlag.assertRunning();
+                    index.insert(nodeId, config.efConstruction());
+                });
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executorService);
+
+        progressTracker.endSubTask();
+        return index;
+    }
+
+    @Override
+    public void release() {
+    }
+}
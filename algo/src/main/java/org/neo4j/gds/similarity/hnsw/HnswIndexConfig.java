@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface HnswIndexConfig extends AlgoBaseConfig, RandomSeedConfig {
+
+    String indexName();
+
+    String nodeProperty();
+
+    @Value.Default
+    default String similarityMetric() {
+        return SimilarityMetric.DEFAULT.name();
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 2)
+    default int maxConnections() {
+        return 16;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int efConstruction() {
+        return 128;
+    }
+
+    @Value.Check
+    default void validateSimilarityMetric() {
+        var supported = EnumSet.of(
+            SimilarityMetric.DEFAULT,
+            SimilarityMetric.COSINE,
+            SimilarityMetric.EUCLIDEAN,
+            SimilarityMetric.PEARSON
+        );
+        var valid = supported
+            .stream()
+            .anyMatch(metric -> metric.name().equals(toUpperCaseWithLocale(similarityMetric())));
+        if (!valid) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Similarity metric `%s` is not supported by the HNSW index, expected one of %s.",
+                similarityMetric(),
+                supported
+            ));
+        }
+    }
+
+    @Value.Check
+    default void validateNodeLabels() {
+        validateAllNodeLabels(nodeLabels());
+    }
+
+    /**
+     * Node ids of the index are those of the whole graph, so it can neither be built nor searched on a subgraph.
+     */
+    static void validateAllNodeLabels(List<String> nodeLabels) {
+        if (!nodeLabels.contains(ElementProjection.PROJECT_ALL)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The HNSW index always covers all nodes of the graph, but `%s` was set to %s. " +
+                "Use `sourceNodeFilter` and `targetNodeFilter` when streaming to restrict the result to some labels.",
+                NODE_LABELS_KEY,
+                nodeLabels
+            ));
+        }
+    }
+
+    static HnswIndexConfig of(CypherMapWrapper config) {
+        return new HnswIndexConfigImpl(config);
+    }
+}
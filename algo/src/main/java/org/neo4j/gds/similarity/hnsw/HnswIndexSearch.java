@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.filteredknn.NodeFilter;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Searches the {@code topK} most similar nodes of every source node in an {@link HnswIndex}.
+ * The result holds one {@link HnswIndex.SearchResult} per node, empty for nodes rejected by the source filter.
+ */
+public final class HnswIndexSearch extends Algorithm<HugeObjectArray<HnswIndex.SearchResult>> {
+
+    private final Graph graph;
+    private final HnswIndex index;
+    private final HnswIndexStreamConfig config;
+    private final NodeFilter sourceFilter;
+    private final NodeFilter targetFilter;
+    private final ExecutorService executorService;
+
+    public static Task progressTask(Graph graph) {
+        return Tasks.leaf("HnswIndexSearch", graph.nodeCount());
+    }
+
+    public HnswIndexSearch(
+        Graph graph,
+        HnswIndex index,
+        HnswIndexStreamConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.index = index;
+        this.config = config;
+        this.sourceFilter = config.sourceNodeFilter().toNodeFilter(graph);
+        this.targetFilter = config.targetNodeFilter().toNodeFilter(graph);
+        this.executorService = executorService;
+    }
+
+    @Override
+    public HugeObjectArray<HnswIndex.SearchResult> compute() {
+        progressTracker.beginSubTask();
+
+        var results = HugeObjectArray.newArray(HnswIndex.SearchResult.class, graph.nodeCount());
+        var tasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                partition.consume(nodeId -> {
+                    terminationFlag.assertRunning();
+                    var neighbors = sourceFilter.test(nodeId)
+                        ? index.search(nodeId, config.topK(), config.ef(), targetFilter).compact()
+                        : HnswIndex.SearchResult.EMPTY;
+                    results.set(nodeId, neighbors);
+                });
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executorService);
+
+        progressTracker.endSubTask();
+        return results;
+    }
+
+    @Override
+    public void release() {
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+
+public class HnswIndexSearchFactory extends GraphAlgorithmFactory<HnswIndexSearch, HnswIndexStreamConfig> {
+
+    private final HnswIndex index;
+
+    public HnswIndexSearchFactory(HnswIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public String taskName() {
+        return "HnswIndexSearch";
+    }
+
+    @Override
+    public HnswIndexSearch build(Graph graph, HnswIndexStreamConfig configuration, ProgressTracker progressTracker) {
+        return new HnswIndexSearch(graph, index, configuration, Pools.DEFAULT, progressTracker);
+    }
+
+    @Override
+    public Task progressTask(Graph graph, HnswIndexStreamConfig config) {
+        return HnswIndexSearch.progressTask(graph);
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(HnswIndexStreamConfig configuration) {
+        return MemoryEstimations
+            .builder(HnswIndexSearch.class)
+            .add(
+                "neighbors",
+                HugeObjectArray.memoryEstimation(HnswIndex.SearchResult.memoryEstimation(configuration.topK()))
+            )
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.similarity.filteredknn.NodeFilterSpec;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface HnswIndexStreamConfig extends AlgoBaseConfig {
+
+    String indexName();
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return 10;
+    }
+
+    /**
+     * Size of the candidate list kept while searching the base layer.
+     * Values below {@link #topK()} are raised to {@code topK}.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int ef() {
+        return 64;
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.similarity.filteredknn.NodeFilterSpecFactory#create")
+    default NodeFilterSpec sourceNodeFilter() {
+        return NodeFilterSpec.noOp;
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.similarity.filteredknn.NodeFilterSpecFactory#create")
+    default NodeFilterSpec targetNodeFilter() {
+        return NodeFilterSpec.noOp;
+    }
+
+    @Value.Check
+    default void validateNodeLabels() {
+        HnswIndexConfig.validateAllNodeLabels(nodeLabels());
+    }
+
+    static HnswIndexStreamConfig of(CypherMapWrapper config) {
+        return new HnswIndexStreamConfigImpl(config);
+    }
+}
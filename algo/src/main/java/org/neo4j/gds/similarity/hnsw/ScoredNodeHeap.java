@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import java.util.Arrays;
+
+/**
+ * A growable binary heap of (node, score) pairs without boxing.
+ * Depending on the factory, the top of the heap is either the highest or the lowest score.
+ */
+final class ScoredNodeHeap {
+
+    private final boolean maxHeap;
+    private long[] nodes;
+    private double[] scores;
+    private int size;
+
+    static ScoredNodeHeap maxHeap(int initialCapacity) {
+        return new ScoredNodeHeap(true, initialCapacity);
+    }
+
+    static ScoredNodeHeap minHeap(int initialCapacity) {
+        return new ScoredNodeHeap(false, initialCapacity);
+    }
+
+    private ScoredNodeHeap(boolean maxHeap, int initialCapacity) {
+        this.maxHeap = maxHeap;
+        this.nodes = new long[Math.max(1, initialCapacity)];
+        this.scores = new double[Math.max(1, initialCapacity)];
+    }
+
+    boolean isMaxHeap() {
+        return maxHeap;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long topNode() {
+        return nodes[0];
+    }
+
+    double topScore() {
+        return scores[0];
+    }
+
+    void push(long node, double score) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(score, scores[parent])) {
+                break;
+            }
+            nodes[index] = nodes[parent];
+            scores[index] = scores[parent];
+            index = parent;
+        }
+        nodes[index] = node;
+        scores[index] = score;
+    }
+
+    void pop() {
+        size--;
+        if (size == 0) {
+            return;
+        }
+        long node = nodes[size];
+        double score = scores[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && before(scores[right], scores[child])) {
+                child = right;
+            }
+            if (!before(scores[child], score)) {
+                break;
+            }
+            nodes[index] = nodes[child];
+            scores[index] = scores[child];
+            index = child;
+        }
+        nodes[index] = node;
+        scores[index] = score;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private boolean before(double score, double other) {
+        return maxHeap ? score > other : score < other;
+    }
+}
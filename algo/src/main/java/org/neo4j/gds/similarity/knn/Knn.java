@@ -25,6 +25,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.paged.HugeCursor;
@@ -52,7 +53,8 @@ public class Knn extends Algorithm<Knn.Result> {
     private final NeighborFilterFactory neighborFilterFactory;
     private final ExecutorService executorService;
     private final SplittableRandom splittableRandom;
-    private final SimilarityComputer similarityComputer;
+    private SimilarityComputer similarityComputer;
+    private Optional<SimilarityComputer> rerankSimilarityComputer;
     private final NeighbourConsumers neighborConsumers;
 
     private long nodePairsConsidered;
@@ -119,6 +121,7 @@ public class Knn extends Algorithm<Knn.Result> {
         this.graph = graph;
         this.config = config;
         this.similarityComputer = similarityComputer;
+        this.rerankSimilarityComputer = Optional.empty();
         this.neighborFilterFactory = neighborFilterFactory;
         this.executorService = executorService;
         this.splittableRandom = splittableRandom;
@@ -133,11 +136,22 @@ public class Knn extends Algorithm<Knn.Result> {
         return this.executorService;
     }
 
+    /**
+     * The computer with exact similarities, if the search itself ran on approximate ones.
+     * Only set once {@link #compute()} has quantized the embeddings.
+     */
+    public Optional<SimilarityComputer> rerankSimilarityComputer() {
+        return this.rerankSimilarityComputer;
+    }
+
     @Override
     public Result compute() {
         this.progressTracker.beginSubTask();
         HugeObjectArray<NeighborList> neighbors;
         try (var ignored1 = ProgressTimer.start(this::logOverallTime)) {
+            if (config.quantizeEmbeddings()) {
+                quantizeEmbeddings();
+            }
             try (var ignored2 = ProgressTimer.start(this::logInitTime)) {
                 this.progressTracker.beginSubTask();
                 neighbors = this.initializeRandomNeighbors();
@@ -167,6 +181,17 @@ public class Knn extends Algorithm<Knn.Result> {
                     break;
                 }
             }
+            this.rerankSimilarityComputer.ifPresent(exactComputer -> {
+                var rerankTasks = PartitionUtils.rangePartition(
+                    config.concurrency(),
+                    neighbors.size(),
+                    partition -> (Runnable) () -> partition.consume(
+                        nodeId -> neighbors.get(nodeId).rescore(nodeId, exactComputer)
+                    ),
+                    Optional.of(config.minBatchSize())
+                );
+                ParallelUtil.runWithConcurrency(config.concurrency(), rerankTasks, this.executorService);
+            });
             if (config.similarityCutoff() > 0) {
                 var similarityCutoff = config.similarityCutoff();
                 var neighborFilterTasks = PartitionUtils.rangePartition(
@@ -186,6 +211,22 @@ public class Knn extends Algorithm<Knn.Result> {
         }
     }
 
+    /**
+     * Search on the quantized vectors and re-rank the final neighbours with the exact ones.
+     */
+    private void quantizeEmbeddings() {
+        this.progressTracker.beginSubTask();
+        this.rerankSimilarityComputer = Optional.of(this.similarityComputer);
+        this.similarityComputer = SimilarityComputer.ofQuantizedProperties(
+            graph,
+            config.nodeProperties(),
+            config.concurrency(),
+            this.executorService,
+            this.progressTracker
+        );
+        this.progressTracker.endSubTask();
+    }
+
     @Override
     public void release() {
 
@@ -632,6 +673,20 @@ public class Knn extends Algorithm<Knn.Result> {
                 );
         }
 
+        /**
+         * Offers the similarities of all nodes in the given partition to the consumer, in node order.
+         */
+        public void forEachSimilarity(Partition partition, RelationshipWithPropertyConsumer consumer) {
+            var neighborList = neighborList();
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                var neighbors = neighborList.get(nodeId);
+                if (neighbors != null && !neighbors.forEachSimilarity(nodeId, consumer)) {
+                    return;
+                }
+            }
+        }
+
         public long totalSimilarityPairs() {
             var neighborList = neighborList();
             return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
@@ -672,6 +727,10 @@ public class Knn extends Algorithm<Knn.Result> {
             return LongStream.empty();
         }
 
+        @Override
+        public void forEachSimilarity(Partition partition, RelationshipWithPropertyConsumer consumer) {
+        }
+
         @Override
         public long size() {
             return 0;
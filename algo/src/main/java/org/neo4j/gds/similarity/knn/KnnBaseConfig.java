@@ -28,6 +28,8 @@ import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
 
 import java.util.List;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -100,6 +102,21 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
         return Math.max(0, (int) Math.min(this.topK(), nodeCount - 1));
     }
 
+    @Value.Default
+    default boolean quantizeEmbeddings() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateQuantization() {
+        if (quantizeEmbeddings() && nodeProperties().size() != 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The parameter `quantizeEmbeddings` requires exactly one node property, but got %d.",
+                nodeProperties().size()
+            ));
+        }
+    }
+
     @Value.Default
     @Configuration.ConvertWith("org.neo4j.gds.similarity.knn.KnnSampler.SamplerType#parse")
     @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.KnnSampler.SamplerType#toString")
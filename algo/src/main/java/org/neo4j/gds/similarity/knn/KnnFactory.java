@@ -22,6 +22,7 @@ package org.neo4j.gds.similarity.knn;
 import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -30,7 +31,9 @@ import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
@@ -77,7 +80,7 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
                         sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
                     ))
                 );
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(Knn.class)
                     .add(
                         "top-k-neighbors-list",
@@ -97,8 +100,11 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
                             sizeOfIntArray(sizeOfOpenHashContainer(sampledK)) * concurrency
                         )
                     )
-                    .add(MemoryEstimations.of("neighbour-consumers", MemoryRange.of(sizeOfInstance(NeighbourConsumers.class))))
-                    .build();
+                    .add(MemoryEstimations.of("neighbour-consumers", MemoryRange.of(sizeOfInstance(NeighbourConsumers.class))));
+                if (configuration.quantizeEmbeddings()) {
+                    builder.fixed("quantized-embeddings", quantizationMemoryEstimation(configuration, dim));
+                }
+                return builder.build();
             }
         );
     }
@@ -116,24 +122,41 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
         }
     }
 
+    /**
+     * The int8 codes are held on top of the node property, so quantization adds to the memory footprint.
+     * Their size depends on the array length, which is only known for loaded graphs.
+     * Before that, only the per-node scales and norms are estimated.
+     */
+    public static MemoryRange quantizationMemoryEstimation(KnnBaseConfig config, GraphDimensions dimensions) {
+        var nodeCount = dimensions.nodeCount();
+        var propertyName = config.nodeProperties().get(0).name();
+        var dimension = dimensions.nodePropertyDimensions().getOrDefault(propertyName, 0);
+        return MemoryRange.of(SimilarityComputer.quantizedPropertiesMemoryEstimation(nodeCount, dimension));
+    }
+
+    public static List<Task> quantizationTasks(Graph graph, KnnBaseConfig config) {
+        return config.quantizeEmbeddings()
+            ? List.of(Tasks.leaf("Quantize embeddings", graph.nodeCount()))
+            : List.of();
+    }
+
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
         return knnTaskTree(graph, config);
     }
 
     public static Task knnTaskTree(Graph graph, KnnBaseConfig config) {
-        return Tasks.task(
-            KNN_BASE_TASK_NAME,
-            Tasks.leaf("Initialize random neighbors", graph.nodeCount()),
-            Tasks.iterativeDynamic(
-                "Iteration",
-                () -> List.of(
-                    Tasks.leaf("Split old and new neighbors", graph.nodeCount()),
-                    Tasks.leaf("Reverse old and new neighbors", graph.nodeCount()),
-                    Tasks.leaf("Join neighbors", graph.nodeCount())
-                ),
-                config.maxIterations()
-            )
-        );
+        var tasks = new ArrayList<>(quantizationTasks(graph, config));
+        tasks.add(Tasks.leaf("Initialize random neighbors", graph.nodeCount()));
+        tasks.add(Tasks.iterativeDynamic(
+            "Iteration",
+            () -> List.of(
+                Tasks.leaf("Split old and new neighbors", graph.nodeCount()),
+                Tasks.leaf("Reverse old and new neighbors", graph.nodeCount()),
+                Tasks.leaf("Join neighbors", graph.nodeCount())
+            ),
+            config.maxIterations()
+        ));
+        return Tasks.task(KNN_BASE_TASK_NAME, tasks);
     }
 }
@@ -19,9 +19,11 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
 import java.util.SplittableRandom;
 import java.util.stream.IntStream;
@@ -219,6 +221,47 @@ public class NeighborList {
             });
     }
 
+    /**
+     * Offers all neighbours to the consumer without materializing result objects.
+     *
+     * @return {@code false} if the consumer stopped the iteration, otherwise {@code true}.
+     */
+    public boolean forEachSimilarity(long nodeId, RelationshipWithPropertyConsumer consumer) {
+        for (int index = 0; index < elementCount; index++) {
+            double neighborSimilarity = Double.longBitsToDouble(priorityElementPairs[index * 2]);
+            long neighborId = clearCheckedFlag(priorityElementPairs[index * 2 + 1]);
+            if (!consumer.accept(nodeId, neighborId, neighborSimilarity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Recomputes the priority of every element with the given computer and restores the descending order.
+     * Used to re-rank neighbours that were found with approximate similarities.
+     */
+    void rescore(long nodeId, SimilarityComputer similarityComputer) {
+        for (int i = 0; i < elementCount; i++) {
+            long neighborId = clearCheckedFlag(priorityElementPairs[2 * i + 1]);
+            double similarity = similarityComputer.safeSimilarity(nodeId, neighborId);
+            priorityElementPairs[2 * i] = Double.doubleToRawLongBits(similarity);
+        }
+        // insertion sort, the lists are at most topK long and mostly in order already
+        for (int i = 1; i < elementCount; i++) {
+            long priority = priorityElementPairs[2 * i];
+            long element = priorityElementPairs[2 * i + 1];
+            int j = i - 1;
+            while (j >= 0 && Double.longBitsToDouble(priorityElementPairs[2 * j]) < Double.longBitsToDouble(priority)) {
+                priorityElementPairs[2 * j + 2] = priorityElementPairs[2 * j];
+                priorityElementPairs[2 * j + 3] = priorityElementPairs[2 * j + 1];
+                j--;
+            }
+            priorityElementPairs[2 * j + 2] = priority;
+            priorityElementPairs[2 * j + 3] = element;
+        }
+    }
+
     /**
      * filterHighSimilarityResults will override the original array in
      * priorityElementPairs keeping only the results with similarity greater than or equal to threshold.
@@ -34,8 +34,21 @@ public final class Euclidean {
 
     public static double floatMetric(float[] left, float[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
+        var unrolledLen = len & ~3;
+        double result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int i = 0;
+        for (; i < unrolledLen; i += 4) {
+            double delta0 = left[i] - right[i];
+            double delta1 = left[i + 1] - right[i + 1];
+            double delta2 = left[i + 2] - right[i + 2];
+            double delta3 = left[i + 3] - right[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        var result = (result0 + result1) + (result2 + result3);
+        for (; i < len; i++) {
             double delta = left[i] - right[i];
             result += delta * delta;
         }
@@ -44,8 +57,21 @@ public final class Euclidean {
 
     public static double doubleMetric(double[] left, double[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
+        var unrolledLen = len & ~3;
+        double result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int i = 0;
+        for (; i < unrolledLen; i += 4) {
+            double delta0 = left[i] - right[i];
+            double delta1 = left[i + 1] - right[i + 1];
+            double delta2 = left[i + 2] - right[i + 2];
+            double delta3 = left[i + 3] - right[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        var result = (result0 + result1) + (result2 + result3);
+        for (; i < len; i++) {
             double delta = left[i] - right[i];
             result += delta * delta;
         }
@@ -36,9 +36,23 @@ public final class Pearson {
         int n = Math.min(a.length, b.length);
 
         // compute sample means
-        double sumA = 0d;
-        double sumB = 0d;
-        for (int i = 0; i < n; i++) {
+        int unrolledN = n & ~3;
+        double sumA0 = 0d, sumA1 = 0d, sumA2 = 0d, sumA3 = 0d;
+        double sumB0 = 0d, sumB1 = 0d, sumB2 = 0d, sumB3 = 0d;
+        int i = 0;
+        for (; i < unrolledN; i += 4) {
+            sumA0 += a[i];
+            sumA1 += a[i + 1];
+            sumA2 += a[i + 2];
+            sumA3 += a[i + 3];
+            sumB0 += b[i];
+            sumB1 += b[i + 1];
+            sumB2 += b[i + 2];
+            sumB3 += b[i + 3];
+        }
+        double sumA = (sumA0 + sumA1) + (sumA2 + sumA3);
+        double sumB = (sumB0 + sumB1) + (sumB2 + sumB3);
+        for (; i < n; i++) {
             sumA += a[i];
             sumB += b[i];
         }
@@ -46,10 +60,32 @@ public final class Pearson {
         double meanB = sumB / n;
 
         // compute sums
-        double sumOfProductOfADeltaBDelta = 0d;
-        double sumOfADeltaSquared = 0d;
-        double sumOfBDeltaSquared = 0d;
-        for (int i = 0; i < n; i++) {
+        double ab0 = 0d, ab1 = 0d, ab2 = 0d, ab3 = 0d;
+        double aa0 = 0d, aa1 = 0d, aa2 = 0d, aa3 = 0d;
+        double bb0 = 0d, bb1 = 0d, bb2 = 0d, bb3 = 0d;
+        for (i = 0; i < unrolledN; i += 4) {
+            double aDelta0 = a[i] - meanA, aDelta1 = a[i + 1] - meanA;
+            double aDelta2 = a[i + 2] - meanA, aDelta3 = a[i + 3] - meanA;
+            double bDelta0 = b[i] - meanB, bDelta1 = b[i + 1] - meanB;
+            double bDelta2 = b[i + 2] - meanB, bDelta3 = b[i + 3] - meanB;
+
+            ab0 += aDelta0 * bDelta0;
+            ab1 += aDelta1 * bDelta1;
+            ab2 += aDelta2 * bDelta2;
+            ab3 += aDelta3 * bDelta3;
+            aa0 += aDelta0 * aDelta0;
+            aa1 += aDelta1 * aDelta1;
+            aa2 += aDelta2 * aDelta2;
+            aa3 += aDelta3 * aDelta3;
+            bb0 += bDelta0 * bDelta0;
+            bb1 += bDelta1 * bDelta1;
+            bb2 += bDelta2 * bDelta2;
+            bb3 += bDelta3 * bDelta3;
+        }
+        double sumOfProductOfADeltaBDelta = (ab0 + ab1) + (ab2 + ab3);
+        double sumOfADeltaSquared = (aa0 + aa1) + (aa2 + aa3);
+        double sumOfBDeltaSquared = (bb0 + bb1) + (bb2 + bb3);
+        for (; i < n; i++) {
             double aDelta = a[i] - meanA;
             double bDelta = b[i] - meanB;
 
@@ -69,9 +105,23 @@ public final class Pearson {
         int n = Math.min(a.length, b.length);
 
         // compute sample means
-        double sumA = 0d;
-        double sumB = 0d;
-        for (int i = 0; i < n; i++) {
+        int unrolledN = n & ~3;
+        double sumA0 = 0d, sumA1 = 0d, sumA2 = 0d, sumA3 = 0d;
+        double sumB0 = 0d, sumB1 = 0d, sumB2 = 0d, sumB3 = 0d;
+        int i = 0;
+        for (; i < unrolledN; i += 4) {
+            sumA0 += a[i];
+            sumA1 += a[i + 1];
+            sumA2 += a[i + 2];
+            sumA3 += a[i + 3];
+            sumB0 += b[i];
+            sumB1 += b[i + 1];
+            sumB2 += b[i + 2];
+            sumB3 += b[i + 3];
+        }
+        double sumA = (sumA0 + sumA1) + (sumA2 + sumA3);
+        double sumB = (sumB0 + sumB1) + (sumB2 + sumB3);
+        for (; i < n; i++) {
             sumA += a[i];
             sumB += b[i];
         }
@@ -79,10 +129,32 @@ public final class Pearson {
         double meanB = sumB / n;
 
         // compute sums
-        double sumOfProductOfADeltaBDelta = 0d;
-        double sumOfADeltaSquared = 0d;
-        double sumOfBDeltaSquared = 0d;
-        for (int i = 0; i < n; i++) {
+        double ab0 = 0d, ab1 = 0d, ab2 = 0d, ab3 = 0d;
+        double aa0 = 0d, aa1 = 0d, aa2 = 0d, aa3 = 0d;
+        double bb0 = 0d, bb1 = 0d, bb2 = 0d, bb3 = 0d;
+        for (i = 0; i < unrolledN; i += 4) {
+            double aDelta0 = a[i] - meanA, aDelta1 = a[i + 1] - meanA;
+            double aDelta2 = a[i + 2] - meanA, aDelta3 = a[i + 3] - meanA;
+            double bDelta0 = b[i] - meanB, bDelta1 = b[i + 1] - meanB;
+            double bDelta2 = b[i + 2] - meanB, bDelta3 = b[i + 3] - meanB;
+
+            ab0 += aDelta0 * bDelta0;
+            ab1 += aDelta1 * bDelta1;
+            ab2 += aDelta2 * bDelta2;
+            ab3 += aDelta3 * bDelta3;
+            aa0 += aDelta0 * aDelta0;
+            aa1 += aDelta1 * aDelta1;
+            aa2 += aDelta2 * aDelta2;
+            aa3 += aDelta3 * aDelta3;
+            bb0 += bDelta0 * bDelta0;
+            bb1 += bDelta1 * bDelta1;
+            bb2 += bDelta2 * bDelta2;
+            bb3 += bDelta3 * bDelta3;
+        }
+        double sumOfProductOfADeltaBDelta = (ab0 + ab1) + (ab2 + ab3);
+        double sumOfADeltaSquared = (aa0 + aa1) + (aa2 + aa3);
+        double sumOfBDeltaSquared = (bb0 + bb1) + (bb2 + bb3);
+        for (; i < n; i++) {
             double aDelta = a[i] - meanA;
             double bDelta = b[i] - meanB;
 
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Scores float or double array properties on an int8 copy of the vectors.
+ *
+ * Every vector is scaled by its largest absolute value into [-127, 127] and stored in contiguous pages,
+ * alongside the scale and the squared norm of the codes. For Pearson the vectors are centered before
+ * quantization, which turns the metric into cosine over the codes. The computed similarities are
+ * approximate; {@link org.neo4j.gds.similarity.knn.Knn} re-ranks the final neighbours with the exact values.
+ */
+final class QuantizedArrayPropertySimilarityComputer implements SimilarityComputer {
+
+    private static final int PAGE_SIZE_IN_BYTES = 1 << 16;
+    private static final int MAX_CODE = 127;
+
+    private final SimilarityMetric metric;
+    private final int dimension;
+    private final int vectorsPerPage;
+    private final byte[][] pages;
+    private final HugeDoubleArray scales;
+    private final HugeDoubleArray squaredNorms;
+
+    static SimilarityComputer of(
+        String propertyName,
+        NodePropertyValues nodePropertyValues,
+        SimilarityMetric metric,
+        IdMap idMap,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var valueType = nodePropertyValues.valueType();
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Quantization is only supported for properties of type FLOAT_ARRAY and DOUBLE_ARRAY, but [%s] is of type [%s].",
+                propertyName,
+                valueType
+            ));
+        }
+        if (metric != SimilarityMetric.COSINE && metric != SimilarityMetric.EUCLIDEAN && metric != SimilarityMetric.PEARSON) {
+            throw SimilarityComputer.unsupportedSimilarityMetric(propertyName, valueType, metric);
+        }
+
+        var properties = NullCheckingNodePropertyValues.create(nodePropertyValues, propertyName, idMap);
+        var nodeCount = idMap.nodeCount();
+        int dimension = nodeCount == 0 ? 0 : arrayValue(properties, 0).length;
+        var computer = new QuantizedArrayPropertySimilarityComputer(metric, dimension, nodeCount);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(nodeId -> {
+                var vector = arrayValue(properties, nodeId);
+                if (vector.length != dimension) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Quantization requires all arrays of property [%s] to have the same length, " +
+                        "but node %d has length %d instead of %d.",
+                        propertyName,
+                        nodeId,
+                        vector.length,
+                        dimension
+                    ));
+                }
+                computer.quantize(nodeId, vector);
+                progressTracker.logProgress();
+            }),
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        return computer;
+    }
+
+    /**
+     * The codes are held in addition to the original property values.
+     */
+    static long memoryEstimation(long nodeCount, int dimension) {
+        int vectorsPerPage = vectorsPerPage(dimension);
+        long fullPages = nodeCount / vectorsPerPage;
+        long lastPageVectors = nodeCount % vectorsPerPage;
+        long pages = MemoryUsage.sizeOfObjectArray(fullPages + (lastPageVectors > 0 ? 1 : 0))
+                     + fullPages * MemoryUsage.sizeOfByteArray((long) vectorsPerPage * dimension)
+                     + (lastPageVectors > 0 ? MemoryUsage.sizeOfByteArray(lastPageVectors * dimension) : 0);
+        return pages + 2 * HugeDoubleArray.memoryEstimation(nodeCount);
+    }
+
+    private static int vectorsPerPage(int dimension) {
+        return Math.max(1, PAGE_SIZE_IN_BYTES / Math.max(1, dimension));
+    }
+
+    private static double[] arrayValue(NodePropertyValues properties, long nodeId) {
+        if (properties.valueType() == ValueType.DOUBLE_ARRAY) {
+            return properties.doubleArrayValue(nodeId);
+        }
+        var floats = properties.floatArrayValue(nodeId);
+        var doubles = new double[floats.length];
+        for (int i = 0; i < floats.length; i++) {
+            doubles[i] = floats[i];
+        }
+        return doubles;
+    }
+
+    private QuantizedArrayPropertySimilarityComputer(SimilarityMetric metric, int dimension, long nodeCount) {
+        this.metric = metric;
+        this.dimension = dimension;
+        this.vectorsPerPage = vectorsPerPage(dimension);
+        var pageCount = Math.toIntExact((nodeCount + vectorsPerPage - 1) / vectorsPerPage);
+        this.pages = new byte[pageCount][];
+        for (int page = 0; page < pageCount; page++) {
+            var vectorsInPage = Math.min(vectorsPerPage, nodeCount - (long) page * vectorsPerPage);
+            this.pages[page] = new byte[Math.toIntExact(vectorsInPage * dimension)];
+        }
+        this.scales = HugeDoubleArray.newArray(nodeCount);
+        this.squaredNorms = HugeDoubleArray.newArray(nodeCount);
+    }
+
+    private void quantize(long nodeId, double[] vector) {
+        double mean = 0;
+        if (metric == SimilarityMetric.PEARSON && dimension > 0) {
+            for (double value : vector) {
+                mean += value;
+            }
+            mean /= dimension;
+        }
+
+        double maxAbs = 0;
+        for (double value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value - mean));
+        }
+        double scale = maxAbs / MAX_CODE;
+
+        var page = pages[pageIndex(nodeId)];
+        int offset = pageOffset(nodeId);
+        long squaredNorm = 0;
+        for (int i = 0; i < dimension; i++) {
+            int code = scale == 0 ? 0 : (int) Math.round((vector[i] - mean) / scale);
+            page[offset + i] = (byte) code;
+            squaredNorm += code * code;
+        }
+        scales.set(nodeId, scale);
+        squaredNorms.set(nodeId, squaredNorm);
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        double dot = dot(
+            pages[pageIndex(firstNodeId)],
+            pageOffset(firstNodeId),
+            pages[pageIndex(secondNodeId)],
+            pageOffset(secondNodeId)
+        );
+        double firstNorm = squaredNorms.get(firstNodeId);
+        double secondNorm = squaredNorms.get(secondNodeId);
+
+        if (metric == SimilarityMetric.EUCLIDEAN) {
+            double firstScale = scales.get(firstNodeId);
+            double secondScale = scales.get(secondNodeId);
+            double squaredDistance = firstScale * firstScale * firstNorm
+                                     + secondScale * secondScale * secondNorm
+                                     - 2 * firstScale * secondScale * dot;
+            return 1.0 / (1.0 + Math.max(0, squaredDistance));
+        }
+
+        // cosine and centered pearson, both mapped from -1..1 into 0..1
+        double cosine = dot / Math.sqrt(firstNorm * secondNorm);
+        return (cosine + 1) / 2;
+    }
+
+    private long dot(byte[] first, int firstOffset, byte[] second, int secondOffset) {
+        int unrolledLen = dimension & ~3;
+        long dot0 = 0, dot1 = 0, dot2 = 0, dot3 = 0;
+        int i = 0;
+        for (; i < unrolledLen; i += 4) {
+            dot0 += first[firstOffset + i] * second[secondOffset + i];
+            dot1 += first[firstOffset + i + 1] * second[secondOffset + i + 1];
+            dot2 += first[firstOffset + i + 2] * second[secondOffset + i + 2];
+            dot3 += first[firstOffset + i + 3] * second[secondOffset + i + 3];
+        }
+        long dot = (dot0 + dot1) + (dot2 + dot3);
+        for (; i < dimension; i++) {
+            dot += first[firstOffset + i] * second[secondOffset + i];
+        }
+        return dot;
+    }
+
+    private int pageIndex(long nodeId) {
+        return (int) (nodeId / vectorsPerPage);
+    }
+
+    private int pageOffset(long nodeId) {
+        return (int) (nodeId % vectorsPerPage) * dimension;
+    }
+}
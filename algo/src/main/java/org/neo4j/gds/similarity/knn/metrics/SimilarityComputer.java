@@ -23,11 +23,13 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
 import org.neo4j.gds.similarity.knn.metrics.LongArrayPropertySimilarityComputer.SortedLongArrayPropertyValues;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -60,6 +62,47 @@ public interface SimilarityComputer {
         return ofProperty(graph, propertyName, nodeProperties, knnNodePropertySpec.metric());
     }
 
+    /**
+     * Creates a computer that scores on an int8-quantized copy of a single float or double array property.
+     * The metrics of the given specs must already be resolved, e.g. by calling {@link #ofProperties(Graph, List)} first.
+     */
+    static SimilarityComputer ofQuantizedProperties(
+        Graph graph,
+        List<KnnNodePropertySpec> knnNodeProperties,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        if (knnNodeProperties.size() != 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Quantization is only supported for a single node property, but got %d.",
+                knnNodeProperties.size()
+            ));
+        }
+        var knnNodePropertySpec = knnNodeProperties.get(0);
+        var propertyName = knnNodePropertySpec.name();
+        var nodeProperties = Objects.requireNonNull(
+            graph.nodeProperties(propertyName),
+            () -> formatWithLocale("The property `%s` has not been loaded", propertyName)
+        );
+        return QuantizedArrayPropertySimilarityComputer.of(
+            propertyName,
+            nodeProperties,
+            knnNodePropertySpec.metric(),
+            graph,
+            concurrency,
+            executorService,
+            progressTracker
+        );
+    }
+
+    /**
+     * Estimates the int8 codes, scales and norms that {@link #ofQuantizedProperties} builds for arrays of the given length.
+     */
+    static long quantizedPropertiesMemoryEstimation(long nodeCount, int dimension) {
+        return QuantizedArrayPropertySimilarityComputer.memoryEstimation(nodeCount, dimension);
+    }
+
     static SimilarityComputer ofProperty(IdMap idMap, String propertyName, NodePropertyValues nodePropertyValues) {
         return ofProperty(idMap, propertyName,
             nodePropertyValues, SimilarityMetric.defaultMetricForType(nodePropertyValues.valueType()));
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.LongArrayList;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Restricts the node pairs that are compared by {@link NodeSimilarity}.
+ */
+interface CandidateGenerator {
+
+    /**
+     * Returns the nodes to compare with {@code node}, in ascending order,
+     * excluding {@code node} itself and all nodes smaller than {@code offset}.
+     */
+    LongStream candidates(long node, long offset);
+
+    /**
+     * Sorts the candidates in place and streams them without duplicates and without {@code node}.
+     */
+    static LongStream sortedAndUnique(LongArrayList candidates, long node) {
+        long[] buffer = candidates.buffer;
+        int size = candidates.size();
+        Arrays.sort(buffer, 0, size);
+
+        int uniqueSize = 0;
+        for (int i = 0; i < size; i++) {
+            long candidate = buffer[i];
+            if (candidate != node && (uniqueSize == 0 || buffer[uniqueSize - 1] != candidate)) {
+                buffer[uniqueSize++] = candidate;
+            }
+        }
+
+        return Arrays.stream(buffer, 0, uniqueSize);
+    }
+}
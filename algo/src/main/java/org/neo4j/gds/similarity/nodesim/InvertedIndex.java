@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Maps every target node to the sorted list of compared nodes that have it as a neighbour.
+ * Only pairs of nodes that share at least one neighbour can have a positive similarity,
+ * so these posting lists are sufficient to enumerate all candidate pairs.
+ */
+final class InvertedIndex implements CandidateGenerator {
+
+    private final HugeObjectArray<long[]> vectors;
+    private final HugeObjectArray<long[]> postings;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.setup("", (dimensions, concurrency) -> {
+            int averageDegree = dimensions.nodeCount() == 0
+                ? 0
+                : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
+            long averagePostingSize = sizeOfLongArray(averageDegree);
+            return MemoryEstimations.builder(InvertedIndex.class)
+                .perNode("posting sizes", HugeIntArray::memoryEstimation)
+                .perNode("postings", nodeCount -> nodeCount * averagePostingSize)
+                .build();
+        });
+    }
+
+    static InvertedIndex build(HugeObjectArray<long[]> vectors, BitSet nodeFilter, long nodeCount) {
+        var postingSizes = HugeIntArray.newArray(nodeCount);
+        var sources = new SetBitsIterable(nodeFilter);
+
+        sources.stream().forEach(node -> {
+            for (long target : vectors.get(node)) {
+                postingSizes.addTo(target, 1);
+            }
+        });
+
+        var postings = HugeObjectArray.newArray(long[].class, nodeCount);
+        for (long target = 0; target < nodeCount; target++) {
+            int size = postingSizes.get(target);
+            if (size > 0) {
+                postings.set(target, new long[size]);
+                postingSizes.set(target, 0);
+            }
+        }
+
+        // sources are visited in ascending order, hence all posting lists are sorted
+        sources.stream().forEach(node -> {
+            for (long target : vectors.get(node)) {
+                int position = postingSizes.get(target);
+                postings.get(target)[position] = node;
+                postingSizes.set(target, position + 1);
+            }
+        });
+
+        return new InvertedIndex(vectors, postings);
+    }
+
+    private InvertedIndex(HugeObjectArray<long[]> vectors, HugeObjectArray<long[]> postings) {
+        this.vectors = vectors;
+        this.postings = postings;
+    }
+
+    @Override
+    public LongStream candidates(long node, long offset) {
+        var candidates = new LongArrayList();
+        for (long target : vectors.get(node)) {
+            long[] posting = postings.get(target);
+            int from = offset == 0 ? 0 : lowerBound(posting, offset);
+            candidates.add(posting, from, posting.length - from);
+        }
+
+        return CandidateGenerator.sortedAndUnique(candidates, node);
+    }
+
+    private static int lowerBound(long[] sortedValues, long value) {
+        int index = Arrays.binarySearch(sortedValues, value);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Locality sensitive hashing of neighbour sets for approximate Jaccard similarity.
+ *
+ * Every node gets a MinHash signature of {@code bands * rowsPerBand} values, one per hash function.
+ * The signature is split into bands and two nodes become candidates if all rows of at least one band are equal.
+ * A pair with Jaccard similarity {@code s} collides with probability {@code 1 - (1 - s^rowsPerBand)^bands},
+ * so more bands increase recall and more rows per band increase precision.
+ */
+final class MinHashIndex implements CandidateGenerator {
+
+    // fixed, so that results are deterministic
+    private static final long HASH_SEED = 42L;
+
+    private static final long BAND_HASH_MASK = 0xFFFF_FFFF_0000_0000L;
+    private static final long INDEX_MASK = 0x0000_0000_FFFF_FFFFL;
+
+    // nodes that are compared, by their index in the buckets
+    private final long[] comparedNodes;
+    // per band: the upper 32 bits of the band hash and the node index, sorted by band hash
+    private final long[][] buckets;
+    // per band: the position of each node index in the sorted buckets
+    private final int[][] positions;
+
+    static MemoryEstimation memoryEstimation(int bands) {
+        return MemoryEstimations.builder(MinHashIndex.class)
+            .perNode("compared nodes", nodeCount -> sizeOfLongArray(nodeCount))
+            .perNode("buckets", nodeCount -> bands * sizeOfLongArray(nodeCount))
+            .perNode("positions", nodeCount -> bands * sizeOfIntArray(nodeCount))
+            .build();
+    }
+
+    static MinHashIndex build(
+        HugeObjectArray<long[]> vectors,
+        BitSet nodeFilter,
+        long nodesToCompare,
+        int bands,
+        int rowsPerBand,
+        int concurrency
+    ) {
+        if (nodesToCompare > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "MinHash supports at most %d compared nodes, but got %d.",
+                Integer.MAX_VALUE - 8,
+                nodesToCompare
+            ));
+        }
+        int nodeCount = (int) nodesToCompare;
+
+        long[] comparedNodes = new SetBitsIterable(nodeFilter).stream().toArray();
+        long[] hashSeeds = new SplittableRandom(HASH_SEED).longs((long) bands * rowsPerBand).toArray();
+        long[][] buckets = new long[bands][nodeCount];
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, index -> {
+            long[] vector = vectors.get(comparedNodes[(int) index]);
+            for (int band = 0; band < bands; band++) {
+                long bandHash = band;
+                for (int row = 0; row < rowsPerBand; row++) {
+                    long seed = hashSeeds[band * rowsPerBand + row];
+                    long minHash = Long.MAX_VALUE;
+                    for (long target : vector) {
+                        minHash = Math.min(minHash, BitMixer.mix64(target ^ seed));
+                    }
+                    bandHash = BitMixer.mix64(bandHash + minHash);
+                }
+                buckets[band][(int) index] = (bandHash & BAND_HASH_MASK) | index;
+            }
+        });
+
+        int[][] positions = new int[bands][];
+        ParallelUtil.parallelForEachNode(bands, concurrency, band -> {
+            long[] bandBuckets = buckets[(int) band];
+            Arrays.sort(bandBuckets);
+            int[] bandPositions = new int[nodeCount];
+            for (int position = 0; position < nodeCount; position++) {
+                bandPositions[(int) (bandBuckets[position] & INDEX_MASK)] = position;
+            }
+            positions[(int) band] = bandPositions;
+        });
+
+        return new MinHashIndex(comparedNodes, buckets, positions);
+    }
+
+    private MinHashIndex(long[] comparedNodes, long[][] buckets, int[][] positions) {
+        this.comparedNodes = comparedNodes;
+        this.buckets = buckets;
+        this.positions = positions;
+    }
+
+    @Override
+    public LongStream candidates(long node, long offset) {
+        int index = Arrays.binarySearch(comparedNodes, node);
+        var candidates = new LongArrayList();
+
+        for (int band = 0; band < buckets.length; band++) {
+            long[] bandBuckets = buckets[band];
+            int position = positions[band][index];
+            long bandHash = bandBuckets[position] & BAND_HASH_MASK;
+
+            for (int other = position - 1; other >= 0 && (bandBuckets[other] & BAND_HASH_MASK) == bandHash; other--) {
+                addCandidate(candidates, bandBuckets[other], offset);
+            }
+            for (int other = position + 1; other < bandBuckets.length && (bandBuckets[other] & BAND_HASH_MASK) == bandHash; other++) {
+                addCandidate(candidates, bandBuckets[other], offset);
+            }
+        }
+
+        return CandidateGenerator.sortedAndUnique(candidates, node);
+    }
+
+    private void addCandidate(LongArrayList candidates, long bucketEntry, long offset) {
+        long candidate = comparedNodes[(int) (bucketEntry & INDEX_MASK)];
+        if (candidate >= offset) {
+            candidates.add(candidate);
+        }
+    }
+}
@@ -51,6 +51,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     private final MetricSimilarityComputer similarityComputer;
     private HugeObjectArray<long[]> vectors;
     private HugeObjectArray<double[]> weights;
+    private CandidateGenerator candidateGenerator;
     private long nodesToCompare;
 
     private final boolean weighted;
@@ -176,6 +177,18 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             progressTracker.logProgress(graph.degree(node));
             return null;
         });
+        if (config.useInvertedIndex()) {
+            candidateGenerator = InvertedIndex.build(vectors, nodeFilter, graph.nodeCount());
+        } else if (config.useMinHash()) {
+            candidateGenerator = MinHashIndex.build(
+                vectors,
+                nodeFilter,
+                nodesToCompare,
+                config.minHashBands(),
+                config.minHashRowsPerBand(),
+                config.concurrency()
+            );
+        }
         progressTracker.endSubTask();
     }
 
@@ -222,7 +235,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
-                nodeStream(node1 + 1)
+                candidates(node1, node1 + 1)
                     .forEach(node2 -> {
                         double similarity = weighted
                             ?
@@ -258,7 +271,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    nodeStream()
+                    candidates(node1, 0)
                         .filter(node2 -> node1 != node2)
                         .forEach(node2 -> {
                             double similarity = weighted
@@ -286,7 +299,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
 
-                nodeStream(node1 + 1)
+                candidates(node1, node1 + 1)
                     .forEach(node2 -> {
                         double similarity = weighted
                             ?
@@ -343,6 +356,15 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return new SetBitsIterable(nodeFilter, offset).stream();
     }
 
+    /**
+     * All nodes starting at {@code offset} that might have a non-zero similarity with {@code node1}.
+     */
+    private LongStream candidates(long node1, long offset) {
+        return candidateGenerator == null
+            ? nodeStream(offset)
+            : candidateGenerator.candidates(node1, offset);
+    }
+
     private long calculateWorkload() {
         long workload = nodesToCompare * nodesToCompare;
         if (config.concurrency() == 1) {
@@ -353,7 +375,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long node1) {
         long[] vector1 = vectors.get(node1);
-        return nodeStream(node1 + 1)
+        return candidates(node1, node1 + 1)
             .mapToObj(node2 -> {
                 double similarity = weighted
                     ? computeWeightedSimilarity(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
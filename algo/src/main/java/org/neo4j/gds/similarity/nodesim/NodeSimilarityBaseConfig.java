@@ -85,6 +85,35 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return BOTTOM_N_DEFAULT;
     }
 
+    /**
+     * Only compare nodes that share at least one neighbour, found via an inverted index.
+     */
+    @Value.Default
+    default boolean useInvertedIndex() {
+        return false;
+    }
+
+    /**
+     * Only compare nodes whose MinHash signatures collide in at least one LSH band.
+     * The result is approximate, but all reported similarities are exact.
+     */
+    @Value.Default
+    default boolean useMinHash() {
+        return false;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashBands() {
+        return 16;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRowsPerBand() {
+        return 2;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default int normalizedK() {
@@ -146,6 +175,30 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 BOTTOM_N_KEY
             ));
         }
+        if (useInvertedIndex() && useMinHash()) {
+            throw new IllegalArgumentException("Invalid parameter combination: useInvertedIndex combined with useMinHash");
+        }
+        if (useInvertedIndex() || useMinHash()) {
+            var key = useInvertedIndex() ? "useInvertedIndex" : "useMinHash";
+            // pairs that are not candidates are skipped, which is only correct if they are never part of the result
+            if (similarityCutoff() == 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "`%s` requires a `similarityCutoff` greater than 0.",
+                    key
+                ));
+            }
+            if (bottomK() != BOTTOM_K_DEFAULT || bottomN() != BOTTOM_N_DEFAULT) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "`%s` cannot be combined with %s or %s.",
+                    key,
+                    BOTTOM_K_KEY,
+                    BOTTOM_N_KEY
+                ));
+            }
+        }
+        if (useMinHash() && (!similarityMetric().equalsIgnoreCase(NodeSimilarityMetric.JACCARD.name()) || hasRelationshipWeightProperty())) {
+            throw new IllegalArgumentException("`useMinHash` is only supported for the unweighted JACCARD metric.");
+        }
     }
 
 }
@@ -79,6 +79,12 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                     .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
                     .build();
             }));
+        if (config.useInvertedIndex()) {
+            builder.add("inverted index", InvertedIndex.memoryEstimation());
+        }
+        if (config.useMinHash()) {
+            builder.add("minhash index", MinHashIndex.memoryEstimation(config.minHashBands()));
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
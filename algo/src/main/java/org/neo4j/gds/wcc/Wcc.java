@@ -28,6 +28,7 @@ import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.WorkStealing;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -37,7 +38,6 @@ import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.SplittableRandom;
@@ -45,8 +45,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
-
 /**
  * Parallel Union-Find Algorithm based on the
  * "Wait-free Parallel Algorithms for the Union-Find Problem" paper.
@@ -81,8 +79,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
     private final NodePropertyValues initialComponents;
     private final ExecutorService executor;
     private final long nodeCount;
-    private final long batchSize;
-    private final int threadSize;
+    private final int minBatchSize;
 
     private Graph graph;
 
@@ -108,23 +105,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
             : null;
         this.executor = executor;
         this.nodeCount = graph.nodeCount();
-        this.batchSize = ParallelUtil.adjustedBatchSize(
-            nodeCount,
-            config.concurrency(),
-            minBatchSize,
-            Integer.MAX_VALUE
-        );
-
-        long threadSize = ParallelUtil.threadCount(batchSize, nodeCount);
-        if (threadSize > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "Too many nodes (%d) to run union find with the given concurrency (%d) and batchSize (%d)",
-                nodeCount,
-                config.concurrency(),
-                batchSize
-            ));
-        }
-        this.threadSize = (int) threadSize;
+        this.minBatchSize = minBatchSize;
     }
 
     @Override
@@ -156,15 +137,23 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         return config.threshold();
     }
 
+    /**
+     * Every relationship is a single union, so the adjacency lists of high-degree nodes can be split
+     * and the unions of super nodes are spread over all threads.
+     */
     private void computeDirected(DisjointSetStruct dss) {
-        var tasks = new ArrayList<Runnable>(threadSize);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
-            var wccTask = !config.hasThreshold()
-                ? new DirectedUnionTask(dss, i)
-                : new DirectedUnionWithThresholdTask(threshold(), dss, i);
-            tasks.add(wccTask);
-        }
-        ParallelUtil.run(tasks, executor);
+        WorkStealing.forEachNode(
+            config.concurrency(),
+            executor,
+            nodeCount,
+            minBatchSize,
+            graph::degree,
+            WorkStealing.DEFAULT_SPLIT_DEGREE,
+            this,
+            () -> !config.hasThreshold()
+                ? new DirectedUnionTask(dss)
+                : new DirectedUnionWithThresholdTask(threshold(), dss)
+        );
     }
 
     private void computeUndirected(DisjointSetStruct components) {
@@ -250,55 +239,56 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         return threshold + 1;
     }
 
-    private class DirectedUnionTask implements Runnable, RelationshipConsumer {
+    private class DirectedUnionTask implements WorkStealing.RelationshipWorker, RelationshipWithPropertyConsumer {
 
         final DisjointSetStruct struct;
         final RelationshipIterator rels;
-        private final long offset;
-        private final long end;
 
-        DirectedUnionTask(DisjointSetStruct struct, long offset) {
+        DirectedUnionTask(DisjointSetStruct struct) {
             this.struct = struct;
             this.rels = graph.concurrentCopy();
-            this.offset = offset;
-            this.end = Math.min(offset + batchSize, nodeCount);
         }
 
         @Override
-        public void run() {
-            for (long node = offset; node < end; node++) {
-                compute(node);
-                if (node % RUN_CHECK_NODE_COUNT == 0) {
-                    assertRunning();
-                }
+        public void processNode(long nodeId) {
+            rels.forEachRelationship(nodeId, fallbackWeight(), this);
+            progressTracker.logProgress(graph.degree(nodeId));
+        }
 
-                progressTracker.logProgress(graph.degree(node));
-            }
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipWithPropertyConsumer consumer) {
+            rels.forEachRelationship(nodeId, fallbackWeight(), consumer);
+        }
+
+        @Override
+        public void processRelationships(long nodeId, long[] targets, double[] properties, int fromIndex, int toIndex) {
+            WorkStealing.forEachRelationship(nodeId, targets, properties, fromIndex, toIndex, this);
+            progressTracker.logProgress(toIndex - fromIndex);
         }
 
-        void compute(final long node) {
-            rels.forEachRelationship(node, this);
+        double fallbackWeight() {
+            return 0D;
         }
 
         @Override
-        public boolean accept(final long sourceNodeId, final long targetNodeId) {
+        public boolean accept(final long sourceNodeId, final long targetNodeId, final double property) {
             struct.union(sourceNodeId, targetNodeId);
             return true;
         }
     }
 
-    private class DirectedUnionWithThresholdTask extends DirectedUnionTask implements RelationshipWithPropertyConsumer {
+    private class DirectedUnionWithThresholdTask extends DirectedUnionTask {
 
         private final double threshold;
 
-        DirectedUnionWithThresholdTask(double threshold, DisjointSetStruct struct, long offset) {
-            super(struct, offset);
+        DirectedUnionWithThresholdTask(double threshold, DisjointSetStruct struct) {
+            super(struct);
             this.threshold = threshold;
         }
 
         @Override
-        void compute(final long node) {
-            rels.forEachRelationship(node, Wcc.defaultWeight(threshold), this);
+        double fallbackWeight() {
+            return Wcc.defaultWeight(threshold);
         }
 
         @Override
@@ -20,6 +20,7 @@
 package org.neo4j.gds.louvain;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -31,6 +32,7 @@ import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.checkpoint.Checkpoints;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.utils.TerminationFlag;
@@ -45,16 +47,20 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.neo4j.gds.CommunityHelper.assertCommunities;
 import static org.neo4j.gds.CommunityHelper.assertCommunitiesWithLabels;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
+import static org.neo4j.gds.TestSupport.assertTransactionTermination;
 import static org.neo4j.gds.TestSupport.ids;
 import static org.neo4j.gds.compat.TestLog.INFO;
 import static org.neo4j.gds.core.ProcedureConstants.TOLERANCE_DEFAULT;
@@ -192,6 +198,58 @@ class LouvainTest {
         assertEquals(0.38, modularities[modularities.length - 1], 0.01);
     }
 
+    @Test
+    void testResumeFromCheckpoint(@TempDir Path checkpointLocation) {
+        var graph = graphStore.getGraph(
+            NodeLabel.listOf("Node"),
+            RelationshipType.listOf("TYPE_OUT", "TYPE_IN"),
+            Optional.empty()
+        );
+        var checkpoints = Checkpoints.of(checkpointLocation, "alice", "louvain", 42L);
+        var checkpointFile = checkpointLocation.resolve("alice").resolve("louvain.checkpoint");
+
+        var terminatedAlgorithm = new Louvain(
+            graph,
+            defaultConfigBuilder().build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+        terminatedAlgorithm.setCheckpoints(checkpoints);
+        // terminate right after the first level has been checkpointed
+        terminatedAlgorithm.setTerminationFlag(() -> !Files.exists(checkpointFile));
+
+        assertTransactionTermination(terminatedAlgorithm::compute);
+        assertTrue(Files.exists(checkpointFile));
+
+        var resumedAlgorithm = new Louvain(
+            graph,
+            defaultConfigBuilder().build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+        resumedAlgorithm.setCheckpoints(checkpoints);
+        resumedAlgorithm.setTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        resumedAlgorithm.compute();
+
+        var dendrogram = resumedAlgorithm.dendrograms();
+        assertCommunities(
+            dendrogram[0],
+            ids(idFunction, "a", "b", "d"),
+            ids(idFunction, "c", "e", "f", "x"),
+            ids(idFunction, "g", "h", "i"),
+            ids(idFunction, "j", "k", "l", "m", "n")
+        );
+        assertCommunities(
+            dendrogram[1],
+            ids(idFunction, "a", "b", "c", "d", "e", "f", "x"),
+            ids(idFunction, "g", "h", "i"),
+            ids(idFunction, "j", "k", "l", "m", "n")
+        );
+        assertEquals(2, resumedAlgorithm.levels());
+        assertFalse(Files.exists(checkpointFile));
+    }
+
     @Test
     void testWeighted() {
         var graph = graphStore.getGraph(
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+
+import java.util.Comparator;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HnswIndexTest {
+
+    private static final int NODE_COUNT = 1_000;
+    private static final int K = 10;
+
+    private static Graph graph;
+    private static HnswIndex index;
+
+    @BeforeAll
+    static void setup() {
+        graph = RandomGraphGenerator.builder()
+            .nodeCount(NODE_COUNT)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding("embedding", 16, -1.0f, 1.0f))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutableHnswIndexConfig.builder()
+            .indexName("index")
+            .nodeProperty("embedding")
+            .concurrency(4)
+            .randomSeed(1337L)
+            .build();
+
+        index = new HnswIndexBuilder(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+    }
+
+    @Test
+    void shouldFindMostOfTheExactNeighbours() {
+        long found = 0;
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            var exact = exactNeighbours(nodeId, other -> true);
+            var approximate = index.search(nodeId, K, 64, other -> true);
+
+            assertThat(approximate.size()).isEqualTo(K);
+            for (int i = 0; i < approximate.size(); i++) {
+                long neighbour = approximate.nodeId(i);
+                assertThat(neighbour).isNotEqualTo(nodeId);
+                if (LongStream.of(exact).anyMatch(candidate -> candidate == neighbour)) {
+                    found++;
+                }
+            }
+        }
+
+        double recall = (double) found / (NODE_COUNT * K);
+        assertThat(recall).isGreaterThan(0.9);
+    }
+
+    @Test
+    void shouldReturnNeighboursInDescendingOrderOfSimilarity() {
+        var result = index.search(0, K, 64, other -> true);
+        for (int i = 0; i < result.size(); i++) {
+            assertThat(result.similarity(i)).isCloseTo(similarity(0, result.nodeId(i)), within(1e-6));
+            if (i > 0) {
+                assertThat(result.similarity(i)).isLessThanOrEqualTo(result.similarity(i - 1));
+            }
+        }
+    }
+
+    @Test
+    void shouldOnlyReturnNodesMatchingTheTargetFilter() {
+        LongPredicate evenNodes = other -> other % 2 == 0;
+        for (long nodeId = 0; nodeId < 100; nodeId++) {
+            var result = index.search(nodeId, K, 64, evenNodes);
+            assertThat(result.size()).isEqualTo(K);
+            for (int i = 0; i < result.size(); i++) {
+                assertThat(result.nodeId(i) % 2).isZero();
+            }
+        }
+    }
+
+    @Test
+    void shouldSearchTheNeighboursOfAllNodes() {
+        var config = ImmutableHnswIndexStreamConfig.builder()
+            .indexName("index")
+            .topK(3)
+            .concurrency(4)
+            .build();
+
+        var results = new HnswIndexSearch(graph, index, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(results.size()).isEqualTo(NODE_COUNT);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            var expected = index.search(nodeId, 3, config.ef(), other -> true);
+            var actual = results.get(nodeId);
+            assertThat(actual.size()).isEqualTo(expected.size());
+            for (int i = 0; i < actual.size(); i++) {
+                assertThat(actual.similarity(i)).isCloseTo(expected.similarity(i), within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void shouldSearchForArbitraryVectors() {
+        var embedding = graph.nodeProperties("embedding").floatArrayValue(42);
+        var vector = new double[embedding.length];
+        for (int i = 0; i < embedding.length; i++) {
+            vector[i] = embedding[i];
+        }
+
+        var result = index.search(vector, K, 64, other -> true);
+
+        assertThat(result.size()).isEqualTo(K);
+        assertThat(result.nodeId(0)).isEqualTo(42L);
+        assertThat(result.similarity(0)).isCloseTo(1.0, within(1e-6));
+    }
+
+    @Test
+    void shouldRejectVectorsWithDifferentDimensions() {
+        assertThatThrownBy(() -> index.search(new double[]{1.0, 2.0}, K, 64, other -> true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("The query vector has 2 dimensions, but the property `embedding` has 16 dimensions.");
+    }
+
+    @Test
+    void shouldOnlyIndexArrayProperties() {
+        var scalarGraph = RandomGraphGenerator.builder()
+            .nodeCount(10)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomDouble("score", 0, 1))
+            .build()
+            .generate();
+        var config = ImmutableHnswIndexConfig.builder()
+            .indexName("index")
+            .nodeProperty("score")
+            .build();
+
+        var builder = new HnswIndexBuilder(scalarGraph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        assertThatThrownBy(builder::compute)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supports properties of type FLOAT_ARRAY and DOUBLE_ARRAY");
+    }
+
+    private static long[] exactNeighbours(long nodeId, LongPredicate targetFilter) {
+        return LongStream
+            .range(0, NODE_COUNT)
+            .filter(other -> other != nodeId && targetFilter.test(other))
+            .boxed()
+            .sorted(Comparator.comparingDouble(other -> -similarity(nodeId, other)))
+            .limit(K)
+            .mapToLong(Long::longValue)
+            .toArray();
+    }
+
+    private static double similarity(long first, long second) {
+        var embeddings = graph.nodeProperties("embedding");
+        return Cosine.floatMetric(embeddings.floatArrayValue(first), embeddings.floatArrayValue(second));
+    }
+}
@@ -26,12 +26,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.NullPropertyMap;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -51,10 +53,12 @@ import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -417,6 +421,64 @@ class KnnTest {
         assertThat(result.neighborsOf(1)).containsExactly(0L);
     }
 
+    @ParameterizedTest
+    @EnumSource(value = SimilarityMetric.class, names = {"COSINE", "EUCLIDEAN", "PEARSON"})
+    void shouldReRankQuantizedSearchWithExactSimilarities(SimilarityMetric similarityMetric) {
+        var graph = GdlFactory.of(
+            "  ({emb: [1.0, 2.0, 3.0, 4.0, 5.0]})" +
+            ", ({emb: [1.1, 2.1, 2.9, 4.2, 5.0]})" +
+            ", ({emb: [-5.0, 3.0, -1.0, 0.5, 2.0]})" +
+            ", ({emb: [-4.8, 3.1, -1.2, 0.4, 2.2]})"
+        ).build().getUnion();
+
+        var configBuilder = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("emb", similarityMetric)))
+            .topK(1)
+            .concurrency(1)
+            .randomSeed(42L);
+        var knnContext = ImmutableKnnContext.builder().build();
+
+        var exactResult = Knn.createWithDefaults(graph, configBuilder.build(), knnContext).compute();
+        var quantizedResult = Knn
+            .createWithDefaults(graph, configBuilder.quantizeEmbeddings(true).build(), knnContext)
+            .compute();
+
+        assertThat(quantizedResult.streamSimilarityResult())
+            .containsExactlyInAnyOrderElementsOf(exactResult.streamSimilarityResult().collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldEstimateQuantizedCodesFromThePropertyDimension() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("emb", SimilarityMetric.COSINE)))
+            .quantizeEmbeddings(true)
+            .build();
+        var dimensions = GraphDimensions.builder().nodeCount(1_000_000).build();
+        var dimensionsWithEmbeddings = GraphDimensions.builder()
+            .from(dimensions)
+            .nodePropertyDimensions(Map.of("emb", 128))
+            .build();
+
+        var estimation = new KnnFactory<>().memoryEstimation(config);
+        var withoutCodes = estimation.estimate(dimensions, 4).memoryUsage();
+        var withCodes = estimation.estimate(dimensionsWithEmbeddings, 4).memoryUsage();
+
+        // one byte per array element
+        assertThat(withCodes.min - withoutCodes.min).isGreaterThanOrEqualTo(128L * 1_000_000);
+        assertThat(withCodes.max - withoutCodes.max).isGreaterThanOrEqualTo(128L * 1_000_000);
+    }
+
+    @Test
+    void shouldNotAllowQuantizationOfMultipleProperties() {
+        var configBuilder = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("a"), new KnnNodePropertySpec("b")))
+            .quantizeEmbeddings(true);
+
+        assertThatThrownBy(configBuilder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("quantizeEmbeddings");
+    }
+
     @Test
     void shouldLogProgress() {
         var config = ImmutableKnnBaseConfig.builder()
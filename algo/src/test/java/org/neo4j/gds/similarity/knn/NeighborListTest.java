@@ -90,4 +90,19 @@ class NeighborListTest {
         assertThat(queue.elements()).containsExactlyInAnyOrderElementsOf(elements);
     }
 
+    @Test
+    void rescoreShouldRestoreDescendingOrder() {
+        var queue = new NeighborList(3, NeighbourConsumer.devNull);
+        var rng = new SplittableRandom(1337L);
+        queue.add(1, 3.0, rng, 0.0);
+        queue.add(2, 2.0, rng, 0.0);
+        queue.add(3, 1.0, rng, 0.0);
+        queue.getAndFlagAsChecked(0);
+
+        // exact similarities reverse the approximate order
+        queue.rescore(0, (source, target) -> target);
+
+        assertThat(queue.elements().map(NeighborList::clearCheckedFlag)).containsExactly(3L, 2L, 1L);
+        assertThat(queue.similarityStream(0).mapToDouble(result -> result.similarity)).containsExactly(3.0, 2.0, 1.0);
+    }
 }
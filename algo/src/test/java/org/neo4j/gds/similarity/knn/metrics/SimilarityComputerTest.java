@@ -31,11 +31,14 @@ import org.eclipse.collections.api.tuple.primitive.LongLongPair;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.DirectIdMap;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
 import org.neo4j.gds.nodeproperties.DoubleTestPropertyValues;
 import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
@@ -298,6 +301,48 @@ class SimilarityComputerTest {
         );
     }
 
+    @ParameterizedTest
+    @EnumSource(value = SimilarityMetric.class, names = {"COSINE", "EUCLIDEAN", "PEARSON"})
+    void quantizedSimilarityApproximatesExactSimilarity(SimilarityMetric similarityMetric) {
+        int nodeCount = 100;
+        NodePropertyValues props = new DoubleArrayTestPropertyValues(
+            nodeId -> new Random(nodeId).doubles(64, -1.0, 1.0).toArray()
+        );
+        var exact = SimilarityComputer.ofDoubleArrayProperty("", props, similarityMetric);
+        var quantized = QuantizedArrayPropertySimilarityComputer.of(
+            "",
+            props,
+            similarityMetric,
+            new DirectIdMap(nodeCount),
+            1,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        for (long first = 0; first < nodeCount; first++) {
+            for (long second = 0; second < nodeCount; second++) {
+                assertThat(quantized.similarity(first, second))
+                    .isCloseTo(exact.similarity(first, second), within(1e-2));
+            }
+        }
+    }
+
+    @Test
+    void quantizationRequiresArraysOfEqualLength() {
+        NodePropertyValues props = new DoubleArrayTestPropertyValues(nodeId -> new double[(int) nodeId + 1]);
+        assertThatThrownBy(() -> QuantizedArrayPropertySimilarityComputer.of(
+            "embedding",
+            props,
+            SimilarityMetric.COSINE,
+            new DirectIdMap(2),
+            1,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("same length");
+    }
+
     @Provide("differentValues")
     final Arbitrary<LongLongPair> differentValues() {
         return Arbitraries.longs().between(0L, Long.MAX_VALUE).flatMap(n1 -> Arbitraries.longs().between(0L, Long.MAX_VALUE)
@@ -57,6 +57,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -448,6 +449,102 @@ final class NodeSimilarityTest {
         );
     }
 
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeSameResultsWithInvertedIndex(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        var configs = List.of(
+            configBuilder().concurrency(concurrency).similarityCutoff(0.1).topK(100),
+            configBuilder().concurrency(concurrency).similarityCutoff(0.1).topK(1),
+            configBuilder().concurrency(concurrency).similarityCutoff(0.1).topK(1).topN(2)
+        );
+
+        for (var config : configs) {
+            Set<String> expected = computeResultStrings(graph, config.useInvertedIndex(false).build());
+            Set<String> actual = computeResultStrings(graph, config.useInvertedIndex(true).build());
+
+            assertThat(actual).isNotEmpty().isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldOnlyReportExactSimilaritiesWithMinHash(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        var exact = computeResultStrings(
+            graph,
+            configBuilder().concurrency(concurrency).similarityCutoff(0.1).topK(100).build()
+        );
+        var approximate = computeResultStrings(
+            graph,
+            configBuilder().concurrency(concurrency).similarityCutoff(0.1).topK(100).useMinHash(true).build()
+        );
+
+        assertThat(exact).containsAll(approximate);
+
+        // With the default 16 bands of 2 rows, a pair with Jaccard similarity s is a candidate
+        // with probability 1 - (1 - s^2)^16: above 0.99 for s >= 1/2 and 0.85 for s = 1/3.
+        // At least 60% of the pairs have s >= 1/2 in either orientation.
+        var found = approximate.stream().filter(exact::contains).count();
+        double recall = (double) found / exact.size();
+        assertThat(recall).isGreaterThanOrEqualTo(0.6);
+    }
+
+    @Test
+    void shouldFindAllPairsWithMinHashForIdenticalNeighbourhoods() {
+        var graph = fromGdl(
+            "  (a)-->(i1), (a)-->(i2), (a)-->(i3)" +
+            ", (b)-->(i1), (b)-->(i2), (b)-->(i3)" +
+            ", (c)-->(i4)"
+        );
+
+        var result = computeResultStrings(
+            graph,
+            configBuilder().concurrency(1).similarityCutoff(0.1).topK(100).useMinHash(true).build()
+        );
+
+        assertThat(result).containsExactlyInAnyOrder(
+            resultString(graph.toMappedNodeId("a"), graph.toMappedNodeId("b"), 1.0),
+            resultString(graph.toMappedNodeId("b"), graph.toMappedNodeId("a"), 1.0)
+        );
+    }
+
+    @Test
+    void shouldNotAllowMinHashForOverlap() {
+        var config = configBuilder().similarityCutoff(0.1).similarityMetric("OVERLAP").useMinHash(true);
+
+        assertThatThrownBy(config::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("`useMinHash` is only supported for the unweighted JACCARD metric.");
+    }
+
+    @Test
+    void shouldNotAllowInvertedIndexWithoutSimilarityCutoff() {
+        var config = configBuilder().useInvertedIndex(true);
+
+        assertThatThrownBy(config::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("`useInvertedIndex` requires a `similarityCutoff` greater than 0.");
+    }
+
+    private static Set<String> computeResultStrings(Graph graph, NodeSimilarityBaseConfig config) {
+        NodeSimilarity nodeSimilarity = new NodeSimilarity(
+            graph,
+            config,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        Set<String> result = nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+        nodeSimilarity.release();
+        return result;
+    }
+
     @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
     @MethodSource("supportedLoadAndComputeDirections")
     void shouldComputeWithDegreeCutoffForSupportedDirections(Orientation orientation, int concurrency) {
@@ -83,6 +83,7 @@ public class HarmonicCentralityWriteProc extends HarmonicCentralityProc<Centrali
                     writeConcurrency,
                     taskRegistryFactory
                 );
+                config.writeBatchSize().ifPresent(nodePropertyExporterBuilder::withBatchSize);
                 NodePropertyExporter exporter =  nodePropertyExporterBuilder
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
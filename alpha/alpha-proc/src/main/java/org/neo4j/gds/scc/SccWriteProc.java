@@ -90,6 +90,7 @@ public class SccWriteProc extends SccProc<SccWriteProc.SccResult> {
                     config.writeConcurrency(),
                     taskRegistryFactory
                 );
+                config.writeBatchSize().ifPresent(nodePropertyExporterBuilder::withBatchSize);
                 NodePropertyExporter exporter = nodePropertyExporterBuilder
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
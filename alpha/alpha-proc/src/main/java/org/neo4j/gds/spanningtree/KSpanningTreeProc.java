@@ -105,6 +105,7 @@ public abstract class KSpanningTreeProc extends NodePropertiesWriter<KSpanningTr
                     config.writeConcurrency(),
                     taskRegistryFactory
                 );
+                config.writeBatchSize().ifPresent(nodePropertyExporterBuilder::withBatchSize);
                 final NodePropertyExporter exporter = nodePropertyExporterBuilder
                     .withIdMap(graph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction)).withProgressTracker(progressTracker)
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast the adjacency lists of a whole graph can be decoded,
+ * both through the raw {@link AdjacencyCursor} and the {@link org.neo4j.gds.api.Graph} API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyTraversalBenchmark {
+
+    @Benchmark
+    public long reusedCursor(RandomGraphState state) {
+        AdjacencyList adjacencyList = state.graph.relationshipTopology().adjacencyList();
+        long nodeCount = state.graph.nodeCount();
+        long sum = 0L;
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long freshCursor(RandomGraphState state) {
+        AdjacencyList adjacencyList = state.graph.relationshipTopology().adjacencyList();
+        long nodeCount = state.graph.nodeCount();
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long advanceToMiddle(RandomGraphState state) {
+        AdjacencyList adjacencyList = state.graph.relationshipTopology().adjacencyList();
+        long nodeCount = state.graph.nodeCount();
+        long target = nodeCount / 2;
+        long sum = 0L;
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            sum += cursor.advance(target);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void forEachRelationship(RandomGraphState state, Blackhole blackhole) {
+        var graph = state.graph;
+        long nodeCount = graph.nodeCount();
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, (source, target) -> {
+                blackhole.consume(target);
+                return true;
+            });
+        }
+    }
+
+    @Benchmark
+    public long degrees(RandomGraphState state) {
+        var graph = state.graph;
+        long nodeCount = graph.nodeCount();
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            sum += graph.degree(node);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.louvain.ImmutableLouvainStreamConfig;
+import org.neo4j.gds.louvain.Louvain;
+import org.neo4j.gds.pagerank.ImmutablePageRankStreamConfig;
+import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
+import org.neo4j.gds.pagerank.PageRankResult;
+import org.neo4j.gds.similarity.knn.ImmutableKnnBaseConfig;
+import org.neo4j.gds.similarity.knn.ImmutableKnnContext;
+import org.neo4j.gds.similarity.knn.Knn;
+import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
+import org.neo4j.gds.wcc.ImmutableWccStreamConfig;
+import org.neo4j.gds.wcc.WccAlgorithmFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end runtime of the algorithms we use as upgrade gates.
+ * The graph is undirected, as required by Louvain, and carries an embedding property for KNN.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AlgorithmBenchmark {
+
+    private static final String EMBEDDING_PROPERTY = "embedding";
+
+    @Param({"100000", "1000000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"4"})
+    public int concurrency;
+
+    private HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .orientation(Orientation.UNDIRECTED)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding(EMBEDDING_PROPERTY, 64, -1, 1))
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+        graph = null;
+    }
+
+    @Benchmark
+    public PageRankResult pageRank() {
+        var config = ImmutablePageRankStreamConfig.builder()
+            .concurrency(concurrency)
+            .maxIterations(20)
+            .tolerance(0D)
+            .build();
+        return new PageRankAlgorithmFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public DisjointSetStruct wcc() {
+        var config = ImmutableWccStreamConfig.builder()
+            .concurrency(concurrency)
+            .build();
+        return new WccAlgorithmFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public Louvain louvain() {
+        var config = ImmutableLouvainStreamConfig.builder()
+            .concurrency(concurrency)
+            .maxLevels(10)
+            .maxIterations(10)
+            .build();
+        return new Louvain(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+    }
+
+    @Benchmark
+    public Knn.Result knn() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec(EMBEDDING_PROPERTY)))
+            .concurrency(concurrency)
+            .topK(10)
+            .build();
+        return Knn.createWithDefaults(graph, config, ImmutableKnnContext.builder().build()).compute();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the catalog operations that run on every procedure call:
+ * graph store lookup and the creation of a filtered {@link Graph} view.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GraphCatalogBenchmark {
+
+    private static final String USER_NAME = "benchmark";
+    private static final String GRAPH_NAME = "graph";
+
+    @Param({"1", "100"})
+    public int graphsInCatalog;
+
+    private GraphStore graphStore;
+    private CatalogRequest catalogRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var databaseId = DatabaseIdFactory.from("neo4j", UUID.randomUUID());
+        var graph = RandomGraphState.generate(
+            100_000,
+            10,
+            RelationshipDistribution.UNIFORM,
+            Orientation.NATURAL
+        );
+        graphStore = CSRGraphStoreUtil.createFromGraph(databaseId, graph, "REL", Optional.empty(), 4);
+        catalogRequest = CatalogRequest.of(USER_NAME, databaseId);
+
+        for (int i = 0; i < graphsInCatalog; i++) {
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, GRAPH_NAME + i), graphStore);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Benchmark
+    public GraphStore lookup() {
+        return GraphStoreCatalog.get(catalogRequest, GRAPH_NAME + (graphsInCatalog - 1)).graphStore();
+    }
+
+    @Benchmark
+    public Graph lookupAndCreateGraph() {
+        var store = GraphStoreCatalog.get(catalogRequest, GRAPH_NAME + (graphsInCatalog - 1)).graphStore();
+        return store.getGraph(List.of(RelationshipType.of("REL")), Optional.empty());
+    }
+
+    @Benchmark
+    public void setAndRemove() {
+        var graphName = "transient";
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, graphName), graphStore);
+        GraphStoreCatalog.remove(catalogRequest, graphName, removed -> {}, true);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares random access and cursor based iteration over {@link HugeLongArray}.
+ * The larger size exceeds the single page limit and exercises the paged implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HugeLongArrayBenchmark {
+
+    @Param({"1000000", "300000000"})
+    public long size;
+
+    private HugeLongArray array;
+    private HugeCursor<long[]> cursor;
+    private long[] randomIndices;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        array = HugeLongArray.newArray(size);
+        array.setAll(index -> index);
+        cursor = array.newCursor();
+
+        var random = ThreadLocalRandom.current();
+        randomIndices = new long[1 << 20];
+        for (int i = 0; i < randomIndices.length; i++) {
+            randomIndices[i] = random.nextLong(size);
+        }
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long sum = 0L;
+        for (long i = 0; i < size; i++) {
+            sum += array.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cursorIteration() {
+        long sum = 0L;
+        array.initCursor(cursor);
+        while (cursor.next()) {
+            long[] page = cursor.array;
+            int limit = cursor.limit;
+            for (int i = cursor.offset; i < limit; i++) {
+                sum += page[i];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomGet() {
+        long sum = 0L;
+        for (long index : randomIndices) {
+            sum += array.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void setAll() {
+        array.setAll(index -> index + 1);
+    }
+}
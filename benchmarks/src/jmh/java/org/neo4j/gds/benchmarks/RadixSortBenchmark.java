@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.loading.RadixSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts relationship batches the same way the loading buffers do:
+ * interleaved (source, target) pairs with one property reference per pair.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RadixSortBenchmark {
+
+    @Param({"10000", "100000"})
+    public int batchSize;
+
+    @Param({"1000000", "1000000000"})
+    public long maxNodeId;
+
+    private long[] input;
+    private long[] data;
+    private long[] dataCopy;
+    private long[] references;
+    private long[] referencesCopy;
+    private long[][] properties;
+    private long[][] propertiesCopy;
+    private int[] histogram;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        var random = new SplittableRandom(42L);
+        int length = batchSize * 2;
+        input = new long[length];
+        for (int i = 0; i < length; i++) {
+            input[i] = random.nextLong(maxNodeId);
+        }
+        data = new long[length];
+        dataCopy = RadixSort.newCopy(data);
+        references = new long[batchSize];
+        referencesCopy = RadixSort.newCopy(references);
+        properties = new long[batchSize][];
+        propertiesCopy = RadixSort.newCopy(properties);
+        histogram = RadixSort.newHistogram(length);
+    }
+
+    @Benchmark
+    public long[] radixSortBySource() {
+        resetInput();
+        RadixSort.radixSort(
+            data,
+            dataCopy,
+            references,
+            referencesCopy,
+            properties,
+            propertiesCopy,
+            histogram,
+            data.length
+        );
+        return data;
+    }
+
+    @Benchmark
+    public long[] radixSortByTarget() {
+        resetInput();
+        RadixSort.radixSort2(
+            data,
+            dataCopy,
+            references,
+            referencesCopy,
+            properties,
+            propertiesCopy,
+            histogram,
+            data.length
+        );
+        return data;
+    }
+
+    /**
+     * Every invocation sorts the same unsorted input.
+     * The copy is part of the measured time, as an invocation-level setup would distort
+     * the timings of these microsecond benchmarks; it is a single pass, while the sort makes several.
+     */
+    private void resetInput() {
+        System.arraycopy(input, 0, data, 0, input.length);
+    }
+}
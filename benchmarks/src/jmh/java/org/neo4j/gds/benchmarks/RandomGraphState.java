@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared benchmark state that generates a random graph once per trial.
+ * The graph size and degree distribution are exposed as JMH parameters,
+ * so that every suite using this state is run across the same matrix.
+ */
+@State(Scope.Benchmark)
+public class RandomGraphState {
+
+    @Param({"100000", "1000000"})
+    public long nodeCount;
+
+    @Param({"10", "50"})
+    public long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    public HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = generate(nodeCount, averageDegree, distribution, orientation());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+        graph = null;
+    }
+
+    Orientation orientation() {
+        return Orientation.NATURAL;
+    }
+
+    static HugeGraph generate(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution distribution,
+        Orientation orientation
+    ) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the KNN similarity metrics against plain single-accumulator loops,
+ * which is how the metrics were implemented before they were unrolled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SimilarityKernelBenchmark {
+
+    @Param({"64", "256", "1024"})
+    public int dimension;
+
+    private float[] leftFloats;
+    private float[] rightFloats;
+    private double[] leftDoubles;
+    private double[] rightDoubles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(42L);
+        leftFloats = new float[dimension];
+        rightFloats = new float[dimension];
+        leftDoubles = new double[dimension];
+        rightDoubles = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            leftDoubles[i] = random.nextDouble(-1, 1);
+            rightDoubles[i] = random.nextDouble(-1, 1);
+            leftFloats[i] = (float) leftDoubles[i];
+            rightFloats[i] = (float) rightDoubles[i];
+        }
+    }
+
+    @Benchmark
+    public double cosineFloat() {
+        return Cosine.floatMetric(leftFloats, rightFloats);
+    }
+
+    @Benchmark
+    public double cosineFloatScalar() {
+        float dotProduct = 0F;
+        float xLength = 0F;
+        float yLength = 0F;
+        for (int i = 0; i < dimension; i++) {
+            dotProduct += leftFloats[i] * rightFloats[i];
+            xLength += leftFloats[i] * leftFloats[i];
+            yLength += rightFloats[i] * rightFloats[i];
+        }
+        double cosine = (float) (dotProduct / Math.sqrt(xLength * yLength));
+        return (cosine + 1) / 2;
+    }
+
+    @Benchmark
+    public double cosineDouble() {
+        return Cosine.doubleMetric(leftDoubles, rightDoubles);
+    }
+
+    @Benchmark
+    public double cosineDoubleScalar() {
+        double dotProduct = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < dimension; i++) {
+            dotProduct += leftDoubles[i] * rightDoubles[i];
+            xLength += leftDoubles[i] * leftDoubles[i];
+            yLength += rightDoubles[i] * rightDoubles[i];
+        }
+        double cosine = dotProduct / Math.sqrt(xLength * yLength);
+        return (cosine + 1) / 2;
+    }
+
+    @Benchmark
+    public double euclideanFloat() {
+        return Euclidean.floatMetric(leftFloats, rightFloats);
+    }
+
+    @Benchmark
+    public double euclideanFloatScalar() {
+        var result = 0D;
+        for (int i = 0; i < dimension; i++) {
+            double delta = leftFloats[i] - rightFloats[i];
+            result += delta * delta;
+        }
+        return 1.0 / (1.0 + result);
+    }
+
+    @Benchmark
+    public double euclideanDouble() {
+        return Euclidean.doubleMetric(leftDoubles, rightDoubles);
+    }
+
+    @Benchmark
+    public double euclideanDoubleScalar() {
+        var result = 0D;
+        for (int i = 0; i < dimension; i++) {
+            double delta = leftDoubles[i] - rightDoubles[i];
+            result += delta * delta;
+        }
+        return 1.0 / (1.0 + result);
+    }
+
+    @Benchmark
+    public double pearsonDouble() {
+        return Pearson.doubleMetric(leftDoubles, rightDoubles);
+    }
+
+    @Benchmark
+    public double pearsonDoubleScalar() {
+        double sumA = 0d;
+        double sumB = 0d;
+        for (int i = 0; i < dimension; i++) {
+            sumA += leftDoubles[i];
+            sumB += rightDoubles[i];
+        }
+        double meanA = sumA / dimension;
+        double meanB = sumB / dimension;
+
+        double sumOfProducts = 0d;
+        double sumOfASquared = 0d;
+        double sumOfBSquared = 0d;
+        for (int i = 0; i < dimension; i++) {
+            double aDelta = leftDoubles[i] - meanA;
+            double bDelta = rightDoubles[i] - meanB;
+            sumOfProducts += aDelta * bDelta;
+            sumOfASquared += aDelta * aDelta;
+            sumOfBSquared += bDelta * bDelta;
+        }
+        double r = sumOfProducts / Math.sqrt(sumOfASquared * sumOfBSquared);
+        return (r + 1) / 2;
+    }
+}
@@ -21,4 +21,11 @@ package org.neo4j.gds.api;
 
 public interface GraphStoreWrapper extends GraphStore {
     GraphStore innerGraphStore();
+
+    /**
+     * Releases the data held by the wrapper itself, but not the data of the inner graph store,
+     * which may still be used by other wrappers.
+     */
+    default void releaseWrapper() {
+    }
 }
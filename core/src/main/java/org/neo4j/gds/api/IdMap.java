@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.api;
 
+import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.NodeLabel;
 
 import java.util.Collection;
@@ -96,6 +97,15 @@ public interface IdMap extends PartialIdMap, NodeIterator, BatchNodeIterable {
         throw new UnsupportedOperationException("This node mapping does not support label filtering");
     }
 
+    /**
+     * Creates a node mapping over the given subset of the mapped node ids, without copying any other node data.
+     * Like for {@link #withFilteredLabels(Collection, int)}, the original ids of the returned mapping
+     * are the mapped ids of this mapping.
+     */
+    default IdMap withFilteredNodes(BitSet nodes, int concurrency) {
+        throw new UnsupportedOperationException("This node mapping does not support node filtering");
+    }
+
     @FunctionalInterface
     interface NodeLabelConsumer {
 
@@ -62,6 +62,15 @@ public interface GraphProjectFromGraphConfig extends GraphProjectConfig {
         return Collections.emptyMap();
     }
 
+    /**
+     * If set, the subgraph shares the data of the original graph instead of copying it.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean view() {
+        return false;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyValidatorService.validator().validate(concurrency(), "concurrency", ConcurrencyConfig.CONCURRENCY_LIMITATION);
@@ -27,10 +27,12 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.concurrency.ConcurrencyValidatorService;
 
 import java.util.Collection;
+import java.util.Optional;
 
 public interface WriteConfig extends ConcurrencyConfig {
 
     String WRITE_CONCURRENCY_KEY = "writeConcurrency";
+    String WRITE_BATCH_SIZE_KEY = "writeBatchSize";
 
     @Value.Default
     @Configuration.Key(WRITE_CONCURRENCY_KEY)
@@ -45,6 +47,10 @@ public interface WriteConfig extends ConcurrencyConfig {
             .validate(writeConcurrency(), WRITE_CONCURRENCY_KEY, ConcurrencyConfig.CONCURRENCY_LIMITATION);
     }
 
+    @Configuration.Key(WRITE_BATCH_SIZE_KEY)
+    @Configuration.IntegerRange(min = 1)
+    Optional<Integer> writeBatchSize();
+
     @Configuration.GraphStoreValidationCheck
     @Value.Default
     default void validateGraphIsSuitableForWrite(
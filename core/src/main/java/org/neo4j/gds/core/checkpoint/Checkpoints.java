@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.checkpoint;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores the state of an iterative algorithm on local disk, so that a terminated or crashed run
+ * can be resumed from its last checkpoint instead of starting from scratch.
+ *
+ * A checkpoint is only restored if it was written by a run with the same configuration on a graph
+ * with the same content; otherwise it is ignored and overwritten by the next checkpoint.
+ * Checkpoints are written to a temporary file first and then moved into place,
+ * so a crash while writing leaves the previous checkpoint intact.
+ */
+public final class Checkpoints {
+
+    public static final Checkpoints DISABLED = new Checkpoints(null, 0L);
+
+    private static final int MAGIC = 0x47445343; // GDSC
+    private static final int VERSION = 2;
+    private static final String FILE_SUFFIX = ".checkpoint";
+    private static final Pattern VALID_NAME = Pattern.compile("[\\w\\-.]+");
+
+    // configuration keys that do not change the result of an algorithm
+    private static final Set<String> IGNORED_CONFIG_KEYS = Set.of(
+        "concurrency",
+        "jobId",
+        "logProgress",
+        "priority",
+        "sudo",
+        "username",
+        "writeBatchSize",
+        "writeConcurrency"
+    );
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(DataOutput output) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(DataInput input) throws IOException;
+    }
+
+    private final Path file;
+    private final long fingerprint;
+
+    private Checkpoints(Path file, long fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @param location    the configured checkpoint directory
+     * @param username    the user running the algorithm, checkpoints are not shared between users
+     * @param checkpointId the user provided id that identifies the run across restarts
+     * @param fingerprint identifies configuration and input of the run, see {@link #fingerprint(Map, Graph)}
+     */
+    public static Checkpoints of(Path location, String username, String checkpointId, long fingerprint) {
+        validateName(checkpointId, "checkpointId");
+        var directory = location.resolve(validateName(username.isEmpty() ? "anonymous" : username, "username"));
+        return new Checkpoints(directory.resolve(checkpointId + FILE_SUFFIX), fingerprint);
+    }
+
+    /**
+     * A 64-bit hash of the configuration and the content of the graph.
+     * The graph is identified by its content rather than its catalog entry, because after a crash the graph is projected again.
+     * Node ids, original ids, relationships and their properties are hashed in one pass over the graph,
+     * so a checkpoint is not restored on a graph of the same size but with a different structure or id mapping.
+     */
+    public static long fingerprint(Map<String, Object> configuration, Graph graph) {
+        var relevantConfiguration = new TreeMap<>(configuration);
+        relevantConfiguration.keySet().removeAll(IGNORED_CONFIG_KEYS);
+        var configurationString = relevantConfiguration.toString();
+
+        long hash = combine(0L, configurationString.length());
+        for (int i = 0; i < configurationString.length(); i++) {
+            hash = combine(hash, configurationString.charAt(i));
+        }
+        hash = combine(hash, graph.nodeCount());
+        hash = combine(hash, graph.relationshipCount());
+
+        var relationshipHash = new long[1];
+        boolean hasProperty = graph.hasRelationshipProperty();
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            hash = combine(hash, graph.toOriginalNodeId(nodeId));
+            relationshipHash[0] = hash;
+            graph.forEachRelationship(nodeId, 0D, (source, target, property) -> {
+                long relationship = combine(relationshipHash[0], target);
+                relationshipHash[0] = hasProperty
+                    ? combine(relationship, Double.doubleToLongBits(property))
+                    : relationship;
+                return true;
+            });
+            hash = relationshipHash[0];
+        }
+        return hash;
+    }
+
+    private static long combine(long hash, long value) {
+        return BitMixer.mix64(hash ^ BitMixer.mix64(value));
+    }
+
+    public boolean enabled() {
+        return file != null;
+    }
+
+    public <T> Optional<T> restore(Reader<T> reader) {
+        if (!enabled()) {
+            return Optional.empty();
+        }
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || input.readLong() != fingerprint) {
+                return Optional.empty();
+            }
+            return Optional.of(reader.read(input));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not restore checkpoint `%s`", file), e);
+        }
+    }
+
+    public void save(Writer writer) {
+        if (!enabled()) {
+            return;
+        }
+        var tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeLong(fingerprint);
+                writer.write(output);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not write checkpoint `%s`", file), e);
+        }
+    }
+
+    /**
+     * Removes the checkpoint once the algorithm completed, so that the next run with the same id starts from scratch.
+     */
+    public void delete() {
+        if (!enabled()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not delete checkpoint `%s`", file), e);
+        }
+    }
+
+    public static void writeLongArray(DataOutput output, HugeLongArray array) throws IOException {
+        long size = array.size();
+        output.writeLong(size);
+        for (long i = 0; i < size; i++) {
+            output.writeLong(array.get(i));
+        }
+    }
+
+    public static HugeLongArray readLongArray(DataInput input) throws IOException {
+        long size = input.readLong();
+        var array = HugeLongArray.newArray(size);
+        for (long i = 0; i < size; i++) {
+            array.set(i, input.readLong());
+        }
+        return array;
+    }
+
+    private static String validateName(String name, String parameterName) {
+        if (!VALID_NAME.matcher(name).matches() || name.startsWith(".")) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "`%s` may only contain letters, digits, `_`, `-` and `.`, and must not start with `.`, but got `%s`.",
+                parameterName,
+                name
+            ));
+        }
+        return name;
+    }
+}
@@ -23,9 +23,14 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.OffHeapAdjacencyList;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
 import org.neo4j.gds.core.loading.CompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.DeltaVarLongCompressor;
+import org.neo4j.gds.core.loading.OffHeapAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.PackedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.PackedCompressor;
 import org.neo4j.gds.core.loading.RawCompressor;
 import org.neo4j.gds.core.loading.UncompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -36,7 +41,7 @@ import java.util.stream.Stream;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, bit-packed or uncompressed and on or off heap.
  */
 public interface AdjacencyListBehavior {
 
@@ -45,11 +50,19 @@ public interface AdjacencyListBehavior {
         PropertyMappings propertyMappings,
         Aggregation[] aggregations
     ) {
+        validateToggles();
         var noAggregation = Stream.of(aggregations).allMatch(aggregation -> aggregation == Aggregation.NONE);
 
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? uncompressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation)
-            : compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return uncompressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return packed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()) {
+            return offHeap(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        return compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -67,6 +80,36 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory offHeap(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return DeltaVarLongCompressor.factory(
+            nodeCountSupplier,
+            OffHeapAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
+    static AdjacencyCompressorFactory packed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return PackedCompressor.factory(
+            nodeCountSupplier,
+            PackedAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static AdjacencyCompressorFactory uncompressed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
@@ -82,16 +125,47 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    /**
+     * The off-heap adjacency list uses the compressed encoding, so it cannot be combined with another encoding.
+     */
+    static void validateToggles() {
+        if (!GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()) {
+            return;
+        }
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled() || GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            throw new IllegalStateException(
+                "The off-heap adjacency list can only be used with the compressed adjacency list. " +
+                "Disable either the uncompressed or packed adjacency list or the off-heap adjacency list feature toggle."
+            );
+        }
+    }
+
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        validateToggles();
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()) {
+            return OffHeapAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        validateToggles();
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()) {
+            return OffHeapAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The order in which the {@link JobScheduler} admits waiting jobs.
+ */
+public enum JobPriority {
+
+    /**
+     * Interactive jobs. They are admitted first and may use the cores that are held back from other jobs.
+     */
+    HIGH,
+
+    NORMAL,
+
+    /**
+     * Batch jobs that only run if no other job is waiting.
+     */
+    LOW;
+
+    private static final List<String> VALUES = Arrays
+        .stream(JobPriority.values())
+        .map(JobPriority::name)
+        .collect(Collectors.toList());
+
+    public static JobPriority parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return JobPriority.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Job priority `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof JobPriority) {
+            return (JobPriority) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected JobPriority or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(JobPriority priority) {
+        return priority.toString();
+    }
+}
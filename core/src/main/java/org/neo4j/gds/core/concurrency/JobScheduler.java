@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Admission control for procedures that share the cores of the {@link Pools#DEFAULT} executor.
+ *
+ * Every job asks for its concurrency before it starts and holds it until it completes.
+ * A job is admitted once it is first in line and its cores fit into the core budget.
+ * The line is ordered by {@link JobPriority}, then by the cores that the submitting user already runs,
+ * so that a single user cannot monopolise the budget, and finally by arrival.
+ * A quarter of the budget is held back for {@link JobPriority#HIGH} jobs, so that interactive jobs
+ * can start while batch jobs occupy the rest of the budget.
+ *
+ * Jobs that are started from within an admitted job, e.g. the algorithms of a pipeline,
+ * run on the budget of the outer job and are admitted right away.
+ * Permits are therefore bound to the thread that acquired them until they are closed or detached.
+ */
+public final class JobScheduler {
+
+    private static final Map<Integer, JobScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+
+    // Termination of waiting jobs is only noticed when polling the termination flag.
+    private static final long MAX_WAIT_SLICE_MILLIS = 100;
+
+    private static final ThreadLocal<Permit> CURRENT_PERMIT = new ThreadLocal<>();
+
+    public static JobScheduler forCoreBudget(int coreBudget) {
+        return SCHEDULERS.computeIfAbsent(coreBudget, JobScheduler::new);
+    }
+
+    private final int coreBudget;
+    private final int highPriorityReserve;
+    private final List<Ticket> waiting;
+    private final Map<String, Integer> runningCoresPerUser;
+    private int runningCores;
+    private int runningCoresWithoutHighPriority;
+    private long nextSequence;
+
+    public JobScheduler(int coreBudget) {
+        if (coreBudget < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The core budget must be at least 1, but got %d.",
+                coreBudget
+            ));
+        }
+        this.coreBudget = coreBudget;
+        this.highPriorityReserve = coreBudget / 4;
+        this.waiting = new ArrayList<>();
+        this.runningCoresPerUser = new HashMap<>();
+    }
+
+    public int coreBudget() {
+        return coreBudget;
+    }
+
+    public synchronized int runningCores() {
+        return runningCores;
+    }
+
+    public synchronized int queueDepth() {
+        return waiting.size();
+    }
+
+    /**
+     * Blocks until the job is admitted or the termination flag is set.
+     *
+     * @param jobsAheadListener called with the number of jobs that are in line before this job whenever it changes
+     */
+    public Permit acquire(
+        String username,
+        int concurrency,
+        JobPriority priority,
+        TerminationFlag terminationFlag,
+        IntConsumer jobsAheadListener
+    ) {
+        if (CURRENT_PERMIT.get() != null) {
+            return Permit.UNSCHEDULED;
+        }
+
+        int coreLimit = priority == JobPriority.HIGH ? coreBudget : coreBudget - highPriorityReserve;
+        int cores = Math.max(1, Math.min(concurrency, coreLimit));
+        long start = System.nanoTime();
+
+        synchronized (this) {
+            var ticket = new Ticket(username, cores, priority, nextSequence++);
+            waiting.add(ticket);
+            boolean admitted = false;
+            try {
+                int lastJobsAhead = -1;
+                while (!(isNext(ticket) && fits(ticket))) {
+                    int jobsAhead = jobsAhead(ticket);
+                    if (jobsAhead != lastJobsAhead) {
+                        jobsAheadListener.accept(jobsAhead);
+                        lastJobsAhead = jobsAhead;
+                    }
+                    terminationFlag.assertRunning();
+                    wait(MAX_WAIT_SLICE_MILLIS);
+                }
+                admitted = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                waiting.remove(ticket);
+                if (!admitted) {
+                    notifyAll();
+                }
+            }
+
+            runningCores += cores;
+            if (priority != JobPriority.HIGH) {
+                runningCoresWithoutHighPriority += cores;
+            }
+            runningCoresPerUser.merge(username, cores, Integer::sum);
+            // the order of the remaining jobs depends on the cores per user
+            notifyAll();
+
+            var permit = new Permit(this, ticket, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            CURRENT_PERMIT.set(permit);
+            return permit;
+        }
+    }
+
+    private synchronized void release(Ticket ticket) {
+        runningCores -= ticket.cores;
+        if (ticket.priority != JobPriority.HIGH) {
+            runningCoresWithoutHighPriority -= ticket.cores;
+        }
+        runningCoresPerUser.computeIfPresent(ticket.username, (user, cores) -> cores == ticket.cores ? null : cores - ticket.cores);
+        notifyAll();
+    }
+
+    private boolean fits(Ticket ticket) {
+        if (runningCores + ticket.cores > coreBudget) {
+            return false;
+        }
+        return ticket.priority == JobPriority.HIGH
+               || runningCoresWithoutHighPriority + ticket.cores <= coreBudget - highPriorityReserve;
+    }
+
+    private boolean isNext(Ticket ticket) {
+        return jobsAhead(ticket) == 0;
+    }
+
+    private int jobsAhead(Ticket ticket) {
+        var order = lineOrder();
+        int jobsAhead = 0;
+        for (Ticket other : waiting) {
+            if (order.compare(other, ticket) < 0) {
+                jobsAhead++;
+            }
+        }
+        return jobsAhead;
+    }
+
+    private Comparator<Ticket> lineOrder() {
+        return Comparator
+            .<Ticket>comparingInt(t -> t.priority.ordinal())
+            .thenComparingInt(t -> runningCoresPerUser.getOrDefault(t.username, 0))
+            .thenComparingLong(t -> t.sequence);
+    }
+
+    private static final class Ticket {
+        private final String username;
+        private final int cores;
+        private final JobPriority priority;
+        private final long sequence;
+
+        private Ticket(String username, int cores, JobPriority priority, long sequence) {
+            this.username = username;
+            this.cores = cores;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    public static final class Permit implements AutoCloseable {
+
+        /**
+         * A permit for jobs that are not subject to scheduling.
+         */
+        public static final Permit UNSCHEDULED = new Permit(null, null, 0);
+
+        private final JobScheduler scheduler;
+        private final Ticket ticket;
+        private final long waitTimeMillis;
+        private boolean released;
+
+        private Permit(JobScheduler scheduler, Ticket ticket, long waitTimeMillis) {
+            this.scheduler = scheduler;
+            this.ticket = ticket;
+            this.waitTimeMillis = waitTimeMillis;
+        }
+
+        public long waitTimeMillis() {
+            return waitTimeMillis;
+        }
+
+        /**
+         * The number of cores that are accounted to the job, or 0 if the job is not scheduled.
+         */
+        public int cores() {
+            return ticket == null ? 0 : ticket.cores;
+        }
+
+        /**
+         * Unbinds the permit from the current thread while its cores stay accounted to the job.
+         * Used when the job completes on another thread, e.g. when its results are streamed lazily.
+         */
+        public void detach() {
+            if (CURRENT_PERMIT.get() == this) {
+                CURRENT_PERMIT.remove();
+            }
+        }
+
+        @Override
+        public void close() {
+            detach();
+            synchronized (this) {
+                if (scheduler == null || released) {
+                    return;
+                }
+                released = true;
+            }
+            scheduler.release(ticket);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToIntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.core.utils.TerminationFlag.RUN_CHECK_NODE_COUNT;
+
+/**
+ * Dynamically balanced execution of per-node work for graphs with a skewed degree distribution.
+ *
+ * Partitions that are computed upfront, e.g. by {@link org.neo4j.gds.core.utils.partition.PartitionUtils},
+ * leave threads idle while the partition containing the high-degree nodes is still running.
+ * Here, every thread claims its next node batch once it is done with the previous one.
+ * Batches shrink with the number of remaining nodes (guided self-scheduling),
+ * so the last batches are small and no thread is left with a large tail.
+ * Workers that implement {@link RelationshipWorker} additionally get the adjacency lists
+ * of high-degree nodes decoded once and split into chunks that idle threads take over.
+ *
+ * The work runs on {@code concurrency} tasks of the given executor and every task creates its own worker,
+ * so workers may hold thread-local state such as {@link org.neo4j.gds.api.Graph#concurrentCopy()} graphs or cursors.
+ */
+public final class WorkStealing {
+
+    /**
+     * Batches with fewer nodes are never claimed, except for the last one.
+     */
+    public static final int DEFAULT_MIN_BATCH_SIZE = 1_000;
+
+    /**
+     * Adjacency lists with more relationships are split into chunks of this size.
+     */
+    public static final int DEFAULT_SPLIT_DEGREE = 10_000;
+
+    // Every batch takes this share of the remaining nodes per thread.
+    private static final int BATCHES_PER_THREAD = 2;
+
+    @FunctionalInterface
+    public interface NodeWorker {
+        void processNode(long nodeId);
+    }
+
+    public interface RelationshipWorker extends NodeWorker {
+        /**
+         * Passes all relationships of the node to the consumer.
+         * Called once for every node that is split, in order to decode its adjacency list into a buffer.
+         */
+        void forEachRelationship(long nodeId, RelationshipWithPropertyConsumer consumer);
+
+        /**
+         * Processes the relationships of the node at positions {@code [fromIndex, toIndex)} of its decoded adjacency list.
+         * The chunks of a node are processed concurrently, so the worker must not rely on seeing all relationships of a node.
+         */
+        void processRelationships(long nodeId, long[] targets, double[] properties, int fromIndex, int toIndex);
+    }
+
+    private WorkStealing() {}
+
+    public static void forEachNode(
+        int concurrency,
+        ExecutorService executor,
+        long nodeCount,
+        int minBatchSize,
+        TerminationFlag terminationFlag,
+        Supplier<? extends NodeWorker> workerSupplier
+    ) {
+        run(executor, new Context(concurrency, nodeCount, minBatchSize, null, 0, terminationFlag, workerSupplier));
+    }
+
+    public static void forEachNode(
+        int concurrency,
+        ExecutorService executor,
+        long nodeCount,
+        int minBatchSize,
+        LongToIntFunction degrees,
+        int splitDegree,
+        TerminationFlag terminationFlag,
+        Supplier<? extends RelationshipWorker> workerSupplier
+    ) {
+        if (splitDegree < 1) {
+            throw new IllegalArgumentException("The split degree must be positive.");
+        }
+        run(
+            executor,
+            new Context(concurrency, nodeCount, minBatchSize, degrees, splitDegree, terminationFlag, workerSupplier)
+        );
+    }
+
+    /**
+     * Calls the consumer for the decoded relationships at positions {@code [fromIndex, toIndex)}.
+     */
+    public static void forEachRelationship(
+        long nodeId,
+        long[] targets,
+        double[] properties,
+        int fromIndex,
+        int toIndex,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        for (int index = fromIndex; index < toIndex; index++) {
+            if (!consumer.accept(nodeId, targets[index], properties[index])) {
+                return;
+            }
+        }
+    }
+
+    private static void run(ExecutorService executor, Context context) {
+        if (context.nodeCount == 0) {
+            return;
+        }
+        var tasks = IntStream
+            .range(0, context.concurrency)
+            .mapToObj(ignored -> new NodeBatchTask(context))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(context.concurrency, tasks, executor);
+    }
+
+    private static final class Context {
+        private final int concurrency;
+        private final long nodeCount;
+        private final int minBatchSize;
+        private final @Nullable LongToIntFunction degrees;
+        private final int splitDegree;
+        private final TerminationFlag terminationFlag;
+        private final Supplier<? extends NodeWorker> workerSupplier;
+        private final AtomicLong nextNode;
+        private final Queue<RelationshipChunk> chunks;
+        // the number of adjacency lists that are being decoded and will add chunks to the queue
+        private final AtomicInteger splittingNodes;
+
+        private Context(
+            int concurrency,
+            long nodeCount,
+            int minBatchSize,
+            @Nullable LongToIntFunction degrees,
+            int splitDegree,
+            TerminationFlag terminationFlag,
+            Supplier<? extends NodeWorker> workerSupplier
+        ) {
+            this.concurrency = Math.max(1, concurrency);
+            this.nodeCount = nodeCount;
+            this.minBatchSize = Math.max(1, minBatchSize);
+            this.degrees = degrees;
+            this.splitDegree = splitDegree;
+            this.terminationFlag = terminationFlag;
+            this.workerSupplier = workerSupplier;
+            this.nextNode = new AtomicLong();
+            this.chunks = new ConcurrentLinkedQueue<>();
+            this.splittingNodes = new AtomicInteger();
+        }
+
+        /**
+         * The end of a batch only depends on its start, so a claim is a single compare-and-set of the next node.
+         */
+        private long batchEnd(long startNode) {
+            long batchSize = Math.max(minBatchSize, (nodeCount - startNode) / ((long) concurrency * BATCHES_PER_THREAD));
+            return Math.min(nodeCount, startNode + batchSize);
+        }
+
+        /**
+         * @return the first node of the claimed batch, or -1 if all nodes are claimed
+         */
+        private long claimBatch() {
+            while (true) {
+                long startNode = nextNode.get();
+                if (startNode >= nodeCount) {
+                    return -1;
+                }
+                if (nextNode.compareAndSet(startNode, batchEnd(startNode))) {
+                    return startNode;
+                }
+            }
+        }
+    }
+
+    private static final class NodeBatchTask implements Runnable {
+        private final Context context;
+
+        private NodeBatchTask(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            var worker = context.workerSupplier.get();
+            long startNode;
+            while ((startNode = context.claimBatch()) != -1) {
+                processNodes(worker, startNode, context.batchEnd(startNode));
+            }
+            // help with the chunks of adjacency lists that other tasks are still splitting
+            while (processChunks(worker) || context.splittingNodes.get() > 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        private void processNodes(NodeWorker worker, long startNode, long endNode) {
+            var degrees = context.degrees;
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                int degree = degrees == null ? 0 : degrees.applyAsInt(nodeId);
+                if (degree > context.splitDegree) {
+                    split((RelationshipWorker) worker, nodeId, degree);
+                } else {
+                    worker.processNode(nodeId);
+                }
+                if (nodeId % RUN_CHECK_NODE_COUNT == 0) {
+                    context.terminationFlag.assertRunning();
+                }
+            }
+        }
+
+        private void split(RelationshipWorker worker, long nodeId, int degree) {
+            context.splittingNodes.incrementAndGet();
+            try {
+                var buffer = new RelationshipBuffer(degree);
+                worker.forEachRelationship(nodeId, buffer);
+                for (int fromIndex = 0; fromIndex < buffer.length; fromIndex += context.splitDegree) {
+                    context.chunks.add(new RelationshipChunk(
+                        nodeId,
+                        buffer.targets,
+                        buffer.properties,
+                        fromIndex,
+                        Math.min(buffer.length, fromIndex + context.splitDegree)
+                    ));
+                }
+            } finally {
+                context.splittingNodes.decrementAndGet();
+            }
+            processChunks(worker);
+        }
+
+        /**
+         * @return true if any chunk was processed
+         */
+        private boolean processChunks(NodeWorker worker) {
+            boolean processed = false;
+            RelationshipChunk chunk;
+            while ((chunk = context.chunks.poll()) != null) {
+                ((RelationshipWorker) worker).processRelationships(
+                    chunk.nodeId,
+                    chunk.targets,
+                    chunk.properties,
+                    chunk.fromIndex,
+                    chunk.toIndex
+                );
+                processed = true;
+            }
+            return processed;
+        }
+    }
+
+    private static final class RelationshipBuffer implements RelationshipWithPropertyConsumer {
+        private long[] targets;
+        private double[] properties;
+        private int length;
+
+        private RelationshipBuffer(int capacity) {
+            this.targets = new long[capacity];
+            this.properties = new double[capacity];
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            if (length == targets.length) {
+                int capacity = Math.max(16, length + (length >> 1));
+                targets = Arrays.copyOf(targets, capacity);
+                properties = Arrays.copyOf(properties, capacity);
+            }
+            targets[length] = targetNodeId;
+            properties[length] = property;
+            length++;
+            return true;
+        }
+    }
+
+    private static final class RelationshipChunk {
+        private final long nodeId;
+        private final long[] targets;
+        private final double[] properties;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private RelationshipChunk(long nodeId, long[] targets, double[] properties, int fromIndex, int toIndex) {
+            this.nodeId = nodeId;
+            this.targets = targets;
+            this.properties = properties;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+    }
+}
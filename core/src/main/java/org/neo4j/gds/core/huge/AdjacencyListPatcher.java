@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodeVLongs;
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongsSize;
+
+/**
+ * Rewrites the adjacency lists of individual nodes of an existing relationship type.
+ *
+ * Rewritten adjacency lists and their properties are appended to new pages.
+ * If the node ids are stable, i.e. nodes have only been added, all other nodes keep pointing into the pages
+ * of the existing {@link CompressedAdjacencyList} and {@link UncompressedAdjacencyList properties}.
+ * These pages are shared, not copied, and are never modified, so the existing lists remain valid.
+ * Otherwise, or if the existing lists are stored in a different layout, every node is rewritten.
+ *
+ * The result is always a {@link CompressedAdjacencyList} with {@link UncompressedAdjacencyList} properties.
+ *
+ * A patcher is not thread-safe. All buffers are owned by the instance and reused for every rewritten node.
+ */
+public final class AdjacencyListPatcher {
+
+    private final AdjacencyList adjacencyList;
+    private final AdjacencyProperties[] propertyLists;
+    private final double[] defaultValues;
+    private final Aggregation[] aggregations;
+    private final boolean isMultiGraph;
+    private final long nodeCount;
+    private final LongUnaryOperator newToOldNodeId;
+    private final LongUnaryOperator oldToNewNodeId;
+    private final boolean reusePages;
+
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+    private final HugeLongArray[] propertyOffsets;
+    private final BytePages adjacencyPages;
+    private final LongPages[] propertyPages;
+    private final BitSet rewrittenNodes;
+
+    private @Nullable AdjacencyCursor adjacencyCursor;
+    private final PropertyCursor[] propertyCursors;
+
+    private long[] targets;
+    private long[][] properties;
+    private long[] deltas;
+    private long[] sortedTargets;
+    private long[][] sortedProperties;
+    private int[] order;
+    private int[] orderBuffer;
+    private byte[] compressed;
+    private boolean hasParallelRelationships;
+
+    /**
+     * @param newToOldNodeId maps a node id of the patched lists to the id in the existing lists, or to a negative value for added nodes
+     * @param oldToNewNodeId maps a node id of the existing lists to the id in the patched lists, or to a negative value for removed nodes
+     * @param stableNodeIds true if existing nodes keep their id and added nodes are appended
+     */
+    public static AdjacencyListPatcher of(
+        AdjacencyList adjacencyList,
+        List<AdjacencyProperties> propertyLists,
+        double[] defaultValues,
+        Aggregation[] aggregations,
+        boolean isMultiGraph,
+        long nodeCount,
+        LongUnaryOperator newToOldNodeId,
+        LongUnaryOperator oldToNewNodeId,
+        boolean stableNodeIds
+    ) {
+        boolean reusePages = stableNodeIds
+            && adjacencyList instanceof CompressedAdjacencyList
+            && propertyLists.stream().allMatch(UncompressedAdjacencyList.class::isInstance);
+        return new AdjacencyListPatcher(
+            adjacencyList,
+            propertyLists.toArray(new AdjacencyProperties[0]),
+            defaultValues,
+            aggregations,
+            isMultiGraph,
+            nodeCount,
+            newToOldNodeId,
+            oldToNewNodeId,
+            reusePages
+        );
+    }
+
+    private AdjacencyListPatcher(
+        AdjacencyList adjacencyList,
+        AdjacencyProperties[] propertyLists,
+        double[] defaultValues,
+        Aggregation[] aggregations,
+        boolean isMultiGraph,
+        long nodeCount,
+        LongUnaryOperator newToOldNodeId,
+        LongUnaryOperator oldToNewNodeId,
+        boolean reusePages
+    ) {
+        this.adjacencyList = adjacencyList;
+        this.propertyLists = propertyLists;
+        this.defaultValues = defaultValues;
+        this.aggregations = aggregations;
+        this.isMultiGraph = isMultiGraph;
+        this.nodeCount = nodeCount;
+        this.newToOldNodeId = newToOldNodeId;
+        this.oldToNewNodeId = oldToNewNodeId;
+        this.reusePages = reusePages;
+
+        int propertyCount = propertyLists.length;
+        this.propertyOffsets = new HugeLongArray[propertyCount];
+        this.propertyPages = new LongPages[propertyCount];
+        if (reusePages) {
+            var compressedList = (CompressedAdjacencyList) adjacencyList;
+            this.degrees = compressedList.degrees().copyOf(nodeCount);
+            this.offsets = compressedList.offsets().copyOf(nodeCount);
+            this.adjacencyPages = new BytePages(compressedList.pages());
+            for (int i = 0; i < propertyCount; i++) {
+                var propertyList = (UncompressedAdjacencyList) propertyLists[i];
+                this.propertyOffsets[i] = propertyList.offsets().copyOf(nodeCount);
+                this.propertyPages[i] = new LongPages(propertyList.pages());
+            }
+        } else {
+            this.degrees = HugeIntArray.newArray(nodeCount);
+            this.offsets = HugeLongArray.newArray(nodeCount);
+            this.adjacencyPages = new BytePages(new byte[0][]);
+            for (int i = 0; i < propertyCount; i++) {
+                this.propertyOffsets[i] = HugeLongArray.newArray(nodeCount);
+                this.propertyPages[i] = new LongPages(new long[0][]);
+            }
+        }
+        this.rewrittenNodes = new BitSet(nodeCount);
+
+        this.propertyCursors = new PropertyCursor[propertyCount];
+        this.targets = new long[16];
+        this.properties = new long[propertyCount][16];
+        this.deltas = new long[16];
+        this.sortedTargets = new long[16];
+        this.sortedProperties = new long[propertyCount][16];
+        this.order = new int[16];
+        this.orderBuffer = new int[16];
+        this.compressed = new byte[0];
+    }
+
+    /**
+     * Rewrites the adjacency list of the given node.
+     * Relationships are sorted by target and, unless the existing lists allow parallel relationships,
+     * relationships to the same target are merged using the aggregation of each property.
+     * Properties without an aggregation keep the value of the added relationship.
+     * A removed target drops every existing relationship to that target, including parallel relationships.
+     *
+     * @param nodeId                 id of the node in the patched lists
+     * @param removedTarget          tests if existing relationships to the target with the given id in the patched lists are removed
+     * @param addedTargets           targets of the added relationships, as ids in the patched lists
+     * @param addedProperties        the property values of the added relationships as double bits, one array per property
+     * @param addedRelationshipCount number of added relationships
+     */
+    public void rewrite(
+        long nodeId,
+        LongPredicate removedTarget,
+        long[] addedTargets,
+        long[][] addedProperties,
+        int addedRelationshipCount
+    ) {
+        int length = 0;
+
+        long oldNodeId = newToOldNodeId.applyAsLong(nodeId);
+        if (oldNodeId >= 0 && adjacencyList.degree(oldNodeId) > 0) {
+            int degree = adjacencyList.degree(oldNodeId);
+            ensureCapacity(degree + addedRelationshipCount);
+            adjacencyCursor = adjacencyList.adjacencyCursor(adjacencyCursor, oldNodeId);
+            for (int i = 0; i < propertyLists.length; i++) {
+                propertyCursors[i] = propertyLists[i].propertyCursor(propertyCursors[i], oldNodeId, defaultValues[i]);
+            }
+            while (adjacencyCursor.hasNextVLong()) {
+                long target = oldToNewNodeId.applyAsLong(adjacencyCursor.nextVLong());
+                for (int i = 0; i < propertyLists.length; i++) {
+                    // properties need to be consumed, even if the relationship is dropped
+                    properties[i][length] = propertyCursors[i].nextLong();
+                }
+                if (target >= 0 && !removedTarget.test(target)) {
+                    targets[length++] = target;
+                }
+            }
+        } else {
+            ensureCapacity(addedRelationshipCount);
+        }
+
+        System.arraycopy(addedTargets, 0, targets, length, addedRelationshipCount);
+        for (int i = 0; i < propertyLists.length; i++) {
+            System.arraycopy(addedProperties[i], 0, properties[i], length, addedRelationshipCount);
+        }
+        length += addedRelationshipCount;
+
+        length = sortAndMerge(length);
+        write(nodeId, length);
+        rewrittenNodes.set(nodeId);
+    }
+
+    public Result build() {
+        if (!reusePages) {
+            var noTargets = new long[0];
+            var noProperties = new long[propertyLists.length][0];
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                if (!rewrittenNodes.get(nodeId)) {
+                    rewrite(nodeId, target -> false, noTargets, noProperties, 0);
+                }
+            }
+        }
+
+        long relationshipCount = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            relationshipCount += degrees.get(nodeId);
+        }
+
+        var patchedList = new CompressedAdjacencyList(adjacencyPages.intoPages(), degrees, offsets);
+        var patchedProperties = new ArrayList<AdjacencyProperties>(propertyLists.length);
+        for (int i = 0; i < propertyLists.length; i++) {
+            patchedProperties.add(new UncompressedAdjacencyList(propertyPages[i].intoPages(), degrees, propertyOffsets[i]));
+        }
+
+        return new Result(patchedList, patchedProperties, relationshipCount, isMultiGraph || hasParallelRelationships);
+    }
+
+    private int sortAndMerge(int length) {
+        if (length <= 1) {
+            return length;
+        }
+
+        // rewritten lists without added relationships are already sorted
+        boolean sorted = true;
+        boolean distinct = true;
+        for (int i = 1; i < length && sorted; i++) {
+            sorted = targets[i - 1] <= targets[i];
+            distinct &= targets[i - 1] != targets[i];
+        }
+        if (sorted && (distinct || isMultiGraph)) {
+            hasParallelRelationships |= !distinct;
+            return length;
+        }
+
+        sortOrder(length);
+
+        int out = 0;
+        for (int in = 0; in < length; in++) {
+            int index = order[in];
+            long target = targets[index];
+            if (out > 0 && sortedTargets[out - 1] == target) {
+                if (isMultiGraph) {
+                    hasParallelRelationships = true;
+                } else {
+                    for (int i = 0; i < propertyLists.length; i++) {
+                        sortedProperties[i][out - 1] = merge(i, sortedProperties[i][out - 1], properties[i][index]);
+                    }
+                    continue;
+                }
+            }
+            sortedTargets[out] = target;
+            for (int i = 0; i < propertyLists.length; i++) {
+                sortedProperties[i][out] = properties[i][index];
+            }
+            out++;
+        }
+
+        var swapTargets = targets;
+        targets = sortedTargets;
+        sortedTargets = swapTargets;
+        var swapProperties = properties;
+        properties = sortedProperties;
+        sortedProperties = swapProperties;
+        return out;
+    }
+
+    /**
+     * Fills {@code order} with the indices of the first {@code length} targets in ascending order of their target.
+     * The sort is a stable bottom-up merge sort, which keeps added relationships behind
+     * existing relationships to the same target.
+     */
+    private void sortOrder(int length) {
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        int[] from = order;
+        int[] to = orderBuffer;
+        for (int width = 1; width < length; width <<= 1) {
+            for (int start = 0; start < length; start += width << 1) {
+                int middle = Math.min(start + width, length);
+                int end = Math.min(start + (width << 1), length);
+                int left = start;
+                int right = middle;
+                for (int out = start; out < end; out++) {
+                    if (left < middle && (right >= end || targets[from[left]] <= targets[from[right]])) {
+                        to[out] = from[left++];
+                    } else {
+                        to[out] = from[right++];
+                    }
+                }
+            }
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        order = from;
+        orderBuffer = to;
+    }
+
+    private long merge(int property, long existingValue, long addedValue) {
+        var aggregation = Aggregation.resolve(aggregations[property]);
+        if (aggregation == Aggregation.NONE) {
+            return addedValue;
+        }
+        return Double.doubleToLongBits(aggregation.merge(
+            Double.longBitsToDouble(existingValue),
+            Double.longBitsToDouble(addedValue)
+        ));
+    }
+
+    private void write(long nodeId, int length) {
+        degrees.set(nodeId, length);
+        if (length == 0) {
+            offsets.set(nodeId, 0L);
+            for (HugeLongArray propertyOffset : propertyOffsets) {
+                propertyOffset.set(nodeId, 0L);
+            }
+            return;
+        }
+
+        long previous = 0L;
+        for (int i = 0; i < length; i++) {
+            deltas[i] = targets[i] - previous;
+            previous = targets[i];
+        }
+        int requiredBytes = encodedVLongsSize(deltas, length);
+        if (compressed.length < requiredBytes) {
+            compressed = new byte[requiredBytes];
+        }
+        int bytes = encodeVLongs(deltas, length, compressed, 0);
+        offsets.set(nodeId, adjacencyPages.append(compressed, bytes));
+
+        for (int i = 0; i < propertyLists.length; i++) {
+            propertyOffsets[i].set(nodeId, propertyPages[i].append(properties[i], length));
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > targets.length) {
+            int newCapacity = Math.max(capacity, targets.length + (targets.length >> 1));
+            targets = Arrays.copyOf(targets, newCapacity);
+            deltas = new long[newCapacity];
+            sortedTargets = new long[newCapacity];
+            order = new int[newCapacity];
+            orderBuffer = new int[newCapacity];
+            for (int i = 0; i < properties.length; i++) {
+                properties[i] = Arrays.copyOf(properties[i], newCapacity);
+                sortedProperties[i] = new long[newCapacity];
+            }
+        }
+    }
+
+    public static final class Result {
+        private final AdjacencyList adjacencyList;
+        private final List<AdjacencyProperties> properties;
+        private final long relationshipCount;
+        private final boolean isMultiGraph;
+
+        private Result(
+            AdjacencyList adjacencyList,
+            List<AdjacencyProperties> properties,
+            long relationshipCount,
+            boolean isMultiGraph
+        ) {
+            this.adjacencyList = adjacencyList;
+            this.properties = properties;
+            this.relationshipCount = relationshipCount;
+            this.isMultiGraph = isMultiGraph;
+        }
+
+        public AdjacencyList adjacencyList() {
+            return adjacencyList;
+        }
+
+        public List<AdjacencyProperties> properties() {
+            return properties;
+        }
+
+        public long relationshipCount() {
+            return relationshipCount;
+        }
+
+        public boolean isMultiGraph() {
+            return isMultiGraph;
+        }
+    }
+
+    /**
+     * Appends values to new pages that follow the given existing pages.
+     * Values that do not fit into a single page get a page of their own, like in the {@link BumpAllocator}.
+     */
+    private static final class BytePages {
+        private final List<byte[]> pages;
+        private byte[] currentPage;
+        private int currentPageIndex;
+        private int position;
+
+        BytePages(byte[][] existingPages) {
+            this.pages = new ArrayList<>(Arrays.asList(existingPages));
+            this.currentPageIndex = -1;
+        }
+
+        long append(byte[] values, int length) {
+            if (length > BumpAllocator.PAGE_SIZE) {
+                pages.add(Arrays.copyOf(values, length));
+                return offset(pages.size() - 1, 0);
+            }
+            if (currentPage == null || position + length > currentPage.length) {
+                currentPage = new byte[BumpAllocator.PAGE_SIZE];
+                pages.add(currentPage);
+                currentPageIndex = pages.size() - 1;
+                position = 0;
+            }
+            System.arraycopy(values, 0, currentPage, position, length);
+            long offset = offset(currentPageIndex, position);
+            position += length;
+            return offset;
+        }
+
+        byte[][] intoPages() {
+            if (currentPage != null) {
+                // the last page is not going to be filled any further
+                pages.set(currentPageIndex, Arrays.copyOf(currentPage, position));
+                currentPage = null;
+            }
+            return pages.toArray(new byte[0][]);
+        }
+    }
+
+    private static final class LongPages {
+        private final List<long[]> pages;
+        private long[] currentPage;
+        private int currentPageIndex;
+        private int position;
+
+        LongPages(long[][] existingPages) {
+            this.pages = new ArrayList<>(Arrays.asList(existingPages));
+            this.currentPageIndex = -1;
+        }
+
+        long append(long[] values, int length) {
+            if (length > BumpAllocator.PAGE_SIZE) {
+                pages.add(Arrays.copyOf(values, length));
+                return offset(pages.size() - 1, 0);
+            }
+            if (currentPage == null || position + length > currentPage.length) {
+                currentPage = new long[BumpAllocator.PAGE_SIZE];
+                pages.add(currentPage);
+                currentPageIndex = pages.size() - 1;
+                position = 0;
+            }
+            System.arraycopy(values, 0, currentPage, position, length);
+            long offset = offset(currentPageIndex, position);
+            position += length;
+            return offset;
+        }
+
+        long[][] intoPages() {
+            if (currentPage != null) {
+                // the last page is not going to be filled any further
+                pages.set(currentPageIndex, Arrays.copyOf(currentPage, position));
+                currentPage = null;
+            }
+            return pages.toArray(new long[0][]);
+        }
+    }
+
+    private static long offset(int pageIndex, int indexInPage) {
+        return ((long) pageIndex << BumpAllocator.PAGE_SHIFT) | indexInPage;
+    }
+}
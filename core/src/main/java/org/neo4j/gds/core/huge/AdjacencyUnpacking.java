@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import static org.neo4j.gds.core.huge.VarLongDecoding.decodeDeltaVLongs;
+
+/**
+ * Decoder for adjacency lists written by {@link org.neo4j.gds.core.loading.AdjacencyPacking}.
+ *
+ * A block is decoded in three passes without data-dependent branches:
+ * the packed bytes are loaded into 64-bit words, every value is extracted with a shift and a mask,
+ * and finally the deltas are turned into absolute ids with a prefix sum.
+ */
+final class AdjacencyUnpacking {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Decodes the first target and the first block of an adjacency list.
+     *
+     * @return the offset of the next block in {@code page}
+     */
+    static int unpackFirstBlock(byte[] page, int offset, int count, long[] words, long[] out) {
+        offset = decodeDeltaVLongs(0L, page, offset, 1, out);
+        if (count <= 1) {
+            return offset;
+        }
+        return unpack(out[0], page, offset, 1, count, words, out);
+    }
+
+    /**
+     * Decodes the next block of {@code count} targets.
+     *
+     * @param previousValue the last target of the previous block
+     * @return the offset of the next block in {@code page}
+     */
+    static int unpackBlock(long previousValue, byte[] page, int offset, int count, long[] words, long[] out) {
+        return unpack(previousValue, page, offset, 0, count, words, out);
+    }
+
+    private static int unpack(
+        long previousValue,
+        byte[] page,
+        int offset,
+        int outOffset,
+        int count,
+        long[] words,
+        long[] out
+    ) {
+        int bits = page[offset++];
+        int valueCount = count - outOffset;
+        int bytes = (valueCount * bits + Byte.SIZE - 1) >>> 3;
+
+        loadWords(page, offset, bytes, words);
+        unpackValues(words, bits, outOffset, count, out);
+        prefixSum(previousValue, outOffset, count, out);
+
+        return offset + bytes;
+    }
+
+    private static void loadWords(byte[] page, int offset, int bytes, long[] words) {
+        int fullWords = bytes >>> 3;
+        for (int i = 0; i < fullWords; i++) {
+            words[i] = (long) LONGS.get(page, offset + (i << 3));
+        }
+        int remainingBytes = bytes & 7;
+        if (remainingBytes != 0) {
+            int base = offset + (fullWords << 3);
+            long word = 0L;
+            for (int i = 0; i < remainingBytes; i++) {
+                word |= (page[base + i] & 0xFFL) << (i << 3);
+            }
+            words[fullWords] = word;
+        }
+    }
+
+    private static void unpackValues(long[] words, int bits, int from, int to, long[] out) {
+        // bits is always < 64, so the mask is well defined.
+        long mask = (1L << bits) - 1L;
+        for (int i = from, bitIndex = 0; i < to; i++, bitIndex += bits) {
+            int word = bitIndex >>> 6;
+            int shift = bitIndex & 63;
+            long lo = words[word] >>> shift;
+            // The bits from the following word land at positions >= 64 - shift.
+            // They are cut off by the mask if the value is fully contained in the current word.
+            // Shifting twice avoids the undefined 64 bit shift if shift == 0.
+            long hi = (words[word + 1] << 1) << (63 - shift);
+            out[i] = (lo | hi) & mask;
+        }
+    }
+
+    private static void prefixSum(long previousValue, int from, int to, long[] out) {
+        long value = previousValue;
+        for (int i = from; i < to; i++) {
+            value += out[i];
+            out[i] = value;
+        }
+    }
+
+    private AdjacencyUnpacking() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.loading.AdjacencyPacking;
+import org.neo4j.gds.core.loading.MutableIntValue;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.core.huge.AdjacencyUnpacking.unpackBlock;
+import static org.neo4j.gds.core.huge.AdjacencyUnpacking.unpackFirstBlock;
+
+/**
+ * Counterpart of {@link AdjacencyDecompressingReader} for bit-packed adjacency lists.
+ * The packed blocks have the same size as the decoding chunks, so every refill decodes exactly one block.
+ */
+final class AdjacencyUnpackingReader {
+
+    static final int CHUNK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+
+    private final long[] block;
+    private final long[] words;
+    private int pos;
+    private byte[] array;
+    private int offset;
+
+    AdjacencyUnpackingReader() {
+        this.block = new long[CHUNK_SIZE];
+        this.words = new long[AdjacencyPacking.WORDS_PER_BLOCK];
+    }
+
+    void copyFrom(AdjacencyUnpackingReader other) {
+        System.arraycopy(other.block, 0, block, 0, CHUNK_SIZE);
+        pos = other.pos;
+        array = other.array;
+        offset = other.offset;
+    }
+
+    int reset(byte[] adjacencyPage, int offset, int degree) {
+        this.array = adjacencyPage;
+        this.offset = unpackFirstBlock(adjacencyPage, offset, Math.min(degree, CHUNK_SIZE), words, block);
+        pos = 0;
+        return degree;
+    }
+
+    long next(int remaining) {
+        int pos = this.pos++;
+        if (pos < CHUNK_SIZE) {
+            return block[pos];
+        }
+        // We need to set this to 1 since the target
+        // at index 0 is returned from readNextBlock.
+        this.pos = 1;
+        return readNextBlock(remaining);
+    }
+
+    long peek(int remaining) {
+        int pos = this.pos;
+        if (pos < CHUNK_SIZE) {
+            return block[pos];
+        }
+        // We need to set this to 0 since the target
+        // at index 0 is returned from readNextBlock
+        // and we don't want to advance the cursor.
+        this.pos = 0;
+        return readNextBlock(remaining);
+    }
+
+    private long readNextBlock(int remaining) {
+        offset = unpackBlock(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), words, block);
+        return block[0];
+    }
+
+    long skipUntil(long target, int remaining, MutableIntValue consumed) {
+        int pos = this.pos;
+        long[] block = this.block;
+        int available = remaining;
+
+        // skip blocks until we have either not enough available to decode or have advanced far enough
+        while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] <= target) {
+            int skippedInThisBlock = CHUNK_SIZE - pos;
+            int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
+            offset = unpackBlock(block[CHUNK_SIZE - 1], array, offset, needToDecode, words, block);
+            available -= skippedInThisBlock;
+            pos = 0;
+        }
+
+        // last block
+        if (available <= 0) {
+            return AdjacencyCursor.NOT_FOUND;
+        }
+
+        int targetPos = findPosStrictlyGreaterInBlock(target, pos, Math.min(pos + available, CHUNK_SIZE), block);
+        // we need to consume including targetPos, not to it, therefore +1
+        available -= (1 + targetPos - pos);
+        consumed.value = remaining - available;
+        this.pos = 1 + targetPos;
+        return block[targetPos];
+    }
+
+    long advance(long target, int remaining, MutableIntValue consumed) {
+        int pos = this.pos;
+        long[] block = this.block;
+        int available = remaining;
+
+        // skip blocks until we have either not enough available to decode or have advanced far enough
+        while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] < target) {
+            int skippedInThisBlock = CHUNK_SIZE - pos;
+            int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
+            offset = unpackBlock(block[CHUNK_SIZE - 1], array, offset, needToDecode, words, block);
+            available -= skippedInThisBlock;
+            pos = 0;
+        }
+
+        // last block
+        int targetPos = findPosInBlock(target, pos, Math.min(pos + available, CHUNK_SIZE), block);
+        // we need to consume including targetPos, not to it, therefore +1
+        available -= (1 + targetPos - pos);
+        consumed.value = remaining - available;
+        this.pos = 1 + targetPos;
+        return block[targetPos];
+    }
+
+    private static int findPosStrictlyGreaterInBlock(long target, int pos, int limit, long[] block) {
+        return findPosInBlock(1L + target, pos, limit, block);
+    }
+
+    private static int findPosInBlock(long target, int pos, int limit, long[] block) {
+        int targetPos = Arrays.binarySearch(block, pos, limit, target);
+        if (targetPos < 0) {
+            targetPos = Math.min(-1 - targetPos, -1 + limit);
+        }
+        return targetPos;
+    }
+}
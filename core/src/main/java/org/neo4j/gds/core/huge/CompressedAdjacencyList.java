@@ -109,6 +109,18 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         this.offsets = offsets;
     }
 
+    byte[][] pages() {
+        return pages;
+    }
+
+    HugeIntArray degrees() {
+        return degrees;
+    }
+
+    HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public void close() {
         pages = null;
@@ -0,0 +1,680 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.Aggregation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A mutable overlay on top of an immutable adjacency list.
+ *
+ * Added and removed relationships are buffered per source node in small sorted arrays.
+ * Cursors for nodes without buffered changes are served directly by the underlying adjacency list,
+ * cursors for changed nodes merge the underlying targets with the buffered changes.
+ * {@link #compact()} writes the buffered changes into a new compressed adjacency list and clears the buffers.
+ *
+ * Removing a relationship removes all relationships between the two nodes, adding a relationship adds exactly one.
+ * If the adjacency list does not allow parallel relationships, adding an existing relationship has no effect.
+ *
+ * Changes are written under a lock into a private copy of the buffered changes.
+ * Readers only see published snapshots, which are never modified.
+ * The first read after a batch of changes publishes the copy, so changes should be written in batches between algorithm runs.
+ * Cursors that have been created before a change keep returning the targets they have been created with.
+ *
+ * @see org.neo4j.gds.core.loading.GraphStoreDeltaApplier#update
+ */
+public final class DeltaAdjacencyList implements AdjacencyList {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int[] EMPTY_COUNTS = new int[0];
+    private static final long ADD = 0L;
+    private static final long REMOVE = 1L;
+
+    private final long nodeCount;
+    private final boolean isMultiGraph;
+
+    // the published state, its buffered changes are never modified
+    private volatile State state;
+    private volatile boolean hasUnpublishedChanges;
+
+    // a copy of the published changes that writers modify, null if nothing has been written since the last publication
+    private @Nullable LongObjectHashMap<NodeDelta> unpublishedDeltas;
+
+    // source, target and operation of every change written during a background compaction
+    private @Nullable LongArrayList compactionLog;
+
+    private long relationshipCountChange;
+    private @Nullable AdjacencyCursor baseCursor;
+
+    public static DeltaAdjacencyList of(AdjacencyList adjacencyList, long nodeCount, boolean isMultiGraph) {
+        return new DeltaAdjacencyList(adjacencyList, nodeCount, isMultiGraph);
+    }
+
+    private DeltaAdjacencyList(AdjacencyList adjacencyList, long nodeCount, boolean isMultiGraph) {
+        this.nodeCount = nodeCount;
+        this.isMultiGraph = isMultiGraph;
+        this.state = new State(adjacencyList, new LongObjectHashMap<>());
+    }
+
+    /**
+     * The adjacency list the buffered changes are applied on.
+     */
+    public AdjacencyList base() {
+        return current().base;
+    }
+
+    /**
+     * The number of source nodes with buffered changes.
+     */
+    public int changedNodeCount() {
+        return current().deltas.size();
+    }
+
+    /**
+     * The number of added relationships minus the number of removed relationships since this overlay has been created.
+     */
+    public synchronized long relationshipCountChange() {
+        return relationshipCountChange;
+    }
+
+    public void addRelationship(long sourceNodeId, long targetNodeId) {
+        addRelationships(sourceNodeId, new long[]{targetNodeId});
+    }
+
+    /**
+     * Adds relationships from the source node to all given targets.
+     * The underlying adjacency list of the source node is decoded at most once.
+     */
+    public synchronized void addRelationships(long sourceNodeId, long[] targetNodeIds) {
+        relationshipCountChange += add(state.base, unpublishedDeltas(), sourceNodeId, targetNodeIds);
+        for (long targetNodeId : targetNodeIds) {
+            log(sourceNodeId, targetNodeId, ADD);
+        }
+        hasUnpublishedChanges = true;
+    }
+
+    public void removeRelationship(long sourceNodeId, long targetNodeId) {
+        removeRelationships(sourceNodeId, new long[]{targetNodeId});
+    }
+
+    /**
+     * Removes all relationships from the source node to any of the given targets.
+     * The underlying adjacency list of the source node is decoded at most once.
+     */
+    public synchronized void removeRelationships(long sourceNodeId, long[] targetNodeIds) {
+        relationshipCountChange -= remove(state.base, unpublishedDeltas(), sourceNodeId, targetNodeIds);
+        for (long targetNodeId : targetNodeIds) {
+            log(sourceNodeId, targetNodeId, REMOVE);
+        }
+        hasUnpublishedChanges = true;
+    }
+
+    /**
+     * Writes all buffered changes into a new adjacency list, which replaces the current base.
+     */
+    public synchronized void compact() {
+        if (compactionLog != null) {
+            throw new IllegalStateException("A compaction is already running.");
+        }
+        var current = current();
+        state = new State(compact(current), new LongObjectHashMap<>());
+    }
+
+    /**
+     * Writes the changes buffered at the time of calling into a new adjacency list on the given executor.
+     * Changes written while the compaction is running are buffered on top of the new adjacency list once it replaces the current base.
+     */
+    public synchronized CompletableFuture<Void> compactInBackground(ExecutorService executor) {
+        if (compactionLog != null) {
+            throw new IllegalStateException("A compaction is already running.");
+        }
+        // the published state is never modified, new changes are written to a copy
+        var snapshot = current();
+        compactionLog = new LongArrayList();
+        return CompletableFuture
+            .supplyAsync(() -> compact(snapshot), executor)
+            .whenComplete((compacted, error) -> finishCompaction(compacted))
+            .thenApply(compacted -> null);
+    }
+
+    private synchronized void finishCompaction(@Nullable AdjacencyList compacted) {
+        var log = compactionLog;
+        compactionLog = null;
+        if (compacted == null || log == null) {
+            return;
+        }
+        var deltas = new LongObjectHashMap<NodeDelta>();
+        long[] changes = log.buffer;
+        for (int i = 0; i < log.size(); i += 3) {
+            var target = new long[]{changes[i + 1]};
+            if (changes[i + 2] == ADD) {
+                add(compacted, deltas, changes[i], target);
+            } else {
+                remove(compacted, deltas, changes[i], target);
+            }
+        }
+        state = new State(compacted, deltas);
+        unpublishedDeltas = null;
+        hasUnpublishedChanges = false;
+    }
+
+    private AdjacencyList compact(State state) {
+        var patcher = AdjacencyListPatcher.of(
+            state.base,
+            List.of(),
+            new double[0],
+            new Aggregation[0],
+            isMultiGraph,
+            nodeCount,
+            LongUnaryOperator.identity(),
+            LongUnaryOperator.identity(),
+            true
+        );
+        var noProperties = new long[0][];
+        var nodeIds = state.deltas.keys().toArray();
+        Arrays.sort(nodeIds);
+        for (long nodeId : nodeIds) {
+            var delta = state.deltas.get(nodeId);
+            patcher.rewrite(
+                nodeId,
+                target -> Arrays.binarySearch(delta.removed, target) >= 0,
+                delta.inserted,
+                noProperties,
+                delta.inserted.length
+            );
+        }
+        return patcher.build().adjacencyList();
+    }
+
+    private State current() {
+        if (hasUnpublishedChanges) {
+            publish();
+        }
+        return state;
+    }
+
+    private synchronized void publish() {
+        if (unpublishedDeltas != null) {
+            state = new State(state.base, unpublishedDeltas);
+            unpublishedDeltas = null;
+        }
+        hasUnpublishedChanges = false;
+    }
+
+    private LongObjectHashMap<NodeDelta> unpublishedDeltas() {
+        if (unpublishedDeltas == null) {
+            unpublishedDeltas = state.deltas.clone();
+        }
+        return unpublishedDeltas;
+    }
+
+    private void log(long sourceNodeId, long targetNodeId, long operation) {
+        if (compactionLog != null) {
+            compactionLog.add(sourceNodeId);
+            compactionLog.add(targetNodeId);
+            compactionLog.add(operation);
+        }
+    }
+
+    /**
+     * @return the number of added relationships
+     */
+    private int add(AdjacencyList base, LongObjectHashMap<NodeDelta> deltas, long sourceNodeId, long[] targetNodeIds) {
+        var delta = deltas.get(sourceNodeId);
+        if (delta == null) {
+            delta = NodeDelta.EMPTY;
+        }
+        long[] added = targetNodeIds.clone();
+        Arrays.sort(added);
+        int addedCount = added.length;
+
+        if (!isMultiGraph) {
+            var baseTargets = new BaseTargets(base, sourceNodeId);
+            addedCount = 0;
+            for (int i = 0; i < added.length; i++) {
+                long target = added[i];
+                boolean exists = (i > 0 && added[i - 1] == target)
+                                 || Arrays.binarySearch(delta.inserted, target) >= 0
+                                 || (Arrays.binarySearch(delta.removed, target) < 0 && baseTargets.count(target) > 0);
+                if (!exists) {
+                    added[addedCount++] = target;
+                }
+            }
+        }
+
+        if (addedCount > 0) {
+            deltas.put(sourceNodeId, new NodeDelta(
+                mergeSorted(delta.inserted, added, addedCount),
+                delta.removed,
+                delta.removedCounts,
+                delta.removedFromBase
+            ));
+        }
+        return addedCount;
+    }
+
+    /**
+     * @return the number of removed relationships
+     */
+    private int remove(AdjacencyList base, LongObjectHashMap<NodeDelta> deltas, long sourceNodeId, long[] targetNodeIds) {
+        var delta = deltas.get(sourceNodeId);
+        if (delta == null) {
+            delta = NodeDelta.EMPTY;
+        }
+        long[] targets = targetNodeIds.clone();
+        Arrays.sort(targets);
+
+        var baseTargets = new BaseTargets(base, sourceNodeId);
+        long[] inserted = delta.inserted;
+        long[] removed = delta.removed;
+        int[] removedCounts = delta.removedCounts;
+        int removedFromBase = delta.removedFromBase;
+        int removedCount = 0;
+        for (int i = 0; i < targets.length; i++) {
+            long target = targets[i];
+            if (i > 0 && targets[i - 1] == target) {
+                continue;
+            }
+            int insertedBefore = inserted.length;
+            inserted = removeAll(inserted, target);
+            removedCount += insertedBefore - inserted.length;
+
+            int index = Arrays.binarySearch(removed, target);
+            if (index < 0) {
+                int count = baseTargets.count(target);
+                if (count > 0) {
+                    index = -index - 1;
+                    removed = insertAt(removed, index, target);
+                    removedCounts = insertAt(removedCounts, index, count);
+                    removedFromBase += count;
+                    removedCount += count;
+                }
+            }
+        }
+
+        if (inserted.length == 0 && removed.length == 0) {
+            deltas.remove(sourceNodeId);
+        } else {
+            deltas.put(sourceNodeId, new NodeDelta(inserted, removed, removedCounts, removedFromBase));
+        }
+        return removedCount;
+    }
+
+    private static long[] mergeSorted(long[] values, long[] added, int addedCount) {
+        // added values go behind equal values, so that the order of parallel relationships is stable
+        long[] result = new long[values.length + addedCount];
+        int left = 0;
+        int right = 0;
+        for (int out = 0; out < result.length; out++) {
+            if (right == addedCount || (left < values.length && values[left] <= added[right])) {
+                result[out] = values[left++];
+            } else {
+                result[out] = added[right++];
+            }
+        }
+        return result;
+    }
+
+    private static long[] insertAt(long[] values, int index, long value) {
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private static int[] insertAt(int[] values, int index, int value) {
+        int[] result = new int[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    private static long[] removeAll(long[] values, long value) {
+        int from = Arrays.binarySearch(values, value);
+        if (from < 0) {
+            return values;
+        }
+        while (from > 0 && values[from - 1] == value) {
+            from--;
+        }
+        int to = from;
+        while (to < values.length && values[to] == value) {
+            to++;
+        }
+        if (from == 0 && to == values.length) {
+            return EMPTY;
+        }
+        long[] result = new long[values.length - (to - from)];
+        System.arraycopy(values, 0, result, 0, from);
+        System.arraycopy(values, to, result, from, values.length - to);
+        return result;
+    }
+
+    @Override
+    public int degree(long node) {
+        var current = current();
+        var delta = current.deltas.get(node);
+        int degree = current.base.degree(node);
+        return delta == null ? degree : delta.degree(degree);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        return adjacencyCursor(null, node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var current = current();
+        var delta = current.deltas.get(node);
+        if (delta == null) {
+            var reuseBase = reuse instanceof MergingCursor ? ((MergingCursor) reuse).base : reuse;
+            return current.base.adjacencyCursor(reuseBase, node, fallbackValue);
+        }
+        var cursor = reuse instanceof MergingCursor ? (MergingCursor) reuse : new MergingCursor();
+        cursor.init(
+            current.base.adjacencyCursor(cursor.base, node, fallbackValue),
+            delta,
+            delta.degree(current.base.degree(node))
+        );
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new MergingCursor();
+    }
+
+    @Override
+    public void close() {
+        state.base.close();
+    }
+
+    private static final class State {
+        private final AdjacencyList base;
+        private final LongObjectHashMap<NodeDelta> deltas;
+
+        private State(AdjacencyList base, LongObjectHashMap<NodeDelta> deltas) {
+            this.base = base;
+            this.deltas = deltas;
+        }
+    }
+
+    /**
+     * Counts the relationships of a single source node in the base adjacency list for ascending targets,
+     * decoding the adjacency list of the source node at most once. Only used while holding the lock.
+     */
+    private final class BaseTargets {
+        private final @Nullable AdjacencyCursor cursor;
+        private long current;
+
+        BaseTargets(AdjacencyList base, long sourceNodeId) {
+            if (base.degree(sourceNodeId) == 0) {
+                this.cursor = null;
+            } else {
+                baseCursor = base.adjacencyCursor(baseCursor, sourceNodeId, Double.NaN);
+                this.cursor = baseCursor;
+            }
+            this.current = AdjacencyCursor.NOT_FOUND;
+        }
+
+        int count(long target) {
+            if (cursor == null) {
+                return 0;
+            }
+            if (current < target) {
+                current = cursor.advance(target);
+                if (current == AdjacencyCursor.NOT_FOUND) {
+                    current = Long.MAX_VALUE;
+                }
+            }
+            if (current != target) {
+                return 0;
+            }
+            int count = 1;
+            while (cursor.hasNextVLong() && cursor.peekVLong() == target) {
+                cursor.nextVLong();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The buffered changes of a single node. Instances are never modified, every change creates a new instance.
+     */
+    private static final class NodeDelta {
+        static final NodeDelta EMPTY = new NodeDelta(DeltaAdjacencyList.EMPTY, DeltaAdjacencyList.EMPTY, EMPTY_COUNTS, 0);
+
+        // sorted targets of added relationships
+        final long[] inserted;
+        // sorted and unique targets whose relationships in the base adjacency list are removed
+        final long[] removed;
+        // number of relationships in the base adjacency list to each removed target
+        final int[] removedCounts;
+        // number of relationships in the base adjacency list that are removed
+        final int removedFromBase;
+
+        NodeDelta(long[] inserted, long[] removed, int[] removedCounts, int removedFromBase) {
+            this.inserted = inserted;
+            this.removed = removed;
+            this.removedCounts = removedCounts;
+            this.removedFromBase = removedFromBase;
+        }
+
+        int degree(int baseDegree) {
+            return baseDegree - removedFromBase + inserted.length;
+        }
+    }
+
+    /**
+     * Merges the targets of the base adjacency list that are not removed with the added targets.
+     * Targets from the base adjacency list are returned before added targets with the same id.
+     */
+    static final class MergingCursor implements AdjacencyCursor {
+
+        private AdjacencyCursor base;
+        private long[] inserted;
+        private long[] removed;
+        private int[] removedCounts;
+        private int insertedPosition;
+        private int removedPosition;
+        private long nextBaseTarget;
+        private int size;
+        private int consumed;
+
+        private MergingCursor() {
+            this.base = AdjacencyCursor.empty();
+            this.inserted = EMPTY;
+            this.removed = EMPTY;
+            this.removedCounts = EMPTY_COUNTS;
+            this.nextBaseTarget = NOT_FOUND;
+        }
+
+        void init(AdjacencyCursor base, NodeDelta delta, int degree) {
+            this.base = base;
+            this.inserted = delta.inserted;
+            this.removed = delta.removed;
+            this.removedCounts = delta.removedCounts;
+            this.insertedPosition = 0;
+            this.removedPosition = 0;
+            this.size = degree;
+            this.consumed = 0;
+            advanceBase();
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            throw new UnsupportedOperationException(
+                "A merging cursor must be initialized through `DeltaAdjacencyList#adjacencyCursor`."
+            );
+        }
+
+        private void advanceBase() {
+            while (base.hasNextVLong()) {
+                long target = base.nextVLong();
+                while (removedPosition < removed.length && removed[removedPosition] < target) {
+                    removedPosition++;
+                }
+                if (removedPosition == removed.length || removed[removedPosition] != target) {
+                    nextBaseTarget = target;
+                    return;
+                }
+            }
+            nextBaseTarget = NOT_FOUND;
+        }
+
+        private boolean nextIsInserted() {
+            return insertedPosition < inserted.length
+                   && (nextBaseTarget == NOT_FOUND || inserted[insertedPosition] < nextBaseTarget);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return consumed < size;
+        }
+
+        @Override
+        public long nextVLong() {
+            consumed++;
+            if (nextIsInserted()) {
+                return inserted[insertedPosition++];
+            }
+            long target = nextBaseTarget;
+            advanceBase();
+            return target;
+        }
+
+        @Override
+        public long peekVLong() {
+            return nextIsInserted() ? inserted[insertedPosition] : nextBaseTarget;
+        }
+
+        @Override
+        public int remaining() {
+            return size - consumed;
+        }
+
+        @Override
+        public long skipUntil(long nodeId) {
+            return advance(nodeId + 1);
+        }
+
+        @Override
+        public long advance(long nodeId) {
+            int insertedEnd = lowerBound(inserted, insertedPosition, nodeId);
+            int skipped = insertedEnd - insertedPosition;
+            insertedPosition = insertedEnd;
+
+            if (nextBaseTarget != NOT_FOUND && nextBaseTarget < nodeId) {
+                // the base cursor skips the pending target and all targets before the given node id,
+                // including the relationships to removed targets, which have never been counted as visible
+                int baseRemainingBefore = 1 + base.remaining();
+                long target = base.advance(nodeId);
+                int baseRemainingAfter = target == NOT_FOUND ? 0 : 1 + base.remaining();
+
+                int removedEnd = lowerBound(removed, removedPosition, nodeId);
+                int removedSkipped = 0;
+                for (int i = removedPosition; i < removedEnd; i++) {
+                    removedSkipped += removedCounts[i];
+                }
+                removedPosition = removedEnd;
+
+                skipped += baseRemainingBefore - baseRemainingAfter - removedSkipped;
+                acceptBaseTarget(target);
+            }
+
+            consumed += skipped;
+            return hasNextVLong() ? nextVLong() : NOT_FOUND;
+        }
+
+        private void acceptBaseTarget(long target) {
+            if (target == NOT_FOUND) {
+                nextBaseTarget = NOT_FOUND;
+                return;
+            }
+            while (removedPosition < removed.length && removed[removedPosition] < target) {
+                removedPosition++;
+            }
+            if (removedPosition < removed.length && removed[removedPosition] == target) {
+                advanceBase();
+            } else {
+                nextBaseTarget = target;
+            }
+        }
+
+        private static int lowerBound(long[] values, int from, long value) {
+            int low = from;
+            int high = values.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof MergingCursor
+                ? (MergingCursor) destination
+                : new MergingCursor();
+            dest.base = base.shallowCopy(dest.base == AdjacencyCursor.empty() ? null : dest.base);
+            dest.inserted = inserted;
+            dest.removed = removed;
+            dest.removedCounts = removedCounts;
+            dest.insertedPosition = insertedPosition;
+            dest.removedPosition = removedPosition;
+            dest.nextBaseTarget = nextBaseTarget;
+            dest.size = size;
+            dest.consumed = consumed;
+            return dest;
+        }
+
+        @Override
+        public void close() {
+            base = AdjacencyCursor.empty();
+            inserted = EMPTY;
+            removed = EMPTY;
+            removedCounts = EMPTY_COUNTS;
+        }
+    }
+}
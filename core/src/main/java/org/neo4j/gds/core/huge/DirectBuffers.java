@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+
+/**
+ * Frees direct {@link ByteBuffer}s eagerly instead of waiting for the GC to collect them.
+ * If the JVM does not give access to the cleaner, the buffers are left to the GC.
+ */
+final class DirectBuffers {
+
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private DirectBuffers() {}
+
+    /**
+     * The buffer and all views on it must not be accessed after it has been freed.
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not free direct memory", e);
+        }
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles
+                .lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.loading.MutableIntValue;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.nio.ByteBuffer;
+
+import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * A {@link CompressedAdjacencyList} whose pages are stored in direct memory.
+ * The encoding is identical, but only the page references and the
+ * degrees and offsets are kept on the heap, which reduces the heap size
+ * and GC pressure for large graphs considerably.
+ * The direct memory is bounded by {@code -XX:MaxDirectMemorySize}.
+ */
+public final class OffHeapAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return OffHeapAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // The encoding is the same as for the compressed adjacency list,
+        // so is the number of pages, but only the page references are on heap.
+        long bestCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(avgDegree, nodeCount, 1);
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        MemoryRange pagesMemoryRange = MemoryRange.of(
+            MemoryUsage.sizeOfObjectArray(minPages),
+            MemoryUsage.sizeOfObjectArray(maxPages)
+        );
+
+        return MemoryEstimations
+            .builder(OffHeapAdjacencyList.class)
+            .fixed("pages", pagesMemoryRange)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    @TestOnly
+    public static MemoryEstimation adjacencyListEstimation(boolean undirected) {
+        return adjacencyListEstimation(ALL_RELATIONSHIPS, undirected);
+    }
+
+    private ByteBuffer[] pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public OffHeapAdjacencyList(ByteBuffer[] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Frees the direct memory of all pages right away. Cursors created from this list must not be used afterwards.
+     * Closing the list more than once is fine, as graphs and their graph store share it.
+     */
+    @Override
+    public synchronized void close() {
+        if (pages != null) {
+            for (ByteBuffer page : pages) {
+                DirectBuffers.free(page);
+            }
+        }
+        pages = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    // Cursors
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new OffHeapCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof OffHeapCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new OffHeapCursor(pages);
+    }
+
+    public static final class OffHeapCursor extends MutableIntValue implements AdjacencyCursor {
+
+        private ByteBuffer[] pages;
+        private final OffHeapDecompressingReader decompress;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private OffHeapCursor(ByteBuffer[] pages) {
+            this.pages = pages;
+            this.decompress = new OffHeapDecompressingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            maxTargets = decompress.reset(
+                pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)],
+                indexInPage(fromIndex, BumpAllocator.PAGE_MASK),
+                degree
+            );
+            currentPosition = 0;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof OffHeapCursor
+                ? (OffHeapCursor) destination
+                : new OffHeapCursor(pages);
+            dest.decompress.copyFrom(this.decompress);
+            dest.currentPosition = this.currentPosition;
+            dest.maxTargets = this.maxTargets;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return decompress.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return decompress.peek(remaining);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = decompress.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = decompress.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.loading.AdjacencyPacking;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.loading.MutableIntValue;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * An adjacency list where the delta-encoded targets are bit-packed in blocks of {@link AdjacencyPacking#BLOCK_SIZE}.
+ * The page layout is the same as for the {@link CompressedAdjacencyList}, only the encoding within an adjacency list differs.
+ */
+public final class PackedAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // Best case scenario:
+        // Difference between node identifiers in each adjacency list is 1.
+        int deltaBestCase = 1;
+        long bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaBestCase);
+
+        // Worst case scenario:
+        // Relationships are equally distributed across nodes and the identifiers
+        // within each adjacency list have the highest possible difference between each other.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        long bytesPerPage = MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE);
+        long minMemoryReqs = minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages);
+        long maxMemoryReqs = maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages);
+
+        MemoryRange pagesMemoryRange = MemoryRange.of(minMemoryReqs, maxMemoryReqs);
+
+        return MemoryEstimations
+            .builder(PackedAdjacencyList.class)
+            .fixed("pages", pagesMemoryRange)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    /* test private */
+    static long computeAdjacencyByteSize(long avgDegree, long nodeCount, long delta) {
+        if (avgDegree == 0) {
+            return 0L;
+        }
+        long firstAdjacencyIdAvgByteSize = ceilDiv(encodedVLongSize(nodeCount), 2);
+        long deltaCount = avgDegree - 1;
+        long headerBytes = ceilDiv(deltaCount, AdjacencyPacking.BLOCK_SIZE);
+        long bitsPerDelta = Long.SIZE - Long.numberOfLeadingZeros(delta);
+        long packedBytes = ceilDiv(deltaCount * bitsPerDelta, Byte.SIZE);
+        return (firstAdjacencyIdAvgByteSize + headerBytes + packedBytes) * nodeCount;
+    }
+
+    private byte[][] pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public PackedAdjacencyList(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    // Cursors
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new UnpackingCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof UnpackingCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new UnpackingCursor(pages);
+    }
+
+    public static final class UnpackingCursor extends MutableIntValue implements AdjacencyCursor {
+
+        private byte[][] pages;
+        private final AdjacencyUnpackingReader unpack;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private UnpackingCursor(byte[][] pages) {
+            this.pages = pages;
+            this.unpack = new AdjacencyUnpackingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            maxTargets = unpack.reset(
+                pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)],
+                indexInPage(fromIndex, BumpAllocator.PAGE_MASK),
+                degree
+            );
+            currentPosition = 0;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof UnpackingCursor
+                ? (UnpackingCursor) destination
+                : new UnpackingCursor(pages);
+            dest.unpack.copyFrom(this.unpack);
+            dest.currentPosition = this.currentPosition;
+            dest.maxTargets = this.maxTargets;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return unpack.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return unpack.peek(remaining);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = unpack.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = unpack.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+        }
+    }
+}
@@ -119,6 +119,18 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         this.offsets = offsets;
     }
 
+    long[][] pages() {
+        return pages;
+    }
+
+    HugeIntArray degrees() {
+        return degrees;
+    }
+
+    HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
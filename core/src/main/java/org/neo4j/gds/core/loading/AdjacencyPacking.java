@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.compress.LongArrayBuffer;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodeVLongs;
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+
+/**
+ * Block-wise bit-packing of sorted, delta-encoded adjacency lists.
+ *
+ * The layout of a single adjacency list is:
+ *
+ * <pre>
+ * | first target (VarLong) | block 0 | block 1 | ... | block n |
+ * </pre>
+ *
+ * Block 0 holds the deltas for the first {@code min(degree, BLOCK_SIZE) - 1} targets following the first target.
+ * Every subsequent block holds the deltas for the next {@code min(remaining, BLOCK_SIZE)} targets.
+ * That way the block boundaries match the {@code BLOCK_SIZE} chunks that are decoded by the cursor.
+ * Each block starts with a single header byte storing the bit width of the largest delta in the block,
+ * followed by {@code ceil(values * bitWidth / 8)} bytes of little-endian packed values.
+ * Storing the first target separately prevents the comparatively large absolute id from
+ * inflating the bit width of the first block.
+ */
+public final class AdjacencyPacking {
+
+    public static final int BLOCK_SIZE = 64;
+
+    // one additional word, so that a value spanning two words can always read the following word
+    public static final int WORDS_PER_BLOCK = BLOCK_SIZE + 1;
+
+    /**
+     * Computes the number of bytes required to pack the given values.
+     * The values must be sorted and delta-encoded, except for the first value.
+     */
+    public static int packedSize(long[] values, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int size = encodedVLongSize(values[0]);
+        int firstBlockEnd = Math.min(length, BLOCK_SIZE);
+        size += packedBlockSize(values, 1, firstBlockEnd);
+        for (int start = firstBlockEnd; start < length; start += BLOCK_SIZE) {
+            size += packedBlockSize(values, start, Math.min(length, start + BLOCK_SIZE));
+        }
+        return size;
+    }
+
+    static byte[] ensureBufferSize(byte[] out, int requiredBytes) {
+        if (requiredBytes > out.length) {
+            return new byte[requiredBytes];
+        }
+        return out;
+    }
+
+    /**
+     * Packs the sorted and delta-encoded values in {@code data} into {@code out}.
+     * The {@code out} array must be able to hold at least {@link #packedSize(long[], int)} bytes.
+     *
+     * @param words a scratch buffer of at least {@link #WORDS_PER_BLOCK} elements
+     * @return the number of bytes written
+     */
+    public static int pack(LongArrayBuffer data, byte[] out, long[] words) {
+        return pack(data.buffer, data.length, out, 0, words);
+    }
+
+    static int pack(long[] values, int length, byte[] out, int offset, long[] words) {
+        if (length == 0) {
+            return offset;
+        }
+        offset = encodeVLongs(values, 0, 1, out, offset);
+        int firstBlockEnd = Math.min(length, BLOCK_SIZE);
+        offset = packBlock(values, 1, firstBlockEnd, out, offset, words);
+        for (int start = firstBlockEnd; start < length; start += BLOCK_SIZE) {
+            offset = packBlock(values, start, Math.min(length, start + BLOCK_SIZE), out, offset, words);
+        }
+        return offset;
+    }
+
+    static int bitsNeeded(long[] values, int start, int end) {
+        long bits = 0L;
+        for (int i = start; i < end; i++) {
+            bits |= values[i];
+        }
+        return Long.SIZE - Long.numberOfLeadingZeros(bits);
+    }
+
+    static int bytesNeeded(int valueCount, int bits) {
+        return (valueCount * bits + Byte.SIZE - 1) >>> 3;
+    }
+
+    private static int packedBlockSize(long[] values, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        return 1 + bytesNeeded(end - start, bitsNeeded(values, start, end));
+    }
+
+    private static int packBlock(long[] values, int start, int end, byte[] out, int offset, long[] words) {
+        if (start >= end) {
+            return offset;
+        }
+
+        int bits = bitsNeeded(values, start, end);
+        assert bits < Long.SIZE : "deltas of sorted, non-negative ids never use the sign bit";
+        out[offset++] = (byte) bits;
+
+        int count = end - start;
+        int bytes = bytesNeeded(count, bits);
+        if (bits == 0) {
+            return offset;
+        }
+
+        Arrays.fill(words, 0, ((bytes + Long.BYTES - 1) >>> 3) + 1, 0L);
+        for (int i = 0, bitIndex = 0; i < count; i++, bitIndex += bits) {
+            long value = values[start + i];
+            int word = bitIndex >>> 6;
+            int shift = bitIndex & 63;
+            words[word] |= value << shift;
+            if (shift + bits > Long.SIZE) {
+                words[word + 1] |= value >>> (Long.SIZE - shift);
+            }
+        }
+
+        for (int i = 0; i < bytes; i++) {
+            out[offset + i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+
+        return offset + bytes;
+    }
+
+    private AdjacencyPacking() {
+    }
+}
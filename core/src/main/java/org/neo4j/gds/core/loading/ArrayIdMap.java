@@ -126,29 +126,70 @@ public class ArrayIdMap extends LabeledIdMap {
             return this;
         }
 
-        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount());
+        return withFilteredLabels(this, labelInformation, nodeLabels, nodeToGraphIds.capacity(), highestNeoId, concurrency);
+    }
+
+    @Override
+    public ArrayIdMap withFilteredNodes(BitSet nodes, int concurrency) {
+        return withFilteredNodes(this, labelInformation, nodes, nodeToGraphIds.capacity(), highestNeoId, concurrency);
+    }
 
+    /**
+     * Creates an id map over the nodes of the given root id map that have at least one of the given labels.
+     * The original ids of the returned id map are the mapped ids of the root id map.
+     * The label information must not be empty.
+     */
+    static ArrayIdMap withFilteredLabels(
+        IdMap rootIdMap,
+        LabelInformation labelInformation,
+        Collection<NodeLabel> nodeLabels,
+        long rootIdCapacity,
+        long highestNeoId,
+        int concurrency
+    ) {
+        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, rootIdMap.nodeCount());
+
+        return withFilteredNodes(
+            rootIdMap,
+            labelInformation.filter(nodeLabels),
+            unionBitSet,
+            rootIdCapacity,
+            highestNeoId,
+            concurrency
+        );
+    }
+
+    /**
+     * Creates an id map over the nodes of the given root id map whose mapped ids are set in the given bit set.
+     * The original ids of the returned id map are the mapped ids of the root id map.
+     */
+    static ArrayIdMap withFilteredNodes(
+        IdMap rootIdMap,
+        LabelInformation newLabelInformation,
+        BitSet nodes,
+        long rootIdCapacity,
+        long highestNeoId,
+        int concurrency
+    ) {
         long nodeId = -1L;
         long cursor = 0L;
-        long newNodeCount = unionBitSet.cardinality();
+        long newNodeCount = nodes.cardinality();
         HugeLongArray newGraphIds = HugeLongArray.newArray(newNodeCount);
 
-        while ((nodeId = unionBitSet.nextSetBit(nodeId + 1)) != -1) {
+        while ((nodeId = nodes.nextSetBit(nodeId + 1)) != -1) {
             newGraphIds.set(cursor, nodeId);
             cursor++;
         }
 
         HugeSparseLongArray newNodeToGraphIds = ArrayIdMapBuilderOps.buildSparseIdMap(
             newNodeCount,
-            nodeToGraphIds.capacity(),
+            rootIdCapacity,
             concurrency,
             newGraphIds
         );
 
-        LabelInformation newLabelInformation = labelInformation.filter(nodeLabels);
-
         return new FilteredIdMap(
-            this,
+            rootIdMap,
             newGraphIds,
             newNodeToGraphIds,
             newLabelInformation,
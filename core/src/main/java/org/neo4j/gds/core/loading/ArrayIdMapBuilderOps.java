@@ -60,7 +60,7 @@ public final class ArrayIdMapBuilderOps {
     }
 
     @NotNull
-    static HugeSparseLongArray buildSparseIdMap(
+    public static HugeSparseLongArray buildSparseIdMap(
         long nodeCount,
         long highestNodeId,
         int concurrency,
@@ -436,6 +436,13 @@ public class CSRGraphStore implements GraphStore {
         });
     }
 
+    /**
+     * Replaces the topology of an existing relationship type, used to update relationships in place.
+     */
+    void replaceTopology(RelationshipType relationshipType, Relationships.Topology topology) {
+        updateGraphStore(graphStore -> graphStore.relationships.put(relationshipType, topology));
+    }
+
     @Override
     public DeletionResult deleteRelationships(RelationshipType relationshipType) {
         return DeletionResult.of(builder ->
@@ -21,41 +21,44 @@ package org.neo4j.gds.core.loading;
 
 import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.config.GraphProjectFromCypherConfig;
-import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.Result;
 
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 class CountingCypherRecordLoader extends CypherRecordLoader<BatchLoadResult> {
 
     private final QueryType queryType;
 
-    private long total;
+    private final LongAdder total;
 
     CountingCypherRecordLoader(
         String cypherQuery,
         QueryType queryType,
+        long highestPossibleNodeCount,
         GraphProjectFromCypherConfig cypherConfig,
         GraphLoaderContext loadingContext
     ) {
-        super(cypherQuery, NO_COUNT, cypherConfig, loadingContext);
+        super(cypherQuery, highestPossibleNodeCount, cypherConfig, loadingContext);
         this.queryType = queryType;
+        this.total = new LongAdder();
     }
 
     @Override
-    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize) {
+    BatchLoadResult loadSingleBatch(Result queryResult) {
         ResultCountingVisitor visitor = new ResultCountingVisitor();
-        runLoadingQuery(tx).accept(visitor);
+        queryResult.accept(visitor);
         return new BatchLoadResult(visitor.rows(), -1L);
     }
 
     @Override
     void updateCounts(BatchLoadResult result) {
-        total += result.rows();
+        total.add(result.rows());
     }
 
     @Override
     BatchLoadResult result() {
-        return new BatchLoadResult(total, -1L);
+        return new BatchLoadResult(total.sum(), -1L);
     }
 
     @Override
@@ -132,9 +132,13 @@ public class CypherFactory extends CSRGraphStoreFactory<GraphProjectFromCypherCo
     public CSRGraphStore build() {
         // Temporarily override the security context to enforce read-only access during load
         return readOnlyTransaction().apply((tx, ktx) -> {
+            // queries that use the `$lowId` and `$highId` parameters are executed per node id range
+            var highestPossibleNodeCount = dimensions.highestPossibleNodeCount();
+
             BatchLoadResult nodeCount = new CountingCypherRecordLoader(
                 nodeQuery(),
                 CypherRecordLoader.QueryType.NODE,
+                highestPossibleNodeCount,
                 cypherConfig,
                 loadingContext
             ).load(tx);
@@ -144,6 +148,7 @@ public class CypherFactory extends CSRGraphStoreFactory<GraphProjectFromCypherCo
             var idMapAndProperties = new CypherNodeLoader(
                 nodeQuery(),
                 nodeCount.rows(),
+                highestPossibleNodeCount,
                 cypherConfig,
                 loadingContext,
                 progressTracker
@@ -152,6 +157,7 @@ public class CypherFactory extends CSRGraphStoreFactory<GraphProjectFromCypherCo
             var relationshipsAndProperties = new CypherRelationshipLoader(
                 relationshipQuery(),
                 idMapAndProperties.idMap(),
+                highestPossibleNodeCount,
                 cypherConfig,
                 loadingContext,
                 progressTracker
@@ -27,8 +27,9 @@ import org.neo4j.gds.config.GraphProjectFromCypherConfig;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.NodesBuilder;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.Result;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -45,35 +46,35 @@ class CypherNodeLoader extends CypherRecordLoader<IdMapAndProperties> {
     CypherNodeLoader(
         String nodeQuery,
         long nodeCount,
+        long highestPossibleNodeCount,
         GraphProjectFromCypherConfig config,
         GraphLoaderContext loadingContext,
         ProgressTracker progressTracker
     ) {
-        super(nodeQuery, nodeCount, config, loadingContext);
+        super(nodeQuery, highestPossibleNodeCount, config, loadingContext);
         this.nodeCount = nodeCount;
         this.progressTracker = progressTracker;
         this.highestNodeId = 0L;
     }
 
     @Override
-    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize) {
+    void beginLoading() {
         progressTracker.beginSubTask("Nodes");
         progressTracker.setVolume(nodeCount);
-        var queryResult = runLoadingQuery(tx);
+    }
 
-        var propertyColumns = getPropertyColumns(queryResult);
+    @Override
+    void endLoading() {
+        progressTracker.endSubTask("Nodes");
+    }
 
+    @Override
+    BatchLoadResult loadSingleBatch(Result queryResult) {
+        var propertyColumns = getPropertyColumns(queryResult);
         var hasLabelInformation = queryResult.columns().contains(NodeRowVisitor.LABELS_COLUMN);
 
-        this.nodesBuilder = GraphFactory.initNodesBuilder()
-            .nodeCount(nodeCount)
-            .maxOriginalId(NodesBuilder.UNKNOWN_MAX_ID)
-            .hasLabelInformation(hasLabelInformation)
-            .hasProperties(!propertyColumns.isEmpty())
-            .build();
-
         var visitor = new NodeRowVisitor(
-            nodesBuilder,
+            nodesBuilder(propertyColumns, hasLabelInformation),
             propertyColumns,
             hasLabelInformation,
             progressTracker
@@ -85,16 +86,28 @@ class CypherNodeLoader extends CypherRecordLoader<IdMapAndProperties> {
             nodesBuilder.close(visitor.error().get());
         }
 
-        long rows = visitor.rows();
-        if (rows == 0) {
-            nodesBuilder.close(new IllegalArgumentException("Node-Query returned no nodes"));
+        return new BatchLoadResult(visitor.rows(), visitor.maxId());
+    }
+
+    // all partitions of a partitioned query share the builder
+    private synchronized NodesBuilder nodesBuilder(Collection<String> propertyColumns, boolean hasLabelInformation) {
+        if (this.nodesBuilder == null) {
+            this.nodesBuilder = GraphFactory.initNodesBuilder()
+                .nodeCount(nodeCount)
+                .maxOriginalId(NodesBuilder.UNKNOWN_MAX_ID)
+                .hasLabelInformation(hasLabelInformation)
+                .hasProperties(!propertyColumns.isEmpty())
+                .concurrency(cypherConfig.readConcurrency())
+                .build();
         }
-        progressTracker.endSubTask("Nodes");
-        return new BatchLoadResult(rows, visitor.maxId());
+        return this.nodesBuilder;
     }
 
     @Override
     void updateCounts(BatchLoadResult result) {
+        if (result.rows() == 0) {
+            nodesBuilder.close(new IllegalArgumentException("Node-Query returned no nodes"));
+        }
         if (result.maxId() > highestNodeId) {
             highestNodeId = result.maxId();
         }
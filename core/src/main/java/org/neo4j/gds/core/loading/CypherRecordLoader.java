@@ -21,21 +21,29 @@ package org.neo4j.gds.core.loading;
 
 import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.config.GraphProjectFromCypherConfig;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.Transaction;
 import org.neo4j.graphdb.security.AuthorizationViolationException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.compat.GraphDatabaseApiProxy.runQueryWithoutClosingTheResult;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.internal.kernel.api.security.AccessMode.Static.READ;
 
 abstract class CypherRecordLoader<R> {
 
@@ -47,43 +55,115 @@ abstract class CypherRecordLoader<R> {
         }
     }
 
-    static final long NO_COUNT = -1L;
+    /**
+     * Queries that use both parameters are executed once per node id range {@code [$lowId, $highId)},
+     * concurrently and in separate transactions.
+     */
+    static final String LOW_ID_PARAMETER = "lowId";
+    static final String HIGH_ID_PARAMETER = "highId";
+
+    private static final Pattern LOW_ID_PATTERN = Pattern.compile("\\$" + LOW_ID_PARAMETER + "\\b");
+    private static final Pattern HIGH_ID_PATTERN = Pattern.compile("\\$" + HIGH_ID_PARAMETER + "\\b");
+
+    // more partitions than threads, so that threads with cheap id ranges can pick up more work
+    private static final int PARTITIONS_PER_THREAD = 4;
+    private static final long MIN_PARTITION_SIZE = 1_000L;
 
     final GraphProjectFromCypherConfig cypherConfig;
     final GraphLoaderContext loadingContext;
 
-    private final long recordCount;
     private final String loadQuery;
+    private final long highestPossibleNodeCount;
 
     CypherRecordLoader(
         String loadQuery,
-        long recordCount,
+        long highestPossibleNodeCount,
         GraphProjectFromCypherConfig cypherConfig,
         GraphLoaderContext loadingContext
     ) {
         this.loadQuery = loadQuery;
-        this.recordCount = recordCount;
+        this.highestPossibleNodeCount = highestPossibleNodeCount;
         this.cypherConfig = cypherConfig;
         this.loadingContext = loadingContext;
     }
 
     final R load(Transaction transaction) {
         try {
-            int bufferSize = (int) Math.min(recordCount, RecordsBatchBuffer.DEFAULT_BUFFER_SIZE);
-            BatchLoadResult result = loadSingleBatch(transaction, bufferSize);
+            beginLoading();
+            BatchLoadResult result = isPartitioned(loadQuery, cypherConfig.parameters())
+                ? loadPartitions()
+                : loadSingleBatch(runLoadingQuery(transaction, cypherConfig.parameters()));
             updateCounts(result);
+            endLoading();
             return result();
         } catch (AuthorizationViolationException ex) {
-            throw new IllegalArgumentException(formatWithLocale("Query must be read only. Query: [%s]", loadQuery));
+            throw readOnlyViolation();
         }
     }
 
+    static boolean isPartitioned(String query, Map<String, Object> parameters) {
+        return LOW_ID_PATTERN.matcher(query).find()
+               && HIGH_ID_PATTERN.matcher(query).find()
+               && !parameters.containsKey(LOW_ID_PARAMETER)
+               && !parameters.containsKey(HIGH_ID_PARAMETER);
+    }
+
+    private BatchLoadResult loadPartitions() {
+        var concurrency = cypherConfig.readConcurrency();
+        var idRangeEnd = Math.max(1L, highestPossibleNodeCount);
+        var partitionSize = ParallelUtil.adjustedBatchSize(
+            idRangeEnd,
+            concurrency * PARTITIONS_PER_THREAD,
+            MIN_PARTITION_SIZE
+        );
+
+        var transactionContext = loadingContext.transactionContext().withRestrictedAccess(READ);
+        var rows = new LongAdder();
+        var maxId = new AtomicLong(-1L);
+
+        var tasks = new ArrayList<Runnable>();
+        for (long lowId = 0; lowId < idRangeEnd; lowId += partitionSize) {
+            var parameters = new HashMap<>(cypherConfig.parameters());
+            parameters.put(LOW_ID_PARAMETER, lowId);
+            parameters.put(HIGH_ID_PARAMETER, Math.min(lowId + partitionSize, idRangeEnd));
+
+            tasks.add(() -> {
+                try {
+                    var result = transactionContext.apply((tx, ktx) -> loadSingleBatch(runLoadingQuery(tx, parameters)));
+                    rows.add(result.rows());
+                    maxId.accumulateAndGet(result.maxId(), Math::max);
+                } catch (AuthorizationViolationException ex) {
+                    throw readOnlyViolation();
+                }
+            });
+        }
+
+        ParallelUtil.runWithConcurrency(concurrency, tasks, loadingContext.executor());
+
+        return new BatchLoadResult(rows.sum(), maxId.get());
+    }
+
+    private IllegalArgumentException readOnlyViolation() {
+        return new IllegalArgumentException(formatWithLocale("Query must be read only. Query: [%s]", loadQuery));
+    }
+
+    /**
+     * Called once before the query is executed.
+     */
+    void beginLoading() {}
+
+    /**
+     * Called once after all results have been consumed.
+     */
+    void endLoading() {}
+
     abstract QueryType queryType();
 
-    abstract BatchLoadResult loadSingleBatch(
-        Transaction tx,
-        int bufferSize
-    );
+    /**
+     * Consumes the result of a single query execution.
+     * In partitioned mode, this is called concurrently for the results of the different partitions.
+     */
+    abstract BatchLoadResult loadSingleBatch(Result queryResult);
 
     abstract void updateCounts(BatchLoadResult result);
 
@@ -102,8 +182,8 @@ abstract class CypherRecordLoader<R> {
             .collect(Collectors.toList());
     }
 
-    Result runLoadingQuery(Transaction tx) {
-        Result result = runQueryWithoutClosingTheResult(tx, loadQuery, cypherConfig.parameters());
+    private Result runLoadingQuery(Transaction tx, Map<String, Object> parameters) {
+        Result result = runQueryWithoutClosingTheResult(tx, loadQuery, parameters);
         validateMandatoryColumns(List.copyOf(result.columns()));
         return result;
     }
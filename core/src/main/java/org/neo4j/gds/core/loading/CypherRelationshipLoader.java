@@ -38,13 +38,12 @@ import org.neo4j.gds.core.loading.construction.NodesBuilder;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.graphdb.Result;
-import org.neo4j.graphdb.Transaction;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Value.Enclosing
@@ -66,11 +65,12 @@ class CypherRelationshipLoader extends CypherRecordLoader<RelationshipsAndProper
     CypherRelationshipLoader(
         String relationshipQuery,
         IdMap idMap,
+        long highestPossibleNodeCount,
         GraphProjectFromCypherConfig config,
         GraphLoaderContext loadingContext,
         ProgressTracker progressTracker
     ) {
-        super(relationshipQuery, idMap.nodeCount(), config, loadingContext);
+        super(relationshipQuery, highestPossibleNodeCount, config, loadingContext);
         this.idMap = idMap;
         this.progressTracker = progressTracker;
         this.loaderContext = new Context();
@@ -105,32 +105,20 @@ class CypherRelationshipLoader extends CypherRecordLoader<RelationshipsAndProper
     }
 
     @Override
-    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize) {
+    void beginLoading() {
         progressTracker.beginSubTask("Relationships");
-        Result queryResult = runLoadingQuery(tx);
-
-        List<String> allColumns = queryResult.columns();
-
-        // If the user specifies property mappings, we use those.
-        // Otherwise, we create new property mappings from the result columns.
-        // We do that only once, as each batch has the same columns.
-        Collection<String> propertyColumns = getPropertyColumns(queryResult);
-        if (!initializedFromResult) {
+    }
 
-            List<PropertyMapping> propertyMappings = propertyColumns
-                .stream()
-                .map(propertyColumn -> PropertyMapping.of(
-                    propertyColumn,
-                    propertyColumn,
-                    NodesBuilder.NO_PROPERTY_VALUE,
-                    Aggregation.NONE
-                ))
-                .collect(Collectors.toList());
+    @Override
+    void endLoading() {
+        progressTracker.endSubTask("Relationships");
+    }
 
-            initFromPropertyMappings(PropertyMappings.of(propertyMappings));
+    @Override
+    BatchLoadResult loadSingleBatch(Result queryResult) {
+        List<String> allColumns = queryResult.columns();
 
-            initializedFromResult = true;
-        }
+        initializeFromResult(queryResult);
 
         boolean isAnyRelTypeQuery = !allColumns.contains(RelationshipRowVisitor.TYPE_COLUMN);
 
@@ -150,10 +138,33 @@ class CypherRelationshipLoader extends CypherRecordLoader<RelationshipsAndProper
 
         queryResult.accept(visitor);
 
-        progressTracker.endSubTask("Relationships");
         return new BatchLoadResult(visitor.rows(), -1L);
     }
 
+    // If the user specifies property mappings, we use those.
+    // Otherwise, we create new property mappings from the result columns.
+    // We do that only once, as each batch has the same columns.
+    private synchronized void initializeFromResult(Result queryResult) {
+        if (initializedFromResult) {
+            return;
+        }
+
+        Collection<String> propertyColumns = getPropertyColumns(queryResult);
+        List<PropertyMapping> propertyMappings = propertyColumns
+            .stream()
+            .map(propertyColumn -> PropertyMapping.of(
+                propertyColumn,
+                propertyColumn,
+                NodesBuilder.NO_PROPERTY_VALUE,
+                Aggregation.NONE
+            ))
+            .collect(Collectors.toList());
+
+        initFromPropertyMappings(PropertyMappings.of(propertyMappings));
+
+        initializedFromResult = true;
+    }
+
     @Override
     void updateCounts(BatchLoadResult result) {}
 
@@ -190,7 +201,8 @@ class CypherRelationshipLoader extends CypherRecordLoader<RelationshipsAndProper
         private final Map<RelationshipType, RelationshipsBuilder> relationshipBuildersByType;
 
         Context() {
-            this.relationshipBuildersByType = new HashMap<>();
+            // concurrently accessed by the partitions of a partitioned query
+            this.relationshipBuildersByType = new ConcurrentHashMap<>();
         }
 
         RelationshipsBuilder getOrCreateRelationshipsBuilder(RelationshipType relationshipType) {
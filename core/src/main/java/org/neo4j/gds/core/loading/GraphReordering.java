@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns new node ids to a projected graph according to a {@link NodeOrdering}.
+ * Original node ids are kept, only the mapped ids, the adjacency lists and the node properties are permuted.
+ */
+public final class GraphReordering {
+
+    private GraphReordering() {}
+
+    public static CSRGraphStore reorder(CSRGraphStore graphStore, NodeOrdering ordering, int concurrency) {
+        if (ordering == NodeOrdering.NONE || graphStore.nodeCount() == 0) {
+            return graphStore;
+        }
+        return GraphStoreDeltaApplier.relabel(graphStore, permutation(graphStore, ordering), concurrency);
+    }
+
+    /**
+     * Computes the new order of the nodes.
+     *
+     * @return the ids of the nodes in the given graph store, in their new order
+     */
+    static HugeLongArray permutation(CSRGraphStore graphStore, NodeOrdering ordering) {
+        var adjacencyLists = graphStore.relationships
+            .values()
+            .stream()
+            .map(Relationships.Topology::adjacencyList)
+            .collect(Collectors.toList());
+        var degrees = degrees(adjacencyLists, graphStore.nodeCount());
+
+        switch (ordering) {
+            case NONE:
+                var identity = HugeLongArray.newArray(graphStore.nodeCount());
+                identity.setAll(nodeId -> nodeId);
+                return identity;
+            case DEGREE:
+                return byDescendingDegree(degrees);
+            case REVERSE_CUTHILL_MCKEE:
+                return reverseCuthillMcKee(adjacencyLists, degrees);
+            default:
+                throw new IllegalArgumentException("Unexpected node ordering: " + ordering);
+        }
+    }
+
+    private static HugeIntArray degrees(List<AdjacencyList> adjacencyLists, long nodeCount) {
+        var degrees = HugeIntArray.newArray(nodeCount);
+        for (AdjacencyList adjacencyList : adjacencyLists) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                degrees.addTo(nodeId, adjacencyList.degree(nodeId));
+            }
+        }
+        return degrees;
+    }
+
+    /**
+     * A stable counting sort by descending degree, nodes with the same degree keep their relative order.
+     */
+    private static HugeLongArray byDescendingDegree(HugeIntArray degrees) {
+        long nodeCount = degrees.size();
+        int maxDegree = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            maxDegree = Math.max(maxDegree, degrees.get(nodeId));
+        }
+
+        // offsets[d] is the first position of nodes with degree d
+        var offsets = HugeLongArray.newArray(maxDegree + 1L);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.addTo(maxDegree - degrees.get(nodeId), 1);
+        }
+        long position = 0;
+        for (long bucket = 0; bucket <= maxDegree; bucket++) {
+            long count = offsets.get(bucket);
+            offsets.set(bucket, position);
+            position += count;
+        }
+
+        var order = HugeLongArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int bucket = maxDegree - degrees.get(nodeId);
+            long target = offsets.get(bucket);
+            order.set(target, nodeId);
+            offsets.set(bucket, target + 1);
+        }
+        return order;
+    }
+
+    /**
+     * Breadth-first traversal starting at an unvisited node of lowest degree for every component,
+     * where the neighbours of a node are visited by ascending degree.
+     * Reversing the traversal order yields the reverse Cuthill-McKee order.
+     */
+    private static HugeLongArray reverseCuthillMcKee(List<AdjacencyList> adjacencyLists, HugeIntArray degrees) {
+        long nodeCount = degrees.size();
+        var startNodes = byDescendingDegree(degrees);
+
+        var visited = new BitSet(nodeCount);
+        // the traversal order doubles as the queue of the breadth-first search
+        var order = HugeLongArray.newArray(nodeCount);
+        long head = 0;
+        long tail = 0;
+
+        var neighbours = new LongArrayList();
+        AdjacencyCursor cursor = null;
+
+        for (long start = nodeCount - 1; start >= 0; start--) {
+            long startNode = startNodes.get(start);
+            if (visited.get(startNode)) {
+                continue;
+            }
+            visited.set(startNode);
+            order.set(tail++, startNode);
+
+            while (head < tail) {
+                long nodeId = order.get(head++);
+
+                neighbours.clear();
+                for (AdjacencyList adjacencyList : adjacencyLists) {
+                    if (adjacencyList.degree(nodeId) == 0) {
+                        continue;
+                    }
+                    cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+                    while (cursor.hasNextVLong()) {
+                        long neighbour = cursor.nextVLong();
+                        if (!visited.get(neighbour)) {
+                            visited.set(neighbour);
+                            neighbours.add(neighbour);
+                        }
+                    }
+                }
+
+                long[] buffer = neighbours.buffer;
+                int[] byDegree = IndirectSort.mergesort(
+                    0,
+                    neighbours.size(),
+                    (a, b) -> Integer.compare(degrees.get(buffer[a]), degrees.get(buffer[b]))
+                );
+                for (int index : byDegree) {
+                    order.set(tail++, buffer[index]);
+                }
+            }
+        }
+
+        var reversed = HugeLongArray.newArray(nodeCount);
+        for (long position = 0; position < nodeCount; position++) {
+            reversed.set(nodeCount - 1 - position, order.get(position));
+        }
+        return reversed;
+    }
+}
@@ -202,8 +202,44 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Stores the index under the given name next to the graph, replacing any index with the same name.
+     */
+    public static void setIndex(
+        String username,
+        NamedDatabaseId databaseId,
+        String graphName,
+        String indexName,
+        GraphIndex index
+    ) {
+        getUserCatalog(username).setIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName, index);
+    }
+
+    public static <INDEX extends GraphIndex> Optional<INDEX> getIndex(
+        String username,
+        NamedDatabaseId databaseId,
+        String graphName,
+        String indexName,
+        Class<INDEX> indexClass
+    ) {
+        return getUserCatalog(username)
+            .getIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName)
+            .map(index -> {
+                if (!indexClass.isInstance(index)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "The index `%s` on graph `%s` is of type `%s`.",
+                        indexName,
+                        graphName,
+                        index.indexType()
+                    ));
+                }
+                return indexClass.cast(index);
+            });
+    }
+
     public static void removeAllLoadedGraphs() {
         userCatalogs.clear();
+        SharedGraphStores.clear();
     }
 
     public static void removeAllLoadedGraphs(NamedDatabaseId databaseId) {
@@ -263,6 +299,8 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Map<String, GraphIndex>> indexesByGraphName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -280,8 +318,12 @@ public final class GraphStoreCatalog {
                     config.graphName()
                 ));
             }
-            graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            var previous = graphsByName.put(userCatalogKey, graphStoreWithConfig);
             graphStore.canRelease(false);
+            SharedGraphStores.added(graphStore);
+            if (previous != null) {
+                SharedGraphStores.removed(previous.graphStore());
+            }
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -302,6 +344,30 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private void setIndex(UserCatalogKey userCatalogKey, String indexName, GraphIndex index) {
+            if (indexName == null || index == null) {
+                throw new IllegalArgumentException("Both index name and index must be not null");
+            }
+            if (!graphsByName.containsKey(userCatalogKey)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot set index because graph %s does not exist",
+                    userCatalogKey.graphName()
+                ));
+            }
+            indexesByGraphName
+                .computeIfAbsent(userCatalogKey, ignore -> new ConcurrentHashMap<>())
+                .put(indexName, index);
+        }
+
+        private Optional<GraphIndex> getIndex(UserCatalogKey userCatalogKey, String indexName) {
+            if (!graphsByName.containsKey(userCatalogKey)) {
+                return Optional.empty();
+            }
+            return Optional
+                .ofNullable(indexesByGraphName.get(userCatalogKey))
+                .map(indexes -> indexes.get(indexName));
+        }
+
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
@@ -343,17 +409,25 @@ public final class GraphStoreCatalog {
             return Optional.ofNullable(get(userCatalogKey, failOnMissing))
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
-                    graphStoreWithConfig.graphStore().canRelease(true);
-                    graphStoreWithConfig.graphStore().release();
                     removeDegreeDistribution(userCatalogKey);
+                    indexesByGraphName.remove(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
+                    // graph views share the data of the graph they were projected from, possibly across users
+                    SharedGraphStores.removed(graphStoreWithConfig.graphStore());
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
         }
 
         private void remove(String databaseName) {
-            graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            graphsByName.entrySet().removeIf(entry -> {
+                if (entry.getKey().databaseName().equals(databaseName)) {
+                    SharedGraphStores.forgotten(entry.getValue().graphStore());
+                    return true;
+                }
+                return false;
+            });
+            indexesByGraphName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
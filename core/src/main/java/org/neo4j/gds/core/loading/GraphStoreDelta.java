@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Nodes and relationships that have been added to or removed from the database since a graph has been projected.
+ * Nodes are identified by their original node id, relationships by the original ids of their source and target node.
+ *
+ * Removing a relationship removes all relationships of the type between the two nodes that exist before the delta is applied.
+ * Removing and adding a relationship in the same delta therefore replaces its properties.
+ *
+ * @see GraphStoreDeltaApplier
+ */
+public final class GraphStoreDelta {
+
+    private final LongArrayList addedNodes;
+    private final List<List<NodeLabel>> addedNodeLabels;
+    private final LongArrayList removedNodes;
+    private final Map<RelationshipType, RelationshipDelta> relationships;
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private GraphStoreDelta(
+        LongArrayList addedNodes,
+        List<List<NodeLabel>> addedNodeLabels,
+        LongArrayList removedNodes,
+        Map<RelationshipType, RelationshipDelta> relationships
+    ) {
+        this.addedNodes = addedNodes;
+        this.addedNodeLabels = addedNodeLabels;
+        this.removedNodes = removedNodes;
+        this.relationships = relationships;
+    }
+
+    LongArrayList addedNodes() {
+        return addedNodes;
+    }
+
+    List<NodeLabel> addedNodeLabels(int index) {
+        return addedNodeLabels.get(index);
+    }
+
+    LongArrayList removedNodes() {
+        return removedNodes;
+    }
+
+    Map<RelationshipType, RelationshipDelta> relationships() {
+        return relationships;
+    }
+
+    public boolean isEmpty() {
+        return addedNodes.isEmpty() && removedNodes.isEmpty() && relationships.isEmpty();
+    }
+
+    static final class RelationshipDelta {
+        final LongArrayList addedSources = new LongArrayList();
+        final LongArrayList addedTargets = new LongArrayList();
+        final List<Map<String, Double>> addedProperties = new ArrayList<>();
+        final LongArrayList removedSources = new LongArrayList();
+        final LongArrayList removedTargets = new LongArrayList();
+    }
+
+    public static final class Builder {
+        private final LongArrayList addedNodes = new LongArrayList();
+        private final List<List<NodeLabel>> addedNodeLabels = new ArrayList<>();
+        private final LongArrayList removedNodes = new LongArrayList();
+        private final Map<RelationshipType, RelationshipDelta> relationships = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder addNode(long originalNodeId, NodeLabel... labels) {
+            addedNodes.add(originalNodeId);
+            addedNodeLabels.add(List.of(labels));
+            return this;
+        }
+
+        public Builder removeNode(long originalNodeId) {
+            removedNodes.add(originalNodeId);
+            return this;
+        }
+
+        public Builder addRelationship(RelationshipType relationshipType, long sourceNodeId, long targetNodeId) {
+            return addRelationship(relationshipType, sourceNodeId, targetNodeId, Map.of());
+        }
+
+        /**
+         * @param properties relationship property values by key, missing properties get their default value
+         */
+        public Builder addRelationship(
+            RelationshipType relationshipType,
+            long sourceNodeId,
+            long targetNodeId,
+            Map<String, Double> properties
+        ) {
+            var delta = relationships.computeIfAbsent(relationshipType, ignore -> new RelationshipDelta());
+            delta.addedSources.add(sourceNodeId);
+            delta.addedTargets.add(targetNodeId);
+            delta.addedProperties.add(properties);
+            return this;
+        }
+
+        /**
+         * Removes every relationship of the given type from the source to the target node,
+         * including parallel relationships in a multi-graph.
+         */
+        public Builder removeRelationship(RelationshipType relationshipType, long sourceNodeId, long targetNodeId) {
+            var delta = relationships.computeIfAbsent(relationshipType, ignore -> new RelationshipDelta());
+            delta.removedSources.add(sourceNodeId);
+            delta.removedTargets.add(targetNodeId);
+            return this;
+        }
+
+        public GraphStoreDelta build() {
+            return new GraphStoreDelta(addedNodes, addedNodeLabels, removedNodes, relationships);
+        }
+    }
+}
@@ -0,0 +1,681 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.AdjacencyListPatcher;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies a {@link GraphStoreDelta} to a graph store without re-projecting the graph from the database.
+ *
+ * The result is a new graph store, the given graph store is not modified and remains usable.
+ * If nodes are only added, existing nodes keep their ids and only the adjacency lists of nodes with
+ * added or removed relationships are rewritten. All other adjacency lists and their properties stay
+ * in the pages of the given graph store, which are shared by both graph stores.
+ * Removing nodes changes the ids of the remaining nodes and rewrites all adjacency lists.
+ *
+ * Node properties of added nodes are set to the default value of the property.
+ * New relationship types and relationship property keys have to be added with the mutate procedures.
+ *
+ * {@link #update} applies deltas that only change relationships without properties to the given graph store in place.
+ */
+public final class GraphStoreDeltaApplier {
+
+    private final CSRGraphStore graphStore;
+    private final GraphStoreDelta delta;
+    private final @Nullable HugeLongArray permutation;
+    private final int concurrency;
+
+    public static CSRGraphStore apply(CSRGraphStore graphStore, GraphStoreDelta delta, int concurrency) {
+        return new GraphStoreDeltaApplier(graphStore, delta, null, concurrency).apply();
+    }
+
+    /**
+     * Applies the delta to the given graph store in place if it neither adds nor removes nodes
+     * and only changes relationship types without relationship properties.
+     * The adjacency lists of the changed types are wrapped in a {@link DeltaAdjacencyList}, which buffers the changes
+     * until it is compacted. Graphs created from the graph store afterwards include the changes.
+     * Any other delta is applied to a new graph store, like {@link #apply}.
+     *
+     * @return the given graph store if it has been updated in place, otherwise a new graph store
+     */
+    public static CSRGraphStore update(CSRGraphStore graphStore, GraphStoreDelta delta, int concurrency) {
+        var applier = new GraphStoreDeltaApplier(graphStore, delta, null, concurrency);
+        boolean relationshipsOnly = delta.addedNodes().isEmpty()
+            && delta.removedNodes().isEmpty()
+            && delta.relationships().keySet().stream().allMatch(relationshipType ->
+                graphStore.hasRelationshipType(relationshipType)
+                && graphStore.relationshipPropertyKeys(relationshipType).isEmpty());
+        if (!relationshipsOnly) {
+            return applier.apply();
+        }
+        applier.validateRelationshipTypes();
+        applier.updateRelationships();
+        return graphStore;
+    }
+
+    /**
+     * Assigns new ids to all nodes of the graph store.
+     *
+     * @param newToOldNodeIds a permutation of the node ids, mapping every new node id to the id of the node in the given graph store
+     */
+    static CSRGraphStore relabel(CSRGraphStore graphStore, HugeLongArray newToOldNodeIds, int concurrency) {
+        return new GraphStoreDeltaApplier(
+            graphStore,
+            GraphStoreDelta.builder().build(),
+            newToOldNodeIds,
+            concurrency
+        ).apply();
+    }
+
+    private GraphStoreDeltaApplier(
+        CSRGraphStore graphStore,
+        GraphStoreDelta delta,
+        @Nullable HugeLongArray permutation,
+        int concurrency
+    ) {
+        this.graphStore = graphStore;
+        this.delta = delta;
+        this.permutation = permutation;
+        this.concurrency = concurrency;
+    }
+
+    private CSRGraphStore apply() {
+        validateRelationshipTypes();
+
+        var idMap = graphStore.nodes();
+        long oldNodeCount = idMap.nodeCount();
+
+        var removedNodes = new BitSet(oldNodeCount);
+        long removedNodeCount = 0;
+        var removedOriginalIds = delta.removedNodes();
+        for (int i = 0; i < removedOriginalIds.size(); i++) {
+            long nodeId = idMap.safeToMappedNodeId(removedOriginalIds.get(i));
+            if (nodeId != IdMap.NOT_FOUND && !removedNodes.get(nodeId)) {
+                removedNodes.set(nodeId);
+                removedNodeCount++;
+            }
+        }
+
+        var addedNodes = new LongArrayList();
+        var addedNodeLabels = new ArrayList<List<NodeLabel>>();
+        var seenNodes = new LongHashSet();
+        for (int i = 0; i < delta.addedNodes().size(); i++) {
+            long originalId = delta.addedNodes().get(i);
+            long nodeId = idMap.safeToMappedNodeId(originalId);
+            boolean exists = nodeId != IdMap.NOT_FOUND && !removedNodes.get(nodeId);
+            if (!exists && seenNodes.add(originalId)) {
+                addedNodes.add(originalId);
+                addedNodeLabels.add(delta.addedNodeLabels(i));
+            }
+        }
+
+        boolean stableNodeIds = removedNodeCount == 0 && permutation == null;
+        boolean nodesChanged = !stableNodeIds || !addedNodes.isEmpty();
+        long keptNodeCount = oldNodeCount - removedNodeCount;
+        long nodeCount = keptNodeCount + addedNodes.size();
+
+        HugeLongArray newToOld = null;
+        HugeLongArray oldToNew = null;
+        if (permutation != null) {
+            newToOld = permutation;
+            oldToNew = HugeLongArray.newArray(oldNodeCount);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                oldToNew.set(permutation.get(nodeId), nodeId);
+            }
+        } else if (!stableNodeIds) {
+            newToOld = HugeLongArray.newArray(nodeCount);
+            oldToNew = HugeLongArray.newArray(oldNodeCount);
+            long nextNodeId = 0;
+            for (long oldNodeId = 0; oldNodeId < oldNodeCount; oldNodeId++) {
+                if (removedNodes.get(oldNodeId)) {
+                    oldToNew.set(oldNodeId, -1);
+                } else {
+                    oldToNew.set(oldNodeId, nextNodeId);
+                    newToOld.set(nextNodeId++, oldNodeId);
+                }
+            }
+            for (long nodeId = nextNodeId; nodeId < nodeCount; nodeId++) {
+                newToOld.set(nodeId, -1);
+            }
+        }
+
+        var finalNewToOld = newToOld;
+        var finalOldToNew = oldToNew;
+        LongUnaryOperator newToOldNodeId = stableNodeIds
+            ? nodeId -> nodeId < oldNodeCount ? nodeId : -1
+            : finalNewToOld::get;
+        LongUnaryOperator oldToNewNodeId = stableNodeIds
+            ? LongUnaryOperator.identity()
+            : finalOldToNew::get;
+
+        var schema = graphStore.schema();
+        IdMap nodes = idMap;
+        NodeSchema nodeSchema = schema.nodeSchema();
+        NodePropertyStore nodePropertyStore = nodePropertyStore(null, oldNodeCount, oldNodeCount);
+        if (nodesChanged) {
+            nodeSchema = nodeSchema(addedNodeLabels);
+            nodes = idMap(nodeSchema, newToOldNodeId, addedNodes, addedNodeLabels, keptNodeCount, nodeCount);
+            nodePropertyStore = permutation != null
+                ? permutedNodePropertyStore(permutation, nodeCount)
+                : nodePropertyStore(newToOld, stableNodeIds ? oldNodeCount : nodeCount, nodeCount);
+        }
+
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        var relationshipPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        for (RelationshipType relationshipType : graphStore.relationshipTypes()) {
+            var topology = graphStore.relationships.get(relationshipType);
+            var relationshipDelta = delta.relationships().get(relationshipType);
+            var propertyKeys = graphStore
+                .relationshipPropertyKeys(relationshipType)
+                .stream()
+                .sorted()
+                .collect(Collectors.toList());
+            var properties = propertyKeys
+                .stream()
+                .map(propertyKey -> graphStore.relationshipPropertyValues(relationshipType, propertyKey))
+                .collect(Collectors.toList());
+
+            if (!nodesChanged && relationshipDelta == null) {
+                topologies.put(relationshipType, topology);
+                relationshipPropertyStores.put(relationshipType, relationshipPropertyStore(properties));
+                continue;
+            }
+
+            var patcher = AdjacencyListPatcher.of(
+                topology.adjacencyList(),
+                properties.stream().map(property -> property.values().propertiesList()).collect(Collectors.toList()),
+                properties.stream().mapToDouble(property -> property.values().defaultPropertyValue()).toArray(),
+                properties.stream().map(RelationshipProperty::aggregation).toArray(Aggregation[]::new),
+                topology.isMultiGraph(),
+                nodeCount,
+                newToOldNodeId,
+                oldToNewNodeId,
+                stableNodeIds
+            );
+            if (relationshipDelta != null) {
+                rewriteSources(patcher, relationshipDelta, nodes, topology.orientation(), propertyKeys, properties);
+            }
+            var patched = patcher.build();
+
+            topologies.put(relationshipType, ImmutableTopology.of(
+                patched.adjacencyList(),
+                patched.relationshipCount(),
+                topology.orientation(),
+                patched.isMultiGraph()
+            ));
+
+            var patchedProperties = new ArrayList<RelationshipProperty>();
+            for (int i = 0; i < properties.size(); i++) {
+                var property = properties.get(i);
+                patchedProperties.add(ImmutableRelationshipProperty.of(
+                    ImmutableProperties.of(
+                        patched.properties().get(i),
+                        patched.relationshipCount(),
+                        topology.orientation(),
+                        patched.isMultiGraph(),
+                        property.values().defaultPropertyValue()
+                    ),
+                    property.propertySchema()
+                ));
+            }
+            relationshipPropertyStores.put(relationshipType, relationshipPropertyStore(patchedProperties));
+        }
+
+        var updatedGraphStore = CSRGraphStore.of(
+            graphStore.databaseId(),
+            graphStore.capabilities(),
+            GraphSchema.of(nodeSchema, schema.relationshipSchema(), schema.graphProperties()),
+            nodes,
+            nodePropertyStore,
+            topologies,
+            relationshipPropertyStores,
+            concurrency
+        );
+        graphStore
+            .graphPropertyKeys()
+            .forEach(propertyKey -> updatedGraphStore.addGraphProperty(
+                propertyKey,
+                graphStore.graphPropertyValues(propertyKey)
+            ));
+        return updatedGraphStore;
+    }
+
+    private void updateRelationships() {
+        var nodes = graphStore.nodes();
+        // resolve all node ids first, so that an invalid delta does not leave a partially updated graph store
+        var changes = new LinkedHashMap<RelationshipType, RelationshipChanges>();
+        delta.relationships().forEach((relationshipType, relationshipDelta) -> {
+            var orientation = graphStore.relationships.get(relationshipType).orientation();
+            var relationshipChanges = new RelationshipChanges(orientation);
+            for (int i = 0; i < relationshipDelta.removedSources.size(); i++) {
+                long source = nodes.safeToMappedNodeId(relationshipDelta.removedSources.get(i));
+                long target = nodes.safeToMappedNodeId(relationshipDelta.removedTargets.get(i));
+                if (source != IdMap.NOT_FOUND && target != IdMap.NOT_FOUND) {
+                    relationshipChanges.removed(source, target);
+                }
+            }
+            for (int i = 0; i < relationshipDelta.addedSources.size(); i++) {
+                long originalSource = relationshipDelta.addedSources.get(i);
+                long originalTarget = relationshipDelta.addedTargets.get(i);
+                relationshipChanges.added(
+                    mappedNodeId(nodes, originalSource, originalSource, originalTarget),
+                    mappedNodeId(nodes, originalTarget, originalSource, originalTarget)
+                );
+            }
+            changes.put(relationshipType, relationshipChanges);
+        });
+
+        changes.forEach((relationshipType, relationshipChanges) -> {
+            var topology = graphStore.relationships.get(relationshipType);
+            var adjacencyList = topology.adjacencyList() instanceof DeltaAdjacencyList
+                ? (DeltaAdjacencyList) topology.adjacencyList()
+                : DeltaAdjacencyList.of(topology.adjacencyList(), nodes.nodeCount(), topology.isMultiGraph());
+            long countChangeBefore = adjacencyList.relationshipCountChange();
+
+            // removals refer to relationships that exist before the delta is applied
+            for (var entry : relationshipChanges.removedTargets) {
+                adjacencyList.removeRelationships(entry.key, entry.value.toArray());
+            }
+            for (var entry : relationshipChanges.addedTargets) {
+                adjacencyList.addRelationships(entry.key, entry.value.toArray());
+            }
+
+            graphStore.replaceTopology(relationshipType, ImmutableTopology.of(
+                adjacencyList,
+                topology.elementCount() + adjacencyList.relationshipCountChange() - countChangeBefore,
+                topology.orientation(),
+                topology.isMultiGraph()
+            ));
+        });
+    }
+
+    private static long mappedNodeId(IdMap nodes, long originalNodeId, long originalSource, long originalTarget) {
+        long nodeId = nodes.safeToMappedNodeId(originalNodeId);
+        if (nodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot add a relationship between nodes %d and %d, node %d does not exist in the graph.",
+                originalSource,
+                originalTarget,
+                originalNodeId
+            ));
+        }
+        return nodeId;
+    }
+
+    private void validateRelationshipTypes() {
+        delta.relationships().forEach((relationshipType, relationshipDelta) -> {
+            if (!graphStore.hasRelationshipType(relationshipType)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationship type `%s` does not exist in the graph. Available types are %s.",
+                    relationshipType.name,
+                    graphStore.relationshipTypes().stream().map(RelationshipType::name).sorted().collect(Collectors.toList())
+                ));
+            }
+            for (Map<String, Double> properties : relationshipDelta.addedProperties) {
+                for (String propertyKey : properties.keySet()) {
+                    if (!graphStore.hasRelationshipProperty(relationshipType, propertyKey)) {
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "Relationship property `%s` does not exist for relationships of type `%s`.",
+                            propertyKey,
+                            relationshipType.name
+                        ));
+                    }
+                }
+            }
+        });
+    }
+
+    private NodeSchema nodeSchema(List<List<NodeLabel>> addedNodeLabels) {
+        var nodeSchema = graphStore.schema().nodeSchema();
+        var newLabels = addedNodeLabels
+            .stream()
+            .flatMap(List::stream)
+            .filter(label -> !nodeSchema.availableLabels().contains(label))
+            .distinct()
+            .collect(Collectors.toList());
+        if (newLabels.isEmpty()) {
+            return nodeSchema;
+        }
+        if (nodeSchema.containsOnlyAllNodesLabel()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot add nodes with labels %s to a graph that has been projected without node labels.",
+                newLabels.stream().map(NodeLabel::name).collect(Collectors.toList())
+            ));
+        }
+        var builder = NodeSchema.builder().from(nodeSchema);
+        newLabels.forEach(builder::addLabel);
+        return builder.build();
+    }
+
+    private IdMap idMap(
+        NodeSchema nodeSchema,
+        LongUnaryOperator newToOldNodeId,
+        LongArrayList addedNodes,
+        List<List<NodeLabel>> addedNodeLabels,
+        long keptNodeCount,
+        long nodeCount
+    ) {
+        var idMap = graphStore.nodes();
+
+        var graphIds = HugeLongArray.newArray(nodeCount);
+        graphIds.setAll(nodeId -> {
+            long oldNodeId = newToOldNodeId.applyAsLong(nodeId);
+            return oldNodeId >= 0
+                ? idMap.toOriginalNodeId(oldNodeId)
+                : addedNodes.get((int) (nodeId - keptNodeCount));
+        });
+
+        long highestNeoId = idMap.highestNeoId();
+        for (int i = 0; i < addedNodes.size(); i++) {
+            highestNeoId = Math.max(highestNeoId, addedNodes.get(i));
+        }
+
+        LabelInformation labelInformation;
+        if (nodeSchema.containsOnlyAllNodesLabel()) {
+            labelInformation = LabelInformation
+                .single(NodeLabel.ALL_NODES)
+                .build(nodeCount, LongUnaryOperator.identity());
+        } else {
+            var labelBitSets = new LinkedHashMap<NodeLabel, BitSet>();
+            for (NodeLabel label : nodeSchema.availableLabels()) {
+                var bitSet = new BitSet(nodeCount);
+                if (graphStore.nodeLabels().contains(label)) {
+                    for (long nodeId = 0; nodeId < keptNodeCount; nodeId++) {
+                        if (idMap.hasLabel(newToOldNodeId.applyAsLong(nodeId), label)) {
+                            bitSet.set(nodeId);
+                        }
+                    }
+                }
+                labelBitSets.put(label, bitSet);
+            }
+            for (int i = 0; i < addedNodeLabels.size(); i++) {
+                for (NodeLabel label : addedNodeLabels.get(i)) {
+                    labelBitSets.get(label).set(keptNodeCount + i);
+                }
+            }
+            labelInformation = LabelInformation.of(labelBitSets);
+        }
+
+        var nodeToGraphIds = ArrayIdMapBuilderOps.buildSparseIdMap(nodeCount, highestNeoId, concurrency, graphIds);
+        return new ArrayIdMap(graphIds, nodeToGraphIds, labelInformation, nodeCount, highestNeoId);
+    }
+
+    private NodePropertyStore nodePropertyStore(
+        @Nullable HugeLongArray newToOld,
+        long mappedNodeCount,
+        long nodeCount
+    ) {
+        var builder = NodePropertyStore.builder();
+        for (String propertyKey : graphStore.nodePropertyKeys()) {
+            var property = graphStore.nodeProperty(propertyKey);
+            var values = newToOld == null && mappedNodeCount == nodeCount
+                ? property.values()
+                : RemappedNodePropertyValues.of(
+                    property.values(),
+                    property.propertySchema().defaultValue(),
+                    newToOld,
+                    mappedNodeCount,
+                    nodeCount
+                );
+            builder.putIfAbsent(propertyKey, NodeProperty.of(
+                propertyKey,
+                property.propertyState(),
+                values,
+                property.propertySchema().defaultValue()
+            ));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Copies all node properties into new arrays in the order of the given permutation.
+     * Relabelled graph stores replace the original one, so unlike {@link RemappedNodePropertyValues}
+     * the copies keep property scans sequential instead of translating every node id.
+     */
+    private NodePropertyStore permutedNodePropertyStore(HugeLongArray newToOld, long nodeCount) {
+        var builder = NodePropertyStore.builder();
+        for (String propertyKey : graphStore.nodePropertyKeys()) {
+            var property = graphStore.nodeProperty(propertyKey);
+            builder.putIfAbsent(propertyKey, NodeProperty.of(
+                propertyKey,
+                property.propertyState(),
+                permutedValues(propertyKey, property.values(), newToOld, nodeCount),
+                property.propertySchema().defaultValue()
+            ));
+        }
+        return builder.build();
+    }
+
+    private static NodePropertyValues permutedValues(
+        String propertyKey,
+        NodePropertyValues values,
+        HugeLongArray newToOld,
+        long nodeCount
+    ) {
+        switch (values.valueType()) {
+            case LONG:
+                var longValues = HugeLongArray.newArray(nodeCount);
+                longValues.setAll(nodeId -> values.longValue(newToOld.get(nodeId)));
+                return longValues.asNodeProperties();
+            case DOUBLE:
+                var doubleValues = HugeDoubleArray.newArray(nodeCount);
+                doubleValues.setAll(nodeId -> values.doubleValue(newToOld.get(nodeId)));
+                return doubleValues.asNodeProperties();
+            case DOUBLE_ARRAY:
+                var doubleArrayValues = HugeObjectArray.newArray(double[].class, nodeCount);
+                doubleArrayValues.setAll(nodeId -> values.doubleArrayValue(newToOld.get(nodeId)));
+                return doubleArrayValues.asNodeProperties();
+            case FLOAT_ARRAY:
+                var floatArrayValues = HugeObjectArray.newArray(float[].class, nodeCount);
+                floatArrayValues.setAll(nodeId -> values.floatArrayValue(newToOld.get(nodeId)));
+                return floatArrayValues.asNodeProperties();
+            case LONG_ARRAY:
+                var longArrayValues = HugeObjectArray.newArray(long[].class, nodeCount);
+                longArrayValues.setAll(nodeId -> values.longArrayValue(newToOld.get(nodeId)));
+                return longArrayValues.asNodeProperties();
+            default:
+                throw new IllegalStateException(formatWithLocale(
+                    "Cannot relabel node property `%s` of type %s.",
+                    propertyKey,
+                    values.valueType()
+                ));
+        }
+    }
+
+    /**
+     * Rewrites the adjacency lists of all source nodes of added and removed relationships.
+     */
+    private static void rewriteSources(
+        AdjacencyListPatcher patcher,
+        GraphStoreDelta.RelationshipDelta relationshipDelta,
+        IdMap nodes,
+        Orientation orientation,
+        List<String> propertyKeys,
+        List<RelationshipProperty> properties
+    ) {
+        var sourceDeltas = new LongObjectHashMap<SourceDelta>();
+
+        for (int i = 0; i < relationshipDelta.removedSources.size(); i++) {
+            long source = nodes.safeToMappedNodeId(relationshipDelta.removedSources.get(i));
+            long target = nodes.safeToMappedNodeId(relationshipDelta.removedTargets.get(i));
+            if (source == IdMap.NOT_FOUND || target == IdMap.NOT_FOUND) {
+                continue;
+            }
+            if (orientation != Orientation.REVERSE) {
+                sourceDelta(sourceDeltas, source, properties.size()).removedTargets.add(target);
+            }
+            if (orientation != Orientation.NATURAL) {
+                sourceDelta(sourceDeltas, target, properties.size()).removedTargets.add(source);
+            }
+        }
+
+        var propertyValues = new long[properties.size()];
+        for (int i = 0; i < relationshipDelta.addedSources.size(); i++) {
+            long originalSource = relationshipDelta.addedSources.get(i);
+            long originalTarget = relationshipDelta.addedTargets.get(i);
+            long source = nodes.safeToMappedNodeId(originalSource);
+            long target = nodes.safeToMappedNodeId(originalTarget);
+            if (source == IdMap.NOT_FOUND || target == IdMap.NOT_FOUND) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot add a relationship between nodes %d and %d, node %d does not exist in the graph.",
+                    originalSource,
+                    originalTarget,
+                    source == IdMap.NOT_FOUND ? originalSource : originalTarget
+                ));
+            }
+
+            var addedProperties = relationshipDelta.addedProperties.get(i);
+            for (int p = 0; p < properties.size(); p++) {
+                Double value = addedProperties.get(propertyKeys.get(p));
+                propertyValues[p] = Double.doubleToLongBits(value == null
+                    ? properties.get(p).values().defaultPropertyValue()
+                    : value);
+            }
+
+            if (orientation != Orientation.REVERSE) {
+                sourceDelta(sourceDeltas, source, properties.size()).add(target, propertyValues);
+            }
+            if (orientation != Orientation.NATURAL) {
+                sourceDelta(sourceDeltas, target, properties.size()).add(source, propertyValues);
+            }
+        }
+
+        var sources = sourceDeltas.keys().toArray();
+        Arrays.sort(sources);
+        for (long source : sources) {
+            var sourceDelta = sourceDeltas.get(source);
+            patcher.rewrite(
+                source,
+                sourceDelta.removedTargets::contains,
+                sourceDelta.addedTargets.buffer,
+                sourceDelta.addedProperties,
+                sourceDelta.addedTargets.size()
+            );
+        }
+    }
+
+    private static SourceDelta sourceDelta(LongObjectHashMap<SourceDelta> sourceDeltas, long source, int propertyCount) {
+        var sourceDelta = sourceDeltas.get(source);
+        if (sourceDelta == null) {
+            sourceDelta = new SourceDelta(propertyCount);
+            sourceDeltas.put(source, sourceDelta);
+        }
+        return sourceDelta;
+    }
+
+    private static RelationshipPropertyStore relationshipPropertyStore(List<RelationshipProperty> properties) {
+        var builder = RelationshipPropertyStore.builder();
+        properties.forEach(property -> builder.putIfAbsent(property.key(), property));
+        return builder.build();
+    }
+
+    private static final class SourceDelta {
+        private final LongHashSet removedTargets = new LongHashSet();
+        private final LongArrayList addedTargets = new LongArrayList();
+        private long[][] addedProperties;
+
+        SourceDelta(int propertyCount) {
+            this.addedProperties = new long[propertyCount][4];
+        }
+
+        void add(long target, long[] propertyValues) {
+            int index = addedTargets.size();
+            addedTargets.add(target);
+            for (int i = 0; i < propertyValues.length; i++) {
+                if (index == addedProperties[i].length) {
+                    addedProperties[i] = Arrays.copyOf(addedProperties[i], index * 2);
+                }
+                addedProperties[i][index] = propertyValues[i];
+            }
+        }
+    }
+
+    private static final class RelationshipChanges {
+        final Orientation orientation;
+        final LongObjectHashMap<LongArrayList> removedTargets = new LongObjectHashMap<>();
+        final LongObjectHashMap<LongArrayList> addedTargets = new LongObjectHashMap<>();
+
+        RelationshipChanges(Orientation orientation) {
+            this.orientation = orientation;
+        }
+
+        void removed(long source, long target) {
+            add(removedTargets, source, target);
+        }
+
+        void added(long source, long target) {
+            add(addedTargets, source, target);
+        }
+
+        private void add(LongObjectHashMap<LongArrayList> targetsBySource, long source, long target) {
+            if (orientation != Orientation.REVERSE) {
+                targets(targetsBySource, source).add(target);
+            }
+            if (orientation != Orientation.NATURAL) {
+                targets(targetsBySource, target).add(source);
+            }
+        }
+
+        private static LongArrayList targets(LongObjectHashMap<LongArrayList> targetsBySource, long source) {
+            var targets = targetsBySource.get(source);
+            if (targets == null) {
+                targets = new LongArrayList();
+                targetsBySource.put(source, targets);
+            }
+            return targets;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.neo4j.gds.api.IdMap;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.LongUnaryOperator;
@@ -47,6 +48,13 @@ public interface LabelInformation {
         return MultiLabelInformation.Builder.of(expectedCapacity, labelTokenNodeLabelMapping);
     }
 
+    /**
+     * Creates label information from bit sets that are already indexed by internal node ids.
+     */
+    static LabelInformation of(Map<NodeLabel, BitSet> labelInformation) {
+        return MultiLabelInformation.of(labelInformation);
+    }
+
     boolean isEmpty();
 
     Set<NodeLabel> labelSet();
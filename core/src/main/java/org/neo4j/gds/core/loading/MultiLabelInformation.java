@@ -54,6 +54,10 @@ public final class MultiLabelInformation implements LabelInformation {
         this.labelInformation = labelInformation;
     }
 
+    static MultiLabelInformation of(Map<NodeLabel, BitSet> labelInformation) {
+        return new MultiLabelInformation(labelInformation);
+    }
+
     @Override
     public boolean isEmpty() {
         return labelInformation.isEmpty();
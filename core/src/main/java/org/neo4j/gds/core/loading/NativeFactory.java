@@ -83,7 +83,12 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
     @Override
     public MemoryEstimation estimateMemoryUsageDuringLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), true);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            true,
+            storeConfig.nodeOrdering()
+        );
     }
 
     @Override
@@ -95,6 +100,15 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections,
         boolean isLoading
+    ) {
+        return getMemoryEstimation(nodeProjections, relationshipProjections, isLoading, NodeOrdering.NONE);
+    }
+
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading,
+        NodeOrdering nodeOrdering
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder("graph projection");
 
@@ -119,9 +133,43 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             }
         });
 
+        if (isLoading && nodeOrdering != NodeOrdering.NONE) {
+            builder.add(reorderingEstimation(nodeProjections, relationshipProjections));
+        }
+
         return builder.build();
     }
 
+    /**
+     * Reordering relabels the loaded graph store into a new one,
+     * so the id map, node properties and topology exist twice until the original graph store is released.
+     */
+    private static MemoryEstimation reorderingEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections
+    ) {
+        var reorderingEstimation = MemoryEstimations.builder("reordering");
+
+        reorderingEstimation.perNode("new to old node ids", HugeLongArray::memoryEstimation);
+        reorderingEstimation.perNode("old to new node ids", HugeLongArray::memoryEstimation);
+        reorderingEstimation.add("reordered nodeIdMap", IdMapBehaviorServiceProvider.idMapBehavior().memoryEstimation());
+
+        nodeProjections.allProperties().forEach(property -> reorderingEstimation.perNode(
+            formatWithLocale("reordered property '%s'", property),
+            HugeLongArray::memoryEstimation
+        ));
+
+        relationshipProjections.projections().forEach((relationshipType, relationshipProjection) -> {
+            boolean undirected = relationshipProjection.orientation() == Orientation.UNDIRECTED;
+            reorderingEstimation.add(
+                formatWithLocale("reordered relationships '%s'", relationshipType),
+                relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected)
+            );
+        });
+
+        return reorderingEstimation.build();
+    }
+
     @NotNull
     private static MemoryEstimation relationshipEstimationDuringLoading(
         RelationshipType relationshipType,
@@ -245,7 +293,11 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             progressTracker.beginSubTask();
             IdMapAndProperties nodes = loadNodes(concurrency);
             RelationshipsAndProperties relationships = loadRelationships(nodes.idMap(), concurrency);
-            CSRGraphStore graphStore = createGraphStore(nodes, relationships);
+            CSRGraphStore graphStore = GraphReordering.reorder(
+                createGraphStore(nodes, relationships),
+                storeConfig.nodeOrdering(),
+                concurrency
+            );
 
             logLoadingSummary(graphStore);
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The order in which node ids are assigned to the nodes of a projected graph.
+ * Orders other than {@link #NONE} place nodes that are accessed together close to each other,
+ * which improves the cache locality of algorithms that look up values of neighbouring nodes.
+ */
+public enum NodeOrdering {
+
+    /**
+     * Node ids follow the order in which nodes are scanned from the database.
+     */
+    NONE,
+
+    /**
+     * Nodes are ordered by descending degree, so that the values of high-degree nodes share few pages.
+     */
+    DEGREE,
+
+    /**
+     * Reverse Cuthill-McKee ordering, a breadth-first traversal that assigns close ids to neighbouring nodes.
+     */
+    REVERSE_CUTHILL_MCKEE;
+
+    private static final List<String> VALUES = Arrays
+        .stream(NodeOrdering.values())
+        .map(NodeOrdering::name)
+        .collect(Collectors.toList());
+
+    public static NodeOrdering parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return NodeOrdering.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node ordering `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof NodeOrdering) {
+            return (NodeOrdering) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected NodeOrdering or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(NodeOrdering ordering) {
+        return ordering.toString();
+    }
+}
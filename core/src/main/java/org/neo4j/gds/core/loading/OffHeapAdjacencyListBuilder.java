@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.huge.OffHeapAdjacencyList;
+import org.neo4j.gds.core.utils.PageReordering;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Builds adjacency lists into pages of direct memory.
+ * The addressing follows the {@link BumpAllocator}: every allocator fills a page of
+ * {@link BumpAllocator#PAGE_SIZE} bytes before claiming the next one, and adjacency lists
+ * that exceed a page are stored in a dedicated page of the exact size.
+ */
+public final class OffHeapAdjacencyListBuilder implements AdjacencyListBuilder<byte[], OffHeapAdjacencyList> {
+
+    private final ReentrantLock growLock;
+    private ByteBuffer[] pages;
+    private int allocatedPages;
+
+    OffHeapAdjacencyListBuilder() {
+        this.growLock = new ReentrantLock(true);
+        this.pages = new ByteBuffer[0];
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this);
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public OffHeapAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        var intoPages = Arrays.copyOf(pages, allocatedPages);
+        // the builder writes byte[] chunks, but the pages are buffers, so the default reordering does not apply
+        if (GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled() && intoPages.length > 0) {
+            PageReordering.reorder(intoPages, offsets, degrees);
+        }
+        return new OffHeapAdjacencyList(intoPages, degrees, offsets);
+    }
+
+    /**
+     * Adds the page to the list of pages and returns its address.
+     */
+    private long insertPage(ByteBuffer page) {
+        growLock.lock();
+        try {
+            int pageIndex = allocatedPages++;
+            if (pageIndex >= pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(pageIndex + 1, pages.length + (pages.length >> 1)));
+            }
+            pages[pageIndex] = page;
+            return PageUtil.capacityFor(pageIndex, PAGE_SHIFT);
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private final OffHeapAdjacencyListBuilder globalBuilder;
+
+        private ByteBuffer page;
+        private long top;
+
+        private Allocator(OffHeapAdjacencyListBuilder globalBuilder) {
+            this.globalBuilder = globalBuilder;
+        }
+
+        @Override
+        public void close() {
+            page = null;
+        }
+
+        @Override
+        public long write(byte[] targets, int length, long address) {
+            if (length > PAGE_SIZE) {
+                var oversizedPage = ByteBuffer.allocateDirect(length);
+                oversizedPage.put(targets, 0, length);
+                return globalBuilder.insertPage(oversizedPage);
+            }
+            if (page == null || page.remaining() < length) {
+                page = ByteBuffer.allocateDirect(PAGE_SIZE);
+                top = globalBuilder.insertPage(page);
+            }
+            long targetAddress = top + page.position();
+            page.put(targets, 0, length);
+            return targetAddress;
+        }
+    }
+}
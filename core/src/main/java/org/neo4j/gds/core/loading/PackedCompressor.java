@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compress.AdjacencyCompressor;
+import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.compress.LongArrayBuffer;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Compresses adjacency lists using {@link AdjacencyPacking}, i.e. the sorted
+ * and delta-encoded targets are bit-packed in fixed-size blocks.
+ */
+public final class PackedCompressor implements AdjacencyCompressor {
+
+    private final AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator;
+    private final AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators;
+    private final HugeIntArray adjacencyDegrees;
+    private final HugeLongArray adjacencyOffsets;
+    private final HugeLongArray propertyOffsets;
+    private final boolean noAggregation;
+    private final Aggregation[] aggregations;
+    private final long[] words;
+
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<byte[], ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        @SuppressWarnings("unchecked")
+        AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings.numberOfMappings()];
+        Arrays.setAll(propertyBuilders, i -> adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder());
+
+        return new Factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory.newAdjacencyListBuilder(),
+            propertyBuilders,
+            noAggregation,
+            aggregations
+        );
+    }
+
+    private PackedCompressor(
+        AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator,
+        AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators,
+        HugeIntArray adjacencyDegrees,
+        HugeLongArray adjacencyOffsets,
+        HugeLongArray propertyOffsets,
+        boolean noAggregation,
+        Aggregation[] aggregations
+    ) {
+        this.adjacencyAllocator = adjacencyAllocator;
+        this.propertiesAllocators = propertiesAllocators;
+        this.adjacencyDegrees = adjacencyDegrees;
+        this.adjacencyOffsets = adjacencyOffsets;
+        this.propertyOffsets = propertyOffsets;
+        this.noAggregation = noAggregation;
+        this.aggregations = aggregations;
+        this.words = new long[AdjacencyPacking.WORDS_PER_BLOCK];
+    }
+
+    @Override
+    public int compress(
+        long nodeId,
+        byte[] targets,
+        long[][] properties,
+        int numberOfCompressedTargets,
+        int compressedBytesSize,
+        LongArrayBuffer buffer,
+        ValueMapper mapper
+    ) {
+        AdjacencyCompression.copyFrom(buffer, targets, numberOfCompressedTargets, compressedBytesSize, mapper);
+
+        int degree = properties == null
+            ? AdjacencyCompression.applyDeltaEncoding(buffer, aggregations[0])
+            : AdjacencyCompression.applyDeltaEncoding(buffer, properties, aggregations, noAggregation);
+
+        // the packed representation is not necessarily smaller
+        // than the var-long encoded one we got as input
+        int requiredBytes = AdjacencyPacking.packedSize(buffer.buffer, buffer.length);
+        targets = AdjacencyPacking.ensureBufferSize(targets, requiredBytes);
+        AdjacencyPacking.pack(buffer, targets, words);
+
+        long address = adjacencyAllocator.write(targets, requiredBytes, -1L);
+
+        if (properties != null) {
+            copyProperties(properties, degree, nodeId);
+        }
+
+        this.adjacencyDegrees.set(nodeId, degree);
+        this.adjacencyOffsets.set(nodeId, address);
+
+        return degree;
+    }
+
+    @Override
+    public void close() {
+        adjacencyAllocator.close();
+        for (var propertiesAllocator : propertiesAllocators) {
+            if (propertiesAllocator != null) {
+                propertiesAllocator.close();
+            }
+        }
+    }
+
+    private void copyProperties(long[][] properties, int degree, long nodeId) {
+        long offset = propertiesAllocators[0].write(properties[0], degree, -1L);
+
+        for (int i = 1; i < properties.length; i++) {
+            propertiesAllocators[i].write(properties[i], degree, offset);
+        }
+
+        propertyOffsets.set(nodeId, offset);
+    }
+
+    private static final class Factory extends AbstractAdjacencyCompressorFactory<byte[], long[]> {
+
+        Factory(
+            LongSupplier nodeCountSupplier,
+            AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            boolean noAggregation,
+            Aggregation[] aggregations
+        ) {
+            super(
+                nodeCountSupplier,
+                adjacencyBuilder,
+                propertyBuilders,
+                noAggregation,
+                aggregations
+            );
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public PackedCompressor createCompressor() {
+            var propertyAllocators = new AdjacencyListBuilder.Allocator[propertyBuilders.length];
+            Arrays.setAll(
+                propertyAllocators,
+                i -> i == 0 ? propertyBuilders[i].newAllocator() : propertyBuilders[i].newPositionalAllocator()
+            );
+
+            return new PackedCompressor(
+                adjacencyBuilder.newAllocator(),
+                propertyAllocators,
+                adjacencyDegrees,
+                adjacencyOffsets,
+                propertyOffsets,
+                noAggregation,
+                aggregations
+            );
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * A bit set with constant time rank and select queries.
+ *
+ * The rank of every block of {@link #WORDS_PER_BLOCK} words is stored explicitly,
+ * so that a rank query needs at most {@link #WORDS_PER_BLOCK} popcounts.
+ * For select queries, the block containing every {@code 2^SELECT_SAMPLE_SHIFT}-th set bit is sampled,
+ * the block of the searched bit is then found by a binary search over the block ranks between two samples.
+ *
+ * The additional memory over the bits themselves is a quarter of the bit set plus one long per sample.
+ */
+final class RankSelectBitmap {
+
+    static final int WORDS_PER_BLOCK = 4;
+    private static final int BLOCK_SHIFT = 2;
+    private static final int SELECT_SAMPLE_SHIFT = 12;
+
+    private final HugeLongArray words;
+    // number of set bits before each block
+    private final HugeLongArray blockRanks;
+    // the block containing the set bit with rank `i << SELECT_SAMPLE_SHIFT`
+    private final HugeLongArray selectSamples;
+    private final long cardinality;
+    private final long size;
+
+    static MemoryEstimation memoryEstimation(long size, long cardinality) {
+        long wordCount = ceilDiv(size, Long.SIZE);
+        return MemoryEstimations
+            .builder(RankSelectBitmap.class)
+            .fixed("words", HugeLongArray.memoryEstimation(wordCount))
+            .fixed("block ranks", HugeLongArray.memoryEstimation(ceilDiv(wordCount, WORDS_PER_BLOCK)))
+            .fixed("select samples", HugeLongArray.memoryEstimation(ceilDiv(cardinality, 1L << SELECT_SAMPLE_SHIFT)))
+            .build();
+    }
+
+    /**
+     * Builds the rank and select index over the given words.
+     * The words must not be modified afterwards.
+     *
+     * @param size the number of bits, the words must be able to hold at least that many bits
+     */
+    static RankSelectBitmap of(HugeLongArray words, long size) {
+        long wordCount = ceilDiv(size, Long.SIZE);
+        long blockCount = ceilDiv(wordCount, WORDS_PER_BLOCK);
+
+        var blockRanks = HugeLongArray.newArray(blockCount);
+        long rank = 0;
+        for (long block = 0; block < blockCount; block++) {
+            blockRanks.set(block, rank);
+            long end = Math.min(wordCount, (block + 1) << BLOCK_SHIFT);
+            for (long word = block << BLOCK_SHIFT; word < end; word++) {
+                rank += Long.bitCount(words.get(word));
+            }
+        }
+        long cardinality = rank;
+
+        var selectSamples = HugeLongArray.newArray(ceilDiv(cardinality, 1L << SELECT_SAMPLE_SHIFT));
+        long nextSample = 0;
+        for (long block = 0; block < blockCount; block++) {
+            long blockEnd = block + 1 < blockCount ? blockRanks.get(block + 1) : cardinality;
+            while ((nextSample << SELECT_SAMPLE_SHIFT) < blockEnd) {
+                selectSamples.set(nextSample++, block);
+            }
+        }
+
+        return new RankSelectBitmap(words, blockRanks, selectSamples, cardinality, size);
+    }
+
+    private RankSelectBitmap(
+        HugeLongArray words,
+        HugeLongArray blockRanks,
+        HugeLongArray selectSamples,
+        long cardinality,
+        long size
+    ) {
+        this.words = words;
+        this.blockRanks = blockRanks;
+        this.selectSamples = selectSamples;
+        this.cardinality = cardinality;
+        this.size = size;
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean get(long index) {
+        return index >= 0 && index < size && (words.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of set bits before the given index if the bit at the index is set,
+     * otherwise {@link IdMap#NOT_FOUND}.
+     */
+    long rank(long index) {
+        if (index < 0 || index >= size) {
+            return IdMap.NOT_FOUND;
+        }
+        long wordIndex = index >>> 6;
+        long word = words.get(wordIndex);
+        long bit = 1L << index;
+        if ((word & bit) == 0) {
+            return IdMap.NOT_FOUND;
+        }
+        long rank = blockRanks.get(wordIndex >>> BLOCK_SHIFT);
+        for (long w = (wordIndex >>> BLOCK_SHIFT) << BLOCK_SHIFT; w < wordIndex; w++) {
+            rank += Long.bitCount(words.get(w));
+        }
+        return rank + Long.bitCount(word & (bit - 1));
+    }
+
+    /**
+     * Returns the index of the set bit with the given rank.
+     * Undefined behavior if the rank is not smaller than the cardinality.
+     */
+    long select(long rank) {
+        long sample = rank >>> SELECT_SAMPLE_SHIFT;
+        long low = selectSamples.get(sample);
+        long high = sample + 1 < selectSamples.size()
+            ? selectSamples.get(sample + 1)
+            : blockRanks.size() - 1;
+
+        // find the last block whose rank is not greater than the searched rank
+        while (low < high) {
+            long mid = (low + high + 1) >>> 1;
+            if (blockRanks.get(mid) <= rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        long remaining = rank - blockRanks.get(low);
+        long wordIndex = low << BLOCK_SHIFT;
+        while (true) {
+            long word = words.get(wordIndex);
+            int count = Long.bitCount(word);
+            if (remaining < count) {
+                return (wordIndex << 6) + selectInWord(word, (int) remaining);
+            }
+            remaining -= count;
+            wordIndex++;
+        }
+    }
+
+    private static int selectInWord(long word, int rank) {
+        for (int i = 0; i < rank; i++) {
+            word &= word - 1;
+        }
+        return Long.numberOfTrailingZeros(word);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.LabeledIdMap;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Collection;
+import java.util.OptionalLong;
+
+/**
+ * An id map for original ids that cover a dense range.
+ *
+ * The original ids are stored as a bitmap over the original id space.
+ * The mapped id of a node is the number of original ids smaller than its own original id,
+ * i.e. mapped ids follow the order of the original ids.
+ * Mapping in both directions is a rank or select query on the bitmap, see {@link RankSelectBitmap}.
+ *
+ * Compared to {@link ArrayIdMap}, which needs at least 16 bytes per node,
+ * this id map needs 1.25 bits per original id in the range, independent of the node count.
+ */
+public final class RankSelectIdMap extends LabeledIdMap {
+
+    /**
+     * The minimum ratio of node count to the size of the original id range for which this id map is used.
+     * At that density, the bitmap takes 10 bits per node.
+     */
+    public static final double MIN_DENSITY = 1.0 / 8.0;
+
+    private final RankSelectBitmap bitmap;
+    private final long highestNeoId;
+
+    public static boolean isDenseEnough(long nodeCount, long originalIdCapacity) {
+        return originalIdCapacity > 0 && (double) nodeCount / originalIdCapacity >= MIN_DENSITY;
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.setup("", dimensions -> MemoryEstimations
+            .builder(RankSelectIdMap.class)
+            .add(
+                "Bitmap of Neo4j identifiers",
+                RankSelectBitmap.memoryEstimation(dimensions.highestPossibleNodeCount(), dimensions.nodeCount())
+            )
+            .perGraphDimension(
+                "Node Label BitSets",
+                (dims, concurrency) ->
+                    MemoryRange.of(dims.estimationNodeLabelCount() * MemoryUsage.sizeOfBitset(dims.nodeCount()))
+            )
+            .build());
+    }
+
+    RankSelectIdMap(RankSelectBitmap bitmap, LabelInformation labelInformation, long highestNeoId) {
+        super(labelInformation, bitmap.cardinality());
+        this.bitmap = bitmap;
+        this.highestNeoId = highestNeoId;
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        return bitmap.rank(nodeId);
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        return bitmap.select(nodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return nodeId;
+    }
+
+    @Override
+    public IdMap rootIdMap() {
+        return this;
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return bitmap.get(nodeId);
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return OptionalLong.of(nodeCount());
+    }
+
+    @Override
+    public long highestNeoId() {
+        return highestNeoId;
+    }
+
+    @Override
+    public IdMap withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        labelInformation.validateNodeLabelFilter(nodeLabels);
+
+        if (labelInformation.isEmpty()) {
+            return this;
+        }
+
+        return ArrayIdMap.withFilteredLabels(
+            this,
+            labelInformation,
+            nodeLabels,
+            nodeCount(),
+            highestNeoId,
+            concurrency
+        );
+    }
+
+    @Override
+    public IdMap withFilteredNodes(BitSet nodes, int concurrency) {
+        return ArrayIdMap.withFilteredNodes(
+            this,
+            labelInformation,
+            nodes,
+            nodeCount(),
+            highestNeoId,
+            concurrency
+        );
+    }
+}
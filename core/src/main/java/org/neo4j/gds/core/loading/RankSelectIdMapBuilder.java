@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.construction.NodesBuilder;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public final class RankSelectIdMapBuilder implements IdMapBuilder {
+
+    private final HugeAtomicLongArray words;
+    private final long originalIdCapacity;
+    private final long nodeCapacity;
+    private final AtomicLong allocationIndex;
+
+    /**
+     * @param originalIdCapacity one more than the highest original id that can be inserted
+     * @param nodeCapacity       the maximum number of nodes
+     */
+    public static RankSelectIdMapBuilder of(long originalIdCapacity, long nodeCapacity) {
+        return new RankSelectIdMapBuilder(originalIdCapacity, nodeCapacity);
+    }
+
+    private RankSelectIdMapBuilder(long originalIdCapacity, long nodeCapacity) {
+        this.words = HugeAtomicLongArray.newArray(ceilDiv(originalIdCapacity, Long.SIZE));
+        this.originalIdCapacity = originalIdCapacity;
+        this.nodeCapacity = nodeCapacity;
+        this.allocationIndex = new AtomicLong();
+    }
+
+    @Override
+    public IdMapAllocator allocate(int batchLength) {
+        long startIndex = allocationIndex.getAndAccumulate(batchLength, this::upperAllocation);
+        return new Allocator(startIndex, (int) (upperAllocation(startIndex, batchLength) - startIndex));
+    }
+
+    private long upperAllocation(long lower, long nodes) {
+        return Math.min(nodeCapacity, lower + nodes);
+    }
+
+    @Override
+    public IdMap build(
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        int concurrency
+    ) {
+        var bits = HugeLongArray.newArray(words.size());
+        for (long i = 0; i < words.size(); i++) {
+            bits.set(i, words.get(i));
+        }
+        var bitmap = RankSelectBitmap.of(bits, originalIdCapacity);
+
+        if (highestNodeId == NodesBuilder.UNKNOWN_MAX_ID) {
+            highestNodeId = bitmap.cardinality() == 0
+                ? NodesBuilder.UNKNOWN_MAX_ID
+                : bitmap.select(bitmap.cardinality() - 1);
+        }
+
+        var labelInformation = labelInformationBuilder.build(bitmap.cardinality(), bitmap::rank);
+        return new RankSelectIdMap(bitmap, labelInformation, highestNodeId);
+    }
+
+    private void set(long originalId) {
+        if (originalId < 0 || originalId >= originalIdCapacity) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node id %d is outside of the expected range [0, %d).",
+                originalId,
+                originalIdCapacity
+            ));
+        }
+        long wordIndex = originalId >>> 6;
+        long bit = 1L << originalId;
+        long word = words.get(wordIndex);
+        while ((word & bit) == 0) {
+            long current = words.compareAndExchange(wordIndex, word, word | bit);
+            if (current == word) {
+                return;
+            }
+            word = current;
+        }
+    }
+
+    private final class Allocator implements IdMapAllocator {
+        private final long startId;
+        private final int allocatedSize;
+
+        private Allocator(long startId, int allocatedSize) {
+            this.startId = startId;
+            this.allocatedSize = allocatedSize;
+        }
+
+        @Override
+        public long startId() {
+            return startId;
+        }
+
+        @Override
+        public int allocatedSize() {
+            return allocatedSize;
+        }
+
+        @Override
+        public void insert(long[] nodeIds) {
+            for (int i = 0; i < allocatedSize; i++) {
+                set(nodeIds[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Node property values of a graph store that has been updated with a {@link GraphStoreDelta}.
+ * Existing nodes read their value from the original property values, which are shared with the original graph store.
+ * Added nodes have the default value of the property.
+ *
+ * Updating a graph store again replaces the id mapping instead of wrapping these values another time.
+ */
+final class RemappedNodePropertyValues implements NodePropertyValues {
+
+    private final NodePropertyValues properties;
+    private final DefaultValue defaultValue;
+    private final @Nullable HugeLongArray newToOldNodeIds;
+    private final long mappedNodeCount;
+    private final long nodeCount;
+
+    /**
+     * @param newToOldNodeIds maps node ids to ids of the given properties, negative values denote added nodes.
+     *                        If {@code null}, node ids below {@code mappedNodeCount} are mapped to themselves.
+     */
+    static NodePropertyValues of(
+        NodePropertyValues properties,
+        DefaultValue defaultValue,
+        @Nullable HugeLongArray newToOldNodeIds,
+        long mappedNodeCount,
+        long nodeCount
+    ) {
+        if (!(properties instanceof RemappedNodePropertyValues)) {
+            return new RemappedNodePropertyValues(properties, defaultValue, newToOldNodeIds, mappedNodeCount, nodeCount);
+        }
+
+        var remapped = (RemappedNodePropertyValues) properties;
+        if (newToOldNodeIds == null) {
+            return new RemappedNodePropertyValues(
+                remapped.properties,
+                defaultValue,
+                remapped.newToOldNodeIds,
+                Math.min(mappedNodeCount, remapped.mappedNodeCount),
+                nodeCount
+            );
+        }
+
+        var composedNodeIds = HugeLongArray.newArray(nodeCount);
+        composedNodeIds.setAll(nodeId -> {
+            long intermediateNodeId = newToOldNodeIds.get(nodeId);
+            return intermediateNodeId < 0 ? -1 : remapped.translateId(intermediateNodeId);
+        });
+        return new RemappedNodePropertyValues(remapped.properties, defaultValue, composedNodeIds, nodeCount, nodeCount);
+    }
+
+    private RemappedNodePropertyValues(
+        NodePropertyValues properties,
+        DefaultValue defaultValue,
+        @Nullable HugeLongArray newToOldNodeIds,
+        long mappedNodeCount,
+        long nodeCount
+    ) {
+        this.properties = properties;
+        this.defaultValue = defaultValue;
+        this.newToOldNodeIds = newToOldNodeIds;
+        this.mappedNodeCount = mappedNodeCount;
+        this.nodeCount = nodeCount;
+    }
+
+    private long translateId(long nodeId) {
+        if (nodeId >= mappedNodeCount) {
+            return -1;
+        }
+        return newToOldNodeIds == null ? nodeId : newToOldNodeIds.get(nodeId);
+    }
+
+    @Override
+    public double doubleValue(long nodeId) {
+        long translatedId = translateId(nodeId);
+        return translatedId < 0 ? defaultValue.doubleValue() : properties.doubleValue(translatedId);
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        long translatedId = translateId(nodeId);
+        return translatedId < 0 ? defaultValue.longValue() : properties.longValue(translatedId);
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        long translatedId = translateId(nodeId);
+        return translatedId < 0 ? defaultValue.floatArrayValue() : properties.floatArrayValue(translatedId);
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        long translatedId = translateId(nodeId);
+        return translatedId < 0 ? defaultValue.doubleArrayValue() : properties.doubleArrayValue(translatedId);
+    }
+
+    @Override
+    public long[] longArrayValue(long nodeId) {
+        long translatedId = translateId(nodeId);
+        return translatedId < 0 ? defaultValue.longArrayValue() : properties.longArrayValue(translatedId);
+    }
+
+    @Override
+    public @Nullable Object getObject(long nodeId) {
+        long translatedId = translateId(nodeId);
+        return translatedId < 0 ? defaultValue.getObject() : properties.getObject(translatedId);
+    }
+
+    @Override
+    public Value value(long nodeId) {
+        long translatedId = translateId(nodeId);
+        if (translatedId >= 0) {
+            return properties.value(translatedId);
+        }
+        var value = defaultValue.getObject();
+        return value == null ? Values.NO_VALUE : Values.of(value);
+    }
+
+    @Override
+    public ValueType valueType() {
+        return properties.valueType();
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        if (valueType() == ValueType.LONG) {
+            long max = Long.MIN_VALUE;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                max = Math.max(max, longValue(nodeId));
+            }
+            return max == Long.MIN_VALUE ? OptionalLong.empty() : OptionalLong.of(max);
+        }
+        return NodePropertyValues.super.getMaxLongPropertyValue();
+    }
+
+    @Override
+    public OptionalDouble getMaxDoublePropertyValue() {
+        if (valueType() == ValueType.DOUBLE) {
+            double max = Double.NEGATIVE_INFINITY;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                max = Math.max(max, doubleValue(nodeId));
+            }
+            return max == Double.NEGATIVE_INFINITY ? OptionalDouble.empty() : OptionalDouble.of(max);
+        }
+        return NodePropertyValues.super.getMaxDoublePropertyValue();
+    }
+
+    @Override
+    public long release() {
+        // the original values are still in use by the original graph store
+        return 0;
+    }
+
+    @Override
+    public long size() {
+        return nodeCount;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.GraphStoreWrapper;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Tracks the catalog entries of all users that refer to the data of a graph store,
+ * either directly or through a {@link GraphStoreWrapper} such as a graph view.
+ *
+ * A graph store is released when the last catalog entry that refers to it is removed,
+ * so dropping a graph that views were projected from defers its release to the drop of the last view.
+ */
+final class SharedGraphStores {
+
+    private static final Map<GraphStore, References> REFERENCES = new IdentityHashMap<>();
+
+    private SharedGraphStores() {}
+
+    /**
+     * Called when the given graph store is added to the catalog.
+     */
+    static synchronized void added(GraphStore graphStore) {
+        REFERENCES.computeIfAbsent(dataOwner(graphStore), ignored -> new References()).count++;
+    }
+
+    /**
+     * Called when the given graph store is removed from the catalog.
+     * Releases the data of the wrapper right away and the shared data if it is no longer referenced.
+     */
+    static void removed(GraphStore graphStore) {
+        if (graphStore instanceof GraphStoreWrapper) {
+            ((GraphStoreWrapper) graphStore).releaseWrapper();
+        }
+        var dataOwner = dataOwner(graphStore);
+        synchronized (SharedGraphStores.class) {
+            var references = REFERENCES.get(dataOwner);
+            if (references != null && --references.count > 0) {
+                return;
+            }
+            REFERENCES.remove(dataOwner);
+        }
+        dataOwner.canRelease(true);
+        dataOwner.release();
+    }
+
+    /**
+     * Called when the given graph store is removed from the catalog without releasing its data, e.g. when its database is dropped.
+     */
+    static synchronized void forgotten(GraphStore graphStore) {
+        var dataOwner = dataOwner(graphStore);
+        var references = REFERENCES.get(dataOwner);
+        if (references == null || --references.count == 0) {
+            REFERENCES.remove(dataOwner);
+        }
+    }
+
+    static synchronized void clear() {
+        REFERENCES.clear();
+    }
+
+    private static GraphStore dataOwner(GraphStore graphStore) {
+        return graphStore instanceof GraphStoreWrapper
+            ? ((GraphStoreWrapper) graphStore).innerGraphStore()
+            : graphStore;
+    }
+
+    private static final class References {
+        private int count;
+    }
+}
@@ -81,8 +81,21 @@ public final class Intersections {
     }
 
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
-        double result = 0;
-        for (int i = 0; i < len; i++) {
+        int unrolledLen = unrolledLength(len);
+        double result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int i = 0;
+        for (; i < unrolledLen; i += 4) {
+            double delta0 = vector1[i] - vector2[i];
+            double delta1 = vector1[i + 1] - vector2[i + 1];
+            double delta2 = vector1[i + 2] - vector2[i + 2];
+            double delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        double result = (result0 + result1) + (result2 + result3);
+        for (; i < len; i++) {
             double delta = vector1[i] - vector2[i];
             result += delta * delta;
         }
@@ -90,8 +103,21 @@ public final class Intersections {
     }
 
     public static float sumSquareDelta(float[] vector1, float[] vector2, int len) {
-        float result = 0;
-        for (int i = 0; i < len; i++) {
+        int unrolledLen = unrolledLength(len);
+        float result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int i = 0;
+        for (; i < unrolledLen; i += 4) {
+            float delta0 = vector1[i] - vector2[i];
+            float delta1 = vector1[i + 1] - vector2[i + 1];
+            float delta2 = vector1[i + 2] - vector2[i + 2];
+            float delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        float result = (result0 + result1) + (result2 + result3);
+        for (; i < len; i++) {
             float delta = vector1[i] - vector2[i];
             result += delta * delta;
         }
@@ -138,15 +164,33 @@ public final class Intersections {
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
-        double dotProduct = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
+        int unrolledLen = unrolledLength(len);
+        double dot0 = 0, dot1 = 0, dot2 = 0, dot3 = 0;
+        double x0 = 0, x1 = 0, x2 = 0, x3 = 0;
+        double y0 = 0, y1 = 0, y2 = 0, y3 = 0;
+        int i = 0;
+        for (; i < unrolledLen; i += 4) {
+            double a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            double b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        double dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        double xLength = (x0 + x1) + (x2 + x3);
+        double yLength = (y0 + y1) + (y2 + y3);
+        for (; i < len; i++) {
             double weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
             double weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
             dotProduct += weight1 * weight2;
             xLength += weight1 * weight1;
             yLength += weight2 * weight2;
@@ -156,15 +200,33 @@ public final class Intersections {
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
-        float dotProduct = 0F;
-        float xLength = 0F;
-        float yLength = 0F;
-        for (int i = 0; i < len; i++) {
+        int unrolledLen = unrolledLength(len);
+        float dot0 = 0, dot1 = 0, dot2 = 0, dot3 = 0;
+        float x0 = 0, x1 = 0, x2 = 0, x3 = 0;
+        float y0 = 0, y1 = 0, y2 = 0, y3 = 0;
+        int i = 0;
+        for (; i < unrolledLen; i += 4) {
+            float a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            float b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        float dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        float xLength = (x0 + x1) + (x2 + x3);
+        float yLength = (y0 + y1) + (y2 + y3);
+        for (; i < len; i++) {
             float weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
             float weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
             dotProduct += weight1 * weight2;
             xLength += weight1 * weight1;
             yLength += weight2 * weight2;
@@ -172,4 +234,13 @@ public final class Intersections {
 
         return (float) (dotProduct / Math.sqrt(xLength * yLength));
     }
+
+    // The dense vector kernels here and in the KNN similarity metrics are unrolled by four
+    // with independent accumulators.
+    // This breaks the loop-carried dependency on a single sum, so the JIT can pipeline
+    // the multiply-adds. Summation order differs from a plain loop, so results may
+    // differ in the last bits.
+    private static int unrolledLength(int len) {
+        return len & ~3;
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The layout of the node and relationship data files of a file export.
+ * Header, schema and meta data files are always written as plain CSV.
+ */
+public enum FileExportFormat {
+
+    /**
+     * Plain text CSV, one line per element.
+     */
+    CSV(".csv"),
+
+    /**
+     * Gzip compressed CSV.
+     */
+    CSV_GZIP(".csv.gz"),
+
+    /**
+     * Binary blocks of rows, stored column by column.
+     * Id columns are delta and VarLong encoded, primitive properties are stored with a fixed width.
+     */
+    COLUMNAR(".bin");
+
+    private static final List<String> VALUES = Arrays
+        .stream(FileExportFormat.values())
+        .map(FileExportFormat::name)
+        .collect(Collectors.toList());
+
+    private final String dataFileSuffix;
+
+    FileExportFormat(String dataFileSuffix) {
+        this.dataFileSuffix = dataFileSuffix;
+    }
+
+    public String dataFileSuffix() {
+        return dataFileSuffix;
+    }
+
+    public static FileExportFormat ofDataFile(Path dataFile) {
+        var fileName = dataFile.getFileName().toString();
+        // check the longest suffix first, `.csv.gz` must not be taken for `.csv`
+        if (fileName.endsWith(CSV_GZIP.dataFileSuffix)) {
+            return CSV_GZIP;
+        }
+        if (fileName.endsWith(COLUMNAR.dataFileSuffix)) {
+            return COLUMNAR;
+        }
+        return CSV;
+    }
+
+    public static FileExportFormat parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return FileExportFormat.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "File export format `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof FileExportFormat) {
+            return (FileExportFormat) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected FileExportFormat or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(FileExportFormat format) {
+        return format.toString();
+    }
+}
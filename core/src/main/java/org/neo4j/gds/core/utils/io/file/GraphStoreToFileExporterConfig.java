@@ -39,6 +39,13 @@ public interface GraphStoreToFileExporterConfig extends GraphStoreExporterBaseCo
 
     String exportName();
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.core.utils.io.file.FileExportFormat#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.utils.io.file.FileExportFormat#toString")
+    default FileExportFormat format() {
+        return FileExportFormat.CSV;
+    }
+
     static GraphStoreToFileExporterConfig of(String username, CypherMapWrapper config) {
         return new GraphStoreToFileExporterConfigImpl(username, config);
     }
@@ -119,5 +119,7 @@ final class GcListener implements NotificationListener, NotificationFilter {
 
         log.debug("Free pool memory after GC: %d", freeAfterGc);
         this.freeMemory.set(freeAfterGc);
+        // memory that was retained past its procedure is now part of the reported free memory
+        MemoryReservationLedger.instance().releaseRetained();
     }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.mem;
+
+import org.jetbrains.annotations.TestOnly;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide bookkeeping of the memory that running procedures are estimated to use.
+ *
+ * The free heap reported by {@link GcListenerExtension} only reflects what jobs have
+ * already allocated, so procedures that start at the same time would all see the same
+ * free memory and pass the heap control together.
+ * Every admitted procedure therefore reserves its estimated bytes here until it completes,
+ * and new procedures are only admitted if they fit into the free memory minus all outstanding reservations.
+ *
+ * Memory that outlives a procedure, such as a projected graph, only shows up in the free memory after the next GC.
+ * Such reservations are handed over with {@link Reservation#releaseAfterNextGc()} and stay reserved
+ * until {@link GcListenerExtension} reports a new free memory value.
+ */
+public final class MemoryReservationLedger {
+
+    private static final MemoryReservationLedger INSTANCE = new MemoryReservationLedger();
+
+    // The free memory is only updated after a GC, which does not notify waiting reservations.
+    private static final long MAX_WAIT_SLICE_MILLIS = 100;
+
+    public static MemoryReservationLedger instance() {
+        return INSTANCE;
+    }
+
+    private long reservedBytes;
+    private int reservationCount;
+    private long retainedBytes;
+    private int retainedCount;
+
+    @TestOnly
+    public MemoryReservationLedger() {
+    }
+
+    public synchronized long reservedBytes() {
+        return reservedBytes;
+    }
+
+    public synchronized int reservationCount() {
+        return reservationCount;
+    }
+
+    /**
+     * Reserves the given amount of bytes if they fit into the free memory minus all outstanding reservations.
+     * If they do not fit, waits up to {@code timeout} for other reservations to be released.
+     * A request that does not fit while nothing else is reserved is rejected immediately,
+     * as waiting would not make any memory available.
+     *
+     * @return the reservation, or an empty optional if the bytes could not be reserved in time
+     */
+    public Optional<Reservation> tryReserve(long bytes, LongSupplier freeMemory, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (bytes > freeMemory.getAsLong() - reservedBytes) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (reservationCount == 0 || remainingNanos <= 0) {
+                    return Optional.empty();
+                }
+                try {
+                    wait(Math.max(1, Math.min(MAX_WAIT_SLICE_MILLIS, TimeUnit.NANOSECONDS.toMillis(remainingNanos))));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Optional.empty();
+                }
+            }
+            reservedBytes += bytes;
+            reservationCount++;
+            return Optional.of(new Reservation(this, bytes));
+        }
+    }
+
+    /**
+     * Reserves the given amount of bytes without checking the free memory.
+     * Used for procedures that bypass the heap control, so that other procedures still account for them.
+     */
+    public synchronized Reservation forceReserve(long bytes) {
+        reservedBytes += bytes;
+        reservationCount++;
+        return new Reservation(this, bytes);
+    }
+
+    /**
+     * Releases all reservations that were waiting for the free memory to be updated.
+     * Called whenever a GC has reported a new free memory value.
+     */
+    public synchronized void releaseRetained() {
+        if (retainedCount == 0) {
+            return;
+        }
+        reservedBytes -= retainedBytes;
+        reservationCount -= retainedCount;
+        retainedBytes = 0;
+        retainedCount = 0;
+        notifyAll();
+    }
+
+    private synchronized void release(long bytes) {
+        reservedBytes -= bytes;
+        reservationCount--;
+        notifyAll();
+    }
+
+    private synchronized void retain(long bytes) {
+        retainedBytes += bytes;
+        retainedCount++;
+    }
+
+    public static final class Reservation implements AutoCloseable {
+
+        private final MemoryReservationLedger ledger;
+        private final long bytes;
+        private final AtomicBoolean released;
+
+        private Reservation(MemoryReservationLedger ledger, long bytes) {
+            this.ledger = ledger;
+            this.bytes = bytes;
+            this.released = new AtomicBoolean(false);
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                ledger.release(bytes);
+            }
+        }
+
+        /**
+         * Keeps the bytes reserved until the free memory is next updated after a GC,
+         * for memory that is still in use once the procedure completed.
+         */
+        public void releaseAfterNextGc() {
+            if (released.compareAndSet(false, true)) {
+                ledger.retain(bytes);
+            }
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class NativeNodePropertiesExporterBuilder extends NodePropertyExporterBui
             terminationFlag,
             progressTracker,
             writeConcurrency,
+            batchSize,
             executorService
         );
     }
@@ -19,11 +19,13 @@
  */
 package org.neo4j.gds.core.write;
 
+import com.carrotsearch.hppc.sorting.IndirectSort;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
@@ -33,12 +35,15 @@ import org.neo4j.values.storable.Value;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class NativeNodePropertyExporter extends StatementApi implements NodePropertyExporter {
 
     protected final TerminationFlag terminationFlag;
@@ -48,6 +53,7 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
     protected final long nodeCount;
     protected final LongUnaryOperator toOriginalId;
     protected final LongAdder propertiesWritten;
+    protected final Optional<Integer> batchSize;
 
     public static NodePropertyExporterBuilder<NativeNodePropertyExporter> builder(TransactionContext transactionContext, IdMap idMap, TerminationFlag terminationFlag) {
         return new NativeNodePropertiesExporterBuilder(transactionContext)
@@ -69,10 +75,6 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         }
     }
 
-    public interface WriteConsumer {
-        void accept(Write ops, long value) throws Exception;
-    }
-
     protected NativeNodePropertyExporter(
         TransactionContext tx,
         long nodeCount,
@@ -80,6 +82,7 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
         int concurrency,
+        Optional<Integer> batchSize,
         ExecutorService executorService
     ) {
         super(tx);
@@ -88,6 +91,7 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
         this.concurrency = concurrency;
+        this.batchSize = batchSize;
         this.executorService = executorService;
         this.propertiesWritten = new LongAdder();
     }
@@ -109,12 +113,8 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
             .collect(Collectors.toList());
 
         progressTracker.beginSubTask(nodeCount);
-        try {
-            if (ParallelUtil.canRunInParallel(executorService)) {
-                writeParallel(resolvedNodeProperties);
-            } else {
-                writeSequential(resolvedNodeProperties);
-            }
+        try (var ignored = ProgressTimer.start(millis -> logThroughput(propertiesWritten(), millis))) {
+            writeBatches(resolvedNodeProperties);
         } finally {
             progressTracker.endSubTask();
         }
@@ -125,78 +125,95 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         return propertiesWritten.longValue();
     }
 
-    private void writeSequential(Iterable<ResolvedNodeProperty> nodeProperties) {
-        writeSequential((ops, nodeId) -> doWrite(nodeProperties, ops, nodeId));
-    }
+    private void writeBatches(List<ResolvedNodeProperty> nodeProperties) {
+        var parallel = ParallelUtil.canRunInParallel(executorService);
+        // Without an explicit batch size, sequential writes commit every MAX_BATCH_SIZE nodes,
+        // which bounds both the transaction state and the values buffered per batch.
+        long batchSize = this.batchSize
+            .map(Integer::longValue)
+            .orElseGet(() -> parallel
+                ? ParallelUtil.adjustedBatchSize(nodeCount, concurrency, MIN_BATCH_SIZE, MAX_BATCH_SIZE)
+                : MAX_BATCH_SIZE);
+
+        Collection<Runnable> runnables = LazyBatchCollection.of(
+            nodeCount,
+            Math.max(1, batchSize),
+            (start, length) -> () -> writeBatch(nodeProperties, start, Math.toIntExact(length))
+        );
 
-    private void writeParallel(Iterable<ResolvedNodeProperty> nodeProperties) {
-        writeParallel((ops, offset) -> doWrite(nodeProperties, ops, offset));
+        if (parallel) {
+            ParallelUtil.runWithConcurrency(
+                concurrency,
+                runnables,
+                Integer.MAX_VALUE,
+                10L,
+                TimeUnit.MICROSECONDS,
+                terminationFlag,
+                executorService
+            );
+        } else {
+            runnables.forEach(Runnable::run);
+        }
     }
 
-    private void doWrite(Iterable<ResolvedNodeProperty> nodeProperties, Write ops, long nodeId) throws Exception {
-        for (ResolvedNodeProperty nodeProperty : nodeProperties) {
-            int propertyId = nodeProperty.propertyToken();
-            final Value prop = nodeProperty.properties().value(nodeId);
-            if (prop != null) {
-                ops.nodeSetProperty(
-                    toOriginalId.applyAsLong(nodeId),
-                    propertyId,
-                    prop
-                );
-                propertiesWritten.increment();
+    /**
+     * Values are extracted and nodes are sorted by their original id before the transaction is opened.
+     * The transaction itself only performs kernel writes, in ascending id order for page cache locality.
+     */
+    private void writeBatch(List<ResolvedNodeProperty> nodeProperties, long start, int length) {
+        terminationFlag.assertRunning();
+
+        var originalIds = new long[length];
+        var sorted = true;
+        for (int i = 0; i < length; i++) {
+            originalIds[i] = toOriginalId.applyAsLong(start + i);
+            sorted = sorted && (i == 0 || originalIds[i - 1] <= originalIds[i]);
+        }
+        int[] order = sorted
+            ? null
+            : IndirectSort.mergesort(0, length, (a, b) -> Long.compare(originalIds[a], originalIds[b]));
+
+        var propertyCount = nodeProperties.size();
+        var propertyTokens = new int[propertyCount];
+        var values = new Value[propertyCount][length];
+        for (int p = 0; p < propertyCount; p++) {
+            var nodeProperty = nodeProperties.get(p);
+            var propertyValues = nodeProperty.properties();
+            propertyTokens[p] = nodeProperty.propertyToken();
+            for (int i = 0; i < length; i++) {
+                values[p][i] = propertyValues.value(start + i);
             }
         }
-    }
 
-    private void writeSequential(WriteConsumer writer) {
         acceptInTransaction(stmt -> {
             terminationFlag.assertRunning();
-            long progress = 0L;
+            long written = 0L;
             Write ops = stmt.dataWrite();
-            for (long i = 0L; i < nodeCount; i++) {
-                writer.accept(ops, i);
+            for (int k = 0; k < length; k++) {
+                int i = order == null ? k : order[k];
+                for (int p = 0; p < propertyCount; p++) {
+                    Value value = values[p][i];
+                    if (value != null) {
+                        ops.nodeSetProperty(originalIds[i], propertyTokens[p], value);
+                        written++;
+                    }
+                }
                 progressTracker.logProgress();
-                if (++progress % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+
+                if (k % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
                     terminationFlag.assertRunning();
                 }
             }
+            propertiesWritten.add(written);
         });
     }
 
-    private void writeParallel(WriteConsumer writer) {
-        final long batchSize = ParallelUtil.adjustedBatchSize(
-            nodeCount,
-            concurrency,
-            MIN_BATCH_SIZE,
-            MAX_BATCH_SIZE
-        );
-        final Collection<Runnable> runnables = LazyBatchCollection.of(
-            nodeCount,
-            batchSize,
-            (start, len) -> () -> {
-                acceptInTransaction(stmt -> {
-                    terminationFlag.assertRunning();
-                    long end = start + len;
-                    Write ops = stmt.dataWrite();
-                    for (long currentNode = start; currentNode < end; currentNode++) {
-                        writer.accept(ops, currentNode);
-                        progressTracker.logProgress();
-
-                        if ((currentNode - start) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                            terminationFlag.assertRunning();
-                        }
-                    }
-                });
-            }
-        );
-        ParallelUtil.runWithConcurrency(
-            concurrency,
-            runnables,
-            Integer.MAX_VALUE,
-            10L,
-            TimeUnit.MICROSECONDS,
-            terminationFlag,
-            executorService
-        );
+    private void logThroughput(long written, long millis) {
+        progressTracker.logDebug(formatWithLocale(
+            "Wrote %d properties in %d ms (%d properties/s)",
+            written,
+            millis,
+            millis == 0 ? written * 1000 : written * 1000 / millis
+        ));
     }
 }
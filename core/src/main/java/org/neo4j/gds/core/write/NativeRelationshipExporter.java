@@ -49,6 +49,7 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
     private final ExecutorService executorService;
+    private final int batchSize;
 
     public static RelationshipExporterBuilder<NativeRelationshipExporter> builder(
         TransactionContext transactionContext,
@@ -81,7 +82,8 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         LongUnaryOperator toOriginalId,
         RelationshipPropertyTranslator propertyTranslator,
         TerminationFlag terminationFlag,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        int batchSize
     ) {
         super(transactionContext);
         this.graph = graph;
@@ -90,6 +92,7 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
         this.executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -117,11 +120,10 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     }
 
     private void write(int relationshipTypeToken, int propertyKeyToken, @Nullable RelationshipWithPropertyConsumer afterWriteConsumer) {
-        // We use MIN_BATCH_SIZE since writing relationships
-        // is performed batch-wise, but single-threaded.
+        // Writing relationships is performed batch-wise, but single-threaded.
         var tasks = PartitionUtils.degreePartitionWithBatchSize(
             graph,
-            NativeNodePropertyExporter.MIN_BATCH_SIZE,
+            batchSize,
             partition -> createBatchRunnable(
                 relationshipTypeToken,
                 propertyKeyToken,
@@ -39,7 +39,8 @@ public final class NativeRelationshipExporterBuilder extends RelationshipExporte
             toOriginalId,
             propertyTranslator,
             terminationFlag,
-            progressTracker
+            progressTracker,
+            batchSize
         );
     }
 }
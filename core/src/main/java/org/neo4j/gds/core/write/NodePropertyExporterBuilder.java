@@ -25,6 +25,7 @@ import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 
@@ -36,6 +37,7 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
     protected ExecutorService executorService;
     protected int writeConcurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
+    protected Optional<Integer> batchSize = Optional.empty();
 
     public abstract T build();
 
@@ -71,4 +73,13 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
         return this;
     }
 
+    /**
+     * Set the number of nodes that are written per transaction.
+     * By default, the batch size is derived from the node count and the write concurrency.
+     */
+    public NodePropertyExporterBuilder<T> withBatchSize(int batchSize) {
+        this.batchSize = Optional.of(batchSize);
+        return this;
+    }
+
 }
@@ -35,6 +35,7 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
     protected Graph graph;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected RelationshipPropertyTranslator propertyTranslator = Values::doubleValue;
+    protected int batchSize = (int) NativeNodePropertyExporter.MIN_BATCH_SIZE;
 
     public abstract T build();
 
@@ -58,6 +59,14 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
         return this;
     }
 
+    /**
+     * Set the number of relationships that are written per transaction.
+     */
+    public RelationshipExporterBuilder<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     /**
      * Set the {@link ProgressTracker} to use for logging progress during export.
      *
@@ -26,7 +26,10 @@ import org.neo4j.configuration.SettingsDeclaration;
 import org.neo4j.graphdb.config.Setting;
 
 import static org.neo4j.configuration.SettingImpl.newBuilder;
+import java.time.Duration;
+
 import static org.neo4j.configuration.SettingValueParsers.BOOL;
+import static org.neo4j.configuration.SettingValueParsers.DURATION;
 
 @ServiceProvider
 public class MemoryEstimationSettings implements SettingsDeclaration {
@@ -38,4 +41,12 @@ public class MemoryEstimationSettings implements SettingsDeclaration {
         BOOL,
         false
     ).build();
+
+    @Description("Maximum time a procedure waits for memory reserved by other running procedures to be released before it is blocked.")
+    @DocumentedDefaultValue("0s")
+    public static final Setting<Duration> memory_reservation_timeout = newBuilder(
+        "gds.memory_reservation_timeout",
+        DURATION,
+        Duration.ZERO
+    ).build();
 }
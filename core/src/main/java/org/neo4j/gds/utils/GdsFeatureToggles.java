@@ -32,7 +32,10 @@ public enum GdsFeatureToggles {
     USE_PARALLEL_PROPERTY_VALUE_INDEX(false),
     USE_BIT_ID_MAP(true),
     USE_SHARDED_ID_MAP(false),
+    USE_RANK_SELECT_ID_MAP(false),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
+    USE_PACKED_ADJACENCY_LIST(false),
+    USE_OFF_HEAP_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false);
 
     public boolean isEnabled() {
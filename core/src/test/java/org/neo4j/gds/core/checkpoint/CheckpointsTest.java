@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.checkpoint;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class CheckpointsTest {
+
+    @TempDir
+    Path location;
+
+    @Test
+    void shouldRestoreSavedState() {
+        var checkpoints = Checkpoints.of(location, "alice", "job", 42L);
+        var array = HugeLongArray.of(4, 2, 1337);
+
+        checkpoints.save(output -> {
+            output.writeInt(7);
+            Checkpoints.writeLongArray(output, array);
+        });
+
+        var restored = checkpoints.restore(input -> {
+            assertThat(input.readInt()).isEqualTo(7);
+            return Checkpoints.readLongArray(input);
+        });
+
+        assertThat(restored).hasValueSatisfying(value -> assertThat(value.toArray()).containsExactly(4, 2, 1337));
+    }
+
+    @Test
+    void shouldIgnoreMissingCheckpoint() {
+        assertThat(Checkpoints.of(location, "alice", "job", 42L).restore(input -> 1)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreCheckpointOfDifferentRun() {
+        Checkpoints.of(location, "alice", "job", 42L).save(output -> output.writeInt(1));
+
+        assertThat(Checkpoints.of(location, "alice", "job", 43L).restore(input -> 1)).isEmpty();
+        assertThat(Checkpoints.of(location, "bob", "job", 42L).restore(input -> 1)).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteCheckpoint() {
+        var checkpoints = Checkpoints.of(location, "alice", "job", 42L);
+        checkpoints.save(output -> output.writeInt(1));
+
+        checkpoints.delete();
+
+        assertThat(checkpoints.restore(input -> 1)).isEmpty();
+    }
+
+    @Test
+    void disabledCheckpointsDoNothing() {
+        Checkpoints.DISABLED.save(output -> output.writeInt(1));
+
+        assertThat(Checkpoints.DISABLED.enabled()).isFalse();
+        assertThat(Checkpoints.DISABLED.restore(input -> 1)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"../job", "a/b", ".hidden", ""})
+    void shouldRejectInvalidCheckpointIds(String checkpointId) {
+        assertThatThrownBy(() -> Checkpoints.of(location, "alice", checkpointId, 42L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("checkpointId");
+    }
+
+    @Test
+    void fingerprintShouldIgnoreExecutionSettings() {
+        var graph = fromGdl("(a)-->(b)");
+
+        var fingerprint = Checkpoints.fingerprint(Map.of("maxLevels", 10, "concurrency", 4), graph);
+
+        assertThat(Checkpoints.fingerprint(Map.of("maxLevels", 10, "concurrency", 1), graph)).isEqualTo(fingerprint);
+        assertThat(Checkpoints.fingerprint(Map.of("maxLevels", 5, "concurrency", 4), graph)).isNotEqualTo(fingerprint);
+        assertThat(Checkpoints.fingerprint(Map.of("maxLevels", 10, "concurrency", 4), fromGdl("(a)-->(b), (c)")))
+            .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprintShouldIdentifyTheGraphContent() {
+        var configuration = Map.<String, Object>of("maxLevels", 10);
+        var fingerprint = Checkpoints.fingerprint(configuration, fromGdl("(a)-->(b), (c)"));
+
+        assertThat(Checkpoints.fingerprint(configuration, fromGdl("(a)-->(b), (c)"))).isEqualTo(fingerprint);
+        // same node and relationship count, different structure
+        assertThat(Checkpoints.fingerprint(configuration, fromGdl("(a), (b)-->(c)"))).isNotEqualTo(fingerprint);
+        assertThat(Checkpoints.fingerprint(configuration, fromGdl("(a)-[{w: 1.0}]->(b), (c)")))
+            .isNotEqualTo(Checkpoints.fingerprint(configuration, fromGdl("(a)-[{w: 2.0}]->(b), (c)")));
+    }
+}
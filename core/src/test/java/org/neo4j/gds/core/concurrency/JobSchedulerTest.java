@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.graphdb.TransactionTerminatedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobSchedulerTest {
+
+    @Test
+    void shouldAdmitJobsWithinBudget() throws Exception {
+        var scheduler = new JobScheduler(8);
+
+        var first = Job.start(scheduler, "alice", 4, JobPriority.NORMAL);
+        var second = Job.start(scheduler, "bob", 2, JobPriority.NORMAL);
+
+        assertThat(first.awaitAdmission()).isEqualTo(4);
+        assertThat(second.awaitAdmission()).isEqualTo(2);
+        assertThat(scheduler.runningCores()).isEqualTo(6);
+
+        first.finish();
+        assertThat(scheduler.runningCores()).isEqualTo(2);
+        second.finish();
+        assertThat(scheduler.runningCores()).isZero();
+    }
+
+    @Test
+    void shouldCapCoresAtBudget() {
+        var scheduler = new JobScheduler(8);
+
+        try (var high = acquire(scheduler, "alice", 64, JobPriority.HIGH)) {
+            assertThat(high.cores()).isEqualTo(8);
+        }
+        try (var normal = acquire(scheduler, "alice", 64, JobPriority.NORMAL)) {
+            // a quarter of the budget is held back for high priority jobs
+            assertThat(normal.cores()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    void shouldLetHighPriorityJobsRunNextToBatchJobs() throws Exception {
+        var scheduler = new JobScheduler(8);
+
+        var batch = Job.start(scheduler, "batch", 64, JobPriority.NORMAL);
+        assertThat(batch.awaitAdmission()).isEqualTo(6);
+
+        var otherBatch = Job.start(scheduler, "bob", 1, JobPriority.NORMAL);
+        awaitQueueDepth(scheduler, 1);
+
+        var interactive = Job.start(scheduler, "alice", 2, JobPriority.HIGH);
+        assertThat(interactive.awaitAdmission()).isEqualTo(2);
+        interactive.finish();
+
+        assertThat(otherBatch.isAdmitted()).isFalse();
+        batch.finish();
+        assertThat(otherBatch.awaitAdmission()).isEqualTo(1);
+        otherBatch.finish();
+    }
+
+    @Test
+    void shouldAdmitInOrderOfPriorityAndFairness() throws Exception {
+        var scheduler = new JobScheduler(4);
+        var admitted = new ArrayList<String>();
+
+        // alice occupies three cores and the blocker the last one, so that the waiting jobs run one after the other
+        var alice = Job.start(scheduler, "alice", 3, JobPriority.HIGH);
+        alice.awaitAdmission();
+        var blocker = Job.start(scheduler, "blocker", 1, JobPriority.NORMAL);
+        blocker.awaitAdmission();
+
+        var jobs = new ArrayList<CompletableFuture<Void>>();
+        jobs.add(recordAdmission(scheduler, admitted, "alice", JobPriority.LOW));
+        awaitQueueDepth(scheduler, 1);
+        jobs.add(recordAdmission(scheduler, admitted, "alice", JobPriority.NORMAL));
+        awaitQueueDepth(scheduler, 2);
+        jobs.add(recordAdmission(scheduler, admitted, "bob", JobPriority.NORMAL));
+        awaitQueueDepth(scheduler, 3);
+        jobs.add(recordAdmission(scheduler, admitted, "carol", JobPriority.HIGH));
+        awaitQueueDepth(scheduler, 4);
+
+        blocker.finish();
+        CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+        alice.finish();
+
+        // bob is ahead of alice, as alice already uses three cores
+        assertThat(admitted).containsExactly("carol", "bob", "alice-NORMAL", "alice-LOW");
+    }
+
+    @Test
+    void shouldReportJobsAhead() throws Exception {
+        var scheduler = new JobScheduler(1);
+        var reported = new ArrayList<Integer>();
+
+        var running = Job.start(scheduler, "alice", 1, JobPriority.NORMAL);
+        running.awaitAdmission();
+        var waiting = CompletableFuture.runAsync(() -> scheduler.acquire(
+            "bob",
+            1,
+            JobPriority.NORMAL,
+            TerminationFlag.RUNNING_TRUE,
+            jobsAhead -> {
+                synchronized (reported) {
+                    reported.add(jobsAhead);
+                }
+            }
+        ).close());
+        awaitQueueDepth(scheduler, 1);
+
+        running.finish();
+        waiting.get(1, TimeUnit.MINUTES);
+
+        synchronized (reported) {
+            assertThat(reported).containsExactly(0);
+        }
+    }
+
+    @Test
+    void shouldStopWaitingOnTermination() throws Exception {
+        var scheduler = new JobScheduler(1);
+        var running = new AtomicBoolean(true);
+
+        var job = Job.start(scheduler, "alice", 1, JobPriority.NORMAL);
+        job.awaitAdmission();
+        var waiting = CompletableFuture.runAsync(() -> scheduler.acquire(
+            "bob",
+            1,
+            JobPriority.NORMAL,
+            running::get,
+            jobsAhead -> {}
+        ).close());
+        awaitQueueDepth(scheduler, 1);
+
+        running.set(false);
+
+        assertThatThrownBy(() -> waiting.get(1, TimeUnit.MINUTES))
+            .hasCauseInstanceOf(TransactionTerminatedException.class);
+        assertThat(scheduler.queueDepth()).isZero();
+        job.finish();
+    }
+
+    @Test
+    void shouldAdmitNestedJobsOnTheBudgetOfTheOuterJob() {
+        var scheduler = new JobScheduler(1);
+
+        try (var ignored = acquire(scheduler, "alice", 1, JobPriority.NORMAL)) {
+            var inner = acquire(scheduler, "alice", 1, JobPriority.NORMAL);
+            assertThat(inner).isSameAs(JobScheduler.Permit.UNSCHEDULED);
+            inner.close();
+            assertThat(scheduler.runningCores()).isEqualTo(1);
+        }
+        assertThat(scheduler.runningCores()).isZero();
+    }
+
+    @Test
+    void shouldKeepTheCoresOfDetachedPermitsUntilTheyAreClosed() throws Exception {
+        var scheduler = new JobScheduler(4);
+
+        var permit = acquire(scheduler, "alice", 2, JobPriority.HIGH);
+        permit.detach();
+
+        // after detaching, the thread can start another job that is scheduled on its own
+        try (var next = acquire(scheduler, "alice", 1, JobPriority.HIGH)) {
+            assertThat(next).isNotSameAs(JobScheduler.Permit.UNSCHEDULED);
+            assertThat(scheduler.runningCores()).isEqualTo(3);
+        }
+        assertThat(scheduler.runningCores()).isEqualTo(2);
+
+        CompletableFuture.runAsync(permit::close).get(10, TimeUnit.SECONDS);
+        assertThat(scheduler.runningCores()).isZero();
+    }
+
+    private static JobScheduler.Permit acquire(JobScheduler scheduler, String user, int concurrency, JobPriority priority) {
+        return scheduler.acquire(user, concurrency, priority, TerminationFlag.RUNNING_TRUE, jobsAhead -> {});
+    }
+
+    private static CompletableFuture<Void> recordAdmission(
+        JobScheduler scheduler,
+        List<String> admitted,
+        String user,
+        JobPriority priority
+    ) {
+        return CompletableFuture.runAsync(() -> {
+            try (var ignored = acquire(scheduler, user, 1, priority)) {
+                synchronized (admitted) {
+                    admitted.add(user.equals("alice") ? user + "-" + priority : user);
+                }
+            }
+        });
+    }
+
+    private static void awaitQueueDepth(JobScheduler scheduler, int queueDepth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (scheduler.queueDepth() != queueDepth) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A job that holds its permit on its own thread until it is finished, as permits are bound to threads.
+     */
+    private static final class Job {
+        private final CompletableFuture<Integer> admission = new CompletableFuture<>();
+        private final CountDownLatch finish = new CountDownLatch(1);
+        private final Thread thread;
+
+        static Job start(JobScheduler scheduler, String user, int concurrency, JobPriority priority) {
+            var job = new Job(scheduler, user, concurrency, priority);
+            job.thread.start();
+            return job;
+        }
+
+        private Job(JobScheduler scheduler, String user, int concurrency, JobPriority priority) {
+            this.thread = new Thread(() -> {
+                try (var permit = acquire(scheduler, user, concurrency, priority)) {
+                    admission.complete(permit.cores());
+                    finish.await();
+                } catch (Throwable e) {
+                    admission.completeExceptionally(e);
+                }
+            });
+        }
+
+        int awaitAdmission() throws Exception {
+            return admission.get(1, TimeUnit.MINUTES);
+        }
+
+        boolean isAdmitted() {
+            return admission.isDone();
+        }
+
+        void finish() throws InterruptedException {
+            finish.countDown();
+            thread.join(TimeUnit.MINUTES.toMillis(1));
+        }
+    }
+}
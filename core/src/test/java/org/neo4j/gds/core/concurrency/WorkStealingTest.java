@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertTransactionTermination;
+
+class WorkStealingTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldProcessEveryNodeExactlyOnce(int concurrency) {
+        var nodeCount = 100_000;
+        var visits = new AtomicLongArray(nodeCount);
+
+        WorkStealing.forEachNode(
+            concurrency,
+            Pools.DEFAULT,
+            nodeCount,
+            100,
+            TerminationFlag.RUNNING_TRUE,
+            () -> nodeId -> visits.incrementAndGet((int) nodeId)
+        );
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(visits.get(nodeId)).as("visits of node %d", nodeId).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void shouldSplitHighDegreeNodesIntoChunks() {
+        var nodeCount = 1_000;
+        var superNode = 42L;
+        var superNodeDegree = 2_500;
+        var visitedNodes = new AtomicLongArray(nodeCount);
+        var chunks = ConcurrentHashMap.<List<Long>>newKeySet();
+        var decodedNodes = new ConcurrentLinkedQueue<Long>();
+
+        WorkStealing.forEachNode(
+            4,
+            Pools.DEFAULT,
+            nodeCount,
+            10,
+            nodeId -> nodeId == superNode ? superNodeDegree : 1,
+            1_000,
+            TerminationFlag.RUNNING_TRUE,
+            () -> new WorkStealing.RelationshipWorker() {
+                @Override
+                public void processNode(long nodeId) {
+                    visitedNodes.incrementAndGet((int) nodeId);
+                }
+
+                @Override
+                public void forEachRelationship(long nodeId, RelationshipWithPropertyConsumer consumer) {
+                    decodedNodes.add(nodeId);
+                    for (long target = 0; target < superNodeDegree; target++) {
+                        consumer.accept(nodeId, target, target / 2D);
+                    }
+                }
+
+                @Override
+                public void processRelationships(
+                    long nodeId,
+                    long[] targets,
+                    double[] properties,
+                    int fromIndex,
+                    int toIndex
+                ) {
+                    chunks.add(List.of(nodeId, (long) fromIndex, (long) toIndex));
+                    for (int index = fromIndex; index < toIndex; index++) {
+                        assertThat(targets[index]).isEqualTo(index);
+                        assertThat(properties[index]).isEqualTo(index / 2D);
+                    }
+                }
+            }
+        );
+
+        assertThat(visitedNodes.get((int) superNode)).isZero();
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (nodeId != superNode) {
+                assertThat(visitedNodes.get(nodeId)).isEqualTo(1L);
+            }
+        }
+        // the adjacency list is decoded once and not once per chunk
+        assertThat(decodedNodes).containsExactly(superNode);
+        assertThat(chunks).containsExactlyInAnyOrder(
+            List.of(superNode, 0L, 1_000L),
+            List.of(superNode, 1_000L, 2_000L),
+            List.of(superNode, 2_000L, 2_500L)
+        );
+    }
+
+    @Test
+    void shouldRejectNonPositiveSplitDegree() {
+        assertThatThrownBy(() -> WorkStealing.forEachNode(
+            1,
+            Pools.DEFAULT,
+            10,
+            1,
+            nodeId -> 0,
+            0,
+            TerminationFlag.RUNNING_TRUE,
+            () -> new WorkStealing.RelationshipWorker() {
+                @Override
+                public void processNode(long nodeId) {}
+
+                @Override
+                public void forEachRelationship(long nodeId, RelationshipWithPropertyConsumer consumer) {}
+
+                @Override
+                public void processRelationships(
+                    long nodeId,
+                    long[] targets,
+                    double[] properties,
+                    int fromIndex,
+                    int toIndex
+                ) {}
+            }
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("split degree");
+    }
+
+    @Test
+    void shouldIterateRelationshipRange() {
+        var targets = new long[]{1, 2, 3, 4};
+        var properties = new double[]{0.1, 0.2, 0.3, 0.4};
+
+        var range = new ArrayList<Long>();
+        WorkStealing.forEachRelationship(0, targets, properties, 1, 3, (source, target, weight) -> range.add(target));
+
+        assertThat(range).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void shouldTerminate() {
+        TerminationFlag stopped = () -> false;
+
+        assertTransactionTermination(() -> WorkStealing.forEachNode(
+            4,
+            Pools.DEFAULT,
+            100_000,
+            100,
+            stopped,
+            () -> nodeId -> {}
+        ));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaAdjacencyListTest {
+
+    private AdjacencyList base;
+    private long a;
+    private long b;
+    private long c;
+    private long d;
+
+    @BeforeEach
+    void setup() {
+        var factory = GdlFactory.of("(a)-->(b), (a)-->(c), (b)-->(c), (d)");
+        var graphStore = factory.build();
+        var graph = (HugeGraph) graphStore.getUnion();
+        base = graph.relationshipTopology().adjacencyList();
+        var nodes = graphStore.nodes();
+        a = nodes.toMappedNodeId(factory.nodeId("a"));
+        b = nodes.toMappedNodeId(factory.nodeId("b"));
+        c = nodes.toMappedNodeId(factory.nodeId("c"));
+        d = nodes.toMappedNodeId(factory.nodeId("d"));
+    }
+
+    @Test
+    void shouldServeUnchangedNodesFromTheBase() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+
+        assertThat(adjacencyList.degree(a)).isEqualTo(2);
+        assertThat(targets(adjacencyList, a)).containsExactly(sorted(b, c));
+        assertThat(adjacencyList.changedNodeCount()).isZero();
+    }
+
+    @Test
+    void shouldMergeAddedAndRemovedRelationships() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+
+        adjacencyList.removeRelationship(a, b);
+        adjacencyList.addRelationship(a, d);
+        adjacencyList.addRelationship(d, a);
+
+        assertThat(adjacencyList.degree(a)).isEqualTo(2);
+        assertThat(targets(adjacencyList, a)).containsExactly(sorted(c, d));
+        assertThat(adjacencyList.degree(d)).isEqualTo(1);
+        assertThat(targets(adjacencyList, d)).containsExactly(a);
+        assertThat(targets(adjacencyList, b)).containsExactly(c);
+    }
+
+    @Test
+    void shouldIgnoreExistingRelationshipsWithoutParallelRelationships() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+
+        adjacencyList.addRelationship(a, b);
+        adjacencyList.addRelationship(a, d);
+        adjacencyList.addRelationship(a, d);
+
+        assertThat(targets(adjacencyList, a)).containsExactly(sorted(b, c, d));
+    }
+
+    @Test
+    void shouldKeepParallelRelationships() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, true);
+
+        adjacencyList.addRelationship(a, b);
+        adjacencyList.addRelationship(a, b);
+
+        assertThat(adjacencyList.degree(a)).isEqualTo(4);
+        assertThat(targets(adjacencyList, a)).containsExactly(sorted(b, b, b, c));
+
+        adjacencyList.removeRelationship(a, b);
+
+        assertThat(targets(adjacencyList, a)).containsExactly(c);
+        assertThat(adjacencyList.changedNodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAdvanceOverMergedTargets() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+        adjacencyList.addRelationship(a, a);
+        adjacencyList.addRelationship(a, d);
+
+        var cursor = adjacencyList.adjacencyCursor(a);
+        long[] expected = sorted(a, b, c, d);
+        assertThat(cursor.advance(expected[2])).isEqualTo(expected[2]);
+        assertThat(cursor.remaining()).isEqualTo(1);
+        assertThat(cursor.peekVLong()).isEqualTo(expected[3]);
+    }
+
+    @Test
+    void shouldAddAndRemoveRelationshipsInBatches() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+
+        adjacencyList.addRelationships(a, new long[]{d, b, a, d});
+        assertThat(targets(adjacencyList, a)).containsExactly(sorted(a, b, c, d));
+        assertThat(adjacencyList.relationshipCountChange()).isEqualTo(2);
+
+        adjacencyList.removeRelationships(a, new long[]{c, a, b});
+        assertThat(targets(adjacencyList, a)).containsExactly(d);
+        assertThat(adjacencyList.relationshipCountChange()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldAdvanceOverRemovedRelationships() {
+        assertThat(new long[]{a, b, c, d}).isSorted();
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, true);
+        adjacencyList.addRelationships(a, new long[]{b, b, d});
+        adjacencyList.compact();
+        adjacencyList.removeRelationship(a, c);
+
+        var cursor = adjacencyList.adjacencyCursor(a);
+        assertThat(cursor.size()).isEqualTo(4);
+        assertThat(cursor.advance(d)).isEqualTo(d);
+        assertThat(cursor.remaining()).isZero();
+        assertThat(cursor.advance(d)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+
+        cursor = adjacencyList.adjacencyCursor(a);
+        assertThat(cursor.skipUntil(a)).isEqualTo(b);
+        assertThat(cursor.remaining()).isEqualTo(3);
+        assertThat(cursor.skipUntil(b)).isEqualTo(d);
+        assertThat(cursor.remaining()).isZero();
+    }
+
+    @Test
+    void shouldNotChangeCursorsCreatedBeforeAChange() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+        adjacencyList.addRelationship(a, d);
+        var cursor = adjacencyList.adjacencyCursor(a);
+
+        adjacencyList.removeRelationship(a, d);
+        adjacencyList.addRelationship(a, a);
+
+        var targets = LongStream.builder();
+        while (cursor.hasNextVLong()) {
+            targets.add(cursor.nextVLong());
+        }
+        assertThat(targets.build().toArray()).containsExactly(sorted(b, c, d));
+        assertThat(targets(adjacencyList, a)).containsExactly(sorted(a, b, c));
+    }
+
+    @Test
+    void shouldCompact() {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+        adjacencyList.removeRelationship(a, b);
+        adjacencyList.addRelationship(d, a);
+
+        adjacencyList.compact();
+
+        assertThat(adjacencyList.changedNodeCount()).isZero();
+        assertThat(adjacencyList.base()).isNotSameAs(base);
+        assertThat(targets(adjacencyList.base(), a)).containsExactly(c);
+        assertThat(targets(adjacencyList.base(), b)).containsExactly(c);
+        assertThat(targets(adjacencyList.base(), d)).containsExactly(a);
+    }
+
+    @Test
+    void shouldKeepChangesWrittenDuringBackgroundCompaction() throws Exception {
+        var adjacencyList = DeltaAdjacencyList.of(base, 4, false);
+        adjacencyList.removeRelationship(a, b);
+
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var latch = new CountDownLatch(1);
+            executor.submit(() -> {
+                latch.await();
+                return null;
+            });
+            var compaction = adjacencyList.compactInBackground(executor);
+
+            adjacencyList.addRelationship(c, d);
+            assertThat(targets(adjacencyList, c)).containsExactly(d);
+
+            latch.countDown();
+            compaction.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(targets(adjacencyList.base(), a)).containsExactly(c);
+        assertThat(adjacencyList.changedNodeCount()).isEqualTo(1);
+        assertThat(targets(adjacencyList, a)).containsExactly(c);
+        assertThat(targets(adjacencyList, c)).containsExactly(d);
+    }
+
+    private static long[] targets(AdjacencyList adjacencyList, long node) {
+        AdjacencyCursor cursor = adjacencyList.adjacencyCursor(node);
+        assertThat(cursor.size()).isEqualTo(adjacencyList.degree(node));
+        var targets = LongStream.builder();
+        while (cursor.hasNextVLong()) {
+            targets.add(cursor.nextVLong());
+        }
+        return targets.build().toArray();
+    }
+
+    private static long[] sorted(long... values) {
+        return LongStream.of(values).sorted().toArray();
+    }
+}
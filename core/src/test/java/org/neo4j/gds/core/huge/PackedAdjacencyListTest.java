@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.compress.LongArrayBuffer;
+import org.neo4j.gds.core.loading.AdjacencyPacking;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.gds.core.huge.PackedAdjacencyList.computeAdjacencyByteSize;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+class PackedAdjacencyListTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 63, 64, 65, 127, 128, 129, 1000})
+    void shouldRoundTripTargets(int degree) {
+        var targets = randomTargets(degree, 1L << 40);
+        var cursor = adjacencyList(targets).adjacencyCursor(0);
+
+        assertThat(cursor.size()).isEqualTo(degree);
+        for (long target : targets) {
+            assertThat(cursor.hasNextVLong()).isTrue();
+            assertThat(cursor.peekVLong()).isEqualTo(target);
+            assertThat(cursor.nextVLong()).isEqualTo(target);
+        }
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @Test
+    void shouldRoundTripParallelTargets() {
+        var targets = new long[]{0, 0, 0, 42, 42, 42, 42, 1337, Long.MAX_VALUE >>> 1};
+        var cursor = adjacencyList(targets).adjacencyCursor(0);
+
+        for (long target : targets) {
+            assertThat(cursor.nextVLong()).isEqualTo(target);
+        }
+    }
+
+    @Test
+    void shouldSkipAcrossBlocks() {
+        var targets = LongStream.range(0, 300).map(i -> i * 3).toArray();
+        var adjacencyList = adjacencyList(targets);
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.skipUntil(200)).isEqualTo(201);
+        assertThat(cursor.remaining()).isEqualTo(300 - 68);
+        assertThat(cursor.nextVLong()).isEqualTo(204);
+
+        cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advance(500)).isEqualTo(501);
+        assertThat(cursor.remaining()).isEqualTo(300 - 168);
+
+        cursor = adjacencyList.adjacencyCursor(0);
+        while (cursor.hasNextVLong()) {
+            cursor.nextVLong();
+        }
+        assertThat(cursor.advance(0)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+    }
+
+    @Test
+    void shouldCopyCursorState() {
+        var targets = LongStream.range(0, 200).map(i -> i * 7).toArray();
+        var cursor = adjacencyList(targets).adjacencyCursor(0);
+        for (int i = 0; i < 70; i++) {
+            cursor.nextVLong();
+        }
+
+        var copy = cursor.shallowCopy(null);
+        while (cursor.hasNextVLong()) {
+            assertThat(copy.nextVLong()).isEqualTo(cursor.nextVLong());
+        }
+        assertThat(copy.hasNextVLong()).isFalse();
+    }
+
+    @Test
+    void shouldComputeAdjacencyByteSize() {
+        long avgDegree = 1000;
+        long nodeCount = 100_000_000;
+        long delta = 100_000;
+        long firstAdjacencyIdAvgByteSize = ceilDiv(ceilDiv(64 - Long.numberOfLeadingZeros(nodeCount - 1), 7), 2);
+        long headerBytes = ceilDiv(avgDegree - 1, 64);
+        long packedBytes = ceilDiv((avgDegree - 1) * (64 - Long.numberOfLeadingZeros(delta)), 8);
+        long expected = (firstAdjacencyIdAvgByteSize + headerBytes + packedBytes) * nodeCount;
+
+        assertEquals(expected, computeAdjacencyByteSize(avgDegree, nodeCount, delta));
+    }
+
+    @Test
+    void shouldComputeAdjacencyByteSizeNoRelationships() {
+        assertEquals(0, computeAdjacencyByteSize(0, 100, 0));
+    }
+
+    private static long[] randomTargets(int degree, long maxTarget) {
+        var random = new Random(42L);
+        return random.longs(degree, 0, maxTarget).sorted().toArray();
+    }
+
+    private static PackedAdjacencyList adjacencyList(long[] targets) {
+        var deltas = new long[targets.length];
+        long previous = 0L;
+        for (int i = 0; i < targets.length; i++) {
+            deltas[i] = targets[i] - previous;
+            previous = targets[i];
+        }
+
+        var page = new byte[AdjacencyPacking.packedSize(deltas, deltas.length)];
+        int written = AdjacencyPacking.pack(
+            new LongArrayBuffer(deltas, deltas.length),
+            page,
+            new long[AdjacencyPacking.WORDS_PER_BLOCK]
+        );
+        assertThat(written).isEqualTo(page.length);
+
+        var degrees = HugeIntArray.newArray(1);
+        degrees.set(0, targets.length);
+        var offsets = HugeLongArray.newArray(1);
+        offsets.set(0, 0L);
+
+        return new PackedAdjacencyList(new byte[][]{page}, degrees, offsets);
+    }
+}
@@ -44,6 +44,7 @@ import org.neo4j.gds.core.utils.mem.MemoryTree;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -343,6 +344,51 @@ class CypherFactoryTest extends BaseTest {
         assertGraphEquals(fromGdl("(a { nodeProp: 42 })-[{ w: 21 }]->(a)"), graph);
     }
 
+    @Test
+    void loadGraphWithPartitionedCypherQueries() {
+        String nodeStatement = "MATCH (n) WHERE id(n) >= $lowId AND id(n) < $highId RETURN id(n) AS id";
+        String relStatement = "MATCH (n)-[r:REL]->(m) WHERE id(n) >= $lowId AND id(n) < $highId " +
+                              "RETURN id(n) AS source, id(m) AS target, r.prop AS weight";
+
+        loadAndTestGraph(nodeStatement, relStatement);
+    }
+
+    @Test
+    void loadGraphWithSeveralConcurrentPartitions() {
+        // COUNT is well above the minimum partition size, so the id range is split into several partitions
+        String nodeStatement = "MATCH (n) WHERE id(n) >= $lowId AND id(n) < $highId RETURN id(n) AS id, $lowId AS lowId";
+        String relStatement = "MATCH (n)-[r:REL]->(m) WHERE id(n) >= $lowId AND id(n) < $highId " +
+                              "RETURN id(n) AS source, id(m) AS target, r.prop AS weight";
+
+        Graph graph = applyInTransaction(db, tx -> new CypherLoaderBuilder()
+            .api(db)
+            .nodeQuery(nodeStatement)
+            .relationshipQuery(relStatement)
+            .concurrency(4)
+            .build()
+            .graph()
+        );
+
+        assertThat(graph.nodeCount()).isEqualTo(COUNT);
+        assertThat(graph.relationshipCount()).isEqualTo(COUNT);
+
+        var lowIds = graph.nodeProperties("lowId");
+        var partitions = new HashSet<Long>();
+        graph.forEachNode(nodeId -> {
+            partitions.add(lowIds.longValue(nodeId));
+            return true;
+        });
+        assertThat(partitions).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void shouldNotPartitionQueriesIfIdParametersAreGiven() {
+        assertThat(CypherRecordLoader.isPartitioned("MATCH (n) WHERE id(n) >= $lowId AND id(n) < $highId RETURN id(n) AS id", Map.of())).isTrue();
+        assertThat(CypherRecordLoader.isPartitioned("MATCH (n) WHERE id(n) >= $lowId AND id(n) < $highId RETURN id(n) AS id", Map.of("lowId", 0))).isFalse();
+        assertThat(CypherRecordLoader.isPartitioned("MATCH (n) WHERE id(n) >= $lowId RETURN id(n) AS id", Map.of())).isFalse();
+        assertThat(CypherRecordLoader.isPartitioned("MATCH (n) WHERE id(n) >= $lowIdentifier AND id(n) < $highId RETURN id(n) AS id", Map.of())).isFalse();
+    }
+
     @Test
     void testLoadingGraphWithLabelInformation() {
         clearDb();
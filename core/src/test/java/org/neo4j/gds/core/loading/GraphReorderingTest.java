@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class GraphReorderingTest {
+
+    private static final String GDL =
+        "  (a:A { p: 1 })" +
+        ", (b:A { p: 2 })" +
+        ", (c:B { p: 3 })" +
+        ", (d:B { p: 4 })" +
+        ", (e:A { p: 5 })" +
+        ", (a)-[:R { w: 1.0 }]->(b)" +
+        ", (b)-[:R { w: 2.0 }]->(c)" +
+        ", (d)-[:R { w: 3.0 }]->(a)" +
+        ", (d)-[:R { w: 4.0 }]->(b)" +
+        ", (d)-[:R { w: 5.0 }]->(c)" +
+        ", (e)-[:R { w: 6.0 }]->(d)";
+
+    @ParameterizedTest
+    @EnumSource(NodeOrdering.class)
+    void shouldKeepTheGraph(NodeOrdering ordering) {
+        var graphStore = GdlFactory.of(GDL).build();
+
+        var reordered = GraphReordering.reorder(graphStore, ordering, 1);
+
+        assertGraphEquals(GdlFactory.of(GDL).build().getUnion(), reordered.getUnion());
+    }
+
+    @ParameterizedTest
+    @EnumSource(NodeOrdering.class)
+    void shouldComputePermutation(NodeOrdering ordering) {
+        var graphStore = GdlFactory.of(GDL).build();
+
+        var permutation = GraphReordering.permutation(graphStore, ordering);
+
+        assertThat(permutation.toArray()).containsExactlyInAnyOrder(LongStream.range(0, 5).toArray());
+    }
+
+    @Test
+    void shouldOrderByDescendingDegree() {
+        var factory = GdlFactory.of(GDL);
+        var graphStore = factory.build();
+
+        var reordered = GraphReordering.reorder(graphStore, NodeOrdering.DEGREE, 1);
+
+        var nodes = reordered.nodes();
+        assertThat(nodes.toMappedNodeId(factory.nodeId("d"))).isEqualTo(0L);
+        var graph = reordered.getUnion();
+        for (long nodeId = 1; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(graph.degree(nodeId - 1)).isGreaterThanOrEqualTo(graph.degree(nodeId));
+        }
+    }
+
+    @Test
+    void shouldMaterializeReorderedNodeProperties() {
+        var factory = GdlFactory.of(GDL);
+        var graphStore = factory.build();
+
+        var reordered = GraphReordering.reorder(graphStore, NodeOrdering.DEGREE, 1);
+
+        var values = reordered.nodeProperty("p").values();
+        assertThat(values).isNotInstanceOf(RemappedNodePropertyValues.class);
+        var nodes = reordered.nodes();
+        for (var variable : new String[]{"a", "b", "c", "d", "e"}) {
+            long nodeId = nodes.toMappedNodeId(factory.nodeId(variable));
+            long originalNodeId = graphStore.nodes().toMappedNodeId(factory.nodeId(variable));
+            assertThat(values.longValue(nodeId)).isEqualTo(graphStore.nodeProperty("p").values().longValue(originalNodeId));
+        }
+    }
+}
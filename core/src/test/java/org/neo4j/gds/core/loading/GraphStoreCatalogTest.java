@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.GraphStoreAdapter;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
@@ -43,6 +44,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
 
 @GdlExtension
@@ -198,6 +204,52 @@ class GraphStoreCatalogTest {
         assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
     }
 
+    @Test
+    void shouldReleaseGraphsSharedWithViewsOfOtherUsersWhenTheLastViewIsDropped() {
+        var root = mock(GraphStore.class);
+        when(root.databaseId()).thenReturn(DATABASE_ID);
+        var view = new GraphStoreAdapter(root) {};
+
+        GraphStoreCatalog.set(CONFIG, root);
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("bob", "view"), view);
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME, ignored -> {}, true);
+        verify(root, never()).release();
+
+        GraphStoreCatalog.remove(CatalogRequest.of("bob", DATABASE_ID), "view", ignored -> {}, true);
+        verify(root, times(1)).release();
+    }
+
+    @Test
+    void indexesAreStoredNextToTheGraph() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphIndex index = () -> "test";
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "idx", index);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "idx", GraphIndex.class))
+            .containsSame(index);
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "other", GraphIndex.class))
+            .isEmpty();
+
+        GraphStoreCatalog.remove(
+            CatalogRequest.of(USER_NAME, DATABASE_ID),
+            GRAPH_NAME,
+            graphStoreWithConfig -> {},
+            true
+        );
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "idx", GraphIndex.class))
+            .isEmpty();
+    }
+
+    @Test
+    void cannotStoreIndexForMissingGraph() {
+        assertThatThrownBy(() -> GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "idx", () -> "test"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not exist");
+    }
+
     @Test
     void removeAsAdmin() {
         GraphStoreCatalog.set(CONFIG, graphStore);
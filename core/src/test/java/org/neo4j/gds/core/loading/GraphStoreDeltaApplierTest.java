@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class GraphStoreDeltaApplierTest {
+
+    private static final String GDL =
+        "  (a:A { p: 1 })" +
+        ", (b:A { p: 2 })" +
+        ", (c:B { p: 3 })" +
+        ", (a)-[:R { w: 1.0 }]->(b)" +
+        ", (b)-[:R { w: 2.0 }]->(c)";
+
+    private static final RelationshipType R = RelationshipType.of("R");
+
+    private GdlFactory factory;
+    private CSRGraphStore graphStore;
+
+    @BeforeEach
+    void setup() {
+        factory = GdlFactory.of(GDL);
+        graphStore = factory.build();
+    }
+
+    @Test
+    void shouldAddAndRemoveRelationships() {
+        var delta = GraphStoreDelta.builder()
+            .removeRelationship(R, id("a"), id("b"))
+            .addRelationship(R, id("a"), id("c"), Map.of("w", 4.0))
+            .addRelationship(R, id("c"), id("a"), Map.of("w", 5.0))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.apply(graphStore, delta, 1);
+
+        var expected = GdlFactory.of(
+            "  (a:A { p: 1 })" +
+            ", (b:A { p: 2 })" +
+            ", (c:B { p: 3 })" +
+            ", (a)-[:R { w: 4.0 }]->(c)" +
+            ", (b)-[:R { w: 2.0 }]->(c)" +
+            ", (c)-[:R { w: 5.0 }]->(a)"
+        ).build();
+
+        assertGraphEquals(expected.getUnion(), updatedGraphStore.getUnion());
+        assertThat(updatedGraphStore.relationshipCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReplaceRelationshipProperties() {
+        var delta = GraphStoreDelta.builder()
+            .removeRelationship(R, id("b"), id("c"))
+            .addRelationship(R, id("b"), id("c"), Map.of("w", 42.0))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.apply(graphStore, delta, 1);
+
+        var expected = GdlFactory.of(
+            "  (a:A { p: 1 })" +
+            ", (b:A { p: 2 })" +
+            ", (c:B { p: 3 })" +
+            ", (a)-[:R { w: 1.0 }]->(b)" +
+            ", (b)-[:R { w: 42.0 }]->(c)"
+        ).build();
+
+        assertGraphEquals(expected.getUnion(), updatedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldRemoveAllParallelRelationships() {
+        var multiGraphFactory = GdlFactory.of(
+            "  (a:A { p: 1 })" +
+            ", (b:A { p: 2 })" +
+            ", (c:B { p: 3 })" +
+            ", (a)-[:R { w: 1.0 }]->(b)" +
+            ", (a)-[:R { w: 2.0 }]->(b)" +
+            ", (a)-[:R { w: 3.0 }]->(c)"
+        );
+        var multiGraphStore = multiGraphFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .removeRelationship(R, multiGraphFactory.nodeId("a"), multiGraphFactory.nodeId("b"))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.apply(multiGraphStore, delta, 1);
+
+        var expected = GdlFactory.of(
+            "  (a:A { p: 1 })" +
+            ", (b:A { p: 2 })" +
+            ", (c:B { p: 3 })" +
+            ", (a)-[:R { w: 3.0 }]->(c)"
+        ).build();
+
+        assertGraphEquals(expected.getUnion(), updatedGraphStore.getUnion());
+        assertThat(updatedGraphStore.relationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepParallelRelationshipsOfMultiGraphs() {
+        var multiGraphFactory = GdlFactory.of(
+            "  (a:A { p: 1 })" +
+            ", (b:A { p: 2 })" +
+            ", (a)-[:R { w: 1.0 }]->(b)" +
+            ", (a)-[:R { w: 2.0 }]->(b)"
+        );
+        var multiGraphStore = multiGraphFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(R, multiGraphFactory.nodeId("a"), multiGraphFactory.nodeId("b"), Map.of("w", 3.0))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.apply(multiGraphStore, delta, 1);
+
+        assertThat(updatedGraphStore.relationshipCount()).isEqualTo(3);
+        assertThat(updatedGraphStore.getGraph(R, Optional.of("w")).isMultiGraph()).isTrue();
+    }
+
+    @Test
+    void shouldUpdateRelationshipsWithoutPropertiesInPlace() {
+        var topologyFactory = GdlFactory.of("(a:A), (b:A), (c:B), (a)-[:R]->(b), (b)-[:R]->(c)");
+        var topologyGraphStore = topologyFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .removeRelationship(R, topologyFactory.nodeId("a"), topologyFactory.nodeId("b"))
+            .addRelationship(R, topologyFactory.nodeId("a"), topologyFactory.nodeId("c"))
+            .addRelationship(R, topologyFactory.nodeId("c"), topologyFactory.nodeId("a"))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.update(topologyGraphStore, delta, 1);
+
+        assertThat(updatedGraphStore).isSameAs(topologyGraphStore);
+        assertThat(updatedGraphStore.relationshipCount()).isEqualTo(3);
+        assertGraphEquals(
+            GdlFactory.of("(a:A), (b:A), (c:B), (a)-[:R]->(c), (b)-[:R]->(c), (c)-[:R]->(a)").build().getUnion(),
+            updatedGraphStore.getUnion()
+        );
+    }
+
+    @Test
+    void shouldUpdateRelationshipsWithPropertiesInANewGraphStore() {
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(R, id("c"), id("a"), Map.of("w", 5.0))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.update(graphStore, delta, 1);
+
+        assertThat(updatedGraphStore).isNotSameAs(graphStore);
+        assertThat(updatedGraphStore.relationshipCount()).isEqualTo(3);
+        assertThat(graphStore.relationshipCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotPartiallyUpdateInPlace() {
+        var topologyFactory = GdlFactory.of("(a), (b), (a)-[:R]->(b)");
+        var topologyGraphStore = topologyFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .removeRelationship(R, topologyFactory.nodeId("a"), topologyFactory.nodeId("b"))
+            .addRelationship(R, topologyFactory.nodeId("a"), 4242L)
+            .build();
+
+        assertThatThrownBy(() -> GraphStoreDeltaApplier.update(topologyGraphStore, delta, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("node 4242 does not exist");
+        assertThat(topologyGraphStore.relationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAddNodes() {
+        long d = 1337L;
+        var delta = GraphStoreDelta.builder()
+            .addNode(d, NodeLabel.of("B"), NodeLabel.of("C"))
+            .addRelationship(R, id("c"), d, Map.of("w", 3.0))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.apply(graphStore, delta, 1);
+
+        assertThat(updatedGraphStore.nodeCount()).isEqualTo(4);
+        assertThat(updatedGraphStore.nodeLabels()).contains(NodeLabel.of("C"));
+
+        var nodes = updatedGraphStore.nodes();
+        long mappedD = nodes.safeToMappedNodeId(d);
+        assertThat(mappedD).isNotEqualTo(IdMap.NOT_FOUND);
+        assertThat(nodes.hasLabel(mappedD, NodeLabel.of("B"))).isTrue();
+        assertThat(nodes.hasLabel(mappedD, NodeLabel.of("C"))).isTrue();
+        assertThat(nodes.hasLabel(mappedD, NodeLabel.of("A"))).isFalse();
+
+        var property = updatedGraphStore.nodeProperty("p");
+        assertThat(property.values().longValue(mappedD)).isEqualTo(property.propertySchema().defaultValue().longValue());
+        assertThat(property.values().longValue(nodes.toMappedNodeId(id("c")))).isEqualTo(3L);
+
+        var graph = updatedGraphStore.getGraph(R, Optional.of("w"));
+        assertThat(graph.degree(nodes.toMappedNodeId(id("c")))).isEqualTo(1);
+        assertThat(graph.relationshipProperty(nodes.toMappedNodeId(id("c")), mappedD)).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldRemoveNodes() {
+        var delta = GraphStoreDelta.builder()
+            .removeNode(id("b"))
+            .build();
+
+        var updatedGraphStore = GraphStoreDeltaApplier.apply(graphStore, delta, 1);
+
+        var expected = GdlFactory.of("(a:A { p: 1 }), (c:B { p: 3 })").build();
+
+        assertGraphEquals(expected.getUnion(), updatedGraphStore.getUnion());
+        assertThat(updatedGraphStore.nodes().safeToMappedNodeId(id("b"))).isEqualTo(IdMap.NOT_FOUND);
+    }
+
+    @Test
+    void shouldNotModifyTheGivenGraphStore() {
+        var delta = GraphStoreDelta.builder()
+            .removeNode(id("a"))
+            .addRelationship(R, id("c"), id("b"), Map.of("w", 7.0))
+            .build();
+
+        GraphStoreDeltaApplier.apply(graphStore, delta, 1);
+
+        assertGraphEquals(GdlFactory.of(GDL).build().getUnion(), graphStore.getUnion());
+    }
+
+    @Test
+    void shouldFailOnUnknownRelationshipType() {
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(RelationshipType.of("UNKNOWN"), id("a"), id("b"))
+            .build();
+
+        assertThatThrownBy(() -> GraphStoreDeltaApplier.apply(graphStore, delta, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Relationship type `UNKNOWN` does not exist");
+    }
+
+    @Test
+    void shouldFailOnMissingNodes() {
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(R, id("a"), 4242L)
+            .build();
+
+        assertThatThrownBy(() -> GraphStoreDeltaApplier.apply(graphStore, delta, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("node 4242 does not exist");
+    }
+
+    private long id(String variable) {
+        return factory.nodeId(variable);
+    }
+}
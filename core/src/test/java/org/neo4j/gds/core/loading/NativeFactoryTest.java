@@ -29,10 +29,12 @@ import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NativeFactoryTest {
 
@@ -80,4 +82,34 @@ class NativeFactoryTest {
         assertEquals(12_056_534_400L, estimate.memoryUsage().min);
         assertEquals(13_667_147_136L, estimate.memoryUsage().max);
     }
+
+    @Test
+    void memoryEstimationForReorderingIncludesTheSecondCopy() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000_000L)
+            .relCountUpperBound(500_000_000L)
+            .build();
+
+        var relationshipProjections = RelationshipProjections.single(
+            RelationshipType.ALL_RELATIONSHIPS,
+            RelationshipProjection.ALL
+        );
+        var withoutReordering = NativeFactory
+            .getMemoryEstimation(NodeProjections.all(), relationshipProjections, true, NodeOrdering.NONE)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var withReordering = NativeFactory
+            .getMemoryEstimation(NodeProjections.all(), relationshipProjections, true, NodeOrdering.DEGREE)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var topologyAfterLoading = NativeFactory
+            .getMemoryEstimation(NodeProjections.all(), relationshipProjections, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        long permutations = 2 * HugeLongArray.memoryEstimation(dimensions.nodeCount());
+        assertTrue(withReordering.min >= withoutReordering.min + permutations);
+        assertTrue(withReordering.max >= withoutReordering.max + permutations);
+        assertTrue(withReordering.min - withoutReordering.min >= topologyAfterLoading.min);
+    }
 }
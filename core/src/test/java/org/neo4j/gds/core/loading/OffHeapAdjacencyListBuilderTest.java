@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compress.AdjacencyListBehavior;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
+
+    @Test
+    void test() {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(this::testAdjacencyList));
+    }
+
+    @Test
+    void testMapper() {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(this::testValueMapper));
+    }
+
+    @Test
+    void shouldStoreOversizedAdjacencyListsInDedicatedPages() {
+        var builder = new OffHeapAdjacencyListBuilder();
+        var allocator = builder.newAllocator();
+
+        var small = new byte[]{1, 2, 3};
+        var large = new byte[BumpAllocator.PAGE_SIZE + 42];
+        large[large.length - 1] = 42;
+
+        long smallAddress = allocator.write(small, small.length, -1L);
+        long largeAddress = allocator.write(large, large.length, -1L);
+        long nextAddress = allocator.write(small, small.length, -1L);
+
+        assertThat(smallAddress).isEqualTo(0L);
+        assertThat(largeAddress).isEqualTo(BumpAllocator.PAGE_SIZE);
+        assertThat(nextAddress).isEqualTo(small.length);
+    }
+
+    @Test
+    void shouldRejectOtherAdjacencyListEncodings() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() ->
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+                assertThatThrownBy(() -> AdjacencyListBehavior.asConfigured(() -> 0, PropertyMappings.of(), new Aggregation[0]))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("off-heap adjacency list can only be used with the compressed adjacency list")));
+    }
+
+    @Test
+    void shouldFreePagesWhenClosed() {
+        var builder = new OffHeapAdjacencyListBuilder();
+        try (var allocator = builder.newAllocator()) {
+            allocator.write(new byte[]{1, 2, 3}, 3, -1L);
+        }
+        var degrees = HugeIntArray.newArray(1);
+        degrees.set(0, 1);
+        var offsets = HugeLongArray.newArray(1);
+        var adjacencyList = builder.build(degrees, offsets);
+
+        adjacencyList.close();
+        // closing again is a no-op, the graph store and its graphs share the list
+        adjacencyList.close();
+    }
+}
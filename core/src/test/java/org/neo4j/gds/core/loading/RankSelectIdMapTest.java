@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.OpenGdsIdMapBehavior;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankSelectIdMapTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.2, 0.5, 0.99, 1.0})
+    void shouldMapIdsInBothDirections(double density) {
+        long capacity = 100_000;
+        var random = new Random(42);
+        long[] originalIds = LongStream
+            .range(0, capacity)
+            .filter(id -> random.nextDouble() < density)
+            .toArray();
+
+        var idMap = build(capacity, originalIds, LabelInformation.single(NodeLabel.ALL_NODES));
+
+        assertThat(idMap.nodeCount()).isEqualTo(originalIds.length);
+        for (int mappedId = 0; mappedId < originalIds.length; mappedId++) {
+            assertThat(idMap.toMappedNodeId(originalIds[mappedId])).isEqualTo(mappedId);
+            assertThat(idMap.toOriginalNodeId(mappedId)).isEqualTo(originalIds[mappedId]);
+            assertThat(idMap.contains(originalIds[mappedId])).isTrue();
+        }
+        assertThat(idMap.highestNeoId()).isEqualTo(originalIds[originalIds.length - 1]);
+    }
+
+    @Test
+    void shouldNotFindMissingIds() {
+        var idMap = build(128, new long[]{1, 3, 64, 127}, LabelInformation.single(NodeLabel.ALL_NODES));
+
+        assertThat(idMap.toMappedNodeId(0)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(63)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(1337)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.safeToMappedNodeId(1337)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.contains(2)).isFalse();
+        assertThat(idMap.toMappedNodeId(64)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMapLabelsAndFilter() {
+        var a = NodeLabel.of("A");
+        var b = NodeLabel.of("B");
+        var labelInformationBuilder = LabelInformation.builder(16);
+        labelInformationBuilder.addNodeIdToLabel(a, 2);
+        labelInformationBuilder.addNodeIdToLabel(b, 5);
+        labelInformationBuilder.addNodeIdToLabel(a, 9);
+        labelInformationBuilder.addNodeIdToLabel(b, 9);
+
+        var idMap = build(16, new long[]{9, 2, 5}, labelInformationBuilder);
+
+        assertThat(idMap.nodeLabels(idMap.toMappedNodeId(9))).containsExactlyInAnyOrder(a, b);
+        assertThat(idMap.hasLabel(idMap.toMappedNodeId(2), a)).isTrue();
+        assertThat(idMap.hasLabel(idMap.toMappedNodeId(5), a)).isFalse();
+
+        var filtered = idMap.withFilteredLabels(List.of(a), 1);
+        assertThat(filtered.nodeCount()).isEqualTo(2);
+        assertThat(filtered.rootIdMap()).isSameAs(idMap);
+        for (long nodeId = 0; nodeId < filtered.nodeCount(); nodeId++) {
+            long rootNodeId = filtered.toRootNodeId(nodeId);
+            assertThat(idMap.toOriginalNodeId(rootNodeId)).isIn(2L, 9L);
+        }
+    }
+
+    @Test
+    void shouldBeSelectedForDenseIds() {
+        var behavior = new OpenGdsIdMapBehavior();
+
+        GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.enableAndRun(() -> {
+            assertThat(behavior.create(1, Optional.of(999L), Optional.of(500L))).isInstanceOf(RankSelectIdMapBuilder.class);
+            assertThat(behavior.create(1, Optional.of(999_999L), Optional.of(500L))).isInstanceOf(ArrayIdMapBuilder.class);
+            assertThat(behavior.create(1, Optional.empty(), Optional.of(500L))).isInstanceOf(ArrayIdMapBuilder.class);
+        });
+        GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.disableAndRun(() ->
+            assertThat(behavior.create(1, Optional.of(999L), Optional.of(500L))).isInstanceOf(ArrayIdMapBuilder.class)
+        );
+    }
+
+    private static IdMap build(long capacity, long[] originalIds, LabelInformation.Builder labelInformationBuilder) {
+        var builder = RankSelectIdMapBuilder.of(capacity, originalIds.length);
+        // insert in two batches to exercise the allocation
+        int half = originalIds.length / 2;
+        builder.allocate(half).insert(originalIds);
+        var secondBatch = new long[originalIds.length - half];
+        System.arraycopy(originalIds, half, secondBatch, 0, secondBatch.length);
+        builder.allocate(secondBatch.length).insert(secondBatch);
+        return builder.build(labelInformationBuilder, -1, 1);
+    }
+}
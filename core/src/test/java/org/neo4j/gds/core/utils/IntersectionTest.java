@@ -22,8 +22,11 @@ package org.neo4j.gds.core.utils;
 import com.carrotsearch.hppc.LongHashSet;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -76,4 +79,37 @@ class IntersectionTest {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 4, 7, 64, 257})
+    void unrolledKernelsMatchPlainLoops(int len) {
+        var random = new SplittableRandom(len);
+        double[] left = random.doubles(len, -1, 1).toArray();
+        double[] right = random.doubles(len, -1, 1).toArray();
+        float[] leftFloats = new float[len];
+        float[] rightFloats = new float[len];
+        for (int i = 0; i < len; i++) {
+            leftFloats[i] = (float) left[i];
+            rightFloats[i] = (float) right[i];
+        }
+
+        double dot = 0, xLength = 0, yLength = 0, squareDelta = 0;
+        for (int i = 0; i < len; i++) {
+            dot += left[i] * right[i];
+            xLength += left[i] * left[i];
+            yLength += right[i] * right[i];
+            squareDelta += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+        double cosine = dot / Math.sqrt(xLength * yLength);
+
+        assertEquals(squareDelta, Intersections.sumSquareDelta(left, right, len), 1e-12);
+        assertEquals(squareDelta, Intersections.sumSquareDelta(leftFloats, rightFloats, len), 1e-3);
+        if (len == 0) {
+            assertEquals(Double.NaN, Intersections.cosine(left, right, len));
+            assertEquals(Float.NaN, Intersections.cosine(leftFloats, rightFloats, len));
+        } else {
+            assertEquals(cosine, Intersections.cosine(left, right, len), 1e-12);
+            assertEquals(cosine, Intersections.cosine(leftFloats, rightFloats, len), 1e-4);
+        }
+    }
 }
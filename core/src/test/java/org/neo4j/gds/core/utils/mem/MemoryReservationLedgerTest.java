@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.mem;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryReservationLedgerTest {
+
+    @Test
+    void shouldReserveAndRelease() {
+        var ledger = new MemoryReservationLedger();
+
+        var first = ledger.tryReserve(40, () -> 100, Duration.ZERO);
+        var second = ledger.tryReserve(60, () -> 100, Duration.ZERO);
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(ledger.reservedBytes()).isEqualTo(100);
+        assertThat(ledger.reservationCount()).isEqualTo(2);
+
+        first.get().close();
+        // closing twice must not release the bytes twice
+        first.get().close();
+
+        assertThat(ledger.reservedBytes()).isEqualTo(60);
+        assertThat(ledger.reservationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenReservationsExhaustFreeMemory() {
+        var ledger = new MemoryReservationLedger();
+
+        try (var ignored = ledger.tryReserve(80, () -> 100, Duration.ZERO).orElseThrow()) {
+            assertThat(ledger.tryReserve(21, () -> 100, Duration.ZERO)).isEmpty();
+            assertThat(ledger.tryReserve(20, () -> 100, Duration.ZERO)).isPresent();
+        }
+    }
+
+    @Test
+    void shouldRejectImmediatelyIfNothingIsReserved() {
+        var ledger = new MemoryReservationLedger();
+
+        var start = System.nanoTime();
+        assertThat(ledger.tryReserve(101, () -> 100, Duration.ofMinutes(1))).isEmpty();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    void shouldTimeOutWaitingForRelease() {
+        var ledger = new MemoryReservationLedger();
+
+        try (var ignored = ledger.tryReserve(100, () -> 100, Duration.ZERO).orElseThrow()) {
+            assertThat(ledger.tryReserve(1, () -> 100, Duration.ofMillis(50))).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldAdmitWaitingReservationOnRelease() throws Exception {
+        var ledger = new MemoryReservationLedger();
+        var blocking = ledger.tryReserve(100, () -> 100, Duration.ZERO).orElseThrow();
+
+        var waiting = CompletableFuture.supplyAsync(() -> ledger.tryReserve(50, () -> 100, Duration.ofMinutes(1)));
+
+        blocking.close();
+
+        var reservation = waiting.get(1, TimeUnit.MINUTES);
+        assertThat(reservation).isPresent();
+        assertThat(ledger.reservedBytes()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldForceReserveBeyondFreeMemory() {
+        var ledger = new MemoryReservationLedger();
+
+        try (var ignored = ledger.forceReserve(1000)) {
+            assertThat(ledger.reservedBytes()).isEqualTo(1000);
+            assertThat(ledger.tryReserve(1, () -> 100, Duration.ZERO)).isEmpty();
+        }
+        assertThat(ledger.reservedBytes()).isZero();
+    }
+
+    @Test
+    void shouldKeepRetainedReservationsUntilTheNextGc() {
+        var ledger = new MemoryReservationLedger();
+        var reservation = ledger.tryReserve(80, () -> 100, Duration.ZERO).orElseThrow();
+
+        reservation.releaseAfterNextGc();
+        // closing afterwards must not release the bytes early
+        reservation.close();
+
+        assertThat(ledger.reservedBytes()).isEqualTo(80);
+        assertThat(ledger.tryReserve(21, () -> 100, Duration.ZERO)).isEmpty();
+
+        ledger.releaseRetained();
+
+        assertThat(ledger.reservedBytes()).isZero();
+        assertThat(ledger.reservationCount()).isZero();
+    }
+}
@@ -142,6 +142,44 @@ class NativeNodePropertyExporterTest extends BaseTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void exportWithExplicitBatchSize(int batchSize) {
+        Graph graph = new StoreLoaderBuilder().api(db)
+            .addNodeProperty("newProp1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        var exporter = NativeNodePropertyExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, TerminationFlag.RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 4)
+            .withBatchSize(batchSize)
+            .build();
+
+        int[] intData = {23, 42, 84};
+        exporter.write("newProp1", new LongTestPropertyValues(nodeId -> intData[(int) nodeId]));
+
+        assertThat(exporter.propertiesWritten()).isEqualTo(3);
+
+        Graph updatedGraph = new StoreLoaderBuilder().api(db)
+            .addNodeProperty("prop1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .addNodeProperty("newProp1", "newProp1", DefaultValue.of(42), Aggregation.NONE)
+            .build()
+            .graph();
+
+        assertGraphEquals(
+            fromGdl(
+                "(a { prop1: 1.0, newProp1: 23 })" +
+                "(b { prop1: 2.0, newProp1: 42 })" +
+                "(c { prop1: 3.0, newProp1: 84 })" +
+                "(a)-->(b)" +
+                "(a)-->(c)" +
+                "(b)-->(c)" +
+                "(b)-->(c)"),
+            updatedGraph
+        );
+    }
+
     @Test
     void stopsExportingWhenTransactionHasBeenTerminated() {
         transactionTerminationTest(null);
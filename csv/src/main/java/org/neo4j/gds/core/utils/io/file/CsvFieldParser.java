@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Parses numeric CSV fields directly from the line bytes without creating intermediate strings.
+ *
+ * Doubles are parsed exactly if the significand has at most 15 digits and the decimal exponent
+ * is small enough for the result to be computed with a single, correctly rounded multiplication or division.
+ * Every other input, including {@code NaN} and {@code Infinity}, is delegated to {@link Double#parseDouble(String)}.
+ */
+final class CsvFieldParser {
+
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    static long parseLong(byte[] bytes, int from, int to) {
+        int pos = from;
+        boolean negative = false;
+        if (pos < to && (bytes[pos] == '-' || bytes[pos] == '+')) {
+            negative = bytes[pos] == '-';
+            pos++;
+        }
+        if (pos == to) {
+            throw numberFormatException(bytes, from, to);
+        }
+        // accumulate negatively to be able to represent Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; pos < to; pos++) {
+            int digit = bytes[pos] - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                throw numberFormatException(bytes, from, to);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(bytes, from, to);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    static double parseDouble(byte[] bytes, int from, int to) {
+        int pos = from;
+        boolean negative = false;
+        if (pos < to && (bytes[pos] == '-' || bytes[pos] == '+')) {
+            negative = bytes[pos] == '-';
+            pos++;
+        }
+
+        long significand = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+
+        for (; pos < to && isDigit(bytes[pos]); pos++, digits++) {
+            significand = significand * 10 + (bytes[pos] - '0');
+            if (significand != 0) {
+                significantDigits++;
+            }
+        }
+        if (pos < to && bytes[pos] == '.') {
+            pos++;
+            for (; pos < to && isDigit(bytes[pos]); pos++, digits++) {
+                significand = significand * 10 + (bytes[pos] - '0');
+                if (significand != 0) {
+                    significantDigits++;
+                }
+                exponent--;
+            }
+        }
+        if (pos < to && (bytes[pos] == 'e' || bytes[pos] == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if (pos < to && (bytes[pos] == '-' || bytes[pos] == '+')) {
+                negativeExponent = bytes[pos] == '-';
+                pos++;
+            }
+            int explicitExponent = 0;
+            int exponentDigits = 0;
+            for (; pos < to && isDigit(bytes[pos]) && exponentDigits < 4; pos++, exponentDigits++) {
+                explicitExponent = explicitExponent * 10 + (bytes[pos] - '0');
+            }
+            if (exponentDigits == 0) {
+                return parseDoubleSlow(bytes, from, to);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (pos != to || digits == 0 || significantDigits > MAX_EXACT_DIGITS) {
+            return parseDoubleSlow(bytes, from, to);
+        }
+
+        double value;
+        if (significand == 0) {
+            value = 0D;
+        } else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            value = significand * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+            value = significand / POWERS_OF_TEN[-exponent];
+        } else {
+            return parseDoubleSlow(bytes, from, to);
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static double parseDoubleSlow(byte[] bytes, int from, int to) {
+        return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+    }
+
+    private static NumberFormatException numberFormatException(byte[] bytes, int from, int to) {
+        return new NumberFormatException(formatWithLocale(
+            "Cannot parse `%s` as a long value.",
+            new String(bytes, from, to - from, StandardCharsets.UTF_8)
+        ));
+    }
+
+    private CsvFieldParser() {}
+}
@@ -20,9 +20,11 @@
 package org.neo4j.gds.core.utils.io.file;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.ElementIdentifier;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.schema.ElementSchema;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
@@ -30,6 +32,7 @@ import org.neo4j.gds.api.schema.RelationshipPropertySchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.gds.compat.CompatInput;
 import org.neo4j.gds.compat.CompatPropertySizeCalculator;
+import org.neo4j.gds.core.utils.io.file.csv.ColumnarBlockReader;
 import org.neo4j.gds.core.utils.io.file.csv.CsvImportUtil;
 import org.neo4j.internal.batchimport.InputIterable;
 import org.neo4j.internal.batchimport.InputIterator;
@@ -42,24 +45,34 @@ import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.internal.batchimport.input.ReadableGroups;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public final class FileInput implements CompatInput {
 
+    static final long DEFAULT_CHUNK_SIZE = 8L * 1024 * 1024;
+
     private final Path importPath;
+    private final long chunkSize;
     private final String userName;
     private final GraphInfo graphInfo;
     private final NodeSchema nodeSchema;
     private final RelationshipSchema relationshipSchema;
 
     FileInput(Path importPath) {
+        this(importPath, DEFAULT_CHUNK_SIZE);
+    }
+
+    FileInput(Path importPath, long chunkSize) {
         this.importPath = importPath;
+        this.chunkSize = chunkSize;
         this.userName = new UserInfoLoader(importPath).load();
         this.graphInfo = new GraphInfoLoader(importPath).load();
         this.nodeSchema = new NodeSchemaLoader(importPath).load();
@@ -73,7 +86,7 @@ public final class FileInput implements CompatInput {
             entry -> CsvImportUtil.parseNodeHeader(entry.getKey()),
             Map.Entry::getValue
         ));
-        return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema);
+        return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema, chunkSize);
     }
 
     @Override
@@ -83,7 +96,7 @@ public final class FileInput implements CompatInput {
             entry -> CsvImportUtil.parseRelationshipHeader(entry.getKey()),
             Map.Entry::getValue
         ));
-        return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema);
+        return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema, chunkSize);
     }
 
     @Override
@@ -123,24 +136,65 @@ public final class FileInput implements CompatInput {
         IDENTIFIER extends ElementIdentifier,
         PROPERTY_SCHEMA extends PropertySchema> implements InputIterator {
 
-        private final MappedListIterator<HEADER, Path> entryIterator;
+        private final List<FileChunk<HEADER>> fileChunks;
+        private int nextChunk;
         final SCHEMA elementSchema;
 
         FileImporter(
             Map<HEADER, List<Path>> headerToDataFilesMapping,
-            SCHEMA elementSchema
+            SCHEMA elementSchema,
+            long chunkSize
         ) {
-            this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
+            this.fileChunks = fileChunks(headerToDataFilesMapping, chunkSize);
             this.elementSchema = elementSchema;
         }
 
+        /**
+         * Splits every data file into byte ranges of roughly {@code chunkSize} bytes,
+         * so that large files are parsed by multiple threads.
+         * The ranges are aligned to line boundaries when they are read, see {@link LineRangeReader}.
+         * Compressed and columnar data files cannot be split and are read as a single chunk.
+         */
+        private static <H> List<FileChunk<H>> fileChunks(
+            Map<H, List<Path>> headerToDataFilesMapping,
+            long chunkSize
+        ) {
+            var chunks = new ArrayList<FileChunk<H>>();
+            var entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
+            while (entryIterator.hasNext()) {
+                Pair<H, Path> entry = entryIterator.next();
+                long fileSize = fileSize(entry.getValue());
+                if (FileExportFormat.ofDataFile(entry.getValue()) != FileExportFormat.CSV) {
+                    chunks.add(new FileChunk<>(entry.getKey(), entry.getValue(), 0, fileSize));
+                    continue;
+                }
+                for (long start = 0; start < fileSize; start += chunkSize) {
+                    chunks.add(new FileChunk<>(entry.getKey(), entry.getValue(), start, Math.min(fileSize, start + chunkSize)));
+                }
+            }
+            return chunks;
+        }
+
+        private static long fileSize(Path path) {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
         @Override
         public synchronized boolean next(InputChunk chunk) throws IOException {
-            if (entryIterator.hasNext()) {
-                Pair<HEADER, Path> entry = entryIterator.next();
+            if (nextChunk < fileChunks.size()) {
+                var fileChunk = fileChunks.get(nextChunk++);
 
                 assert chunk instanceof LineChunk;
-                ((LineChunk<HEADER, SCHEMA, IDENTIFIER, PROPERTY_SCHEMA>) chunk).initialize(entry.getKey(), entry.getValue());
+                ((LineChunk<HEADER, SCHEMA, IDENTIFIER, PROPERTY_SCHEMA>) chunk).initialize(
+                    fileChunk.header,
+                    fileChunk.path,
+                    fileChunk.start,
+                    fileChunk.end
+                );
                 return true;
             }
             return false;
@@ -151,13 +205,28 @@ public final class FileInput implements CompatInput {
         }
     }
 
+    private static final class FileChunk<HEADER> {
+        private final HEADER header;
+        private final Path path;
+        private final long start;
+        private final long end;
+
+        private FileChunk(HEADER header, Path path, long start, long end) {
+            this.header = header;
+            this.path = path;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
     static class NodeImporter extends FileImporter<NodeFileHeader, NodeSchema, NodeLabel, PropertySchema> {
 
         NodeImporter(
             Map<NodeFileHeader, List<Path>> headerToDataFilesMapping,
-            NodeSchema nodeSchema
+            NodeSchema nodeSchema,
+            long chunkSize
         ) {
-            super(headerToDataFilesMapping, nodeSchema);
+            super(headerToDataFilesMapping, nodeSchema, chunkSize);
         }
 
         @Override
@@ -170,9 +239,10 @@ public final class FileInput implements CompatInput {
 
         RelationshipImporter(
             Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping,
-            RelationshipSchema relationshipSchema
+            RelationshipSchema relationshipSchema,
+            long chunkSize
         ) {
-            super(headerToDataFilesMapping, relationshipSchema);
+            super(headerToDataFilesMapping, relationshipSchema, chunkSize);
         }
 
         @Override
@@ -188,44 +258,153 @@ public final class FileInput implements CompatInput {
         PROPERTY_SCHEMA extends PropertySchema> implements InputChunk {
 
         private final SCHEMA schema;
+        private final LineRangeReader lineReader;
+        private @Nullable ColumnarBlockReader columnarReader;
+        private int columnarRow;
+
+        // start offset of each field in the current line, followed by the line length + 1
+        private int[] fieldStarts;
+        private int fieldCount;
 
         HEADER header;
-        Stream<String> lineStream;
-        Iterator<String> lineIterator;
         Map<String, PROPERTY_SCHEMA> propertySchemas;
 
         LineChunk(SCHEMA schema) {
             this.schema = schema;
+            this.lineReader = new LineRangeReader();
+            this.fieldStarts = new int[16];
         }
 
         void initialize(
             HEADER header,
-            Path path
+            Path path,
+            long start,
+            long end
         ) throws IOException {
             this.header = header;
             this.propertySchemas = header.schemaForIdentifier(schema);
-            this.lineStream = Files.lines(path);
-            this.lineIterator = this.lineStream.iterator();
+            close();
+            switch (FileExportFormat.ofDataFile(path)) {
+                case CSV_GZIP:
+                    this.lineReader.openCompressed(path);
+                    break;
+                case COLUMNAR:
+                    this.columnarReader = new ColumnarBlockReader(idColumnCount(), propertyTypes(header));
+                    this.columnarReader.open(path);
+                    this.columnarRow = 0;
+                    break;
+                default:
+                    this.lineReader.open(path, start, end);
+            }
+        }
+
+        private ValueType[] propertyTypes(HEADER header) {
+            var propertyTypes = new ValueType[0];
+            for (HeaderProperty property : header.propertyMappings()) {
+                int column = property.position() - idColumnCount();
+                if (column >= propertyTypes.length) {
+                    propertyTypes = Arrays.copyOf(propertyTypes, column + 1);
+                }
+                propertyTypes[column] = property.valueType();
+            }
+            return propertyTypes;
         }
 
         @Override
         public boolean next(InputEntityVisitor visitor) throws IOException {
-            if (lineIterator.hasNext()) {
-                String line = lineIterator.next();
+            if (columnarReader != null) {
+                while (columnarRow >= columnarReader.rowCount()) {
+                    if (!columnarReader.nextBlock()) {
+                        return false;
+                    }
+                    columnarRow = 0;
+                }
+                visitRow(columnarReader, columnarRow++, header, visitor);
+                return true;
+            }
+            if (lineReader.readLine()) {
                 // Ignore empty lines
-                if (!line.isBlank()) {
-                    visitLine(line, header, visitor);
+                if (!lineReader.isBlankLine()) {
+                    visitLine(lineReader.line(), lineReader.lineLength(), header, visitor);
                 }
                 return true;
             }
             return false;
         }
 
-        abstract void visitLine(String line, HEADER header, InputEntityVisitor visitor) throws IOException;
+        abstract void visitLine(byte[] line, int length, HEADER header, InputEntityVisitor visitor) throws IOException;
+
+        abstract void visitRow(ColumnarBlockReader block, int row, HEADER header, InputEntityVisitor visitor) throws IOException;
+
+        /**
+         * The number of leading id columns, which are followed by the property columns.
+         */
+        abstract int idColumnCount();
+
+        void splitFields(byte[] line, int length) {
+            int count = 0;
+            fieldStarts[count++] = 0;
+            for (int i = 0; i < length; i++) {
+                if (line[i] == ',') {
+                    ensureFieldCapacity(count + 1);
+                    fieldStarts[count++] = i + 1;
+                }
+            }
+            ensureFieldCapacity(count + 1);
+            fieldStarts[count] = length + 1;
+            fieldCount = count;
+        }
+
+        long longField(byte[] line, int field) {
+            return CsvFieldParser.parseLong(line, fieldStarts[field], fieldEnd(field));
+        }
+
+        Object propertyValue(byte[] line, HeaderProperty property) {
+            var defaultValue = propertySchemas.get(property.propertyKey()).defaultValue();
+            int field = property.position();
+            if (field >= fieldCount || fieldStarts[field] == fieldEnd(field)) {
+                return property.valueType().fromCsvValue("", defaultValue);
+            }
+            int start = fieldStarts[field];
+            int end = fieldEnd(field);
+            switch (property.valueType()) {
+                case LONG:
+                    return CsvFieldParser.parseLong(line, start, end);
+                case DOUBLE:
+                    return CsvFieldParser.parseDouble(line, start, end);
+                default:
+                    return property
+                        .valueType()
+                        .fromCsvValue(new String(line, start, end - start, StandardCharsets.UTF_8), defaultValue);
+            }
+        }
+
+        Object propertyValue(ColumnarBlockReader block, int row, HeaderProperty property) {
+            int column = property.position() - idColumnCount();
+            if (block.isMissing(column, row)) {
+                var defaultValue = propertySchemas.get(property.propertyKey()).defaultValue();
+                return property.valueType().fromCsvValue("", defaultValue);
+            }
+            return block.value(column, row);
+        }
+
+        private int fieldEnd(int field) {
+            return fieldStarts[field + 1] - 1;
+        }
+
+        private void ensureFieldCapacity(int capacity) {
+            if (capacity > fieldStarts.length) {
+                fieldStarts = Arrays.copyOf(fieldStarts, Math.max(capacity, fieldStarts.length * 2));
+            }
+        }
 
         @Override
         public void close() throws IOException {
-            this.lineStream.close();
+            this.lineReader.close();
+            if (this.columnarReader != null) {
+                this.columnarReader.close();
+                this.columnarReader = null;
+            }
         }
     }
 
@@ -236,37 +415,36 @@ public final class FileInput implements CompatInput {
         }
 
         @Override
-        void visitLine(String line, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
-
-            var lineValues = line.split(",", -1);
+        void visitLine(byte[] line, int length, NodeFileHeader header, InputEntityVisitor visitor) {
+            splitFields(line, length);
 
             visitor.labels(header.nodeLabels());
 
-            visitor.id(Long.parseLong(lineValues[0]));
-
-            header
-                .propertyMappings()
-                .forEach(property -> {
-                    var propertyValue = property.position() < lineValues.length
-                        ? lineValues[property.position()]
-                        : "";
-                    visitor.property(
-                        property.propertyKey(),
-                        property
-                            .valueType()
-                            .fromCsvValue(
-                                propertyValue,
-                                propertySchemas.get(property.propertyKey()).defaultValue()
-                            )
-                    );
-                });
+            visitor.id(longField(line, 0));
+
+            for (HeaderProperty property : header.propertyMappings()) {
+                visitor.property(property.propertyKey(), propertyValue(line, property));
+            }
 
             visitor.endOfEntity();
         }
 
         @Override
-        public void close() throws IOException {
+        void visitRow(ColumnarBlockReader block, int row, NodeFileHeader header, InputEntityVisitor visitor) {
+            visitor.labels(header.nodeLabels());
+
+            visitor.id(block.id(0, row));
 
+            for (HeaderProperty property : header.propertyMappings()) {
+                visitor.property(property.propertyKey(), propertyValue(block, row, property));
+            }
+
+            visitor.endOfEntity();
+        }
+
+        @Override
+        int idColumnCount() {
+            return 1;
         }
     }
 
@@ -277,26 +455,36 @@ public final class FileInput implements CompatInput {
         }
 
         @Override
-        void visitLine(String line, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
-            var lineValues = line.split(",", -1);
+        void visitLine(byte[] line, int length, RelationshipFileHeader header, InputEntityVisitor visitor) {
+            splitFields(line, length);
 
             visitor.type(header.relationshipType());
-            visitor.startId(Long.parseLong(lineValues[0]));
-            visitor.endId(Long.parseLong(lineValues[1]));
+            visitor.startId(longField(line, 0));
+            visitor.endId(longField(line, 1));
 
-            header
-                .propertyMappings()
-                .forEach(property -> visitor.property(
-                    property.propertyKey(),
-                    property.valueType().fromCsvValue(lineValues[property.position()], propertySchemas.get(property.propertyKey()).defaultValue())
-                ));
+            for (HeaderProperty property : header.propertyMappings()) {
+                visitor.property(property.propertyKey(), propertyValue(line, property));
+            }
 
             visitor.endOfEntity();
         }
 
         @Override
-        public void close() throws IOException {
+        void visitRow(ColumnarBlockReader block, int row, RelationshipFileHeader header, InputEntityVisitor visitor) {
+            visitor.type(header.relationshipType());
+            visitor.startId(block.id(0, row));
+            visitor.endId(block.id(1, row));
+
+            for (HeaderProperty property : header.propertyMappings()) {
+                visitor.property(property.propertyKey(), propertyValue(block, row, property));
+            }
 
+            visitor.endOfEntity();
+        }
+
+        @Override
+        int idColumnCount() {
+            return 2;
         }
     }
 }
@@ -62,10 +62,14 @@ public class GraphStoreRelationshipVisitor extends RelationshipVisitor {
                         .stream()
                         .map(schema -> ImmutablePropertyConfig.of(schema.aggregation(), schema.defaultValue()))
                         .collect(Collectors.toList());
-                    var relBuilder = relationshipBuilderSupplier.get()
-                        .propertyConfigs(propertyConfigs)
-                        .build();
-                    relationshipBuilders.put(key, relBuilder);
+                    // The files of a relationship type are imported by multiple visitors in parallel.
+                    // They share a single builder, which buffers the relationships per thread.
+                    var relBuilder = relationshipBuilders.computeIfAbsent(
+                        key,
+                        ignore -> relationshipBuilderSupplier.get()
+                            .propertyConfigs(propertyConfigs)
+                            .build()
+                    );
                     return RelationshipBuilderFromVisitor.of(
                         propertyConfigs.size(),
                         relBuilder,
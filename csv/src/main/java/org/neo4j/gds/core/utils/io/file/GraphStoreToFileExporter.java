@@ -93,9 +93,10 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
                 exportPath,
                 nodeSchema.union(neoNodeSchema),
                 headerFiles,
-                index
+                index,
+                config.format()
             ),
-            (index) -> new CsvRelationshipVisitor(exportPath, relationshipSchema, headerFiles, index)
+            (index) -> new CsvRelationshipVisitor(exportPath, relationshipSchema, headerFiles, index, config.format())
         );
     }
 
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads the lines of a byte range of a file.
+ *
+ * A line belongs to the range that contains its first byte. Therefore, a reader for a range
+ * that does not start at the beginning of the file skips the partial line it starts in and the
+ * last line of a range is read to its end, even if that end lies beyond the range.
+ * This way, a file can be split into arbitrary byte ranges that are read independently
+ * and every line is read by exactly one reader.
+ *
+ * Compressed files cannot be split, they are always read from start to end, see {@link #openCompressed(Path)}.
+ *
+ * The current line is exposed as a reusable byte array, which is only valid until the next call to {@link #readLine()}.
+ */
+final class LineRangeReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final byte[] buffer;
+    private final ByteBuffer wrappedBuffer;
+    private int bufferPosition;
+    private int bufferLimit;
+
+    private byte[] line;
+    private int lineLength;
+
+    private @Nullable FileChannel channel;
+    private @Nullable InputStream compressedStream;
+    private long filePosition;
+    private long nextLineStart;
+    private long end;
+
+    LineRangeReader() {
+        this.buffer = new byte[BUFFER_SIZE];
+        this.wrappedBuffer = ByteBuffer.wrap(buffer);
+        this.line = new byte[256];
+    }
+
+    void open(Path path, long start, long end) throws IOException {
+        close();
+        this.channel = FileChannel.open(path, READ);
+        this.end = end;
+        this.bufferPosition = 0;
+        this.bufferLimit = 0;
+        if (start == 0) {
+            this.filePosition = 0;
+            this.nextLineStart = 0;
+        } else {
+            // If the preceding byte is a line break, a line starts exactly at `start`
+            // and skipping consumes only that line break.
+            this.filePosition = start - 1;
+            this.nextLineStart = start - 1;
+            this.nextLineStart += consumeLine(false);
+        }
+    }
+
+    /**
+     * Reads all lines of a gzip compressed file.
+     */
+    void openCompressed(Path path) throws IOException {
+        close();
+        this.compressedStream = new GZIPInputStream(Files.newInputStream(path), BUFFER_SIZE);
+        this.end = Long.MAX_VALUE;
+        this.bufferPosition = 0;
+        this.bufferLimit = 0;
+        this.filePosition = 0;
+        this.nextLineStart = 0;
+    }
+
+    /**
+     * @return false if there are no more lines starting within the range
+     */
+    boolean readLine() throws IOException {
+        if (nextLineStart >= end) {
+            return false;
+        }
+        lineLength = 0;
+        long consumed = consumeLine(true);
+        if (consumed == 0) {
+            return false;
+        }
+        nextLineStart += consumed;
+        if (lineLength > 0 && line[lineLength - 1] == '\r') {
+            lineLength--;
+        }
+        return true;
+    }
+
+    byte[] line() {
+        return line;
+    }
+
+    int lineLength() {
+        return lineLength;
+    }
+
+    boolean isBlankLine() {
+        for (int i = 0; i < lineLength; i++) {
+            if (line[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        if (compressedStream != null) {
+            compressedStream.close();
+            compressedStream = null;
+        }
+    }
+
+    /**
+     * Consumes all bytes up to and including the next line break.
+     *
+     * @return the number of consumed bytes, 0 if the end of the file has been reached
+     */
+    private long consumeLine(boolean copy) throws IOException {
+        long consumed = 0;
+        while (bufferPosition < bufferLimit || fillBuffer()) {
+            int lineBreak = bufferPosition;
+            while (lineBreak < bufferLimit && buffer[lineBreak] != '\n') {
+                lineBreak++;
+            }
+            int length = lineBreak - bufferPosition;
+            if (copy) {
+                appendToLine(length);
+            }
+            consumed += length;
+            bufferPosition = lineBreak;
+            if (lineBreak < bufferLimit) {
+                bufferPosition++;
+                consumed++;
+                break;
+            }
+        }
+        return consumed;
+    }
+
+    private void appendToLine(int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(buffer, bufferPosition, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private boolean fillBuffer() throws IOException {
+        int read;
+        if (compressedStream != null) {
+            read = compressedStream.read(buffer, 0, BUFFER_SIZE);
+        } else {
+            assert channel != null;
+            wrappedBuffer.clear();
+            read = channel.read(wrappedBuffer, filePosition);
+        }
+        if (read <= 0) {
+            return false;
+        }
+        filePosition += read;
+        bufferPosition = 0;
+        bufferLimit = read;
+        return true;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.csv;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.api.DefaultValue.INTEGER_DEFAULT_FALLBACK;
+import static org.neo4j.gds.api.DefaultValue.LONG_DEFAULT_FALLBACK;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads data files written by {@link ColumnarFileAppender} one block at a time.
+ * Missing values are reported the same way as empty fields in CSV data files,
+ * so that the importer can substitute the default value of the property.
+ */
+public final class ColumnarBlockReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final long[][] idColumns;
+    private final ValueType[] propertyTypes;
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+    private final Object[][] objectColumns;
+
+    private @Nullable DataInputStream in;
+    private int rows;
+
+    /**
+     * @param propertyTypes the value types of the property columns in the order of the header file
+     */
+    public ColumnarBlockReader(int idColumnCount, ValueType[] propertyTypes) {
+        this.idColumns = new long[idColumnCount][ColumnarFileAppender.BLOCK_SIZE];
+        this.propertyTypes = propertyTypes;
+        this.longColumns = new long[propertyTypes.length][];
+        this.doubleColumns = new double[propertyTypes.length][];
+        this.objectColumns = new Object[propertyTypes.length][];
+        for (int i = 0; i < propertyTypes.length; i++) {
+            switch (propertyTypes[i]) {
+                case LONG:
+                    longColumns[i] = new long[ColumnarFileAppender.BLOCK_SIZE];
+                    break;
+                case DOUBLE:
+                    doubleColumns[i] = new double[ColumnarFileAppender.BLOCK_SIZE];
+                    break;
+                default:
+                    objectColumns[i] = new Object[ColumnarFileAppender.BLOCK_SIZE];
+            }
+        }
+    }
+
+    public void open(Path path) throws IOException {
+        close();
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        this.rows = 0;
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != ColumnarFileAppender.MAGIC || version != ColumnarFileAppender.VERSION) {
+            throw new IOException(formatWithLocale("`%s` is not a columnar data file of version %d.", path, ColumnarFileAppender.VERSION));
+        }
+    }
+
+    /**
+     * @return false if the end of the file has been reached
+     */
+    public boolean nextBlock() throws IOException {
+        assert in != null;
+        int firstByte = in.read();
+        if (firstByte < 0) {
+            rows = 0;
+            return false;
+        }
+        rows = (firstByte << 24) | (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+        for (long[] idColumn : idColumns) {
+            long previous = 0L;
+            for (int row = 0; row < rows; row++) {
+                previous += unZigZag(readVLong());
+                idColumn[row] = previous;
+            }
+        }
+        for (int column = 0; column < propertyTypes.length; column++) {
+            readColumn(column);
+        }
+        return true;
+    }
+
+    public int rowCount() {
+        return rows;
+    }
+
+    public long id(int column, int row) {
+        return idColumns[column][row];
+    }
+
+    /**
+     * @return true if the value has been written as an empty field in CSV
+     */
+    public boolean isMissing(int column, int row) {
+        switch (propertyTypes[column]) {
+            case LONG:
+                long longValue = longColumns[column][row];
+                return longValue == LONG_DEFAULT_FALLBACK || longValue == INTEGER_DEFAULT_FALLBACK;
+            case DOUBLE:
+                return Double.isNaN(doubleColumns[column][row]);
+            default:
+                return objectColumns[column][row] == null;
+        }
+    }
+
+    public Object value(int column, int row) {
+        switch (propertyTypes[column]) {
+            case LONG:
+                return longColumns[column][row];
+            case DOUBLE:
+                return doubleColumns[column][row];
+            default:
+                return objectColumns[column][row];
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+
+    private void readColumn(int column) throws IOException {
+        assert in != null;
+        switch (propertyTypes[column]) {
+            case LONG:
+                for (int row = 0; row < rows; row++) {
+                    longColumns[column][row] = in.readLong();
+                }
+                break;
+            case DOUBLE:
+                for (int row = 0; row < rows; row++) {
+                    doubleColumns[column][row] = in.readDouble();
+                }
+                break;
+            case LONG_ARRAY:
+                for (int row = 0; row < rows; row++) {
+                    int length = in.readInt();
+                    long[] value = null;
+                    if (length >= 0) {
+                        value = new long[length];
+                        for (int i = 0; i < length; i++) {
+                            value[i] = in.readLong();
+                        }
+                    }
+                    objectColumns[column][row] = value;
+                }
+                break;
+            case DOUBLE_ARRAY:
+                for (int row = 0; row < rows; row++) {
+                    int length = in.readInt();
+                    double[] value = null;
+                    if (length >= 0) {
+                        value = new double[length];
+                        for (int i = 0; i < length; i++) {
+                            value[i] = in.readDouble();
+                        }
+                    }
+                    objectColumns[column][row] = value;
+                }
+                break;
+            case FLOAT_ARRAY:
+                for (int row = 0; row < rows; row++) {
+                    int length = in.readInt();
+                    float[] value = null;
+                    if (length >= 0) {
+                        value = new float[length];
+                        for (int i = 0; i < length; i++) {
+                            value[i] = in.readFloat();
+                        }
+                    }
+                    objectColumns[column][row] = value;
+                }
+                break;
+            default:
+                for (int row = 0; row < rows; row++) {
+                    int length = in.readInt();
+                    String value = null;
+                    if (length >= 0) {
+                        var bytes = new byte[length];
+                        in.readFully(bytes);
+                        value = new String(bytes, StandardCharsets.UTF_8);
+                    }
+                    objectColumns[column][row] = value;
+                }
+        }
+    }
+
+    private long readVLong() throws IOException {
+        assert in != null;
+        long value = 0L;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (b & 0x7FL) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.csv;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.api.DefaultValue.LONG_DEFAULT_FALLBACK;
+
+/**
+ * Writes data files in the {@link org.neo4j.gds.core.utils.io.file.FileExportFormat#COLUMNAR} layout.
+ *
+ * Rows are buffered and written in blocks of at most {@link #BLOCK_SIZE} rows.
+ * Within a block, the values are stored column by column:
+ *
+ * <pre>
+ * | row count (int) | id column 0 | ... | id column n | property column 0 | ... | property column m |
+ * </pre>
+ *
+ * Id columns store zig-zag encoded deltas to the previous row as VarLongs.
+ * Long and double columns store 8 bytes per row.
+ * Array and string columns store a length prefix per row, {@code -1} for missing values, followed by the elements.
+ */
+final class ColumnarFileAppender implements DataFileAppender {
+
+    static final int MAGIC = 0x47445343; // "GDSC"
+    static final int VERSION = 1;
+    static final int BLOCK_SIZE = 8192;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DataOutputStream out;
+    private final int idColumnCount;
+    private final ValueType[] propertyTypes;
+
+    private final long[][] idColumns;
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+    private final Object[][] objectColumns;
+
+    private int rows;
+    private int currentColumnIndex;
+
+    static <PROPERTY_SCHEMA extends PropertySchema> ColumnarFileAppender of(
+        Path filePath,
+        List<PROPERTY_SCHEMA> propertySchemas,
+        int idColumnCount
+    ) {
+        var propertyTypes = propertySchemas
+            .stream()
+            .map(PropertySchema::valueType)
+            .filter(valueType -> valueType != ValueType.UNKNOWN)
+            .collect(Collectors.toList())
+            .toArray(new ValueType[0]);
+        try {
+            var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            return new ColumnarFileAppender(out, idColumnCount, propertyTypes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ColumnarFileAppender(DataOutputStream out, int idColumnCount, ValueType[] propertyTypes) {
+        this.out = out;
+        this.idColumnCount = idColumnCount;
+        this.propertyTypes = propertyTypes;
+        this.idColumns = new long[idColumnCount][BLOCK_SIZE];
+        this.longColumns = new long[propertyTypes.length][];
+        this.doubleColumns = new double[propertyTypes.length][];
+        this.objectColumns = new Object[propertyTypes.length][];
+        for (int i = 0; i < propertyTypes.length; i++) {
+            switch (propertyTypes[i]) {
+                case LONG:
+                    longColumns[i] = new long[BLOCK_SIZE];
+                    break;
+                case DOUBLE:
+                    doubleColumns[i] = new double[BLOCK_SIZE];
+                    break;
+                default:
+                    objectColumns[i] = new Object[BLOCK_SIZE];
+            }
+        }
+    }
+
+    @Override
+    public void startLine() {
+        currentColumnIndex = 0;
+    }
+
+    @Override
+    public void append(long value) {
+        if (currentColumnIndex < idColumnCount) {
+            idColumns[currentColumnIndex++][rows] = value;
+        } else {
+            appendAny(value);
+        }
+    }
+
+    @Override
+    public void appendAny(@Nullable Object value) {
+        int column = currentColumnIndex++ - idColumnCount;
+        switch (propertyTypes[column]) {
+            case LONG:
+                longColumns[column][rows] = value == null ? LONG_DEFAULT_FALLBACK : ((Number) value).longValue();
+                break;
+            case DOUBLE:
+                doubleColumns[column][rows] = value == null ? Double.NaN : ((Number) value).doubleValue();
+                break;
+            default:
+                objectColumns[column][rows] = value;
+        }
+    }
+
+    @Override
+    public void endLine() throws IOException {
+        if (++rows == BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (rows > 0) {
+            writeBlock();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+
+    private void writeBlock() throws IOException {
+        out.writeInt(rows);
+        for (long[] idColumn : idColumns) {
+            long previous = 0L;
+            for (int row = 0; row < rows; row++) {
+                writeVLong(zigZag(idColumn[row] - previous));
+                previous = idColumn[row];
+            }
+        }
+        for (int column = 0; column < propertyTypes.length; column++) {
+            writeColumn(column);
+        }
+        for (Object[] objectColumn : objectColumns) {
+            if (objectColumn != null) {
+                Arrays.fill(objectColumn, 0, rows, null);
+            }
+        }
+        rows = 0;
+    }
+
+    private void writeColumn(int column) throws IOException {
+        switch (propertyTypes[column]) {
+            case LONG:
+                for (int row = 0; row < rows; row++) {
+                    out.writeLong(longColumns[column][row]);
+                }
+                break;
+            case DOUBLE:
+                for (int row = 0; row < rows; row++) {
+                    out.writeDouble(doubleColumns[column][row]);
+                }
+                break;
+            case LONG_ARRAY:
+                for (int row = 0; row < rows; row++) {
+                    var value = (long[]) objectColumns[column][row];
+                    out.writeInt(value == null ? -1 : value.length);
+                    if (value != null) {
+                        for (long element : value) {
+                            out.writeLong(element);
+                        }
+                    }
+                }
+                break;
+            case DOUBLE_ARRAY:
+                for (int row = 0; row < rows; row++) {
+                    var value = (double[]) objectColumns[column][row];
+                    out.writeInt(value == null ? -1 : value.length);
+                    if (value != null) {
+                        for (double element : value) {
+                            out.writeDouble(element);
+                        }
+                    }
+                }
+                break;
+            case FLOAT_ARRAY:
+                for (int row = 0; row < rows; row++) {
+                    var value = (float[]) objectColumns[column][row];
+                    out.writeInt(value == null ? -1 : value.length);
+                    if (value != null) {
+                        for (float element : value) {
+                            out.writeFloat(element);
+                        }
+                    }
+                }
+                break;
+            default:
+                for (int row = 0; row < rows; row++) {
+                    var value = objectColumns[column][row];
+                    if (value == null) {
+                        out.writeInt(-1);
+                    } else {
+                        var bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                    }
+                }
+        }
+    }
+
+    private void writeVLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7FL) | 0x80L));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
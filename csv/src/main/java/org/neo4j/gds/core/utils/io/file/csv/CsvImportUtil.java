@@ -76,7 +76,11 @@ public final class CsvImportUtil {
     private static Map<Path, List<Path>> headerToFileMapping(Path csvDirectory, Function<Path, Collection<Path>> headerPaths) {
         Map<Path, List<Path>> headerToDataFileMapping = new HashMap<>();
         for (Path headerFile : headerPaths.apply(csvDirectory)) {
-            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)");
+            // data files are written in any of the FileExportFormats, header files are always plain csv
+            String dataFilePattern = headerFile
+                .getFileName()
+                .toString()
+                .replace("_header.csv", "(_\\d+)\\.(csv|csv\\.gz|bin)");
             List<Path> dataPaths = headerToDataFileMapping.computeIfAbsent(
                 headerFile,
                 path -> new ArrayList<>()
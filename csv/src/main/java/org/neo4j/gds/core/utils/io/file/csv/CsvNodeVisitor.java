@@ -23,6 +23,7 @@ import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.utils.io.file.FileExportFormat;
 import org.neo4j.gds.core.utils.io.file.NodeVisitor;
 
 import java.io.IOException;
@@ -30,6 +31,7 @@ import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.UnaryOperator;
@@ -42,7 +44,8 @@ public class CsvNodeVisitor extends NodeVisitor {
 
     private final Path fileLocation;
     private final int visitorId;
-    private final Map<String, JacksonFileAppender> csvAppenders;
+    private final FileExportFormat format;
+    private final Map<String, DataFileAppender> csvAppenders;
     private final Set<String> headerFiles;
 
     public CsvNodeVisitor(
@@ -50,11 +53,22 @@ public class CsvNodeVisitor extends NodeVisitor {
         NodeSchema nodeSchema,
         Set<String> headerFiles,
         int visitorId
+    ) {
+        this(fileLocation, nodeSchema, headerFiles, visitorId, FileExportFormat.CSV);
+    }
+
+    public CsvNodeVisitor(
+        Path fileLocation,
+        NodeSchema nodeSchema,
+        Set<String> headerFiles,
+        int visitorId,
+        FileExportFormat format
     ) {
         super(nodeSchema);
         this.fileLocation = fileLocation;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.format = format;
         this.csvAppenders = new HashMap<>();
     }
 
@@ -98,22 +112,19 @@ public class CsvNodeVisitor extends NodeVisitor {
         });
     }
 
-    private JacksonFileAppender getAppender() {
+    private DataFileAppender getAppender() {
         var labelsString = elementIdentifier();
 
         return csvAppenders.computeIfAbsent(labelsString, (ignore) -> {
             var fileName = labelsString.isBlank() ? "nodes" : formatWithLocale("nodes_%s", labelsString);
             var headerFileName = formatWithLocale("%s_header.csv", fileName);
-            var dataFileName = formatWithLocale("%s_%d.csv", fileName, visitorId);
+            var dataFileName = formatWithLocale("%s_%d%s", fileName, visitorId, format.dataFileSuffix());
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(headerFileName);
             }
 
-            return fileAppender(
-                fileLocation.resolve(dataFileName),
-                csvSchemaBuilder -> csvSchemaBuilder.addNumberColumn(ID_COLUMN_NAME)
-            );
+            return dataFileAppender(fileLocation.resolve(dataFileName));
         });
     }
 
@@ -151,13 +162,29 @@ public class CsvNodeVisitor extends NodeVisitor {
         }
     }
 
+    private DataFileAppender dataFileAppender(Path filePath) {
+        if (format == FileExportFormat.COLUMNAR) {
+            return ColumnarFileAppender.of(filePath, sortedPropertySchema(), 1);
+        }
+        return JacksonFileAppender.of(
+            filePath,
+            sortedPropertySchema(),
+            csvSchemaBuilder -> csvSchemaBuilder.addNumberColumn(ID_COLUMN_NAME),
+            format == FileExportFormat.CSV_GZIP
+        );
+    }
+
     private JacksonFileAppender fileAppender(Path filePath, UnaryOperator<CsvSchema.Builder> builderUnaryOperator) {
-        var propertySchema = getPropertySchema();
-        propertySchema.sort(Comparator.comparing(PropertySchema::key));
         return JacksonFileAppender.of(
             filePath,
-            propertySchema,
+            sortedPropertySchema(),
             builderUnaryOperator
         );
     }
+
+    private List<PropertySchema> sortedPropertySchema() {
+        var propertySchema = getPropertySchema();
+        propertySchema.sort(Comparator.comparing(PropertySchema::key));
+        return propertySchema;
+    }
 }
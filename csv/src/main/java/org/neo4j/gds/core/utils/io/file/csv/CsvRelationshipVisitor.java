@@ -21,7 +21,9 @@ package org.neo4j.gds.core.utils.io.file.csv;
 
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.utils.io.file.FileExportFormat;
 import org.neo4j.gds.core.utils.io.file.RelationshipVisitor;
 
 import java.io.IOException;
@@ -29,6 +31,7 @@ import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -42,18 +45,30 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
     private final Path fileLocation;
     private final Set<String> headerFiles;
     private final int visitorId;
-    private final Map<String, JacksonFileAppender> csvAppenders;
+    private final FileExportFormat format;
+    private final Map<String, DataFileAppender> csvAppenders;
 
     public CsvRelationshipVisitor(
         Path fileLocation,
         RelationshipSchema relationshipSchema,
         Set<String> headerFiles,
         int visitorId
+    ) {
+        this(fileLocation, relationshipSchema, headerFiles, visitorId, FileExportFormat.CSV);
+    }
+
+    public CsvRelationshipVisitor(
+        Path fileLocation,
+        RelationshipSchema relationshipSchema,
+        Set<String> headerFiles,
+        int visitorId,
+        FileExportFormat format
     ) {
         super(relationshipSchema);
         this.fileLocation = fileLocation;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.format = format;
         this.csvAppenders = new HashMap<>();
     }
 
@@ -100,17 +115,17 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
         });
     }
 
-    private JacksonFileAppender getAppender() {
+    private DataFileAppender getAppender() {
         return csvAppenders.computeIfAbsent(relationshipType(), (ignore) -> {
             var fileName = formatWithLocale("relationships_%s", relationshipType());
             var headerFileName = formatWithLocale("%s_header.csv", fileName);
-            var dataFileName = formatWithLocale("%s_%d.csv", fileName, visitorId);
+            var dataFileName = formatWithLocale("%s_%d%s", fileName, visitorId, format.dataFileSuffix());
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(headerFileName);
             }
 
-            return fileAppender(fileLocation.resolve(dataFileName));
+            return dataFileAppender(fileLocation.resolve(dataFileName));
         });
     }
 
@@ -146,15 +161,31 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
         }
     }
 
+    private DataFileAppender dataFileAppender(Path filePath) {
+        if (format == FileExportFormat.COLUMNAR) {
+            return ColumnarFileAppender.of(filePath, sortedPropertySchema(), 2);
+        }
+        return fileAppender(filePath, format == FileExportFormat.CSV_GZIP);
+    }
+
     private JacksonFileAppender fileAppender(Path filePath) {
-        var propertySchema = getPropertySchema();
-        propertySchema.sort(Comparator.comparing(PropertySchema::key));
+        return fileAppender(filePath, false);
+    }
+
+    private JacksonFileAppender fileAppender(Path filePath, boolean compressed) {
         return JacksonFileAppender.of(
             filePath,
-            propertySchema,
+            sortedPropertySchema(),
             csvSchemaBuilder -> csvSchemaBuilder
                 .addNumberColumn(START_ID_COLUMN_NAME)
-                .addNumberColumn(END_ID_COLUMN_NAME)
+                .addNumberColumn(END_ID_COLUMN_NAME),
+            compressed
         );
     }
+
+    private List<RelationshipPropertySchema> sortedPropertySchema() {
+        var propertySchema = getPropertySchema();
+        propertySchema.sort(Comparator.comparing(PropertySchema::key));
+        return propertySchema;
+    }
 }
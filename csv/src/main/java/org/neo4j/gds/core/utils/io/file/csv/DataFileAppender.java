@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.csv;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Appends the rows of a node or relationship data file.
+ * A row starts with the id columns, followed by the property columns in the order of the header file.
+ */
+interface DataFileAppender extends Flushable, AutoCloseable {
+
+    void startLine() throws IOException;
+
+    void append(long value) throws IOException;
+
+    void appendAny(@Nullable Object value) throws IOException;
+
+    void endLine() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
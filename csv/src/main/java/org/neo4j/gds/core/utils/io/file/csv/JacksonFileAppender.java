@@ -25,19 +25,23 @@ import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.schema.PropertySchema;
 
-import java.io.Flushable;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.UnaryOperator;
+import java.util.zip.GZIPOutputStream;
 
 import static org.neo4j.gds.api.DefaultValue.INTEGER_DEFAULT_FALLBACK;
 import static org.neo4j.gds.api.DefaultValue.LONG_DEFAULT_FALLBACK;
 
-final class JacksonFileAppender implements Flushable, AutoCloseable {
+final class JacksonFileAppender implements DataFileAppender {
+
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
 
     private final CsvGenerator csvEncoder;
     private final CsvSchema csvSchema;
@@ -48,6 +52,15 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         Path filePath,
         List<PROPERTY_SCHEMA> propertySchemas,
         UnaryOperator<CsvSchema.Builder> schemaEnricher
+    ) {
+        return of(filePath, propertySchemas, schemaEnricher, false);
+    }
+
+    static <PROPERTY_SCHEMA extends PropertySchema> JacksonFileAppender of(
+        Path filePath,
+        List<PROPERTY_SCHEMA> propertySchemas,
+        UnaryOperator<CsvSchema.Builder> schemaEnricher,
+        boolean compressed
     ) {
         var csvSchemaBuilder = schemaEnricher.apply(CsvSchema.builder());
         for (PROPERTY_SCHEMA propertySchema : propertySchemas) {
@@ -74,7 +87,12 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         var factory = mapper.getFactory();
 
         try {
-            var writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+            var writer = compressed
+                ? new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(filePath), GZIP_BUFFER_SIZE),
+                    StandardCharsets.UTF_8
+                ))
+                : Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
             var csvEncoder = factory.createGenerator(writer);
             csvEncoder.setSchema(csvSchema);
             return new JacksonFileAppender(csvEncoder, csvSchema);
@@ -91,7 +109,8 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         this.csvSchema = csvSchema;
     }
 
-    void append(long value) throws IOException {
+    @Override
+    public void append(long value) throws IOException {
         if (value != LONG_DEFAULT_FALLBACK && value != INTEGER_DEFAULT_FALLBACK) {
             setFieldName();
             csvEncoder.writeNumber(value);
@@ -134,7 +153,8 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         csvEncoder.writeEndArray();
     }
 
-    void appendAny(@Nullable Object value) throws IOException {
+    @Override
+    public void appendAny(@Nullable Object value) throws IOException {
         if (value instanceof Double) {
             append((double) value);
         } else if (value instanceof Long) {
@@ -152,12 +172,14 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         }
     }
 
-    void startLine() throws IOException {
+    @Override
+    public void startLine() throws IOException {
         currentColumnIndex = 0;
         csvEncoder.writeStartObject();
     }
 
-    void endLine() throws IOException {
+    @Override
+    public void endLine() throws IOException {
         csvEncoder.writeEndObject();
     }
 
@@ -20,26 +20,56 @@
 package org.neo4j.gds.core.utils.io.file.csv.estimation;
 
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.utils.io.file.FileExportFormat;
 import org.neo4j.gds.core.utils.io.file.GraphStoreToFileExporter;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.function.ToIntFunction;
+
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
 public final class CsvExportEstimation {
 
     // assuming utf-8
     private static final int BYTES_PER_WRITTEN_CHARACTER = 1;
 
+    // gzip typically shrinks the mostly numeric csv data files to a quarter of their size
+    private static final int GZIP_COMPRESSION_RATIO = 4;
+
     public static MemoryEstimation estimate(GraphStore graphStore, double samplingFactor) {
+        return estimate(graphStore, samplingFactor, FileExportFormat.CSV);
+    }
+
+    public static MemoryEstimation estimate(GraphStore graphStore, double samplingFactor, FileExportFormat format) {
+        long nodeData;
+        long relationshipData;
+        switch (format) {
+            case COLUMNAR:
+                nodeData = estimateColumnarNodes(graphStore, samplingFactor);
+                relationshipData = estimateColumnarRelationships(graphStore, samplingFactor);
+                break;
+            case CSV_GZIP:
+                nodeData = estimateNodes(graphStore, samplingFactor) / GZIP_COMPRESSION_RATIO;
+                relationshipData = estimateRelationships(graphStore, samplingFactor) / GZIP_COMPRESSION_RATIO;
+                break;
+            default:
+                nodeData = estimateNodes(graphStore, samplingFactor);
+                relationshipData = estimateRelationships(graphStore, samplingFactor);
+        }
         return MemoryEstimations
             .builder(GraphStoreToFileExporter.class)
-            .fixed("Node data", estimateNodes(graphStore, samplingFactor))
-            .fixed("Relationship data", estimateRelationships(graphStore, samplingFactor))
+            .fixed("Node data", nodeData)
+            .fixed("Relationship data", relationshipData)
             .build();
     }
 
     private static long estimateNodes(GraphStore graphStore, double samplingFactor) {
         long nodeIdsEstimate = getIdEstimate(graphStore);
-        long nodePropertiesEstimate = sampleNodeProperties(graphStore, samplingFactor);
+        long nodePropertiesEstimate = sampleNodeProperties(graphStore, samplingFactor, CsvExportEstimation::csvPropertySize);
 
         return nodeIdsEstimate + nodePropertiesEstimate;
     }
@@ -48,11 +78,84 @@ public final class CsvExportEstimation {
         long avgBytesPerNodeId = getIdEstimate(graphStore) / graphStore.nodeCount() + 1;
 
         long sourceTargetIdEstimate = avgBytesPerNodeId * 2 * graphStore.relationshipCount();
-        var relationshipPropertiesEstimate = sampleRelationshipProperties(graphStore, samplingFactor);
+        var relationshipPropertiesEstimate = sampleRelationshipProperties(graphStore, samplingFactor, CsvExportEstimation::csvPropertySize);
+
+        return sourceTargetIdEstimate + relationshipPropertiesEstimate;
+    }
+
+    /**
+     * Node ids are written in ascending order, so the id column costs the VarLong size of the average id gap.
+     */
+    private static long estimateColumnarNodes(GraphStore graphStore, double samplingFactor) {
+        long nodeCount = graphStore.nodeCount();
+        long averageIdGap = Math.max(1L, ceilDiv(graphStore.nodes().highestNeoId() + 1, nodeCount));
+        long nodeIdsEstimate = nodeCount * zigZagVLongSize(averageIdGap);
+        long nodePropertiesEstimate = sampleNodeProperties(graphStore, samplingFactor, CsvExportEstimation::columnarPropertySize);
+
+        return nodeIdsEstimate + nodePropertiesEstimate;
+    }
+
+    /**
+     * Relationships are written grouped by source node, so the source column mostly stores a delta of 0 or 1.
+     * Within a group the targets are ascending and spread over the whole id space.
+     */
+    private static long estimateColumnarRelationships(GraphStore graphStore, double samplingFactor) {
+        long nodeCount = graphStore.nodeCount();
+        long relationshipCount = graphStore.relationshipCount();
+        long averageDegree = Math.max(1L, ceilDiv(relationshipCount, nodeCount));
+        long averageTargetGap = Math.max(1L, ceilDiv(graphStore.nodes().highestNeoId() + 1, averageDegree));
+
+        long sourceTargetIdEstimate = relationshipCount * (zigZagVLongSize(1L) + zigZagVLongSize(averageTargetGap));
+        var relationshipPropertiesEstimate = sampleRelationshipProperties(graphStore, samplingFactor, CsvExportEstimation::columnarPropertySize);
 
         return sourceTargetIdEstimate + relationshipPropertiesEstimate;
     }
 
+    private static long zigZagVLongSize(long delta) {
+        return encodedVLongSize(delta << 1);
+    }
+
+    /**
+     * The number of characters of the csv field, including the separator.
+     */
+    static int csvPropertySize(Object propertyValue) {
+        int characterCount = 0;
+
+        if (propertyValue == null) {
+            // nothing to do here
+        } else if (propertyValue.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(propertyValue); i++) {
+                characterCount += getCharacterCount(Array.get(propertyValue, i)) + 1;
+            }
+        } else {
+            characterCount = getCharacterCount(propertyValue);
+        }
+
+        return characterCount * BYTES_PER_WRITTEN_CHARACTER + 1;
+    }
+
+    /**
+     * The number of bytes of the value in a columnar data file.
+     */
+    static int columnarPropertySize(Object propertyValue) {
+        if (propertyValue == null) {
+            return Long.BYTES;
+        } else if (propertyValue instanceof long[]) {
+            return Integer.BYTES + ((long[]) propertyValue).length * Long.BYTES;
+        } else if (propertyValue instanceof double[]) {
+            return Integer.BYTES + ((double[]) propertyValue).length * Double.BYTES;
+        } else if (propertyValue instanceof float[]) {
+            return Integer.BYTES + ((float[]) propertyValue).length * Float.BYTES;
+        } else if (propertyValue instanceof Number) {
+            return Long.BYTES;
+        }
+        return Integer.BYTES + getCharacterCount(propertyValue);
+    }
+
+    private static int getCharacterCount(Object o) {
+        return o.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
     private static long getIdEstimate(GraphStore graphStore) {
         long maxNumberOfDigits = (long) Math.floor(Math.log10(graphStore.nodeCount()));
         long nodeIdEstimate = 0;
@@ -75,12 +178,20 @@ public final class CsvExportEstimation {
         return nodeIdEstimate;
     }
 
-    private static long sampleNodeProperties(GraphStore graphStore, double samplingFactor) {
-        return graphStore.nodeCount() * NodePropertySampler.sample(graphStore, samplingFactor);
+    private static long sampleNodeProperties(
+        GraphStore graphStore,
+        double samplingFactor,
+        ToIntFunction<Object> propertySize
+    ) {
+        return graphStore.nodeCount() * NodePropertySampler.sample(graphStore, samplingFactor, propertySize);
     }
 
-    private static long sampleRelationshipProperties(GraphStore graphStore, double samplingFactor) {
-        return graphStore.relationshipCount() * RelationshipPropertySampler.sample(graphStore, samplingFactor);
+    private static long sampleRelationshipProperties(
+        GraphStore graphStore,
+        double samplingFactor,
+        ToIntFunction<Object> propertySize
+    ) {
+        return graphStore.relationshipCount() * RelationshipPropertySampler.sample(graphStore, samplingFactor, propertySize);
     }
 
     private CsvExportEstimation() {}
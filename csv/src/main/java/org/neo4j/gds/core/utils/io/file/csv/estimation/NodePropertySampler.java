@@ -22,35 +22,37 @@ package org.neo4j.gds.core.utils.io.file.csv.estimation;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.GraphStore;
 
-import java.lang.reflect.Array;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
 
 
 /**
- * Calculates the average number of node property characters by sampling nodes and their properties.
+ * Calculates the average number of node property bytes by sampling nodes and their properties.
  * A number of nodes is randomly selected and then classified according to their node labels.
  */
 final class NodePropertySampler {
 
     /**
-     * @return The average number of property characters per node entry.
+     * @param propertySize computes the number of bytes a property value occupies in the data file
+     * @return The average number of property bytes per node entry.
      */
-    public static long sample(GraphStore graphStore, double samplingFactor) {
-        return new NodePropertySampler(graphStore, samplingFactor).sample();
+    public static long sample(GraphStore graphStore, double samplingFactor, ToIntFunction<Object> propertySize) {
+        return new NodePropertySampler(graphStore, samplingFactor, propertySize).sample();
     }
 
     private final long nodesToSample;
     private final GraphStore graphStore;
+    private final ToIntFunction<Object> propertySize;
     private final Map<List<NodeLabel>, NodeLabelSample> schemaSamples;
 
-    private NodePropertySampler(GraphStore graphStore, double samplingFactor) {
+    private NodePropertySampler(GraphStore graphStore, double samplingFactor, ToIntFunction<Object> propertySize) {
         this.graphStore = graphStore;
+        this.propertySize = propertySize;
 
         this.nodesToSample = Math.round(graphStore.nodeCount() * samplingFactor);
         this.schemaSamples = new HashMap<>();
@@ -62,7 +64,7 @@ final class NodePropertySampler {
             var nodeId = random.nextLong(graphStore.nodeCount());
             var labels = graphStore.nodes().nodeLabels(nodeId);
 
-            var schemaSample = schemaSamples.computeIfAbsent(labels, (l) -> new NodeLabelSample(graphStore, l));
+            var schemaSample = schemaSamples.computeIfAbsent(labels, (l) -> new NodeLabelSample(graphStore, propertySize, l));
             schemaSample.sample(nodeId);
         }
 
@@ -82,12 +84,14 @@ final class NodePropertySampler {
     private static class NodeLabelSample {
 
         private final GraphStore graphStore;
+        private final ToIntFunction<Object> propertySize;
         private final Map<String, List<Integer>> propertyCharactersSamples;
 
         private long encounters;
 
-        NodeLabelSample(GraphStore graphStore, Collection<NodeLabel> labels) {
+        NodeLabelSample(GraphStore graphStore, ToIntFunction<Object> propertySize, Collection<NodeLabel> labels) {
             this.graphStore = graphStore;
+            this.propertySize = propertySize;
             this.propertyCharactersSamples = new HashMap<>();
 
             graphStore
@@ -106,7 +110,7 @@ final class NodePropertySampler {
                 .mapToInt(propertySamples ->
                     propertySamples
                         .stream()
-                        .reduce(0, Integer::sum) / propertySamples.size() + 1)
+                        .reduce(0, Integer::sum) / propertySamples.size())
                 .sum();
         }
 
@@ -119,25 +123,9 @@ final class NodePropertySampler {
                     .values()
                     .getObject(nodeId);
 
-                int characterCount = 0;
-
-                if (propertyValue == null) {
-                    // nothing to do here
-                } else if (propertyValue.getClass().isArray()) {
-                    for (int i = 0; i < Array.getLength(propertyValue); i++) {
-                        characterCount += getCharacterCount(Array.get(propertyValue, i)) + 1;
-                    }
-                } else {
-                    characterCount = getCharacterCount(propertyValue);
-                }
-
-                sampleList.add(characterCount);
+                sampleList.add(propertySize.applyAsInt(propertyValue));
             });
         }
-
-        private int getCharacterCount(Object o) {
-            return o.toString().getBytes(StandardCharsets.UTF_8).length;
-        }
     }
 
 }
@@ -22,14 +22,14 @@ package org.neo4j.gds.core.utils.io.file.csv.estimation;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.GraphStore;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
- * Calculates the average number of relationship property characters by sampling.
+ * Calculates the average number of relationship property bytes by sampling.
  * This is done per relationship type.
  * For each type a number of nodes with at least one relationship of the given type are randomly chosen.
  * The first relationship for each sampled node is used to estimate the property values.
@@ -38,21 +38,23 @@ final class RelationshipPropertySampler {
 
     private final double samplingFactor;
     private final GraphStore graphStore;
+    private final ToIntFunction<Object> propertySize;
     private final ThreadLocalRandom random;
 
-    public static long sample(GraphStore graphStore, double samplingFactor) {
-        return new RelationshipPropertySampler(graphStore, samplingFactor).sample();
+    public static long sample(GraphStore graphStore, double samplingFactor, ToIntFunction<Object> propertySize) {
+        return new RelationshipPropertySampler(graphStore, samplingFactor, propertySize).sample();
     }
 
-    private RelationshipPropertySampler(GraphStore graphStore, double samplingFactor) {
+    private RelationshipPropertySampler(GraphStore graphStore, double samplingFactor, ToIntFunction<Object> propertySize) {
         this.graphStore = graphStore;
+        this.propertySize = propertySize;
         this.random = ThreadLocalRandom.current();
 
         this.samplingFactor = samplingFactor;
     }
 
     /**
-     * @return The average number of relationship property characters per relationship entry.
+     * @return The average number of relationship property bytes per relationship entry.
      */
     private long sample() {
         return graphStore
@@ -98,7 +100,7 @@ final class RelationshipPropertySampler {
                 var samples = propertyCharactersSamples.get(graphIndex);
 
                 graph.forEachRelationship(nodeId, Double.NaN, (s, t, w) -> {
-                    samples.add(getCharacterCount(w));
+                    samples.add(propertySize.applyAsInt(w));
                     return false;
                 });
             }
@@ -108,12 +110,8 @@ final class RelationshipPropertySampler {
 
         return propertyCharactersSamples
             .stream()
-            .mapToInt(samples -> samples.isEmpty() ? 0 : samples.stream().reduce(0, Integer::sum) / samples.size() + 1)
+            .mapToInt(samples -> samples.isEmpty() ? 0 : samples.stream().reduce(0, Integer::sum) / samples.size())
             .sum();
     }
-
-    private int getCharacterCount(Object o) {
-        return o.toString().getBytes(StandardCharsets.UTF_8).length;
-    }
 }
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of a binary graph snapshot directory.
+ *
+ * <pre>
+ * snapshot.meta                           database id, schema, counts and page tables
+ * nodes.bin                               original node ids followed by one bit set per label
+ * node-property-{i}.bin                   values of the i-th node property
+ * relationships-{t}.degrees               degrees of relationship type t
+ * relationships-{t}.offsets               adjacency offsets of relationship type t
+ * relationships-{t}.adjacency             compressed adjacency pages of relationship type t
+ * relationships-{t}-property-{p}.offsets  property offsets of the p-th property of relationship type t
+ * relationships-{t}-property-{p}.bin      property pages of the p-th property of relationship type t
+ * </pre>
+ *
+ * Adjacency pages are stored in the same compressed format and page layout
+ * as the in-memory adjacency lists and are memory-mapped on load.
+ */
+final class GraphStoreSnapshot {
+
+    static final int MAGIC = 0x47445353; // "GDSS"
+    static final int VERSION = 1;
+
+    static final String META_FILE = "snapshot.meta";
+    static final String NODES_FILE = "nodes.bin";
+
+    static Path nodePropertyFile(Path directory, int propertyIndex) {
+        return directory.resolve(formatWithLocale("node-property-%d.bin", propertyIndex));
+    }
+
+    static Path degreesFile(Path directory, int typeIndex) {
+        return directory.resolve(formatWithLocale("relationships-%d.degrees", typeIndex));
+    }
+
+    static Path offsetsFile(Path directory, int typeIndex) {
+        return directory.resolve(formatWithLocale("relationships-%d.offsets", typeIndex));
+    }
+
+    static Path adjacencyFile(Path directory, int typeIndex) {
+        return directory.resolve(formatWithLocale("relationships-%d.adjacency", typeIndex));
+    }
+
+    static Path propertyOffsetsFile(Path directory, int typeIndex, int propertyIndex) {
+        return directory.resolve(formatWithLocale("relationships-%d-property-%d.offsets", typeIndex, propertyIndex));
+    }
+
+    static Path propertyFile(Path directory, int typeIndex, int propertyIndex) {
+        return directory.resolve(formatWithLocale("relationships-%d-property-%d.bin", typeIndex, propertyIndex));
+    }
+
+    private GraphStoreSnapshot() {}
+}
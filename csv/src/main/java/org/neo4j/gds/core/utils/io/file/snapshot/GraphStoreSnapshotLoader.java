@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.OffHeapAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.loading.ArrayIdMap;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilderOps;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+import org.neo4j.values.storable.NumberType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongUnaryOperator;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph snapshot written by {@link GraphStoreSnapshotWriter}.
+ *
+ * The compressed adjacency pages are memory-mapped and used as they are,
+ * so loading does not depend on the size of the topology and the pages are
+ * faulted in lazily by the operating system on first access.
+ * Ids, degrees, offsets and properties are read into heap arrays with bulk copies.
+ */
+public final class GraphStoreSnapshotLoader {
+
+    private final Path directory;
+    private final int concurrency;
+
+    public static GraphStoreSnapshotLoader create(Path directory, int concurrency) {
+        return new GraphStoreSnapshotLoader(directory, concurrency);
+    }
+
+    private GraphStoreSnapshotLoader(Path directory, int concurrency) {
+        this.directory = directory;
+        this.concurrency = concurrency;
+    }
+
+    public GraphStore run() {
+        try {
+            return load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private GraphStore load() throws IOException {
+        try (var meta = SnapshotInput.open(directory.resolve(GraphStoreSnapshot.META_FILE))) {
+            int magic = meta.readInt();
+            int version = meta.readInt();
+            if (magic != GraphStoreSnapshot.MAGIC) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Directory `%s` does not contain a graph snapshot.",
+                    directory
+                ));
+            }
+            if (version != GraphStoreSnapshot.VERSION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported graph snapshot version %d, expected version %d.",
+                    version,
+                    GraphStoreSnapshot.VERSION
+                ));
+            }
+
+            var databaseName = meta.readString();
+            var databaseId = UUID.fromString(meta.readString());
+            boolean canWriteToDatabase = meta.readBoolean();
+            long nodeCount = meta.readLong();
+            long highestNeoId = meta.readLong();
+
+            var nodeSchemaBuilder = NodeSchema.builder();
+            var labels = new ArrayList<NodeLabel>();
+            int labelCount = meta.readInt();
+            for (int i = 0; i < labelCount; i++) {
+                var label = NodeLabel.of(meta.readString());
+                labels.add(label);
+                nodeSchemaBuilder.addLabel(label);
+                int propertyCount = meta.readInt();
+                for (int p = 0; p < propertyCount; p++) {
+                    var propertySchema = readPropertySchema(meta);
+                    nodeSchemaBuilder.addProperty(label, propertySchema.key(), propertySchema);
+                }
+            }
+            var nodeSchema = nodeSchemaBuilder.build();
+
+            var nodes = loadNodes(labels, nodeCount, highestNeoId);
+            var nodePropertyStore = loadNodeProperties(meta, nodeSchema.unionProperties(), nodeCount);
+
+            var relationshipSchemaBuilder = RelationshipSchema.builder();
+            var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+            var relationshipPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+            int typeCount = meta.readInt();
+            for (int t = 0; t < typeCount; t++) {
+                var relationshipType = RelationshipType.of(meta.readString());
+                relationshipSchemaBuilder.addRelationshipType(relationshipType);
+                var orientation = Orientation.valueOf(meta.readString());
+                boolean isMultiGraph = meta.readBoolean();
+                long relationshipCount = meta.readLong();
+                var pageLengths = meta.readIntArray();
+
+                var degrees = readInts(GraphStoreSnapshot.degreesFile(directory, t), nodeCount);
+                var offsets = readLongs(GraphStoreSnapshot.offsetsFile(directory, t), nodeCount);
+                var adjacencyList = new OffHeapAdjacencyList(
+                    mapPages(GraphStoreSnapshot.adjacencyFile(directory, t), pageLengths),
+                    degrees,
+                    offsets
+                );
+                topologies.put(
+                    relationshipType,
+                    Relationships.of(relationshipCount, orientation, isMultiGraph, adjacencyList).topology()
+                );
+
+                var propertyStoreBuilder = RelationshipPropertyStore.builder();
+                int propertyCount = meta.readInt();
+                for (int p = 0; p < propertyCount; p++) {
+                    var propertySchema = readPropertySchema(meta);
+                    var aggregation = Aggregation.valueOf(meta.readString());
+                    double defaultPropertyValue = meta.readDouble();
+                    var propertyPageLengths = meta.readIntArray();
+
+                    var propertyList = new UncompressedAdjacencyList(
+                        readPages(GraphStoreSnapshot.propertyFile(directory, t, p), propertyPageLengths),
+                        degrees,
+                        readLongs(GraphStoreSnapshot.propertyOffsetsFile(directory, t, p), nodeCount)
+                    );
+                    var properties = Relationships.of(
+                        relationshipCount,
+                        orientation,
+                        isMultiGraph,
+                        adjacencyList,
+                        propertyList,
+                        defaultPropertyValue
+                    ).properties().orElseThrow();
+
+                    relationshipSchemaBuilder.addProperty(
+                        relationshipType,
+                        propertySchema.key(),
+                        RelationshipPropertySchema.of(
+                            propertySchema.key(),
+                            propertySchema.valueType(),
+                            propertySchema.defaultValue(),
+                            propertySchema.state(),
+                            aggregation
+                        )
+                    );
+                    propertyStoreBuilder.putIfAbsent(
+                        propertySchema.key(),
+                        RelationshipProperty.of(
+                            propertySchema.key(),
+                            NumberType.FLOATING_POINT,
+                            propertySchema.state(),
+                            properties,
+                            propertySchema.defaultValue(),
+                            aggregation
+                        )
+                    );
+                }
+                relationshipPropertyStores.put(relationshipType, propertyStoreBuilder.build());
+            }
+
+            return new GraphStoreBuilder()
+                .databaseId(DatabaseIdFactory.from(databaseName, databaseId))
+                .capabilities(ImmutableStaticCapabilities.of(canWriteToDatabase))
+                .schema(GraphSchema.of(nodeSchema, relationshipSchemaBuilder.build(), Map.of()))
+                .nodes(nodes)
+                .nodePropertyStore(nodePropertyStore)
+                .relationships(topologies)
+                .relationshipPropertyStores(relationshipPropertyStores)
+                .concurrency(concurrency)
+                .build();
+        }
+    }
+
+    private IdMap loadNodes(List<NodeLabel> labels, long nodeCount, long highestNeoId) throws IOException {
+        try (var in = SnapshotInput.open(directory.resolve(GraphStoreSnapshot.NODES_FILE))) {
+            var graphIds = in.readLongs(nodeCount);
+
+            var labelBitSets = new LinkedHashMap<NodeLabel, BitSet>();
+            for (NodeLabel label : labels) {
+                int wordCount = in.readInt();
+                var words = new long[wordCount];
+                in.readLongs(words, 0, wordCount);
+                labelBitSets.put(label, new BitSet(words, wordCount));
+            }
+
+            LabelInformation labelInformation = labels.equals(List.of(NodeLabel.ALL_NODES))
+                ? LabelInformation.single(NodeLabel.ALL_NODES).build(nodeCount, LongUnaryOperator.identity())
+                : LabelInformation.of(labelBitSets);
+
+            // The sparse original-to-internal mapping is cheap to rebuild in parallel
+            // and would otherwise dominate the snapshot size for sparse id spaces.
+            var nodeToGraphIds = ArrayIdMapBuilderOps.buildSparseIdMap(
+                nodeCount,
+                highestNeoId,
+                concurrency,
+                graphIds
+            );
+            return new ArrayIdMap(graphIds, nodeToGraphIds, labelInformation, nodeCount, highestNeoId);
+        }
+    }
+
+    private NodePropertyStore loadNodeProperties(
+        SnapshotInput meta,
+        Map<String, PropertySchema> propertySchemas,
+        long nodeCount
+    ) throws IOException {
+        var builder = NodePropertyStore.builder();
+        int propertyCount = meta.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            var propertyKey = meta.readString();
+            var propertySchema = propertySchemas.get(propertyKey);
+            NodePropertyValues values;
+            try (var in = SnapshotInput.open(GraphStoreSnapshot.nodePropertyFile(directory, i))) {
+                values = readNodePropertyValues(in, propertySchema.valueType(), nodeCount);
+            }
+            builder.putIfAbsent(
+                propertyKey,
+                NodeProperty.of(propertyKey, propertySchema.state(), values, propertySchema.defaultValue())
+            );
+        }
+        return builder.build();
+    }
+
+    private static NodePropertyValues readNodePropertyValues(
+        SnapshotInput in,
+        ValueType valueType,
+        long nodeCount
+    ) throws IOException {
+        switch (valueType) {
+            case LONG:
+                return in.readLongs(nodeCount).asNodeProperties();
+            case DOUBLE:
+                return in.readDoubles(nodeCount).asNodeProperties();
+            case LONG_ARRAY: {
+                var values = HugeObjectArray.newArray(long[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, in.readLongArray());
+                }
+                return values.asNodeProperties();
+            }
+            case DOUBLE_ARRAY: {
+                var values = HugeObjectArray.newArray(double[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, in.readDoubleArray());
+                }
+                return values.asNodeProperties();
+            }
+            case FLOAT_ARRAY: {
+                var values = HugeObjectArray.newArray(float[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, in.readFloatArray());
+                }
+                return values.asNodeProperties();
+            }
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Graph snapshots do not support node properties of type `%s`.",
+                    valueType
+                ));
+        }
+    }
+
+    private static PropertySchema readPropertySchema(SnapshotInput in) throws IOException {
+        var key = in.readString();
+        var valueType = ValueType.valueOf(in.readString());
+        var state = PropertyState.valueOf(in.readString());
+        var defaultValue = readDefaultValue(in, valueType);
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    private static DefaultValue readDefaultValue(SnapshotInput in, ValueType valueType) throws IOException {
+        boolean isUserDefined = in.readBoolean();
+        boolean hasValue = in.readBoolean();
+        @Nullable Object value = null;
+        if (hasValue) {
+            switch (valueType) {
+                case LONG:
+                    value = in.readLong();
+                    break;
+                case DOUBLE:
+                    value = in.readDouble();
+                    break;
+                case LONG_ARRAY:
+                    value = in.readLongArray();
+                    break;
+                case DOUBLE_ARRAY:
+                    value = in.readDoubleArray();
+                    break;
+                case FLOAT_ARRAY:
+                    value = in.readFloatArray();
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Graph snapshots do not support properties of type `%s`.",
+                        valueType
+                    ));
+            }
+        }
+        return DefaultValue.of(value, isUserDefined);
+    }
+
+    private static HugeIntArray readInts(Path file, long size) throws IOException {
+        try (var in = SnapshotInput.open(file)) {
+            return in.readInts(size);
+        }
+    }
+
+    private static HugeLongArray readLongs(Path file, long size) throws IOException {
+        try (var in = SnapshotInput.open(file)) {
+            return in.readLongs(size);
+        }
+    }
+
+    private static ByteBuffer[] mapPages(Path file, int[] pageLengths) throws IOException {
+        var pages = new ByteBuffer[pageLengths.length];
+        try (var channel = FileChannel.open(file, READ)) {
+            long position = 0L;
+            for (int i = 0; i < pageLengths.length; i++) {
+                // mappings stay valid after the channel has been closed
+                pages[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, pageLengths[i]);
+                position += pageLengths[i];
+            }
+        }
+        return pages;
+    }
+
+    private static long[][] readPages(Path file, int[] pageLengths) throws IOException {
+        var pages = new long[pageLengths.length][];
+        try (var in = SnapshotInput.open(file)) {
+            for (int i = 0; i < pageLengths.length; i++) {
+                pages[i] = new long[pageLengths[i]];
+                in.readLongs(pages[i], 0, pageLengths[i]);
+            }
+        }
+        return pages;
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.compress.LongArrayBuffer;
+import org.neo4j.gds.core.loading.AdjacencyCompression;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link GraphStore} into a binary snapshot directory that can be loaded
+ * with {@link GraphStoreSnapshotLoader} without re-parsing or re-compressing the graph.
+ * The metadata file is written last, so that an interrupted snapshot is never mistaken for a complete one.
+ */
+public final class GraphStoreSnapshotWriter {
+
+    // a VarLong encoded value uses at most 10 bytes
+    private static final int MAX_ENCODED_VLONG_SIZE = 10;
+
+    private final GraphStore graphStore;
+    private final Path directory;
+
+    public static GraphStoreSnapshotWriter create(GraphStore graphStore, Path directory) {
+        return new GraphStoreSnapshotWriter(graphStore, directory);
+    }
+
+    private GraphStoreSnapshotWriter(GraphStore graphStore, Path directory) {
+        this.graphStore = graphStore;
+        this.directory = directory;
+    }
+
+    public void run() {
+        if (!graphStore.graphPropertyKeys().isEmpty()) {
+            throw new IllegalArgumentException("Graph snapshots do not support graph properties.");
+        }
+        try {
+            Files.createDirectories(directory);
+
+            var labels = sorted(graphStore.nodeLabels(), NodeLabel::name);
+            var nodePropertyKeys = sorted(graphStore.nodePropertyKeys(), key -> key);
+            var relationshipTypes = sorted(graphStore.relationshipTypes(), RelationshipType::name);
+
+            writeNodes(labels);
+            for (int i = 0; i < nodePropertyKeys.size(); i++) {
+                writeNodeProperty(i, graphStore.nodeProperty(nodePropertyKeys.get(i)).values());
+            }
+            var relationshipMeta = new ArrayList<RelationshipMeta>();
+            for (int t = 0; t < relationshipTypes.size(); t++) {
+                relationshipMeta.add(writeRelationships(t, relationshipTypes.get(t)));
+            }
+
+            writeMeta(labels, nodePropertyKeys, relationshipMeta);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeNodes(List<NodeLabel> labels) throws IOException {
+        IdMap nodes = graphStore.nodes();
+        long nodeCount = nodes.nodeCount();
+
+        var labelBitSets = new HashMap<NodeLabel, BitSet>();
+        labels.forEach(label -> labelBitSets.put(label, new BitSet(nodeCount)));
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long node = nodeId;
+            nodes.forEachNodeLabel(node, label -> {
+                labelBitSets.get(label).set(node);
+                return true;
+            });
+        }
+
+        try (var out = SnapshotOutput.create(directory.resolve(GraphStoreSnapshot.NODES_FILE))) {
+            out.writeLongs(nodeCount, nodes::toOriginalNodeId);
+            for (NodeLabel label : labels) {
+                var bitSet = labelBitSets.get(label);
+                out.writeInt(bitSet.wlen);
+                out.writeLongs(bitSet.wlen, word -> bitSet.bits[(int) word]);
+            }
+        }
+    }
+
+    private void writeNodeProperty(int propertyIndex, NodePropertyValues values) throws IOException {
+        long nodeCount = graphStore.nodeCount();
+        try (var out = SnapshotOutput.create(GraphStoreSnapshot.nodePropertyFile(directory, propertyIndex))) {
+            switch (values.valueType()) {
+                case LONG:
+                    out.writeLongs(nodeCount, values::longValue);
+                    break;
+                case DOUBLE:
+                    out.writeDoubles(nodeCount, values::doubleValue);
+                    break;
+                case LONG_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        out.writeLongArray(values.longArrayValue(nodeId));
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        out.writeDoubleArray(values.doubleArrayValue(nodeId));
+                    }
+                    break;
+                case FLOAT_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        out.writeFloatArray(values.floatArrayValue(nodeId));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Graph snapshots do not support node properties of type `%s`.",
+                        values.valueType()
+                    ));
+            }
+        }
+    }
+
+    private RelationshipMeta writeRelationships(int typeIndex, RelationshipType relationshipType) throws IOException {
+        var graph = graphStore.getGraph(relationshipType);
+        if (!(graph instanceof CSRGraph)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot create a snapshot of relationship type `%s`, its graph is not backed by a CSR.",
+                relationshipType.name
+            ));
+        }
+        var topology = ((CSRGraph) graph).relationshipTopologies().get(relationshipType);
+        var adjacencyList = topology.adjacencyList();
+        long nodeCount = graphStore.nodeCount();
+
+        try (var out = SnapshotOutput.create(GraphStoreSnapshot.degreesFile(directory, typeIndex))) {
+            out.writeInts(nodeCount, adjacencyList::degree);
+        }
+
+        var offsets = HugeLongArray.newArray(nodeCount);
+        var layout = new SnapshotPageLayout();
+        try (var out = SnapshotOutput.create(GraphStoreSnapshot.adjacencyFile(directory, typeIndex))) {
+            writeAdjacency(adjacencyList, nodeCount, offsets, layout, out);
+        }
+        try (var out = SnapshotOutput.create(GraphStoreSnapshot.offsetsFile(directory, typeIndex))) {
+            out.writeLongs(nodeCount, offsets::get);
+        }
+
+        var propertyKeys = sorted(graphStore.relationshipPropertyKeys(relationshipType), key -> key);
+        var properties = new ArrayList<RelationshipPropertyMeta>();
+        for (int p = 0; p < propertyKeys.size(); p++) {
+            var property = graphStore.relationshipPropertyValues(relationshipType, propertyKeys.get(p));
+            properties.add(writeRelationshipProperty(
+                typeIndex,
+                p,
+                adjacencyList,
+                property.values(),
+                property.propertySchema()
+            ));
+        }
+
+        return new RelationshipMeta(relationshipType, topology, layout.pageLengths(), properties);
+    }
+
+    private static void writeAdjacency(
+        AdjacencyList adjacencyList,
+        long nodeCount,
+        HugeLongArray offsets,
+        SnapshotPageLayout layout,
+        SnapshotOutput out
+    ) throws IOException {
+        var deltas = new LongArrayBuffer();
+        var compressed = new byte[0];
+        AdjacencyCursor cursor = null;
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = adjacencyList.degree(nodeId);
+            if (degree == 0) {
+                continue;
+            }
+            deltas.ensureCapacity(degree);
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            long previous = 0L;
+            int length = 0;
+            while (cursor.hasNextVLong()) {
+                long target = cursor.nextVLong();
+                deltas.buffer[length++] = target - previous;
+                previous = target;
+            }
+            deltas.length = length;
+
+            if (compressed.length < length * MAX_ENCODED_VLONG_SIZE) {
+                compressed = new byte[length * MAX_ENCODED_VLONG_SIZE];
+            }
+            int bytes = AdjacencyCompression.compress(deltas, compressed);
+            offsets.set(nodeId, layout.allocate(bytes));
+            out.writeBytes(compressed, bytes);
+        }
+    }
+
+    private RelationshipPropertyMeta writeRelationshipProperty(
+        int typeIndex,
+        int propertyIndex,
+        AdjacencyList adjacencyList,
+        Relationships.Properties properties,
+        RelationshipPropertySchema propertySchema
+    ) throws IOException {
+        long nodeCount = graphStore.nodeCount();
+        AdjacencyProperties propertiesList = properties.propertiesList();
+        double defaultValue = properties.defaultPropertyValue();
+
+        var offsets = HugeLongArray.newArray(nodeCount);
+        var layout = new SnapshotPageLayout();
+        try (var out = SnapshotOutput.create(GraphStoreSnapshot.propertyFile(directory, typeIndex, propertyIndex))) {
+            PropertyCursor cursor = null;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int degree = adjacencyList.degree(nodeId);
+                if (degree == 0) {
+                    continue;
+                }
+                cursor = propertiesList.propertyCursor(cursor, nodeId, defaultValue);
+                offsets.set(nodeId, layout.allocate(degree));
+                for (int i = 0; i < degree; i++) {
+                    out.writeLong(cursor.nextLong());
+                }
+            }
+        }
+        try (var out = SnapshotOutput.create(GraphStoreSnapshot.propertyOffsetsFile(directory, typeIndex, propertyIndex))) {
+            out.writeLongs(nodeCount, offsets::get);
+        }
+
+        return new RelationshipPropertyMeta(propertySchema, defaultValue, layout.pageLengths());
+    }
+
+    private void writeMeta(
+        List<NodeLabel> labels,
+        List<String> nodePropertyKeys,
+        List<RelationshipMeta> relationships
+    ) throws IOException {
+        var nodes = graphStore.nodes();
+        var databaseId = graphStore.databaseId();
+        var nodeSchema = graphStore.schema().nodeSchema().properties();
+
+        try (var out = SnapshotOutput.create(directory.resolve(GraphStoreSnapshot.META_FILE))) {
+            out.writeInt(GraphStoreSnapshot.MAGIC);
+            out.writeInt(GraphStoreSnapshot.VERSION);
+
+            out.writeString(databaseId.name());
+            out.writeString(databaseId.databaseId().uuid().toString());
+            out.writeBoolean(graphStore.capabilities().canWriteToDatabase());
+
+            out.writeLong(nodes.nodeCount());
+            out.writeLong(nodes.highestNeoId());
+
+            out.writeInt(labels.size());
+            for (NodeLabel label : labels) {
+                out.writeString(label.name);
+                var properties = nodeSchema.getOrDefault(label, Map.of());
+                out.writeInt(properties.size());
+                for (PropertySchema propertySchema : properties.values()) {
+                    writePropertySchema(out, propertySchema);
+                }
+            }
+
+            out.writeInt(nodePropertyKeys.size());
+            for (String propertyKey : nodePropertyKeys) {
+                out.writeString(propertyKey);
+            }
+
+            out.writeInt(relationships.size());
+            for (RelationshipMeta relationship : relationships) {
+                out.writeString(relationship.relationshipType.name);
+                out.writeString(relationship.topology.orientation().name());
+                out.writeBoolean(relationship.topology.isMultiGraph());
+                out.writeLong(relationship.topology.elementCount());
+                out.writeIntArray(relationship.pageLengths);
+
+                out.writeInt(relationship.properties.size());
+                for (RelationshipPropertyMeta property : relationship.properties) {
+                    writePropertySchema(out, property.propertySchema);
+                    out.writeString(property.propertySchema.aggregation().name());
+                    out.writeDouble(property.defaultValue);
+                    out.writeIntArray(property.pageLengths);
+                }
+            }
+        }
+    }
+
+    private static void writePropertySchema(SnapshotOutput out, PropertySchema propertySchema) throws IOException {
+        var valueType = propertySchema.valueType();
+        out.writeString(propertySchema.key());
+        out.writeString(valueType.name());
+        out.writeString(propertySchema.state().name());
+        writeDefaultValue(out, valueType, propertySchema.defaultValue());
+    }
+
+    private static void writeDefaultValue(SnapshotOutput out, ValueType valueType, DefaultValue defaultValue) throws IOException {
+        out.writeBoolean(defaultValue.isUserDefined());
+        var value = defaultValue.getObject();
+        out.writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+        switch (valueType) {
+            case LONG:
+                out.writeLong(defaultValue.longValue());
+                break;
+            case DOUBLE:
+                out.writeDouble(defaultValue.doubleValue());
+                break;
+            case LONG_ARRAY:
+                out.writeLongArray(defaultValue.longArrayValue());
+                break;
+            case DOUBLE_ARRAY:
+                out.writeDoubleArray(defaultValue.doubleArrayValue());
+                break;
+            case FLOAT_ARRAY:
+                out.writeFloatArray(defaultValue.floatArrayValue());
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Graph snapshots do not support properties of type `%s`.",
+                    valueType
+                ));
+        }
+    }
+
+    private static <T> List<T> sorted(Collection<T> elements, Function<T, String> name) {
+        var list = new ArrayList<>(elements);
+        list.sort(Comparator.comparing(name));
+        return list;
+    }
+
+    private static final class RelationshipMeta {
+        private final RelationshipType relationshipType;
+        private final Relationships.Topology topology;
+        private final int[] pageLengths;
+        private final List<RelationshipPropertyMeta> properties;
+
+        private RelationshipMeta(
+            RelationshipType relationshipType,
+            Relationships.Topology topology,
+            int[] pageLengths,
+            List<RelationshipPropertyMeta> properties
+        ) {
+            this.relationshipType = relationshipType;
+            this.topology = topology;
+            this.pageLengths = pageLengths;
+            this.properties = properties;
+        }
+    }
+
+    private static final class RelationshipPropertyMeta {
+        private final RelationshipPropertySchema propertySchema;
+        private final double defaultValue;
+        private final int[] pageLengths;
+
+        private RelationshipPropertyMeta(
+            RelationshipPropertySchema propertySchema,
+            double defaultValue,
+            int[] pageLengths
+        ) {
+            this.propertySchema = propertySchema;
+            this.defaultValue = defaultValue;
+            this.pageLengths = pageLengths;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Buffered, sequential reader for binary snapshot files.
+ * Bulk reads copy whole buffers into the pages of the target arrays.
+ */
+final class SnapshotInput implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static SnapshotInput open(Path file) throws IOException {
+        return new SnapshotInput(FileChannel.open(file, READ));
+    }
+
+    private SnapshotInput(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.buffer.limit(0);
+    }
+
+    byte readByte() throws IOException {
+        ensureAvailable(Byte.BYTES);
+        return buffer.get();
+    }
+
+    int readInt() throws IOException {
+        ensureAvailable(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long readLong() throws IOException {
+        ensureAvailable(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    float readFloat() throws IOException {
+        ensureAvailable(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    double readDouble() throws IOException {
+        ensureAvailable(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    String readString() throws IOException {
+        var bytes = new byte[readInt()];
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureAvailable(1);
+            int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    int[] readIntArray() throws IOException {
+        var values = new int[readInt()];
+        readInts(values, 0, values.length);
+        return values;
+    }
+
+    @Nullable long[] readLongArray() throws IOException {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        var values = new long[length];
+        readLongs(values, 0, length);
+        return values;
+    }
+
+    @Nullable double[] readDoubleArray() throws IOException {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        var values = new double[length];
+        readDoubles(values, 0, length);
+        return values;
+    }
+
+    @Nullable float[] readFloatArray() throws IOException {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readFloat();
+        }
+        return values;
+    }
+
+    void readLongs(long[] into, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(into, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readInts(int[] into, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(into, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readDoubles(double[] into, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Double.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(into, offset, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    HugeLongArray readLongs(long size) throws IOException {
+        var array = HugeLongArray.newArray(size);
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    HugeIntArray readInts(long size) throws IOException {
+        var array = HugeIntArray.newArray(size);
+        try (HugeCursor<int[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    HugeDoubleArray readDoubles(long size) throws IOException {
+        var array = HugeDoubleArray.newArray(size);
+        try (HugeCursor<double[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void ensureAvailable(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of snapshot file");
+            }
+        }
+        buffer.flip();
+    }
+}
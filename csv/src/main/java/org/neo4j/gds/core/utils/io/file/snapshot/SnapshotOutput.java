@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Buffered, sequential writer for binary snapshot files.
+ */
+final class SnapshotOutput implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static SnapshotOutput create(Path file) throws IOException {
+        return new SnapshotOutput(FileChannel.open(file, CREATE_NEW, WRITE));
+    }
+
+    private SnapshotOutput(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    void writeByte(byte value) throws IOException {
+        ensureCapacity(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void writeInt(int value) throws IOException {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeFloat(float value) throws IOException {
+        ensureCapacity(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        writeByte((byte) (value ? 1 : 0));
+    }
+
+    void writeString(String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes, bytes.length);
+    }
+
+    void writeIntArray(int[] values) throws IOException {
+        writeInt(values.length);
+        for (int value : values) {
+            writeInt(value);
+        }
+    }
+
+    /**
+     * Writes a length-prefixed array, {@code null} is written as length {@code -1}.
+     */
+    void writeLongArray(@Nullable long[] values) throws IOException {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (long value : values) {
+            writeLong(value);
+        }
+    }
+
+    void writeDoubleArray(@Nullable double[] values) throws IOException {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (double value : values) {
+            writeDouble(value);
+        }
+    }
+
+    void writeFloatArray(@Nullable float[] values) throws IOException {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (float value : values) {
+            writeFloat(value);
+        }
+    }
+
+    void writeBytes(byte[] values, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            ensureCapacity(1);
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.put(values, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    void writeInts(long count, LongToIntFunction values) throws IOException {
+        for (long i = 0; i < count; i++) {
+            writeInt(values.applyAsInt(i));
+        }
+    }
+
+    void writeLongs(long count, LongUnaryOperator values) throws IOException {
+        for (long i = 0; i < count; i++) {
+            writeLong(values.applyAsLong(i));
+        }
+    }
+
+    void writeDoubles(long count, LongToDoubleFunction values) throws IOException {
+        for (long i = 0; i < count; i++) {
+            writeDouble(values.applyAsDouble(i));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import com.carrotsearch.hppc.IntArrayList;
+import org.neo4j.gds.collections.PageUtil;
+
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Assigns addresses to sequentially written adjacency lists following the page layout of the
+ * {@link org.neo4j.gds.core.loading.BumpAllocator}: a list never spans two pages and lists that
+ * are larger than a page are stored in a dedicated page of the exact size.
+ * Only the used part of each page is written, the page lengths are stored in the snapshot metadata.
+ */
+final class SnapshotPageLayout {
+
+    private final IntArrayList pageLengths;
+    private int position;
+
+    SnapshotPageLayout() {
+        this.pageLengths = new IntArrayList();
+        this.position = PAGE_SIZE;
+    }
+
+    /**
+     * Reserves space for a list of {@code length} elements and returns its address.
+     */
+    long allocate(int length) {
+        if (length > PAGE_SIZE) {
+            pageLengths.add(length);
+            // the next list must start on a new page
+            position = PAGE_SIZE;
+            return PageUtil.capacityFor(pageLengths.size() - 1, PAGE_SHIFT);
+        }
+        if (position + length > PAGE_SIZE) {
+            pageLengths.add(0);
+            position = 0;
+        }
+        int currentPage = pageLengths.size() - 1;
+        long address = PageUtil.capacityFor(currentPage, PAGE_SHIFT) + position;
+        position += length;
+        pageLengths.set(currentPage, position);
+        return address;
+    }
+
+    int[] pageLengths() {
+        return pageLengths.toArray();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvFieldParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "42", "-42", "+7", "9223372036854775807", "-9223372036854775808"})
+    void shouldParseLongs(String value) {
+        var bytes = value.getBytes(StandardCharsets.US_ASCII);
+        assertThat(CsvFieldParser.parseLong(bytes, 0, bytes.length)).isEqualTo(Long.parseLong(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "4x2", "1.0", "9223372036854775808", "-9223372036854775809"})
+    void shouldRejectInvalidLongs(String value) {
+        var bytes = value.getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> CsvFieldParser.parseLong(bytes, 0, bytes.length))
+            .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void shouldParseFieldWithinLine() {
+        var bytes = "13,37,42".getBytes(StandardCharsets.US_ASCII);
+        assertThat(CsvFieldParser.parseLong(bytes, 3, 5)).isEqualTo(37L);
+        assertThat(CsvFieldParser.parseDouble(bytes, 6, 8)).isEqualTo(42D);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0", "0.0", "-0.0", "42", "42.0", "19.19", "-1.3", "3.7", ".5", "5.", "1e3", "1.5E-7", "2.5e+10",
+        "1.2345678901234567E-5", "4.9E-324", "1.7976931348623157E308", "123456789012345678901234567890",
+        "NaN", "Infinity", "-Infinity", "0x1p3"
+    })
+    void shouldParseDoubles(String value) {
+        var bytes = value.getBytes(StandardCharsets.US_ASCII);
+        assertThat(CsvFieldParser.parseDouble(bytes, 0, bytes.length)).isEqualTo(Double.parseDouble(value));
+    }
+
+    @Test
+    void shouldParseExportedDoublesExactly() {
+        var random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double expected = i % 2 == 0
+                ? random.nextDouble() * Math.pow(10, random.nextInt(20) - 10)
+                : Math.round(random.nextDouble() * 1_000_000) / 1000D;
+            var bytes = Double.toString(expected).getBytes(StandardCharsets.US_ASCII);
+            assertThat(CsvFieldParser.parseDouble(bytes, 0, bytes.length)).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "1.0.0", "1e", "abc"})
+    void shouldRejectInvalidDoubles(String value) {
+        var bytes = value.getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> CsvFieldParser.parseDouble(bytes, 0, bytes.length))
+            .isInstanceOf(NumberFormatException.class);
+    }
+}
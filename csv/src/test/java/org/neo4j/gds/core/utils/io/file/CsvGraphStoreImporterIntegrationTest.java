@@ -22,6 +22,7 @@ package org.neo4j.gds.core.utils.io.file;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
@@ -76,6 +77,24 @@ class CsvGraphStoreImporterIntegrationTest {
         assertGraphEquals(graph, importedGraph);
     }
 
+    @ParameterizedTest
+    @EnumSource(FileExportFormat.class)
+    void shouldImportAllFormats(FileExportFormat format) {
+        var config = ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(4))
+            .format(format)
+            .build();
+
+        GraphStoreToFileExporter.csv(graphStore, config, graphLocation).run();
+
+        var importer = CsvGraphStoreImporter.create(4, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var userGraphStore = importer.run();
+
+        var importedGraphStore = userGraphStore.graphStore();
+        var importedGraph = importedGraphStore.getUnion();
+        assertGraphEquals(graph, importedGraph);
+    }
+
     @Test
     void shouldImportGraphWithNoLabels() {
         var graphStore = GdlFactory.of("()-[]->()").build();
@@ -114,6 +114,34 @@ class GraphStoreRelationshipVisitorTest {
         assertGraphEquals(multiplePropsGraph, actualGraph);
     }
 
+    @Test
+    void shouldShareRelationshipsBuilderBetweenVisitors() {
+        Map<String, RelationshipsBuilder> relationshipBuildersByType = new ConcurrentHashMap<>();
+        var relationshipVisitorBuilder = new GraphStoreRelationshipVisitor.Builder()
+            .withNodes(multiplePropsGraph)
+            .withRelationshipSchema(multiplePropsGraph.schema().relationshipSchema())
+            .withRelationshipBuildersToTypeResultMap(relationshipBuildersByType)
+            .withAllocationTracker()
+            .withConcurrency(1);
+
+        for (int i = 0; i < 2; i++) {
+            var relationshipVisitor = relationshipVisitorBuilder.build();
+            relationshipVisitor.type("R");
+            relationshipVisitor.startId(multiplePropsIdFunction.of("a"));
+            relationshipVisitor.endId(multiplePropsIdFunction.of("b"));
+            relationshipVisitor.property("p", 42.0D);
+            relationshipVisitor.property("r", 13.37D);
+            relationshipVisitor.endOfEntity();
+        }
+
+        assertThat(relationshipBuildersByType).containsOnlyKeys("R");
+        var relationships = CsvGraphStoreImporter.relationshipTopologyAndProperties(
+            relationshipBuildersByType,
+            multiplePropsGraph.schema().relationshipSchema()
+        );
+        assertThat(relationships.importedRelationships()).isEqualTo(2L);
+    }
+
     private Graph createGraph(
         Graph expectedGraph,
         Map<String, RelationshipsBuilder> relationshipBuildersByType,
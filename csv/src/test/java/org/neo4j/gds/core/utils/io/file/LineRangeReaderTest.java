@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineRangeReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 7, 64, 1000, 1 << 20})
+    void shouldReadEveryLineExactlyOnce(long rangeSize) throws IOException {
+        var expectedLines = IntStream
+            .range(0, 500)
+            .mapToObj(i -> i + "," + "x".repeat(i % 13))
+            .collect(Collectors.toList());
+        var file = tempDir.resolve("lines.csv");
+        Files.writeString(file, String.join("\n", expectedLines) + "\n");
+
+        assertThat(readInRanges(file, rangeSize)).containsExactlyElementsOf(expectedLines);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 5, 1000})
+    void shouldHandleMissingTrailingLineBreakAndCarriageReturns(long rangeSize) throws IOException {
+        var file = tempDir.resolve("lines.csv");
+        Files.writeString(file, "1,a\r\n2,b\r\n\r\n3,c");
+
+        assertThat(readInRanges(file, rangeSize)).containsExactly("1,a", "2,b", "", "3,c");
+    }
+
+    private static List<String> readInRanges(Path file, long rangeSize) throws IOException {
+        long fileSize = Files.size(file);
+        var lines = new ArrayList<String>();
+        try (var reader = new LineRangeReader()) {
+            for (long start = 0; start < fileSize; start += rangeSize) {
+                reader.open(file, start, Math.min(fileSize, start + rangeSize));
+                while (reader.readLine()) {
+                    lines.add(new String(reader.line(), 0, reader.lineLength(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return lines;
+    }
+}
@@ -27,6 +27,7 @@ import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -48,7 +49,8 @@ class RelationshipLineChunkTest {
         var lineChunk = new FileInput.RelationshipLineChunk(relationshipSchema);
         var visitor = new TestRelationshipVisitor();
         lineChunk.propertySchemas = header.schemaForIdentifier(relationshipSchema);
-        lineChunk.visitLine(line, header, visitor);
+        var lineBytes = line.getBytes(StandardCharsets.UTF_8);
+        lineChunk.visitLine(lineBytes, lineBytes.length, header, visitor);
 
         assertThat(visitor.startId).isEqualTo(0);
         assertThat(visitor.endId).isEqualTo(1);
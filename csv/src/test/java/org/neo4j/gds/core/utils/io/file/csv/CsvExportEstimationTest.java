@@ -25,6 +25,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.utils.io.file.FileExportFormat;
 import org.neo4j.gds.core.utils.io.file.csv.estimation.CsvExportEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 
@@ -60,4 +61,25 @@ class CsvExportEstimationTest {
         // The actual value is 40K
         assertThat(estimation.max).isBetween(100L, 200L);
     }
+
+    @Test
+    void estimateCompressedFormats() {
+        var dimensions = GraphDimensions.of(0);
+        long csv = CsvExportEstimation
+            .estimate(graphStore, 1, FileExportFormat.CSV)
+            .estimate(dimensions, 1)
+            .memoryUsage().max;
+        long gzip = CsvExportEstimation
+            .estimate(graphStore, 1, FileExportFormat.CSV_GZIP)
+            .estimate(dimensions, 1)
+            .memoryUsage().max;
+        long columnar = CsvExportEstimation
+            .estimate(graphStore, 1, FileExportFormat.COLUMNAR)
+            .estimate(dimensions, 1)
+            .memoryUsage().max;
+
+        assertThat(gzip).isLessThan(csv);
+        // 8 bytes per number, 36 bytes per array and 1 byte per id, depending on the sampled nodes
+        assertThat(columnar).isBetween(150L, 400L);
+    }
 }
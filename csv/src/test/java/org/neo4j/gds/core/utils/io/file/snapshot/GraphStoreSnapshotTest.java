@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.beta.filter.GraphStoreFilter;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreSnapshotTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42, prop3: [1L, 3L, 3L, 7L]})" +
+        ", (b:A:B { prop1: 1, prop2: 43})" +
+        ", (c:A:C { prop1: 2, prop2: 44, prop3: [1L, 9L, 8L, 4L] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @TempDir
+    Path snapshotLocation;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRoundTripGraphStore(int concurrency) {
+        GraphStoreSnapshotWriter.create(graphStore, snapshotLocation).run();
+        var loadedGraphStore = GraphStoreSnapshotLoader.create(snapshotLocation, concurrency).run();
+
+        assertThat(loadedGraphStore.databaseId()).isEqualTo(graphStore.databaseId());
+        assertThat(loadedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(loadedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(loadedGraphStore.relationshipTypes()).isEqualTo(graphStore.relationshipTypes());
+        assertThat(loadedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graphStore.getUnion(), loadedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldRoundTripGraphWithNoLabels() {
+        var graphStore = GdlFactory.of("()-[]->()-[]->()").build();
+
+        GraphStoreSnapshotWriter.create(graphStore, snapshotLocation).run();
+        var loadedGraphStore = GraphStoreSnapshotLoader.create(snapshotLocation, 4).run();
+
+        assertGraphEquals(graphStore.getUnion(), loadedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldRoundTripGraphView() {
+        var view = GraphStoreFilter.view(
+            graphStore,
+            subgraphConfig(true),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+        var materialized = GraphStoreFilter.filter(
+            graphStore,
+            subgraphConfig(false),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        GraphStoreSnapshotWriter.create(view, snapshotLocation).run();
+        var loadedGraphStore = GraphStoreSnapshotLoader.create(snapshotLocation, 4).run();
+
+        assertThat(loadedGraphStore.nodeCount()).isEqualTo(materialized.nodeCount());
+        assertThat(loadedGraphStore.relationshipCount()).isEqualTo(materialized.relationshipCount());
+        assertGraphEquals(materialized.getUnion(), loadedGraphStore.getUnion());
+        assertGraphEquals(
+            materialized.getGraph(RelationshipType.of("REL1"), Optional.of("prop1")),
+            loadedGraphStore.getGraph(RelationshipType.of("REL1"), Optional.of("prop1"))
+        );
+    }
+
+    private static GraphProjectFromGraphConfig subgraphConfig(boolean view) {
+        return GraphProjectFromGraphConfig.of(
+            "",
+            "subgraph",
+            "graph",
+            "n.prop1 > 0",
+            "*",
+            GraphProjectFromStoreConfig.emptyWithName("", "graph"),
+            CypherMapWrapper.create(Map.of("view", view))
+        );
+    }
+
+    @Test
+    void shouldRefuseToOverwriteExistingSnapshot() {
+        GraphStoreSnapshotWriter.create(graphStore, snapshotLocation).run();
+
+        assertThatThrownBy(() -> GraphStoreSnapshotWriter.create(graphStore, snapshotLocation).run())
+            .hasRootCauseInstanceOf(FileAlreadyExistsException.class);
+    }
+
+    @Test
+    void shouldFailOnMissingSnapshot() {
+        assertThatThrownBy(() -> GraphStoreSnapshotLoader.create(snapshotLocation, 4).run())
+            .hasRootCauseInstanceOf(NoSuchFileException.class);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+class SnapshotPageLayoutTest {
+
+    @Test
+    void shouldAllocateSequentiallyWithinPage() {
+        var layout = new SnapshotPageLayout();
+
+        assertThat(layout.allocate(10)).isEqualTo(0L);
+        assertThat(layout.allocate(20)).isEqualTo(10L);
+        assertThat(layout.pageLengths()).containsExactly(30);
+    }
+
+    @Test
+    void shouldStartNewPageIfListDoesNotFit() {
+        var layout = new SnapshotPageLayout();
+
+        assertThat(layout.allocate(PAGE_SIZE - 5)).isEqualTo(0L);
+        assertThat(layout.allocate(10)).isEqualTo(PAGE_SIZE);
+        assertThat(layout.pageLengths()).containsExactly(PAGE_SIZE - 5, 10);
+    }
+
+    @Test
+    void shouldPlaceOversizedListsInDedicatedPage() {
+        var layout = new SnapshotPageLayout();
+
+        assertThat(layout.allocate(10)).isEqualTo(0L);
+        assertThat(layout.allocate(PAGE_SIZE + 1)).isEqualTo(PAGE_SIZE);
+        assertThat(layout.allocate(10)).isEqualTo(2L * PAGE_SIZE);
+        assertThat(layout.pageLengths()).containsExactly(10, PAGE_SIZE + 1, 10);
+    }
+}
@@ -52,6 +52,7 @@ import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
 import org.neo4j.gds.core.loading.construction.NodesBuilder;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.paged.HugeAtomicGrowingBitSet;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
 import org.neo4j.graphdb.Relationship;
@@ -62,10 +63,8 @@ import org.neo4j.procedure.UserAggregationFunction;
 import org.neo4j.procedure.UserAggregationResult;
 import org.neo4j.procedure.UserAggregationUpdate;
 import org.neo4j.values.storable.Value;
-import org.neo4j.values.storable.Values;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -90,6 +89,18 @@ public final class CypherAggregation extends BaseProc {
         );
     }
 
+    private static final List<String> NODES_CONFIG_KEYS = List.of(
+        "sourceNodeProperties",
+        "sourceNodeLabels",
+        "targetNodeProperties",
+        "targetNodeLabels"
+    );
+
+    private static final List<String> RELATIONSHIP_CONFIG_KEYS = List.of(
+        "properties",
+        "relationshipType"
+    );
+
     // public is required for the Cypher runtime
     @SuppressWarnings({"WeakerAccess", "CodeBlock2Expr"})
     public static class GraphAggregator {
@@ -107,6 +118,14 @@ public final class CypherAggregation extends BaseProc {
         private @Nullable List<RelationshipPropertySchema> relationshipPropertySchemas;
         private final Map<RelationshipType, RelationshipsBuilder> relImporters;
 
+        // Per-row state that is derived from the first row, or from the previous row, to avoid repeated lookups.
+        private @Nullable String[] relationshipPropertyKeys;
+        private @Nullable double[] relationshipPropertyValues;
+        private @Nullable String lastRelationshipTypeName;
+        private @Nullable RelationshipType lastRelationshipType;
+        private @Nullable RelationshipType lastRelImporterType;
+        private @Nullable RelationshipsBuilder lastRelImporter;
+
         GraphAggregator(
             ProgressTimer progressTimer,
             NamedDatabaseId databaseId,
@@ -131,46 +150,24 @@ public final class CypherAggregation extends BaseProc {
             if (this.graphName == null) {
                 validateGraphName(graphName);
                 this.graphName = graphName;
+                this.idMapBuilder = new LazyIdMapBuilder();
             }
 
-            Map<String, Value> sourceNodePropertyValues = null;
-            Map<String, Value> targetNodePropertyValues = null;
-            var sourceNodeLabels = NodeLabelTokens.empty();
-            var targetNodeLabels = NodeLabelTokens.empty();
-
             if (nodesConfig != null) {
-                sourceNodePropertyValues = propertiesConfig("sourceNodeProperties", nodesConfig);
-                sourceNodeLabels = labelsConfig(sourceNode, "sourceNodeLabels", nodesConfig);
-
-                if (targetNode != null) {
-                    targetNodePropertyValues = propertiesConfig("targetNodeProperties", nodesConfig);
-                    targetNodeLabels = labelsConfig(targetNode, "targetNodeLabels", nodesConfig);
-                }
-
-                if (!nodesConfig.isEmpty()) {
-                    CypherMapWrapper.create(nodesConfig).requireOnlyKeysFrom(List.of(
-                        "sourceNodeProperties",
-                        "sourceNodeLabels",
-                        "targetNodeProperties",
-                        "targetNodeLabels"
-                    ));
-                }
+                validateConfigKeys(nodesConfig, NODES_CONFIG_KEYS);
             }
 
-            if (this.idMapBuilder == null) {
-                this.idMapBuilder = new LazyIdMapBuilder();
-            }
-
-            Map<String, Value> relationshipProperties = null;
+            Map<?, ?> relationshipProperties = null;
             RelationshipType relationshipType = null;
 
             if (relationshipConfig != null) {
+                validateConfigKeys(relationshipConfig, RELATIONSHIP_CONFIG_KEYS);
+
                 if (this.relationshipPropertySchemas == null) {
                     this.relationshipPropertySchemas = new ArrayList<>();
 
-                    // We need to do this before extracting the `relationshipProperties`, because
-                    // we remove the original entry from the map during converting; also we remove null keys
-                    // so we could not create a schema entry for properties that are absent on the current relationship
+                    // The property keys of the first row define the relationship properties of the graph.
+                    // We need to take the keys from the map as it is, null values would be missing after conversion.
                     var relationshipPropertyKeys = relationshipConfig.get("properties");
                     if (relationshipPropertyKeys instanceof Map) {
                         for (var propertyKey : ((Map<?, ?>) relationshipPropertyKeys).keySet()) {
@@ -180,40 +177,42 @@ public final class CypherAggregation extends BaseProc {
                             ));
                         }
                     }
+                    this.relationshipPropertyKeys = this.relationshipPropertySchemas
+                        .stream()
+                        .map(RelationshipPropertySchema::key)
+                        .toArray(String[]::new);
+                    this.relationshipPropertyValues = new double[this.relationshipPropertyKeys.length];
                 }
 
                 relationshipProperties = propertiesConfig("properties", relationshipConfig);
                 relationshipType = typeConfig("relationshipType", relationshipConfig);
-
-                if (!relationshipConfig.isEmpty()) {
-                    CypherMapWrapper.create(relationshipConfig).requireOnlyKeysFrom(List.of(
-                        "properties",
-                        "relationshipType"
-                    ));
-                }
             }
 
-            var relImporter = this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter());
+            var sourceNodeId = loadNode(sourceNode, nodesConfig, "sourceNodeProperties", "sourceNodeLabels");
 
-            var sourceNodeId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
+            var relImporter = relImporter(relationshipType);
 
             if (targetNode != null) {
-                var targetNodeId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
+                var targetNodeId = loadNode(targetNode, nodesConfig, "targetNodeProperties", "targetNodeLabels");
 
-                if (this.relationshipPropertySchemas != null && !this.relationshipPropertySchemas.isEmpty()) {
+                var relationshipPropertyKeys = this.relationshipPropertyKeys;
+                if (relationshipPropertyKeys != null && relationshipPropertyKeys.length > 0) {
                     assert relationshipProperties != null;
-                    if (this.relationshipPropertySchemas.size() == 1) {
-                        var relationshipProperty = this.relationshipPropertySchemas.get(0).key();
+                    if (relationshipPropertyKeys.length == 1) {
                         double propertyValue = loadOneRelationshipProperty(
                             relationshipProperties,
-                            relationshipProperty
+                            relationshipPropertyKeys[0]
                         );
                         relImporter.addFromInternal(sourceNodeId, targetNodeId, propertyValue);
                     } else {
-                        var propertyValues = loadMultipleRelationshipProperties(
-                            relationshipProperties,
-                            this.relationshipPropertySchemas
-                        );
+                        // the builder copies the values into its buffer, so we can reuse the array
+                        var propertyValues = this.relationshipPropertyValues;
+                        for (int i = 0; i < relationshipPropertyKeys.length; i++) {
+                            propertyValues[i] = loadOneRelationshipProperty(
+                                relationshipProperties,
+                                relationshipPropertyKeys[i]
+                            );
+                        }
                         relImporter.addFromInternal(sourceNodeId, targetNodeId, propertyValues);
                     }
                 } else {
@@ -228,20 +227,27 @@ public final class CypherAggregation extends BaseProc {
             }
         }
 
-        @Nullable
-        private Map<String, Value> propertiesConfig(
+        private static void validateConfigKeys(Map<String, Object> config, List<String> allowedKeys) {
+            for (var key : config.keySet()) {
+                if (!allowedKeys.contains(key)) {
+                    // only build the wrapper for the error message
+                    CypherMapWrapper.create(config).requireOnlyKeysFrom(allowedKeys);
+                }
+            }
+        }
+
+        private static @Nullable Map<?, ?> propertiesConfig(
             String propertyKey,
             @NotNull Map<String, Object> propertiesConfig
         ) {
-            var nodeProperties = propertiesConfig.remove(propertyKey);
-            if (nodeProperties == null || nodeProperties instanceof Map) {
-                //noinspection unchecked
-                return objectsToValues((Map<String, Object>) nodeProperties);
+            var properties = propertiesConfig.get(propertyKey);
+            if (properties == null || properties instanceof Map) {
+                return (Map<?, ?>) properties;
             }
             throw new IllegalArgumentException(formatWithLocale(
                 "The value of `%s` must be a `Map of Property Values`, but was `%s`.",
                 propertyKey,
-                nodeProperties.getClass().getSimpleName()
+                properties.getClass().getSimpleName()
             ));
         }
 
@@ -250,7 +256,7 @@ public final class CypherAggregation extends BaseProc {
             String nodeLabelKey,
             @NotNull Map<String, Object> nodesConfig
         ) {
-            var nodeLabelsEntry = nodesConfig.remove(nodeLabelKey);
+            var nodeLabelsEntry = nodesConfig.get(nodeLabelKey);
             var nodeLabels = tryLabelsConfig(node, nodeLabelsEntry);
 
             if (nodeLabels == null) {
@@ -285,9 +291,14 @@ public final class CypherAggregation extends BaseProc {
             @SuppressWarnings("SameParameterValue") String relationshipTypeKey,
             @NotNull Map<String, Object> relationshipConfig
         ) {
-            var relationshipTypeEntry = relationshipConfig.remove(relationshipTypeKey);
+            var relationshipTypeEntry = relationshipConfig.get(relationshipTypeKey);
             if (relationshipTypeEntry instanceof String) {
-                return RelationshipType.of((String) relationshipTypeEntry);
+                // rows are usually grouped by type, avoid creating a new type for every row
+                if (!relationshipTypeEntry.equals(this.lastRelationshipTypeName)) {
+                    this.lastRelationshipTypeName = (String) relationshipTypeEntry;
+                    this.lastRelationshipType = RelationshipType.of(this.lastRelationshipTypeName);
+                }
+                return this.lastRelationshipType;
             }
             if (relationshipTypeEntry == null) {
                 return null;
@@ -299,6 +310,14 @@ public final class CypherAggregation extends BaseProc {
             ));
         }
 
+        private RelationshipsBuilder relImporter(@Nullable RelationshipType relationshipType) {
+            if (this.lastRelImporter == null || !Objects.equals(relationshipType, this.lastRelImporterType)) {
+                this.lastRelImporter = this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter());
+                this.lastRelImporterType = relationshipType;
+            }
+            return this.lastRelImporter;
+        }
+
         private RelationshipsBuilder newRelImporter() {
             assert this.idMapBuilder != null;
 
@@ -320,15 +339,12 @@ public final class CypherAggregation extends BaseProc {
             return relationshipsBuilderBuilder.build();
         }
 
-        private static @Nullable Map<String, Value> objectsToValues(@Nullable Map<String, Object> properties) {
-            if (properties == null) {
-                return null;
-            }
+        private static Map<String, Value> objectsToValues(Map<?, ?> properties) {
             var values = new HashMap<String, Value>(properties.size());
             properties.forEach((key, valueObject) -> {
                 if (valueObject != null) {
                     var value = ValueConverter.toValue(valueObject);
-                    values.put(key, value);
+                    values.put(String.valueOf(key), value);
                 }
             });
             return values;
@@ -386,34 +402,44 @@ public final class CypherAggregation extends BaseProc {
 
         private long loadNode(
             @Nullable Object node,
-            NodeLabelToken nodeLabels,
-            @Nullable Map<String, Value> nodeProperties
+            @Nullable Map<String, Object> nodesConfig,
+            String nodePropertiesKey,
+            String nodeLabelsKey
         ) {
             assert this.idMapBuilder != null;
+            var nodeId = extractNodeId(node);
+
+            // Nodes usually appear in many rows, but only the first occurrence is imported.
+            // Labels and properties are only read for that occurrence.
+            if (!this.idMapBuilder.claim(nodeId)) {
+                return nodeId;
+            }
+
+            if (nodesConfig == null) {
+                return this.idMapBuilder.addNode(nodeId, NodeLabelTokens.empty());
+            }
+
+            var nodeProperties = propertiesConfig(nodePropertiesKey, nodesConfig);
+            var nodeLabels = labelsConfig(node, nodeLabelsKey, nodesConfig);
+
             return (nodeProperties == null)
-                ? this.idMapBuilder.addNode(extractNodeId(node), nodeLabels)
-                : this.idMapBuilder.addNodeWithProperties(extractNodeId(node), nodeProperties, nodeLabels);
+                ? this.idMapBuilder.addNode(nodeId, nodeLabels)
+                : this.idMapBuilder.addNodeWithProperties(nodeId, objectsToValues(nodeProperties), nodeLabels);
         }
 
         private static double loadOneRelationshipProperty(
-            @NotNull Map<String, Value> relationshipProperties,
+            @NotNull Map<?, ?> relationshipProperties,
             String relationshipPropertyKey
         ) {
-            var propertyValueObject = relationshipProperties.get(relationshipPropertyKey);
-            var propertyValue = Objects.requireNonNullElse(propertyValueObject, Values.NO_VALUE);
-            return ReadHelper.extractValue(propertyValue, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
-        }
-
-        private static double[] loadMultipleRelationshipProperties(
-            @NotNull Map<String, Value> relationshipProperties,
-            List<RelationshipPropertySchema> relationshipPropertyKeys
-        ) {
-            var propertyValues = new double[relationshipPropertyKeys.size()];
-            Arrays.setAll(propertyValues, i -> {
-                var relationshipPropertyKey = relationshipPropertyKeys.get(i).key();
-                return loadOneRelationshipProperty(relationshipProperties, relationshipPropertyKey);
-            });
-            return propertyValues;
+            var propertyValue = relationshipProperties.get(relationshipPropertyKey);
+            if (propertyValue instanceof Number) {
+                return ((Number) propertyValue).doubleValue();
+            }
+            if (propertyValue == null) {
+                return DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+            }
+            // fails for non-numeric values
+            return ReadHelper.extractValue(ValueConverter.toValue(propertyValue), DefaultValue.DOUBLE_DEFAULT_FALLBACK);
         }
 
         @UserAggregationResult
@@ -609,17 +635,28 @@ public final class CypherAggregation extends BaseProc {
 
 final class LazyIdMapBuilder implements PartialIdMap {
     private final AtomicBoolean isEmpty = new AtomicBoolean(true);
+    private final HugeAtomicGrowingBitSet seenIds;
     private final NodesBuilder nodesBuilder;
 
     LazyIdMapBuilder() {
+        this.seenIds = HugeAtomicGrowingBitSet.create(0);
+        // ids are deduplicated by #claim, before labels and properties are extracted
         this.nodesBuilder = GraphFactory.initNodesBuilder()
             .maxOriginalId(NodesBuilder.UNKNOWN_MAX_ID)
             .hasLabelInformation(true)
             .hasProperties(true)
-            .deduplicateIds(true)
+            .deduplicateIds(false)
             .build();
     }
 
+    /**
+     * Returns true if the node has not been claimed before.
+     * Only claimed nodes must be added to the builder and every node can only be claimed once.
+     */
+    boolean claim(long nodeId) {
+        return !seenIds.getAndSet(nodeId);
+    }
+
     long addNode(long nodeId, NodeLabelToken nodeLabels) {
         isEmpty.lazySet(false);
         this.nodesBuilder.addNode(nodeId, nodeLabels);
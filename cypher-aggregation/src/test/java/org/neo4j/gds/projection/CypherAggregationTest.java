@@ -425,6 +425,49 @@ class CypherAggregationTest extends BaseProcTest {
             .returns(4L, Graph::relationshipCount);
     }
 
+    @Test
+    void testInterleavedRelationshipTypes() {
+        runQuery(
+            "UNWIND range(0, 9) AS i " +
+            "WITH gds.alpha.graph.project('g', i, i + 1, null," +
+            "   { relationshipType: CASE i % 2 WHEN 0 THEN 'EVEN' ELSE 'ODD' END, properties: { weight: i, other: i * 2 } }" +
+            ") AS g " +
+            "RETURN g.relationshipCount");
+
+        var graphStore = GraphStoreCatalog.get("", db.databaseId(), "g").graphStore();
+
+        assertThat(graphStore.relationshipCount(org.neo4j.gds.RelationshipType.of("EVEN"))).isEqualTo(5L);
+        assertThat(graphStore.relationshipCount(org.neo4j.gds.RelationshipType.of("ODD"))).isEqualTo(5L);
+
+        var graph = graphStore.getGraph(org.neo4j.gds.RelationshipType.of("ODD"), Optional.of("other"));
+        for (long source = 1; source < 10; source += 2) {
+            long expected = source * 2;
+            graph.forEachRelationship(graph.toMappedNodeId(source), Double.NaN, (s, t, property) -> {
+                assertThat(property).isEqualTo(expected);
+                return true;
+            });
+        }
+    }
+
+    @Test
+    void testNodePropertiesOfFirstOccurrence() {
+        runQuery(
+            "UNWIND [[0, 1, 42], [0, 2, 1337], [1, 0, 7]] AS row " +
+            "WITH gds.alpha.graph.project('g', row[0], row[1], {" +
+            "   sourceNodeProperties: { prop: row[2] }, " +
+            "   targetNodeProperties: { prop: -row[2] }" +
+            "}) AS g " +
+            "RETURN g.nodeCount");
+
+        var graphStore = GraphStoreCatalog.get("", db.databaseId(), "g").graphStore();
+        var nodes = graphStore.nodes();
+        var prop = graphStore.nodeProperty("prop").values();
+
+        assertThat(prop.longValue(nodes.toMappedNodeId(0))).isEqualTo(42L);
+        assertThat(prop.longValue(nodes.toMappedNodeId(1))).isEqualTo(-42L);
+        assertThat(prop.longValue(nodes.toMappedNodeId(2))).isEqualTo(-1337L);
+    }
+
     @Test
     void shouldNotFailOnMissingProperty() {
         var query = "MATCH (s:B)-[:REL]->(t:B) " +
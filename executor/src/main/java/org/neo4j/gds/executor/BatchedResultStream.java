@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Produces the result batches of a stream procedure lazily, one partition at a time,
+ * on the thread that consumes the stream.
+ *
+ * A partition is only produced once all batches of the previous partition have been consumed,
+ * so at most the batches of a single partition are held in memory. Callers should size the
+ * partitions such that they yield few batches each. No work is scheduled on any executor,
+ * which means an abandoned or slow client does not hold on to pool threads.
+ */
+public final class BatchedResultStream<BATCH> implements Spliterator<BATCH> {
+
+    @FunctionalInterface
+    public interface PartitionProducer<BATCH> {
+        /**
+         * Produces all batches for the given partition in order.
+         */
+        void produce(Partition partition, Consumer<BATCH> sink);
+    }
+
+    private final List<Partition> partitions;
+    private final PartitionProducer<BATCH> producer;
+    private final Queue<BATCH> pending;
+
+    private int nextPartition;
+
+    public static <BATCH, ROW> Stream<ROW> stream(
+        List<Partition> partitions,
+        PartitionProducer<BATCH> producer,
+        Function<BATCH, Stream<ROW>> rows
+    ) {
+        return StreamSupport
+            .stream(new BatchedResultStream<>(partitions, producer), false)
+            .flatMap(rows);
+    }
+
+    private BatchedResultStream(List<Partition> partitions, PartitionProducer<BATCH> producer) {
+        this.partitions = partitions;
+        this.producer = producer;
+        this.pending = new ArrayDeque<>();
+        this.nextPartition = 0;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super BATCH> action) {
+        while (pending.isEmpty() && nextPartition < partitions.size()) {
+            producer.produce(partitions.get(nextPartition++), pending::add);
+        }
+
+        var batch = pending.poll();
+        if (batch == null) {
+            return false;
+        }
+        action.accept(batch);
+        return true;
+    }
+
+    @Override
+    public Spliterator<BATCH> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
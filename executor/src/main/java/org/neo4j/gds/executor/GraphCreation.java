@@ -25,7 +25,6 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.GraphProjectConfig;
-import org.neo4j.gds.core.utils.mem.MemoryRange;
 
 public interface GraphCreation<
     ALGO extends Algorithm<ALGO_RESULT>,
@@ -38,6 +37,6 @@ public interface GraphCreation<
 
     GraphProjectConfig graphProjectConfig();
 
-    MemoryRange validateMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory);
+    MemoryReservation reserveMemory(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory);
 
 }
@@ -31,7 +31,9 @@ import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.loading.GraphStoreWithConfig;
 import org.neo4j.gds.core.loading.ImmutableCatalogRequest;
 import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.values.storable.ArrayValue;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -82,6 +84,7 @@ public final class GraphStoreFromCatalogLoader implements GraphStoreLoader {
             .nodeCount(filteredGraph.nodeCount())
             .relationshipCounts(filteredGraphRelationshipCounts(config, graphStore, filteredGraph))
             .relCountUpperBound(relCount)
+            .nodePropertyDimensions(arrayPropertyDimensions(filteredGraph))
             .build();
     }
 
@@ -101,6 +104,24 @@ public final class GraphStoreFromCatalogLoader implements GraphStoreLoader {
         return GraphStoreCatalog.get(request, graphName);
     }
 
+    /**
+     * Reads the array length of each array property from the first node,
+     * as most array properties, e.g. embeddings, have the same length for all nodes.
+     */
+    private static Map<String, Integer> arrayPropertyDimensions(Graph filteredGraph) {
+        if (filteredGraph.nodeCount() == 0) {
+            return Map.of();
+        }
+        var dimensions = new HashMap<String, Integer>();
+        for (String propertyKey : filteredGraph.availableNodeProperties()) {
+            var value = filteredGraph.nodeProperties(propertyKey).value(0);
+            if (value instanceof ArrayValue) {
+                dimensions.put(propertyKey, ((ArrayValue) value).length());
+            }
+        }
+        return dimensions;
+    }
+
     private Map<RelationshipType, Long> filteredGraphRelationshipCounts(
         AlgoBaseConfig config,
         GraphStore graphStore,
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryReservationLedger;
+
+import java.util.Optional;
+
+/**
+ * The memory estimation of a procedure together with the bytes it holds in the {@link MemoryReservationLedger}.
+ * Closing it releases the reserved bytes for other procedures.
+ */
+public final class MemoryReservation implements AutoCloseable {
+
+    private final MemoryRange memoryRange;
+    private final Optional<MemoryReservationLedger.Reservation> reservation;
+
+    static MemoryReservation unreserved(MemoryRange memoryRange) {
+        return new MemoryReservation(memoryRange, Optional.empty());
+    }
+
+    static MemoryReservation of(MemoryRange memoryRange, MemoryReservationLedger.Reservation reservation) {
+        return new MemoryReservation(memoryRange, Optional.of(reservation));
+    }
+
+    private MemoryReservation(MemoryRange memoryRange, Optional<MemoryReservationLedger.Reservation> reservation) {
+        this.memoryRange = memoryRange;
+        this.reservation = reservation;
+    }
+
+    public MemoryRange memoryRange() {
+        return memoryRange;
+    }
+
+    public long reservedBytes() {
+        return reservation.map(MemoryReservationLedger.Reservation::bytes).orElse(0L);
+    }
+
+    @Override
+    public void close() {
+        reservation.ifPresent(MemoryReservationLedger.Reservation::close);
+    }
+
+    /**
+     * Keeps the memory reserved until the free memory is updated by the next GC.
+     * Used when the estimated memory is still in use after the procedure, e.g. by a graph in the catalog.
+     */
+    public void releaseAfterNextGc() {
+        reservation.ifPresent(MemoryReservationLedger.Reservation::releaseAfterNextGc);
+    }
+}
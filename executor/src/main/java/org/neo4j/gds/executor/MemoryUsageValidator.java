@@ -25,6 +25,7 @@ import org.neo4j.gds.config.BaseConfig;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryReservationLedger;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.gds.internal.MemoryEstimationSettings;
@@ -32,8 +33,11 @@ import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 import org.neo4j.logging.Log;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.StringJoiner;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -46,41 +50,114 @@ public class MemoryUsageValidator {
 
     private final Log log;
     private final GraphDatabaseAPI api;
+    private final MemoryReservationLedger ledger;
 
     public MemoryUsageValidator(Log log, GraphDatabaseAPI api) {
+        this(log, api, MemoryReservationLedger.instance());
+    }
+
+    MemoryUsageValidator(Log log, GraphDatabaseAPI api, MemoryReservationLedger ledger) {
         this.log = log;
         this.api = api;
+        this.ledger = ledger;
     }
 
-    public <C extends BaseConfig> MemoryRange tryValidateMemoryUsage(C config, Function<C, MemoryTreeWithDimensions> runEstimation) {
-        return tryValidateMemoryUsage(config, runEstimation, GcListenerExtension::freeMemory);
+    /**
+     * Validates that the estimated memory fits into the free memory minus all outstanding reservations,
+     * and reserves it until the returned reservation is closed,
+     * so that concurrently started procedures cannot claim the same memory.
+     */
+    public <C extends BaseConfig> MemoryReservation tryReserveMemoryUsage(
+        C config,
+        Function<C, MemoryTreeWithDimensions> runEstimation
+    ) {
+        return tryReserveMemoryUsage(config, runEstimation, GcListenerExtension::freeMemory);
     }
 
-    public <C extends BaseConfig> MemoryRange tryValidateMemoryUsage(
+    public <C extends BaseConfig> MemoryReservation tryReserveMemoryUsage(
         C config,
         Function<C, MemoryTreeWithDimensions> runEstimation,
         FreeMemoryInspector inspector
     ) {
-        MemoryTreeWithDimensions memoryTreeWithDimensions = null;
-
-        try {
-            memoryTreeWithDimensions = runEstimation.apply(config);
-        } catch (MemoryEstimationNotImplementedException ignored) {
-        }
+        var memoryTreeWithDimensions = runEstimation(config, runEstimation);
 
         if (memoryTreeWithDimensions == null) {
-            return MemoryRange.empty();
+            return MemoryReservation.unreserved(MemoryRange.empty());
         }
 
+        var memoryRange = memoryTreeWithDimensions.memoryTree.memoryUsage();
+        var useMaxMemoryEstimation = useMaxMemoryEstimation();
+        var requiredBytes = useMaxMemoryEstimation ? memoryRange.max : memoryRange.min;
+
         if (config.sudo()) {
             log.debug("Sudo mode: Won't check for available memory.");
-        } else {
-            var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
-            var useMaxMemoryEstimation = neo4jConfig.get(MemoryEstimationSettings.validate_using_max_memory_estimation);
-            validateMemoryUsage(memoryTreeWithDimensions, inspector.freeMemory(), useMaxMemoryEstimation, log);
+            return MemoryReservation.of(memoryRange, ledger.forceReserve(requiredBytes));
+        }
+
+        var timeout = GraphDatabaseApiProxy
+            .resolveDependency(api, Config.class)
+            .get(MemoryEstimationSettings.memory_reservation_timeout);
+
+        return ledger
+            .tryReserve(requiredBytes, inspector::freeMemory, timeout)
+            .map(reservation -> MemoryReservation.of(memoryRange, reservation))
+            .orElseThrow(() -> blockedByReservations(
+                memoryTreeWithDimensions,
+                inspector.freeMemory(),
+                useMaxMemoryEstimation,
+                timeout
+            ));
+    }
+
+    private static <C extends BaseConfig> MemoryTreeWithDimensions runEstimation(
+        C config,
+        Function<C, MemoryTreeWithDimensions> runEstimation
+    ) {
+        try {
+            return runEstimation.apply(config);
+        } catch (MemoryEstimationNotImplementedException ignored) {
+            return null;
         }
+    }
 
-        return memoryTreeWithDimensions.memoryTree.memoryUsage();
+    private boolean useMaxMemoryEstimation() {
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+        return neo4jConfig.get(MemoryEstimationSettings.validate_using_max_memory_estimation);
+    }
+
+    private IllegalStateException blockedByReservations(
+        MemoryTreeWithDimensions memoryTreeWithDimensions,
+        long freeBytes,
+        boolean useMaxMemoryEstimation,
+        Duration timeout
+    ) {
+        long reservedBytes = ledger.reservedBytes();
+        if (ledger.reservationCount() == 0) {
+            // nothing to wait for, so the reservations are not worth mentioning
+            return blocked(
+                freeBytes,
+                requiredBytes(memoryTreeWithDimensions, useMaxMemoryEstimation),
+                memoryString(useMaxMemoryEstimation),
+                log,
+                messages(useMaxMemoryEstimation)
+            );
+        }
+        var reservationMessage = formatWithLocale(
+            "Note: %s of the free memory are reserved by %d running procedures.",
+            MemoryUsage.humanReadable(reservedBytes),
+            ledger.reservationCount()
+        );
+        var timeoutMessage = timeout.isZero()
+            ? "Consider increasing 'gds.memory_reservation_timeout' to wait for running procedures to complete."
+            : formatWithLocale("No reserved memory was released within %s.", timeout);
+
+        return blocked(
+            freeBytes - reservedBytes,
+            requiredBytes(memoryTreeWithDimensions, useMaxMemoryEstimation),
+            memoryString(useMaxMemoryEstimation),
+            log,
+            messages(useMaxMemoryEstimation, reservationMessage, timeoutMessage)
+        );
     }
 
     static void validateMemoryUsage(
@@ -89,25 +166,37 @@ public class MemoryUsageValidator {
         boolean useMaxMemoryEstimation,
         Log log
     ) {
-        if (useMaxMemoryEstimation) {
-            validateMemoryUsage(
-                availableBytes,
-                memoryTreeWithDimensions.memoryTree.memoryUsage().max,
-                "maximum",
-                log,
+        validateMemoryUsage(
+            availableBytes,
+            requiredBytes(memoryTreeWithDimensions, useMaxMemoryEstimation),
+            memoryString(useMaxMemoryEstimation),
+            log,
+            messages(useMaxMemoryEstimation)
+        );
+    }
+
+    private static String memoryString(boolean useMaxMemoryEstimation) {
+        return useMaxMemoryEstimation ? "maximum" : "minimum";
+    }
+
+    private static String[] messages(boolean useMaxMemoryEstimation, String... additionalMessages) {
+        if (!useMaxMemoryEstimation) {
+            return additionalMessages;
+        }
+        return Stream.concat(
+            Arrays.stream(additionalMessages),
+            Stream.of(
                 "Consider resizing your Aura instance via console.neo4j.io.",
                 "Alternatively, use 'sudo: true' to override the memory validation.",
                 "Overriding the validation is at your own risk.",
                 "The database can run out of memory and data can be lost."
-            );
-        } else {
-            validateMemoryUsage(
-                availableBytes,
-                memoryTreeWithDimensions.memoryTree.memoryUsage().min,
-                "minimum",
-                log
-            );
-        }
+            )
+        ).toArray(String[]::new);
+    }
+
+    private static long requiredBytes(MemoryTreeWithDimensions memoryTreeWithDimensions, boolean useMaxMemoryEstimation) {
+        var memoryUsage = memoryTreeWithDimensions.memoryTree.memoryUsage();
+        return useMaxMemoryEstimation ? memoryUsage.max : memoryUsage.min;
     }
 
     private static void validateMemoryUsage(
@@ -118,29 +207,39 @@ public class MemoryUsageValidator {
         String... messages
     ) {
         if (requiredBytes > availableBytes) {
-            var errorMessage = new StringJoiner(" ", "", "");
+            throw blocked(availableBytes, requiredBytes, memoryString, log, messages);
+        }
+    }
 
-            errorMessage.add(formatWithLocale(
-                "Procedure was blocked since %s estimated memory (%s) exceeds current free memory (%s).",
-                memoryString,
-                MemoryUsage.humanReadable(requiredBytes),
-                MemoryUsage.humanReadable(availableBytes)
-            ));
+    private static IllegalStateException blocked(
+        long availableBytes,
+        long requiredBytes,
+        String memoryString,
+        Log log,
+        String... messages
+    ) {
+        var errorMessage = new StringJoiner(" ", "", "");
 
-            if (!GraphStoreCatalog.isEmpty()) {
-                errorMessage.add(formatWithLocale(
-                    "Note: there are %s graphs currently loaded into memory.",
-                    GraphStoreCatalog.graphStoresCount()
-                ));
-            }
+        errorMessage.add(formatWithLocale(
+            "Procedure was blocked since %s estimated memory (%s) exceeds current free memory (%s).",
+            memoryString,
+            MemoryUsage.humanReadable(requiredBytes),
+            MemoryUsage.humanReadable(availableBytes)
+        ));
 
-            for (String message : messages) {
-                errorMessage.add(message);
-            }
+        if (!GraphStoreCatalog.isEmpty()) {
+            errorMessage.add(formatWithLocale(
+                "Note: there are %s graphs currently loaded into memory.",
+                GraphStoreCatalog.graphStoresCount()
+            ));
+        }
 
-            var message = errorMessage.toString();
-            log.info(message);
-            throw new IllegalStateException(message);
+        for (String message : messages) {
+            errorMessage.add(message);
         }
+
+        var message = errorMessage.toString();
+        log.info(message);
+        return new IllegalStateException(message);
     }
 }
@@ -19,18 +19,32 @@
  */
 package org.neo4j.gds.executor;
 
+import org.neo4j.configuration.Config;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.AlgorithmFactory;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.CheckpointConfig;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.checkpoint.CheckpointSettings;
+import org.neo4j.gds.core.checkpoint.Checkpoints;
+import org.neo4j.gds.core.concurrency.JobScheduler;
+import org.neo4j.gds.core.concurrency.JobSchedulerSettings;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class ProcedureExecutor<
     ALGO extends Algorithm<ALGO_RESULT>,
@@ -39,6 +53,8 @@ public class ProcedureExecutor<
     RESULT
 > {
 
+    private static final String JOB_ID_KEY = "jobId";
+
     private final AlgorithmSpec<ALGO, ALGO_RESULT, CONFIG, RESULT, ?> algoSpec;
     private final ExecutorSpec<ALGO, ALGO_RESULT, CONFIG> executorSpec;
     private final ExecutionContext executionContext;
@@ -67,15 +83,72 @@ public class ProcedureExecutor<
         boolean releaseAlgorithm,
         boolean releaseTopology
     ) {
-        ImmutableComputationResult.Builder<ALGO, ALGO_RESULT, CONFIG> builder = ImmutableComputationResult.builder();
-
         CONFIG config = executorSpec.configParser(algoSpec.newConfigFunction(), executionContext).processInput(configuration);
 
         setAlgorithmMetaDataToTransaction(config);
 
         var graphCreation = executorSpec.graphCreationFactory(executionContext).create(config, graphName);
 
-        var memoryEstimationInBytes = graphCreation.validateMemoryEstimation(algoSpec.algorithmFactory());
+        // Memory is reserved before queueing for cores, so that a job that cannot get its memory does not hold up the line.
+        // Results may be streamed lazily, so the memory and the cores stay reserved until they are consumed.
+        var memoryReservation = graphCreation.reserveMemory(algoSpec.algorithmFactory());
+        JobScheduler.Permit permit;
+        try {
+            permit = schedule(config);
+        } catch (RuntimeException | Error e) {
+            memoryReservation.close();
+            throw e;
+        }
+        try {
+            var scheduledConfig = withGrantedCores(config, configuration, permit);
+            var result = compute(scheduledConfig, graphCreation, memoryReservation, releaseAlgorithm, releaseTopology);
+            // the results may be consumed on another thread, which must not run on the budget of this job
+            permit.detach();
+            return releaseWhenConsumed(result, () -> {
+                try (memoryReservation) {
+                    permit.close();
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            permit.close();
+            memoryReservation.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The scheduler grants at most the cores that fit into the budget, so the algorithm must not run with more.
+     */
+    private CONFIG withGrantedCores(CONFIG config, Map<String, Object> configuration, JobScheduler.Permit permit) {
+        int grantedCores = permit.cores();
+        if (grantedCores == 0 || grantedCores >= config.concurrency()) {
+            return config;
+        }
+        var grantedConfiguration = new HashMap<>(configuration);
+        grantedConfiguration.put(ConcurrencyConfig.CONCURRENCY_KEY, grantedCores);
+        // keep the job id under which the job is already registered
+        grantedConfiguration.put(JOB_ID_KEY, config.jobId().asString());
+        var grantedConfig = executorSpec
+            .configParser(algoSpec.newConfigFunction(), executionContext)
+            .processInput(grantedConfiguration);
+        executionContext.log().debug(
+            "%s runs with concurrency %d instead of %d to fit into the core budget",
+            algoSpec.name(),
+            grantedCores,
+            config.concurrency()
+        );
+        setAlgorithmMetaDataToTransaction(grantedConfig);
+        return grantedConfig;
+    }
+
+    private RESULT compute(
+        CONFIG config,
+        GraphCreation<ALGO, ALGO_RESULT, CONFIG> graphCreation,
+        MemoryReservation memoryReservation,
+        boolean releaseAlgorithm,
+        boolean releaseTopology
+    ) {
+        ImmutableComputationResult.Builder<ALGO, ALGO_RESULT, CONFIG> builder = ImmutableComputationResult.builder();
 
         GraphStore graphStore;
         Graph graph;
@@ -104,7 +177,7 @@ public class ProcedureExecutor<
 
         ALGO algo = newAlgorithm(graph, graphStore, config);
 
-        algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
+        algo.getProgressTracker().setEstimatedResourceFootprint(memoryReservation.memoryRange(), config.concurrency());
 
         ALGO_RESULT result = executeAlgorithm(releaseAlgorithm, releaseTopology, builder, graph, algo);
 
@@ -119,6 +192,80 @@ public class ProcedureExecutor<
         return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
     }
 
+    /**
+     * Stream results are produced while the caller consumes them, so the resource is released when the stream is closed.
+     * Any other result is complete and the resource is released right away.
+     */
+    @SuppressWarnings("unchecked")
+    private RESULT releaseWhenConsumed(RESULT result, AutoCloseable resource) {
+        if (result instanceof Stream) {
+            return (RESULT) ((Stream<?>) result).onClose(() -> closeUnchecked(resource));
+        }
+        closeUnchecked(resource);
+        return result;
+    }
+
+    private static void closeUnchecked(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private JobScheduler.Permit schedule(CONFIG config) {
+        var api = executionContext.api();
+        if (api == null) {
+            return JobScheduler.Permit.UNSCHEDULED;
+        }
+        int coreBudget = GraphDatabaseApiProxy
+            .resolveDependency(api, Config.class)
+            .get(JobSchedulerSettings.scheduler_core_budget);
+        if (coreBudget == 0) {
+            return JobScheduler.Permit.UNSCHEDULED;
+        }
+
+        // While waiting, the job is listed with its position in line, so that the wait time shows up in the progress.
+        var taskRegistry = executionContext.taskRegistryFactory().newInstance(config.jobId());
+        var queuedTask = Tasks.leaf(algoSpec.name() + " :: Queued");
+        var initialJobsAhead = new AtomicInteger(-1);
+        try {
+            var permit = JobScheduler.forCoreBudget(coreBudget).acquire(
+                executionContext.username(),
+                config.concurrency(),
+                config.priority(),
+                TerminationFlag.wrap(executionContext.transaction()),
+                jobsAhead -> {
+                    if (initialJobsAhead.get() == -1) {
+                        initialJobsAhead.set(jobsAhead);
+                        queuedTask.setVolume(jobsAhead + 1);
+                        queuedTask.start();
+                        taskRegistry.registerTask(queuedTask);
+                    } else {
+                        // jobs with a higher priority can move ahead, but the progress never drops below zero
+                        long progress = Math.max(0, initialJobsAhead.get() - jobsAhead);
+                        queuedTask.logProgress(progress - queuedTask.getProgress().progress());
+                    }
+                }
+            );
+            if (permit.waitTimeMillis() > 0) {
+                executionContext.log().debug(
+                    "%s was queued for %d ms before it could use %d cores",
+                    algoSpec.name(),
+                    permit.waitTimeMillis(),
+                    permit.cores()
+                );
+            }
+            return permit;
+        } finally {
+            if (initialJobsAhead.get() != -1) {
+                taskRegistry.unregisterTask();
+            }
+        }
+    }
+
     private ALGO_RESULT executeAlgorithm(
         boolean releaseAlgorithm,
         boolean releaseTopology,
@@ -178,10 +325,34 @@ public class ProcedureExecutor<
                 }
             });
         algorithm.setTerminationFlag(terminationFlag);
+        algorithm.setCheckpoints(checkpoints(graph, config));
 
         return algorithm;
     }
 
+    private Checkpoints checkpoints(Graph graph, CONFIG config) {
+        if (!(config instanceof CheckpointConfig) || !((CheckpointConfig) config).isCheckpointed()) {
+            return Checkpoints.DISABLED;
+        }
+        var api = executionContext.api();
+        var location = api == null
+            ? null
+            : GraphDatabaseApiProxy.resolveDependency(api, Config.class).get(CheckpointSettings.checkpoint_location);
+        if (location == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` parameter requires the `%s` setting to be configured.",
+                CheckpointConfig.CHECKPOINT_ID_KEY,
+                CheckpointSettings.checkpoint_location.name()
+            ));
+        }
+        return Checkpoints.of(
+            location,
+            executionContext.username(),
+            ((CheckpointConfig) config).checkpointId(),
+            Checkpoints.fingerprint(config.toMap(), graph)
+        );
+    }
+
     private void setAlgorithmMetaDataToTransaction(CONFIG algoConfig) {
         if (executionContext.transaction() == null) {
             return;
@@ -28,7 +28,6 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
-import org.neo4j.gds.core.utils.mem.MemoryRange;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -76,11 +75,11 @@ public class ProcedureGraphCreation<
     }
 
     @Override
-    public MemoryRange validateMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory) {
+    public MemoryReservation reserveMemory(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory) {
         var procedureMemoryEstimation = new ProcedureMemoryEstimation<>(
             graphStoreLoader.graphDimensions(),
             algorithmFactory
         );
-        return memoryUsageValidator.tryValidateMemoryUsage(config, procedureMemoryEstimation::memoryEstimation);
+        return memoryUsageValidator.tryReserveMemoryUsage(config, procedureMemoryEstimation::memoryEstimation);
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchedResultStreamTest {
+
+    private static List<Partition> partitions(long nodeCount, long batchSize) {
+        return PartitionUtils.rangePartitionWithBatchSize(nodeCount, batchSize, partition -> partition);
+    }
+
+    @Test
+    void shouldEmitRowsInPartitionOrder() {
+        var rows = BatchedResultStream.stream(
+            partitions(1_000, 10),
+            (Partition partition, Consumer<long[]> sink) -> partition.consume(nodeId -> sink.accept(new long[]{nodeId})),
+            (long[] batch) -> Stream.of(batch[0])
+        ).collect(Collectors.toList());
+
+        assertThat(rows).containsExactlyElementsOf(LongStream.range(0, 1_000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldProducePartitionsOnlyWhenTheirRowsArePulled() {
+        var producedRows = new AtomicInteger();
+        var producingThreads = new HashSet<Thread>();
+
+        var rows = BatchedResultStream.stream(
+            partitions(1_000, 10),
+            (Partition partition, Consumer<long[]> sink) -> partition.consume(nodeId -> {
+                producedRows.incrementAndGet();
+                producingThreads.add(Thread.currentThread());
+                sink.accept(new long[]{nodeId});
+            }),
+            (long[] batch) -> Stream.of(batch[0])
+        );
+
+        assertThat(producedRows.get()).isZero();
+        assertThat(rows.limit(5).collect(Collectors.toList())).containsExactly(0L, 1L, 2L, 3L, 4L);
+        // only the first partition has been produced
+        assertThat(producedRows.get()).isEqualTo(10);
+        assertThat(producingThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void shouldRethrowProducerFailures() {
+        var rows = BatchedResultStream.stream(
+            partitions(100, 10),
+            (Partition partition, Consumer<long[]> sink) -> {
+                if (partition.startNode() == 50) {
+                    throw new IllegalStateException("boom");
+                }
+                partition.consume(nodeId -> sink.accept(new long[]{nodeId}));
+            },
+            (long[] batch) -> Stream.of(batch[0])
+        );
+
+        assertThatThrownBy(rows::count)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("boom");
+    }
+
+    @Test
+    void shouldProduceNothingForNoPartitions() {
+        var rows = BatchedResultStream.stream(
+            List.of(),
+            (Partition partition, Consumer<long[]> sink) -> sink.accept(new long[]{partition.startNode()}),
+            (long[] batch) -> Stream.of(batch[0])
+        );
+
+        assertThat(rows.count()).isZero();
+    }
+}
@@ -28,6 +28,7 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryReservationLedger;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
 
@@ -42,12 +43,13 @@ class MemoryUsageValidatorTest extends BaseTest {
         var dimensions = GraphDimensions.builder().nodeCount(1000).build();
         var memoryTree = MemoryTree.empty();
 
-        assertThatNoException().isThrownBy(() -> new MemoryUsageValidator(Neo4jProxy.testLog(), db)
-            .tryValidateMemoryUsage(
+        assertThatNoException().isThrownBy(() -> new MemoryUsageValidator(Neo4jProxy.testLog(), db, new MemoryReservationLedger())
+            .tryReserveMemoryUsage(
                 TestConfig.empty(),
                 (config) -> new MemoryTreeWithDimensions(memoryTree, dimensions),
                 () -> 10000000
-            ));
+            )
+            .close());
     }
 
     @Test
@@ -55,14 +57,14 @@ class MemoryUsageValidatorTest extends BaseTest {
         var dimensions = GraphDimensions.builder().nodeCount(1000).build();
         var memoryTree = new TestTree("test", MemoryRange.of(42));
 
-        assertThatThrownBy(() -> new MemoryUsageValidator(Neo4jProxy.testLog(), db)
-            .tryValidateMemoryUsage(
+        assertThatThrownBy(() -> new MemoryUsageValidator(Neo4jProxy.testLog(), db, new MemoryReservationLedger())
+            .tryReserveMemoryUsage(
                 TestConfig.empty(),
                 (config) -> new MemoryTreeWithDimensions(memoryTree, dimensions),
                 () -> 21
         ))
             .isInstanceOf(IllegalStateException.class)
-            .hasMessageContaining("Procedure was blocked since minimum estimated memory (42 Bytes) exceeds current free memory (21 Bytes).");
+            .hasMessage("Procedure was blocked since minimum estimated memory (42 Bytes) exceeds current free memory (21 Bytes).");
     }
 
     @Test
@@ -70,12 +72,13 @@ class MemoryUsageValidatorTest extends BaseTest {
         var dimensions = GraphDimensions.builder().nodeCount(1000).build();
         var memoryTree = new TestTree("test", MemoryRange.of(42));
 
-        assertThatNoException().isThrownBy(() -> new MemoryUsageValidator(Neo4jProxy.testLog(), db)
-            .tryValidateMemoryUsage(
+        assertThatNoException().isThrownBy(() -> new MemoryUsageValidator(Neo4jProxy.testLog(), db, new MemoryReservationLedger())
+            .tryReserveMemoryUsage(
                 TestConfig.of(CypherMapWrapper.empty().withBoolean("sudo", true)),
                 (config) -> new MemoryTreeWithDimensions(memoryTree, dimensions),
                 () -> 21
-            ));
+            )
+            .close());
     }
 
     @Test
@@ -83,9 +86,9 @@ class MemoryUsageValidatorTest extends BaseTest {
         var log = Neo4jProxy.testLog();
         var dimensions = GraphDimensions.builder().nodeCount(1000).build();
         var memoryTree = new TestTree("test", MemoryRange.of(42));
-        var memoryUsageValidator = new MemoryUsageValidator(log, db);
+        var memoryUsageValidator = new MemoryUsageValidator(log, db, new MemoryReservationLedger());
         try {
-            memoryUsageValidator.tryValidateMemoryUsage(
+            memoryUsageValidator.tryReserveMemoryUsage(
                 TestConfig.of(CypherMapWrapper.empty()),
                 (config -> new MemoryTreeWithDimensions(memoryTree, dimensions)),
                 () -> 21
@@ -97,6 +100,51 @@ class MemoryUsageValidatorTest extends BaseTest {
             .contains("Procedure was blocked since minimum estimated memory (42 Bytes) exceeds current free memory (21 Bytes).");
     }
 
+    @Test
+    void shouldReserveEstimatedMemoryUntilClosed() {
+        var ledger = new MemoryReservationLedger();
+        var validator = new MemoryUsageValidator(Neo4jProxy.testLog(), db, ledger);
+        var dimensions = GraphDimensions.builder().nodeCount(1000).build();
+        var memoryTree = new TestTree("test", MemoryRange.of(42));
+
+        try (var reservation = validator.tryReserveMemoryUsage(
+            TestConfig.empty(),
+            (config) -> new MemoryTreeWithDimensions(memoryTree, dimensions),
+            () -> 63
+        )) {
+            assertThat(reservation.memoryRange()).isEqualTo(MemoryRange.of(42));
+            assertThat(reservation.reservedBytes()).isEqualTo(42);
+            assertThat(ledger.reservedBytes()).isEqualTo(42);
+
+            assertThatThrownBy(() -> validator.tryReserveMemoryUsage(
+                TestConfig.empty(),
+                (config) -> new MemoryTreeWithDimensions(memoryTree, dimensions),
+                () -> 63
+            ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Procedure was blocked since minimum estimated memory (42 Bytes) exceeds current free memory (21 Bytes).")
+                .hasMessageContaining("Note: 42 Bytes of the free memory are reserved by 1 running procedures.");
+        }
+
+        assertThat(ledger.reservedBytes()).isZero();
+    }
+
+    @Test
+    void shouldReserveMemoryInSudoMode() {
+        var ledger = new MemoryReservationLedger();
+        var validator = new MemoryUsageValidator(Neo4jProxy.testLog(), db, ledger);
+        var dimensions = GraphDimensions.builder().nodeCount(1000).build();
+        var memoryTree = new TestTree("test", MemoryRange.of(42));
+
+        try (var ignored = validator.tryReserveMemoryUsage(
+            TestConfig.of(CypherMapWrapper.empty().withBoolean("sudo", true)),
+            (config) -> new MemoryTreeWithDimensions(memoryTree, dimensions),
+            () -> 21
+        )) {
+            assertThat(ledger.reservedBytes()).isEqualTo(42);
+        }
+    }
+
     @Configuration
     interface TestConfig extends AlgoBaseConfig {
         static TestConfig empty() {
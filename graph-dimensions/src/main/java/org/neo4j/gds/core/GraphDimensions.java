@@ -118,6 +118,15 @@ public interface GraphDimensions {
         return Collections.emptyMap();
     }
 
+    /**
+     * The lengths of array node properties, if known.
+     * They are only available once the graph has been loaded, e.g. for graphs from the catalog.
+     */
+    @Value.Default
+    default Map<String, Integer> nodePropertyDimensions() {
+        return Collections.emptyMap();
+    }
+
     @Value.Default
     default int estimationNodeLabelCount() {
         var nodeLabels = new HashSet<NodeLabel>();
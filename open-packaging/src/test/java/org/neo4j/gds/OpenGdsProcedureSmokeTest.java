@@ -84,6 +84,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.hits.write",
         "gds.alpha.hits.write.estimate",
 
+        "gds.alpha.hnsw.build",
+        "gds.alpha.hnsw.stream",
+        "gds.alpha.hnsw.query.stream",
+
         "gds.beta.pipeline.linkPrediction.addFeature",
         "gds.beta.pipeline.linkPrediction.addNodeProperty",
         "gds.beta.pipeline.linkPrediction.addLogisticRegression",
@@ -459,7 +463,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 317;
+        int expectedCount = 320;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
@@ -226,12 +226,9 @@ public class GraphProjectProc extends CatalogProc {
             EmptyUserLogRegistryFactory.INSTANCE
         );
 
-        var graphStore = GraphStoreFilter.filter(
-            fromGraphStore,
-            config,
-            Pools.DEFAULT,
-            progressTracker
-        );
+        var graphStore = config.view()
+            ? GraphStoreFilter.view(fromGraphStore, config, Pools.DEFAULT, progressTracker)
+            : GraphStoreFilter.filter(fromGraphStore, config, Pools.DEFAULT, progressTracker);
 
         GraphStoreCatalog.set(config, graphStore);
 
@@ -260,12 +257,12 @@ public class GraphProjectProc extends CatalogProc {
     }
 
     private GraphProjectResult projectGraph(GraphProjectConfig config) {
-        memoryUsageValidator().tryValidateMemoryUsage(config, this::memoryTreeWithDimensions);
-
         GraphProjectResult.Builder builder = config instanceof GraphProjectFromCypherConfig
             ? new GraphProjectCypherResult.Builder((GraphProjectFromCypherConfig) config)
             : new GraphProjectNativeResult.Builder((GraphProjectFromStoreConfig) config);
 
+        // the projected graph only shows up in the free memory after the next GC, so it stays reserved until then
+        var memoryReservation = memoryUsageValidator().tryReserveMemoryUsage(config, this::memoryTreeWithDimensions);
         try (ProgressTimer ignored = ProgressTimer.start(builder::withProjectMillis)) {
             GraphStore graphStore = new GraphStoreFromDatabaseLoader(
                 config,
@@ -278,7 +275,11 @@ public class GraphProjectProc extends CatalogProc {
                 .withRelationshipCount(graphStore.relationshipCount());
 
             GraphStoreCatalog.set(config, graphStore);
+        } catch (RuntimeException e) {
+            memoryReservation.close();
+            throw e;
         }
+        memoryReservation.releaseAfterNextGc();
 
         return builder.build();
     }
@@ -156,7 +156,7 @@ public class GraphStoreExportProc extends BaseProc {
 
                 var dimensions = GraphDimensions.of(graphStore.nodeCount(), graphStore.relationshipCount());
                 var memoryTree = CsvExportEstimation
-                    .estimate(graphStore, exportConfig.samplingFactor())
+                    .estimate(graphStore, exportConfig.samplingFactor(), exportConfig.format())
                     .estimate(dimensions, 1);
                 return new MemoryTreeWithDimensions(memoryTree, dimensions);
             }
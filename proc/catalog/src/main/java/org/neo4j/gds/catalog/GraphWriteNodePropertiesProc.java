@@ -109,6 +109,7 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
                     Optional.empty()
                 );
 
+                config.writeBatchSize().ifPresent(nodePropertyExporterBuilder::withBatchSize);
                 var exporter = nodePropertyExporterBuilder
                     .withIdMap(subGraph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction))
@@ -50,6 +50,7 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.mem.MemoryReservationLedger;
 import org.neo4j.gds.core.utils.progress.GlobalTaskStore;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -786,6 +787,8 @@ class GraphProjectProcTest extends BaseProcTest {
 
     @Test
     void shouldFailOnTooBigGraphNative() {
+        // graphs projected by earlier tests would still count against the free memory
+        MemoryReservationLedger.instance().releaseRetained();
         assertThatThrownBy(() -> {
             applyOnProcedure(proc -> {
                 GraphProjectConfig config = GraphProjectFromStoreConfig.fromProcedureConfig(
@@ -794,7 +797,7 @@ class GraphProjectProcTest extends BaseProcTest {
                         NODE_PROJECTION_KEY, "*",
                         RELATIONSHIP_PROJECTION_KEY, "*"))
                 );
-                proc.memoryUsageValidator().tryValidateMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42);
+                proc.memoryUsageValidator().tryReserveMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42).close();
             });
         }).isInstanceOf(IllegalStateException.class)
             .hasMessageMatching(
@@ -812,7 +815,7 @@ class GraphProjectProcTest extends BaseProcTest {
                     SUDO_KEY, true
                 ))
             );
-            proc.memoryUsageValidator().tryValidateMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42);
+            proc.memoryUsageValidator().tryReserveMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42).close();
         });
     }
 
@@ -827,12 +830,14 @@ class GraphProjectProcTest extends BaseProcTest {
                     SUDO_KEY, true
                 ))
             );
-            proc.memoryUsageValidator().tryValidateMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42);
+            proc.memoryUsageValidator().tryReserveMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42).close();
         });
     }
 
     @Test
     void shouldFailOnTooBigGraphCypher() {
+        // graphs projected by earlier tests would still count against the free memory
+        MemoryReservationLedger.instance().releaseRetained();
         assertThatThrownBy(() -> {
             applyOnProcedure(proc -> {
                 GraphProjectConfig config = GraphProjectFromCypherConfig.fromProcedureConfig(
@@ -843,7 +848,7 @@ class GraphProjectProcTest extends BaseProcTest {
                         "sudo", false
                     ))
                 );
-                proc.memoryUsageValidator().tryValidateMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42);
+                proc.memoryUsageValidator().tryReserveMemoryUsage(config, proc::memoryTreeWithDimensions, () -> 42).close();
             });
         }).isInstanceOf(IllegalStateException.class)
             .hasMessageMatching(
@@ -124,6 +124,7 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
         ProgressTracker progressTracker,
         ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult
     ) {
+        computationResult.config().writeBatchSize().ifPresent(nodePropertyExporterBuilder::withBatchSize);
         return nodePropertyExporterBuilder
             .withIdMap(graph)
             .withTerminationFlag(computationResult.algorithm().terminationFlag)
@@ -122,6 +122,51 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored bit-packed during graph creation.")
+    public void usePackedAdjacencyList(@Name(value = "usePackedAdjacencyList") boolean usePackedAdjacencyList) {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(usePackedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store bit-packed adjacency lists during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUsePackedAdjacencyList() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useRankSelectIdMap")
+    @Description("Toggle whether a rank/select bitmap id map should be used for dense node id ranges during graph creation.")
+    public void useRankSelectIdMap(@Name(value = "useRankSelectIdMap") boolean useRankSelectIdMap) {
+        GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.toggle(useRankSelectIdMap);
+    }
+
+    @Internal
+    @Procedure("gds.features.useRankSelectIdMap.reset")
+    @Description("Set the default behaviour of whether to use a rank/select bitmap id map during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseRankSelectIdMap() {
+        GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored off heap during graph creation.")
+    public void useOffHeapAdjacencyList(@Name(value = "useOffHeapAdjacencyList") boolean useOffHeapAdjacencyList) {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.toggle(useOffHeapAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store adjacency lists off heap during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseOffHeapAdjacencyList() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.useReorderedAdjacencyList")
     @Description("Toggle whether the adjacency list should be reordered during graph creation.")
@@ -32,8 +32,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_RANK_SELECT_ID_MAP;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST;
 
@@ -120,6 +123,63 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUsePackedAdjacencyList() {
+        var usePackedAdjacencyList = USE_PACKED_ADJACENCY_LIST.isEnabled();
+        runQuery("CALL gds.features.usePackedAdjacencyList($value)", Map.of("value", !usePackedAdjacencyList));
+        assertEquals(!usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+        runQuery("CALL gds.features.usePackedAdjacencyList($value)", Map.of("value", usePackedAdjacencyList));
+        assertEquals(usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUsePackedAdjacencyList() {
+        USE_PACKED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.usePackedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseRankSelectIdMap() {
+        var useRankSelectIdMap = USE_RANK_SELECT_ID_MAP.isEnabled();
+        runQuery("CALL gds.features.useRankSelectIdMap($value)", Map.of("value", !useRankSelectIdMap));
+        assertEquals(!useRankSelectIdMap, USE_RANK_SELECT_ID_MAP.isEnabled());
+        runQuery("CALL gds.features.useRankSelectIdMap($value)", Map.of("value", useRankSelectIdMap));
+        assertEquals(useRankSelectIdMap, USE_RANK_SELECT_ID_MAP.isEnabled());
+    }
+
+    @Test
+    void resetUseRankSelectIdMap() {
+        USE_RANK_SELECT_ID_MAP.reset();
+        assertCypherResult(
+            "CALL gds.features.useRankSelectIdMap.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_RANK_SELECT_ID_MAP.isEnabled());
+    }
+
+    @Test
+    void toggleUseOffHeapAdjacencyList() {
+        var useOffHeapAdjacencyList = USE_OFF_HEAP_ADJACENCY_LIST.isEnabled();
+        runQuery("CALL gds.features.useOffHeapAdjacencyList($value)", Map.of("value", !useOffHeapAdjacencyList));
+        assertEquals(!useOffHeapAdjacencyList, USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+        runQuery("CALL gds.features.useOffHeapAdjacencyList($value)", Map.of("value", useOffHeapAdjacencyList));
+        assertEquals(useOffHeapAdjacencyList, USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUseOffHeapAdjacencyList() {
+        USE_OFF_HEAP_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.useOffHeapAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+    }
+
     @Test
     void toggleUseReorderedAdjacencyList() {
         var useReorderedAdjacencyList = USE_REORDERED_ADJACENCY_LIST.isEnabled();
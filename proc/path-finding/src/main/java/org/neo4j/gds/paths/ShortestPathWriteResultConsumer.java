@@ -96,7 +96,9 @@ public class ShortestPathWriteResultConsumer<ALGO extends Algorithm<DijkstraResu
             try (var statement = executionContext.transaction().acquireStatement()) {
                 statement.registerCloseableResource(relationshipStream);
 
-                var exporter = executionContext.relationshipStreamExporterBuilder()
+                var exporterBuilder = executionContext.relationshipStreamExporterBuilder();
+                config.writeBatchSize().ifPresent(exporterBuilder::withBatchSize);
+                var exporter = exporterBuilder
                     .withIdMappingOperator(computationResult.graph()::toOriginalNodeId)
                     .withRelationships(relationshipStream)
                     .withTerminationFlag(algorithm.getTerminationFlag())
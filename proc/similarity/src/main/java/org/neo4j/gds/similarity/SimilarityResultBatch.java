@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity;
+
+import org.neo4j.gds.api.IdMap;
+
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A fixed-size batch of similarity pairs, stored in primitive arrays with original node ids.
+ */
+public final class SimilarityResultBatch {
+
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+    private final double[] similarities;
+    private int size;
+
+    public SimilarityResultBatch(int capacity) {
+        this.sourceNodes = new long[capacity];
+        this.targetNodes = new long[capacity];
+        this.similarities = new double[capacity];
+        this.size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Stream<SimilarityResult> stream() {
+        return IntStream
+            .range(0, size)
+            .mapToObj(index -> new SimilarityResult(sourceNodes[index], targetNodes[index], similarities[index]));
+    }
+
+    /**
+     * Collects similarity pairs with mapped node ids into batches of original node ids.
+     */
+    public static final class Builder {
+        private final IdMap idMap;
+        private final int batchSize;
+        private final Consumer<SimilarityResultBatch> sink;
+        // allocated on the first add, so that partitions without results allocate nothing
+        private SimilarityResultBatch current;
+
+        public Builder(IdMap idMap, int batchSize, Consumer<SimilarityResultBatch> sink) {
+            this.idMap = idMap;
+            this.batchSize = batchSize;
+            this.sink = sink;
+        }
+
+        public boolean add(long sourceNode, long targetNode, double similarity) {
+            var batch = current;
+            if (batch == null) {
+                batch = new SimilarityResultBatch(batchSize);
+                current = batch;
+            }
+            batch.sourceNodes[batch.size] = idMap.toOriginalNodeId(sourceNode);
+            batch.targetNodes[batch.size] = idMap.toOriginalNodeId(targetNode);
+            batch.similarities[batch.size] = similarity;
+            if (++batch.size == batchSize) {
+                sink.accept(batch);
+                current = null;
+            }
+            return true;
+        }
+
+        public void flush() {
+            if (current != null) {
+                sink.accept(current);
+                current = null;
+            }
+        }
+    }
+}
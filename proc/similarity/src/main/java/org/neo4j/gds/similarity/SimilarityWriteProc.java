@@ -91,6 +91,7 @@ public abstract class SimilarityWriteProc<
                                 RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY,
                                 executionContext().taskRegistryFactory()
                             );
+                            config.writeBatchSize().ifPresent(relationshipExporterBuilder::withBatchSize);
                             var exporter = relationshipExporterBuilder
                                 .withIdMappingOperator(rootIdMap::toOriginalNodeId)
                                 .withGraph(similarityGraph)
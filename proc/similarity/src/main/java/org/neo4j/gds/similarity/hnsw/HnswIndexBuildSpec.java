@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.NewConfigFunction;
+
+import java.util.stream.Stream;
+
+public class HnswIndexBuildSpec implements AlgorithmSpec<HnswIndexBuilder, HnswIndex, HnswIndexConfig, Stream<HnswIndexProc.BuildResult>, HnswIndexFactory> {
+
+    private final String graphName;
+
+    public HnswIndexBuildSpec(String graphName) {
+        this.graphName = graphName;
+    }
+
+    @Override
+    public String name() {
+        return "HnswIndexBuild";
+    }
+
+    @Override
+    public HnswIndexFactory algorithmFactory() {
+        return new HnswIndexFactory();
+    }
+
+    @Override
+    public NewConfigFunction<HnswIndexConfig> newConfigFunction() {
+        return (__, config) -> HnswIndexConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<HnswIndexBuilder, HnswIndex, HnswIndexConfig, Stream<HnswIndexProc.BuildResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var config = computationResult.config();
+            var graph = computationResult.graph();
+            // an empty graph still gets its (empty) index, so that streaming it does not fail
+            var index = computationResult.isGraphEmpty()
+                ? algorithmFactory().build(graph, config, ProgressTracker.NULL_TRACKER).compute()
+                : computationResult.result();
+
+            GraphStoreCatalog.setIndex(
+                executionContext.username(),
+                executionContext.databaseId(),
+                graphName,
+                config.indexName(),
+                index
+            );
+
+            var result = new HnswIndexProc.BuildResult.Builder();
+            result.indexName = config.indexName();
+            result.nodeProperty = config.nodeProperty();
+            result.nodeCount = graph.nodeCount();
+            result.buildMillis = computationResult.computeMillis();
+            result.configuration = config.toMap();
+            return Stream.of(result.build());
+        };
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.executor.ProcedureExecutor;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class HnswIndexProc extends BaseProc {
+
+    @Procedure(name = "gds.alpha.hnsw.build", mode = READ)
+    @Description("Builds an HNSW index over a node array property and stores it next to the graph in the graph catalog.")
+    public Stream<BuildResult> build(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return new ProcedureExecutor<>(
+            new HnswIndexBuildSpec(graphName),
+            executionContext()
+        ).compute(graphName, configuration, true, true);
+    }
+
+    @Procedure(name = "gds.alpha.hnsw.stream", mode = READ)
+    @Description("Streams the approximate top-k most similar nodes of every source node using a stored HNSW index.")
+    public Stream<SimilarityResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = HnswIndexStreamConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var index = indexFromCatalog(graphName, config.indexName());
+        return new ProcedureExecutor<>(
+            new HnswIndexStreamSpec(index),
+            executionContext()
+        ).compute(graphName, configuration, true, true);
+    }
+
+    @Procedure(name = "gds.alpha.hnsw.query.stream", mode = READ)
+    @Description("Streams the approximate top-k most similar nodes to the given vector using a stored HNSW index.")
+    public Stream<QueryResult> queryStream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "queryVector") List<Number> queryVector,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = HnswIndexStreamConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var graphStore = graphStoreFromCatalog(graphName, config).graphStore();
+        var index = indexFromCatalog(graphName, config.indexName());
+        var idMap = graphStore.nodes();
+        var targetFilter = config.targetNodeFilter().toNodeFilter(idMap);
+
+        var vector = queryVector.stream().mapToDouble(Number::doubleValue).toArray();
+        var neighbors = index.search(vector, config.topK(), config.ef(), targetFilter);
+
+        return IntStream
+            .range(0, neighbors.size())
+            .mapToObj(i -> new QueryResult(idMap.toOriginalNodeId(neighbors.nodeId(i)), neighbors.similarity(i)));
+    }
+
+    private HnswIndex indexFromCatalog(String graphName, String indexName) {
+        return GraphStoreCatalog
+            .getIndex(username(), databaseId(), graphName, indexName, HnswIndex.class)
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "No HNSW index with name `%s` exists on graph `%s`.",
+                indexName,
+                graphName
+            )));
+    }
+
+    @SuppressWarnings("unused")
+    public static final class BuildResult {
+        public final String indexName;
+        public final String nodeProperty;
+        public final long nodeCount;
+        public final long buildMillis;
+        public final Map<String, Object> configuration;
+
+        private BuildResult(
+            String indexName,
+            String nodeProperty,
+            long nodeCount,
+            long buildMillis,
+            Map<String, Object> configuration
+        ) {
+            this.indexName = indexName;
+            this.nodeProperty = nodeProperty;
+            this.nodeCount = nodeCount;
+            this.buildMillis = buildMillis;
+            this.configuration = configuration;
+        }
+
+        static final class Builder {
+            String indexName;
+            String nodeProperty;
+            long nodeCount;
+            long buildMillis;
+            Map<String, Object> configuration;
+
+            BuildResult build() {
+                return new BuildResult(indexName, nodeProperty, nodeCount, buildMillis, configuration);
+            }
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static final class QueryResult {
+        public final long nodeId;
+        public final double similarity;
+
+        QueryResult(long nodeId, double similarity) {
+            this.nodeId = nodeId;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.similarity.SimilarityResult;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public class HnswIndexStreamSpec implements AlgorithmSpec<HnswIndexSearch, HugeObjectArray<HnswIndex.SearchResult>, HnswIndexStreamConfig, Stream<SimilarityResult>, HnswIndexSearchFactory> {
+
+    private final HnswIndex index;
+
+    public HnswIndexStreamSpec(HnswIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public String name() {
+        return "HnswIndexStream";
+    }
+
+    @Override
+    public HnswIndexSearchFactory algorithmFactory() {
+        return new HnswIndexSearchFactory(index);
+    }
+
+    @Override
+    public NewConfigFunction<HnswIndexStreamConfig> newConfigFunction() {
+        return (__, config) -> HnswIndexStreamConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<HnswIndexSearch, HugeObjectArray<HnswIndex.SearchResult>, HnswIndexStreamConfig, Stream<SimilarityResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            if (computationResult.isGraphEmpty()) {
+                return Stream.empty();
+            }
+
+            var graph = computationResult.graph();
+            var neighbors = computationResult.result();
+            return LongStream
+                .range(IdMap.START_NODE_ID, graph.nodeCount())
+                .boxed()
+                .flatMap(nodeId -> {
+                    var sourceNode = graph.toOriginalNodeId(nodeId);
+                    var nodeNeighbors = neighbors.get(nodeId);
+                    return IntStream
+                        .range(0, nodeNeighbors.size())
+                        .mapToObj(i -> new SimilarityResult(
+                            sourceNode,
+                            graph.toOriginalNodeId(nodeNeighbors.nodeId(i)),
+                            nodeNeighbors.similarity(i)
+                        ));
+                });
+        };
+    }
+}
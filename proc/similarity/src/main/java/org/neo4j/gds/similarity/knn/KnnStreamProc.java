@@ -24,16 +24,22 @@ import org.neo4j.gds.StreamProc;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.executor.BatchedResultStream;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionMode;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.SimilarityResultBatch;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.similarity.knn.KnnProc.KNN_DESCRIPTION;
@@ -42,6 +48,8 @@ import static org.neo4j.procedure.Mode.READ;
 @GdsCallable(name = "gds.knn.stream", description = KNN_DESCRIPTION, executionMode = ExecutionMode.STREAM)
 public class KnnStreamProc extends StreamProc<Knn, Knn.Result, SimilarityResult, KnnStreamConfig> {
 
+    private static final int BATCH_SIZE = 10_000;
+
     @Procedure(value = "gds.knn.stream", mode = READ)
     @Description(KNN_DESCRIPTION)
     public Stream<SimilarityResult> stream(
@@ -88,13 +96,24 @@ public class KnnStreamProc extends StreamProc<Knn, Knn.Result, SimilarityResult,
                 return Stream.empty();
             }
 
-            return computationResult.result()
-                .streamSimilarityResult()
-                .map(similarityResult -> {
-                    similarityResult.node1 = graph.toOriginalNodeId(similarityResult.node1);
-                    similarityResult.node2 = graph.toOriginalNodeId(similarityResult.node2);
-                    return similarityResult;
-                });
+            var result = computationResult.result();
+            // every node has at most topK neighbours, so a partition fills about one batch
+            var nodesPerPartition = Math.max(1, BATCH_SIZE / computationResult.config().topK());
+            var partitions = PartitionUtils.rangePartitionWithBatchSize(
+                graph.nodeCount(),
+                nodesPerPartition,
+                Function.identity()
+            );
+
+            return BatchedResultStream.stream(
+                partitions,
+                (Partition partition, Consumer<SimilarityResultBatch> sink) -> {
+                    var batchBuilder = new SimilarityResultBatch.Builder(graph, BATCH_SIZE, sink);
+                    result.forEachSimilarity(partition, batchBuilder::add);
+                    batchBuilder.flush();
+                },
+                SimilarityResultBatch::stream
+            );
         };
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphDropProc;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HnswIndexProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {embedding: [1.0, 0.0]})" +
+        ", (b:A {embedding: [0.9, 0.1]})" +
+        ", (c:B {embedding: [0.0, 1.0]})" +
+        ", (d:B {embedding: [0.1, 0.9]})";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, GraphDropProc.class, HnswIndexProc.class);
+        runQuery(DB_CYPHER);
+        runQuery("CALL gds.graph.project('graph', ['A', 'B'], '*', {nodeProperties: 'embedding'})");
+        runQuery("CALL gds.alpha.hnsw.build('graph', {indexName: 'index', nodeProperty: 'embedding', concurrency: 1})");
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldBuildIndex() {
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.hnsw.build('graph', {indexName: 'other', nodeProperty: 'embedding', randomSeed: 42})",
+            row -> {
+                assertThat(row.getString("indexName")).isEqualTo("other");
+                assertThat(row.getString("nodeProperty")).isEqualTo("embedding");
+                assertThat(row.getNumber("nodeCount").longValue()).isEqualTo(4L);
+                assertThat(row.getNumber("buildMillis").longValue()).isGreaterThanOrEqualTo(0L);
+                assertThat(row.get("configuration"))
+                    .asInstanceOf(InstanceOfAssertFactories.MAP)
+                    .containsEntry("randomSeed", 42L);
+            }
+        );
+    }
+
+    @Test
+    void shouldStreamNeighbours() {
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.stream('graph', {indexName: 'index', topK: 1})" +
+            " YIELD node1, node2" +
+            " RETURN node1, node2" +
+            " ORDER BY node1",
+            List.of(
+                Map.of("node1", 0L, "node2", 1L),
+                Map.of("node1", 1L, "node2", 0L),
+                Map.of("node1", 2L, "node2", 3L),
+                Map.of("node1", 3L, "node2", 2L)
+            )
+        );
+    }
+
+    @Test
+    void shouldStreamFilteredNeighbours() {
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.stream('graph', {indexName: 'index', topK: 1, sourceNodeFilter: 'A', targetNodeFilter: 'B'})" +
+            " YIELD node1, node2" +
+            " RETURN node1, node2" +
+            " ORDER BY node1",
+            List.of(
+                Map.of("node1", 0L, "node2", 3L),
+                Map.of("node1", 1L, "node2", 3L)
+            )
+        );
+    }
+
+    @Test
+    void shouldStreamNeighboursOfVector() {
+        var nodeIds = runQuery(
+            "CALL gds.alpha.hnsw.query.stream('graph', [0.0, 1.0], {indexName: 'index', topK: 2})" +
+            " YIELD nodeId, similarity" +
+            " RETURN collect(nodeId) AS nodeIds",
+            result -> result.next().get("nodeIds")
+        );
+        assertThat(nodeIds).isEqualTo(List.of(2L, 3L));
+
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.hnsw.query.stream('graph', [0.0, 1.0], {indexName: 'index', topK: 1})",
+            row -> assertThat(row.getNumber("similarity").doubleValue()).isCloseTo(1.0, within(1e-9))
+        );
+    }
+
+    @Test
+    void shouldFailForMissingIndex() {
+        assertThatThrownBy(() -> runQuery("CALL gds.alpha.hnsw.stream('graph', {indexName: 'missing'})"))
+            .rootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No HNSW index with name `missing` exists on graph `graph`.");
+    }
+
+    @Test
+    void shouldRejectNodeLabels() {
+        assertThatThrownBy(() -> runQuery(
+            "CALL gds.alpha.hnsw.build('graph', {indexName: 'other', nodeProperty: 'embedding', nodeLabels: ['A']})"
+        ))
+            .rootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("The HNSW index always covers all nodes of the graph");
+
+        assertThatThrownBy(() -> runQuery("CALL gds.alpha.hnsw.stream('graph', {indexName: 'index', nodeLabels: ['A']})"))
+            .rootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("The HNSW index always covers all nodes of the graph");
+    }
+
+    @Test
+    void shouldDropIndexTogetherWithGraph() {
+        runQuery("CALL gds.graph.drop('graph')");
+        runQuery("CALL gds.graph.project('graph', ['A', 'B'], '*', {nodeProperties: 'embedding'})");
+
+        assertThatThrownBy(() -> runQuery("CALL gds.alpha.hnsw.stream('graph', {indexName: 'index'})"))
+            .rootCause()
+            .hasMessageContaining("No HNSW index with name `index`");
+    }
+}
@@ -110,7 +110,10 @@ public class SysInfoProc {
             .add(value("featureParallelPropertyValueIndex", GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled()))
             .add(value("featureBitIdMap", GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled()))
             .add(value("featureShardedIdMap", GdsFeatureToggles.USE_SHARDED_ID_MAP.isEnabled()))
+            .add(value("featureRankSelectIdMap", GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.isEnabled()))
             .add(value("featureUncompressedAdjacencyList", GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featurePackedAdjacencyList", GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureOffHeapAdjacencyList", GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()))
             .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
 
     }
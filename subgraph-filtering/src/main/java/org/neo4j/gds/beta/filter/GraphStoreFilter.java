@@ -19,27 +19,35 @@
  */
 package org.neo4j.gds.beta.filter;
 
+import com.carrotsearch.hppc.BitSet;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
 import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.beta.filter.expression.ExpressionParser;
 import org.neo4j.gds.beta.filter.expression.SemanticErrors;
 import org.neo4j.gds.beta.filter.expression.ValidationContext;
 import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.opencypher.v9_0.parser.javacc.ParseException;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public final class GraphStoreFilter {
 
     public static Task progressTask(GraphStore graphStore) {
@@ -126,6 +134,76 @@ public final class GraphStoreFilter {
         }
     }
 
+    /**
+     * Creates a read-only view on the given graph store that shares its data instead of copying it.
+     * Only the node filter is evaluated eagerly, relationships are filtered while they are traversed.
+     * The relationship filter may only select relationship types.
+     */
+    @NotNull
+    public static GraphStore view(
+        GraphStore graphStore,
+        GraphProjectFromGraphConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var expressions = parseAndValidate(graphStore, config.nodeFilter(), config.relationshipFilter());
+
+        progressTracker.beginSubTask();
+        try {
+            var nodeExpression = CompiledExpression.forNodes(
+                expressions.nodeExpression(),
+                graphStore,
+                config.parameters()
+            );
+
+            var nodeCount = graphStore.nodeCount();
+            var selectedNodes = HugeAtomicBitSet.create(nodeCount);
+
+            progressTracker.beginSubTask();
+            ParallelUtil.parallelForEachNode(nodeCount, config.concurrency(), nodeId -> {
+                if (nodeExpression.testNode(nodeId)) {
+                    selectedNodes.set(nodeId);
+                }
+                progressTracker.logProgress();
+            });
+            progressTracker.endSubTask();
+
+            var nodes = new BitSet(nodeCount);
+            selectedNodes.forEachSetBit(nodes::set);
+
+            // node properties are not copied
+            progressTracker.beginSubTask();
+            progressTracker.endSubTask();
+
+            progressTracker.beginSubTask();
+            var relationshipTypes = new HashSet<RelationshipType>();
+            for (RelationshipType relationshipType : graphStore.relationshipTypes()) {
+                progressTracker.beginSubTask();
+                var relationshipExpression = CompiledExpression.forRelationships(
+                    expressions.relationshipExpression(),
+                    relationshipType.name,
+                    Map.of(),
+                    config.parameters()
+                );
+                if (relationshipExpression.isAlwaysTrue()) {
+                    relationshipTypes.add(relationshipType);
+                } else if (!relationshipExpression.isAlwaysFalse()) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Graph views only support relationship type predicates in the `relationshipFilter`, but got `%s`. " +
+                        "Use `view: false` to filter relationships by property values.",
+                        config.relationshipFilter()
+                    ));
+                }
+                progressTracker.endSubTask();
+            }
+            progressTracker.endSubTask();
+
+            return GraphStoreView.of(graphStore, nodes, relationshipTypes, config.concurrency());
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
+
     @ValueClass
     interface Expressions {
         Expression nodeExpression();
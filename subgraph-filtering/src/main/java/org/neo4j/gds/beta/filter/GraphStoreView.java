@@ -0,0 +1,529 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.GraphStoreAdapter;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.FilteredNodePropertyValues;
+import org.neo4j.gds.core.huge.NodeFilteredGraph;
+import org.neo4j.gds.core.loading.DeletionResult;
+import org.neo4j.values.storable.NumberType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A filtered graph store that shares all data with the graph store it was created from.
+ *
+ * The view consists of a bit set of the selected nodes and the selected relationship types.
+ * Graphs are {@link NodeFilteredGraph}s over the graphs of the underlying graph store,
+ * so relationships to nodes outside the view are skipped while traversing the adjacency lists.
+ * Relationship counts are computed on first access.
+ * Relationship property values are in the id space of the view, so the relationships of a type are copied
+ * on first access of one of its property values. Releasing the view drops these copies.
+ *
+ * Views are read-only. A modifiable copy can be obtained by projecting a subgraph of the view
+ * without the view option, which materializes the selected nodes and relationships.
+ */
+public final class GraphStoreView extends GraphStoreAdapter {
+
+    private final BitSet nodes;
+    // maps between the ids of the view and the ids of the underlying graph store
+    private final IdMap filteredIdMap;
+    private final NodeFilteredGraph nodeOnlyGraph;
+    private final Set<RelationshipType> relationshipTypes;
+    private final int concurrency;
+    private final Map<RelationshipType, Long> relationshipCounts;
+    private final Set<NodeLabel> nodeLabels;
+    private final Map<RelationshipType, RelationshipsFilter.FilteredRelationship> copiedRelationships;
+
+    /**
+     * @param nodes the selected nodes, in the id space of the given graph store
+     */
+    static GraphStoreView of(
+        GraphStore graphStore,
+        BitSet nodes,
+        Set<RelationshipType> relationshipTypes,
+        int concurrency
+    ) {
+        if (graphStore instanceof GraphStoreView) {
+            // views of views are flattened, so that all views share the data of a single graph store
+            var view = (GraphStoreView) graphStore;
+            var rootNodes = new BitSet(view.innerGraphStore().nodeCount());
+            for (long nodeId = nodes.nextSetBit(0); nodeId != -1; nodeId = nodes.nextSetBit(nodeId + 1)) {
+                rootNodes.set(view.filteredIdMap.toOriginalNodeId(nodeId));
+            }
+            return new GraphStoreView(view.innerGraphStore(), rootNodes, relationshipTypes, concurrency);
+        }
+        return new GraphStoreView(graphStore, nodes, relationshipTypes, concurrency);
+    }
+
+    private GraphStoreView(
+        GraphStore graphStore,
+        BitSet nodes,
+        Set<RelationshipType> relationshipTypes,
+        int concurrency
+    ) {
+        super(graphStore);
+        this.nodes = nodes;
+        this.filteredIdMap = graphStore.nodes().withFilteredNodes(nodes, concurrency);
+        this.nodeOnlyGraph = new NodeFilteredGraph(
+            (CSRGraph) graphStore.getGraph(graphStore.nodeLabels()),
+            filteredIdMap
+        );
+        this.relationshipTypes = Set.copyOf(relationshipTypes);
+        this.concurrency = concurrency;
+        this.relationshipCounts = new ConcurrentHashMap<>();
+        this.nodeLabels = presentLabels(graphStore.nodes(), nodes);
+        this.copiedRelationships = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The labels of the root graph store that at least one node of the view has.
+     */
+    private static Set<NodeLabel> presentLabels(IdMap rootIdMap, BitSet nodes) {
+        var missingLabels = new HashSet<>(rootIdMap.availableNodeLabels());
+        var labels = new HashSet<NodeLabel>();
+        for (long nodeId = nodes.nextSetBit(0); nodeId != -1 && !missingLabels.isEmpty(); nodeId = nodes.nextSetBit(nodeId + 1)) {
+            var iterator = missingLabels.iterator();
+            while (iterator.hasNext()) {
+                var label = iterator.next();
+                if (rootIdMap.hasLabel(nodeId, label)) {
+                    labels.add(label);
+                    iterator.remove();
+                }
+            }
+        }
+        return Set.copyOf(labels);
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return super.schema()
+            .filterNodeLabels(nodeLabels())
+            .filterRelationshipTypes(relationshipTypes);
+    }
+
+    // Nodes
+
+    @Override
+    public long nodeCount() {
+        return filteredIdMap.nodeCount();
+    }
+
+    /**
+     * The returned mapping translates between the ids of the view and the original node ids of the database.
+     */
+    @Override
+    public IdMap nodes() {
+        return nodeOnlyGraph;
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels() {
+        return nodeLabels;
+    }
+
+    @Override
+    public NodeProperty nodeProperty(String propertyKey) {
+        var nodeProperty = super.nodeProperty(propertyKey);
+        if (nodeProperty == null) {
+            return null;
+        }
+        return NodeProperty.of(
+            propertyKey,
+            nodeProperty.propertyState(),
+            new FilteredNodePropertyValues.FilteredToOriginalNodePropertyValues(
+                nodeProperty.values(),
+                nodeOnlyGraph
+            ),
+            nodeProperty.defaultValue()
+        );
+    }
+
+    // Relationships
+
+    @Override
+    public long relationshipCount() {
+        return relationshipTypes.stream().mapToLong(this::relationshipCount).sum();
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        if (!relationshipTypes.contains(relationshipType)) {
+            return 0L;
+        }
+        return relationshipCounts.computeIfAbsent(
+            relationshipType,
+            type -> getGraph(nodeLabels(), List.of(type), Optional.empty()).relationshipCount()
+        );
+    }
+
+    @Override
+    public Set<RelationshipType> relationshipTypes() {
+        return relationshipTypes;
+    }
+
+    @Override
+    public boolean hasRelationshipType(RelationshipType relationshipType) {
+        return relationshipTypes.contains(relationshipType);
+    }
+
+    @Override
+    public boolean hasRelationshipProperty(RelationshipType relType, String propertyKey) {
+        return relationshipTypes.contains(relType) && super.hasRelationshipProperty(relType, propertyKey);
+    }
+
+    /**
+     * The values are in the order of the relationships of the view's graphs, which skip relationships to nodes outside the view.
+     */
+    @Override
+    public RelationshipProperty relationshipPropertyValues(RelationshipType relationshipType, String propertyKey) {
+        if (!hasRelationshipProperty(relationshipType, propertyKey)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No relationship property '%s' has been loaded for relationship type '%s'",
+                propertyKey,
+                relationshipType
+            ));
+        }
+        var property = super.relationshipPropertyValues(relationshipType, propertyKey);
+        var relationships = copiedRelationships(relationshipType);
+        var values = relationships.properties().get(propertyKey);
+        return ImmutableRelationshipProperty.of(
+            ImmutableProperties.of(
+                values.propertiesList(),
+                values.elementCount(),
+                property.values().orientation(),
+                property.values().isMultiGraph(),
+                property.values().defaultPropertyValue()
+            ),
+            property.propertySchema()
+        );
+    }
+
+    /**
+     * The relationships of the given type in the id space of the view, copied on first access.
+     */
+    private RelationshipsFilter.FilteredRelationship copiedRelationships(RelationshipType relationshipType) {
+        return copiedRelationships.computeIfAbsent(relationshipType, type -> copyRelationships(type, nodeOnlyGraph));
+    }
+
+    private RelationshipsFilter.FilteredRelationship copyRelationships(RelationshipType relationshipType, IdMap outputNodes) {
+        return RelationshipsFilter.filterRelationshipType(
+            innerGraphStore(),
+            innerGraphStore().nodes(),
+            outputNodes,
+            relationshipType,
+            concurrency,
+            Pools.DEFAULT
+        );
+    }
+
+    /**
+     * The topologies of the given graph in its own id space.
+     * Graphs over all nodes of the view share the copies with the relationship property values,
+     * graphs over a subset of the labels copy the relationships for every call.
+     */
+    private Map<RelationshipType, Relationships.Topology> viewTopologies(
+        Collection<RelationshipType> relationshipTypes,
+        IdMap idMap,
+        NodeFilteredGraph graph
+    ) {
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        for (RelationshipType relationshipType : relationshipTypes) {
+            var relationships = idMap == filteredIdMap
+                ? copiedRelationships(relationshipType)
+                : copyRelationships(relationshipType, graph);
+            topologies.put(relationshipType, relationships.topology());
+        }
+        return topologies;
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys() {
+        var propertyKeys = new HashSet<String>();
+        relationshipTypes.forEach(type -> propertyKeys.addAll(relationshipPropertyKeys(type)));
+        return propertyKeys;
+    }
+
+    // Graphs
+
+    @Override
+    public NodeFilteredGraph getGraph(Collection<NodeLabel> nodeLabels) {
+        return getGraph(nodeLabels, List.of(), Optional.empty());
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(RelationshipType... relationshipType) {
+        return getGraph(nodeLabels(), List.of(relationshipType), Optional.empty());
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(String relationshipProperty) {
+        return getGraph(nodeLabels(), relationshipTypes(), Optional.of(relationshipProperty));
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(RelationshipType relationshipType, Optional<String> relationshipProperty) {
+        return getGraph(nodeLabels(), List.of(relationshipType), relationshipProperty);
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        return getGraph(nodeLabels(), relationshipTypes, maybeRelationshipProperty);
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(
+        String nodeLabel,
+        String relationshipType,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        return getGraph(
+            List.of(NodeLabel.of(nodeLabel)),
+            List.of(RelationshipType.of(relationshipType)),
+            maybeRelationshipProperty
+        );
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(NodeLabel nodeLabel) {
+        return getGraph(List.of(nodeLabel));
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(
+        NodeLabel nodeLabel,
+        RelationshipType relationshipType,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        return getGraph(List.of(nodeLabel), List.of(relationshipType), maybeRelationshipProperty);
+    }
+
+    @Override
+    public NodeFilteredGraph getGraph(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        relationshipTypes.forEach(relationshipType -> {
+            if (!this.relationshipTypes.contains(relationshipType)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "No relationships have been loaded for relationship type '%s'",
+                    relationshipType
+                ));
+            }
+        });
+
+        // the graphs of the underlying graph store are created over all nodes, which is cheap as no data is copied
+        var graph = (CSRGraph) innerGraphStore().getGraph(
+            innerGraphStore().nodeLabels(),
+            relationshipTypes,
+            maybeRelationshipProperty
+        );
+
+        var idMap = idMapForLabels(nodeLabels);
+        var graphTypes = Set.copyOf(graph.relationshipTopologies().keySet());
+        return new ViewGraph(graph, idMap, viewGraph -> viewTopologies(graphTypes, idMap, viewGraph));
+    }
+
+    @Override
+    public NodeFilteredGraph getUnion() {
+        return getGraph(nodeLabels(), relationshipTypes, Optional.empty());
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        List<String> propertyKeys
+    ) {
+        return new FilteredCompositeRelationshipIterator(
+            super.getCompositeRelationshipIterator(relationshipType, propertyKeys),
+            filteredIdMap
+        );
+    }
+
+    private IdMap idMapForLabels(Collection<NodeLabel> nodeLabels) {
+        if (nodeLabels.containsAll(nodeLabels())) {
+            return filteredIdMap;
+        }
+        var rootIdMap = innerGraphStore().nodes();
+        var labeledNodes = new BitSet(rootIdMap.nodeCount());
+        for (long nodeId = nodes.nextSetBit(0); nodeId != -1; nodeId = nodes.nextSetBit(nodeId + 1)) {
+            for (NodeLabel nodeLabel : nodeLabels) {
+                if (rootIdMap.hasLabel(nodeId, nodeLabel)) {
+                    labeledNodes.set(nodeId);
+                    break;
+                }
+            }
+        }
+        return rootIdMap.withFilteredNodes(labeledNodes, concurrency);
+    }
+
+    // The data is shared with the underlying graph store, it must not be modified or released through the view.
+
+    @Override
+    public void addGraphProperty(String propertyKey, GraphPropertyValues propertyValues) {
+        throw readOnly("Adding graph properties");
+    }
+
+    @Override
+    public void removeGraphProperty(String propertyKey) {
+        throw readOnly("Removing graph properties");
+    }
+
+    @Override
+    public void addNodeProperty(Set<NodeLabel> nodeLabels, String propertyKey, NodePropertyValues propertyValues) {
+        throw readOnly("Adding node properties");
+    }
+
+    @Override
+    public void removeNodeProperty(String propertyKey) {
+        throw readOnly("Removing node properties");
+    }
+
+
+    @Override
+    public void addRelationshipType(
+        RelationshipType relationshipType,
+        Optional<String> relationshipPropertyKey,
+        Optional<NumberType> relationshipPropertyType,
+        Relationships relationships
+    ) {
+        throw readOnly("Adding relationships");
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        throw readOnly("Deleting relationships");
+    }
+
+    @Override
+    public void canRelease(boolean canRelease) {
+    }
+
+    /**
+     * Drops the copied relationships of the view.
+     * The shared data is released by the catalog once neither the graph store nor any of its views are in use.
+     */
+    @Override
+    public void release() {
+        releaseWrapper();
+    }
+
+    @Override
+    public void releaseWrapper() {
+        copiedRelationships.clear();
+    }
+
+    private static UnsupportedOperationException readOnly(String operation) {
+        return new UnsupportedOperationException(formatWithLocale(
+            "%s is not supported on graph views. Project a subgraph of the view with `view: false` to obtain a modifiable graph.",
+            operation
+        ));
+    }
+
+    /**
+     * Traverses the adjacency lists of the underlying graph store, but exposes the relationships of the view
+     * in its own id space to consumers of the CSR, e.g. graph snapshots, which read the adjacency lists by node id.
+     */
+    private static final class ViewGraph extends NodeFilteredGraph {
+
+        private final Function<NodeFilteredGraph, Map<RelationshipType, Relationships.Topology>> topologies;
+
+        private ViewGraph(
+            CSRGraph graph,
+            IdMap idMap,
+            Function<NodeFilteredGraph, Map<RelationshipType, Relationships.Topology>> topologies
+        ) {
+            super(graph, idMap);
+            this.topologies = topologies;
+        }
+
+        @Override
+        public Map<RelationshipType, Relationships.Topology> relationshipTopologies() {
+            return topologies.apply(this);
+        }
+    }
+
+    private static final class FilteredCompositeRelationshipIterator implements CompositeRelationshipIterator {
+
+        private final CompositeRelationshipIterator iterator;
+        private final IdMap idMap;
+
+        private FilteredCompositeRelationshipIterator(CompositeRelationshipIterator iterator, IdMap idMap) {
+            this.iterator = iterator;
+            this.idMap = idMap;
+        }
+
+        /**
+         * The degree in the underlying graph store, which includes relationships to nodes outside the view.
+         */
+        @Override
+        public int degree(long nodeId) {
+            return iterator.degree(idMap.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+            iterator.forEachRelationship(idMap.toOriginalNodeId(nodeId), (source, target, properties) -> {
+                long mappedTarget = idMap.toMappedNodeId(target);
+                return mappedTarget == IdMap.NOT_FOUND || consumer.consume(nodeId, mappedTarget, properties);
+            });
+        }
+
+        @Override
+        public String[] propertyKeys() {
+            return iterator.propertyKeys();
+        }
+
+        @Override
+        public CompositeRelationshipIterator concurrentCopy() {
+            return new FilteredCompositeRelationshipIterator(iterator.concurrentCopy(), idMap);
+        }
+    }
+}
@@ -27,7 +27,7 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodeProperty;
 import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
 import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
@@ -78,10 +78,11 @@ final class NodesFilter {
             .rangePartition(concurrency, inputGraphStore.nodeCount(), Function.identity(), Optional.empty())
             .iterator();
 
+        var compiledExpression = CompiledExpression.forNodes(expression, inputGraphStore, parameterMap);
+
         var tasks = NodeFilterTask.of(
             inputGraphStore,
-            expression,
-            parameterMap,
+            compiledExpression,
             partitions,
             nodesBuilder,
             progressTracker
@@ -241,16 +242,14 @@ final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final CompiledExpression expression;
         private final ProgressTracker progressTracker;
         private final GraphStore inputGraphStore;
         private final NodesBuilder nodesBuilder;
 
         static Iterator<NodeFilterTask> of(
             GraphStore inputGraphStore,
-            Expression expression,
-            Map<String, Object> parameterMap,
+            CompiledExpression expression,
             Iterator<Partition> partitions,
             NodesBuilder nodesBuilder,
             ProgressTracker progressTracker
@@ -265,7 +264,6 @@ final class NodesFilter {
                     return new NodeFilterTask(
                         partitions.next(),
                         expression,
-                        parameterMap,
                         inputGraphStore,
                         nodesBuilder,
                         progressTracker
@@ -276,8 +274,7 @@ final class NodesFilter {
 
         private NodeFilterTask(
             Partition partition,
-            Expression expression,
-            Map<String, Object> parameterMap,
+            CompiledExpression expression,
             GraphStore inputGraphStore,
             NodesBuilder nodesBuilder,
             ProgressTracker progressTracker
@@ -286,7 +283,6 @@ final class NodesFilter {
             this.expression = expression;
             this.inputGraphStore = inputGraphStore;
             this.nodesBuilder = nodesBuilder;
-            this.nodeContext = new EvaluationContext.NodeEvaluationContext(inputGraphStore, parameterMap);
             this.progressTracker = progressTracker;
         }
 
@@ -294,8 +290,7 @@ final class NodesFilter {
         public void run() {
             var idMap = inputGraphStore.nodes();
             partition.consume(node -> {
-                nodeContext.init(node);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (expression.testNode(node)) {
                     var originalId = idMap.toOriginalNodeId(node);
                     var labels = NodeLabelTokens.of(idMap.nodeLabels(node));
                     nodesBuilder.addNode(originalId, labels);
@@ -29,7 +29,7 @@ import org.neo4j.gds.api.PropertyState;
 import org.neo4j.gds.api.RelationshipProperty;
 import org.neo4j.gds.api.RelationshipPropertyStore;
 import org.neo4j.gds.api.Relationships;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
 import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -135,6 +135,30 @@ final class RelationshipsFilter {
         Map<String, Relationships.Properties> properties();
     }
 
+    /**
+     * Copies all relationships of the given type between the output nodes.
+     */
+    static FilteredRelationship filterRelationshipType(
+        GraphStore graphStore,
+        IdMap inputNodes,
+        IdMap outputNodes,
+        RelationshipType relType,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        return filterRelationshipType(
+            graphStore,
+            Expression.Literal.TrueLiteral.INSTANCE,
+            inputNodes,
+            outputNodes,
+            relType,
+            concurrency,
+            Map.of(),
+            executorService,
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+
     private static FilteredRelationship filterRelationshipType(
         GraphStore graphStore,
         Expression relationshipExpr,
@@ -166,23 +190,32 @@ final class RelationshipsFilter {
             .boxed()
             .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
 
-        var relationshipFilterTasks = PartitionUtils.rangePartition(concurrency, outputNodes.nodeCount(), partition ->
-            new RelationshipFilterTask(
-                partition,
-                relationshipExpr,
-                compositeIterator.concurrentCopy(),
-                inputNodes,
-                outputNodes,
-                relationshipsBuilder,
-                relType,
-                parameterMap,
-                propertyIndices,
-                progressTracker
-            ),
-            Optional.empty()
+        var compiledExpression = CompiledExpression.forRelationships(
+            relationshipExpr,
+            relType.name,
+            propertyIndices,
+            parameterMap
         );
 
-        ParallelUtil.runWithConcurrency(concurrency, relationshipFilterTasks, executorService);
+        // e.g. a type check that excludes this relationship type, there is no need to look at the relationships
+        if (compiledExpression.isAlwaysFalse()) {
+            progressTracker.logProgress(graphStore.relationshipCount(relType));
+        } else {
+            var relationshipFilterTasks = PartitionUtils.rangePartition(concurrency, outputNodes.nodeCount(), partition ->
+                new RelationshipFilterTask(
+                    partition,
+                    compiledExpression,
+                    compositeIterator.concurrentCopy(),
+                    inputNodes,
+                    outputNodes,
+                    relationshipsBuilder,
+                    progressTracker
+                ),
+                Optional.empty()
+            );
+
+            ParallelUtil.runWithConcurrency(concurrency, relationshipFilterTasks, executorService);
+        }
 
         var relationships = relationshipsBuilder.buildAll();
         var topology = relationships.get(0).topology();
@@ -204,25 +237,20 @@ final class RelationshipsFilter {
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final CompiledExpression expression;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
         private final IdMap inputNodes;
         private final IdMap outputNodes;
         private final RelationshipsBuilder relationshipsBuilder;
-        private final RelationshipType relType;
 
         private RelationshipFilterTask(
             Partition partition,
-            Expression expression,
+            CompiledExpression expression,
             CompositeRelationshipIterator relationshipIterator,
             IdMap inputNodes,
             IdMap outputNodes,
             RelationshipsBuilder relationshipsBuilder,
-            RelationshipType relType,
-            Map<String, Object> parameterMap,
-            Map<String, Integer> propertyIndices,
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
@@ -231,8 +259,6 @@ final class RelationshipsFilter {
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
-            this.relType = relType;
-            this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameterMap);
             this.progressTracker = progressTracker;
         }
 
@@ -247,9 +273,7 @@ final class RelationshipsFilter {
                     var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
 
                     if (mappedTarget != NOT_FOUND) {
-                        evaluationContext.init(relType.name, properties);
-
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (expression.testRelationship(properties)) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
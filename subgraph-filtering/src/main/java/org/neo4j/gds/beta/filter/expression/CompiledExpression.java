@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.beta.filter.expression.Expression.BinaryExpression;
+import org.neo4j.gds.beta.filter.expression.Expression.LeafExpression;
+import org.neo4j.gds.beta.filter.expression.Expression.Literal;
+import org.neo4j.gds.beta.filter.expression.Expression.UnaryExpression;
+
+import java.util.Map;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A validated {@link Expression} compiled into a tree of typed closures.
+ *
+ * Compared to {@link Expression#evaluate(EvaluationContext)}, property values and parameters are resolved
+ * once at compile time, long values are compared as longs instead of being encoded as doubles,
+ * predicates return booleans, and sub-expressions that are constant, such as relationship type checks
+ * when filtering a single relationship type, are folded away.
+ * The result is identical to the interpreted evaluation.
+ *
+ * Compiled expressions are stateless and can be shared between threads.
+ */
+public final class CompiledExpression {
+
+    private static final double[] NO_PROPERTIES = new double[0];
+    private static final long NO_NODE = -1L;
+
+    private final BooleanCode code;
+
+    private CompiledExpression(BooleanCode code) {
+        this.code = code;
+    }
+
+    public static CompiledExpression forNodes(
+        Expression expression,
+        GraphStore graphStore,
+        Map<String, Object> parameterMap
+    ) {
+        return new CompiledExpression(new NodeCompiler(graphStore, parameterMap).compileBoolean(expression));
+    }
+
+    /**
+     * @param propertyIndices the positions of the relationship properties in the arrays passed to {@link #testRelationship(double[])}
+     */
+    public static CompiledExpression forRelationships(
+        Expression expression,
+        String relationshipType,
+        Map<String, Integer> propertyIndices,
+        Map<String, Object> parameterMap
+    ) {
+        return new CompiledExpression(new RelationshipCompiler(
+            relationshipType,
+            propertyIndices,
+            parameterMap
+        ).compileBoolean(expression));
+    }
+
+    public boolean testNode(long nodeId) {
+        return code.eval(nodeId, NO_PROPERTIES);
+    }
+
+    public boolean testRelationship(double[] properties) {
+        return code.eval(NO_NODE, properties);
+    }
+
+    /**
+     * True if the expression does not accept any element, e.g. when it only accepts other relationship types.
+     */
+    public boolean isAlwaysFalse() {
+        return code instanceof BooleanConstant && !((BooleanConstant) code).value;
+    }
+
+    /**
+     * True if the expression accepts every element, e.g. when it only checks for the filtered relationship type.
+     */
+    public boolean isAlwaysTrue() {
+        return code instanceof BooleanConstant && ((BooleanConstant) code).value;
+    }
+
+    @FunctionalInterface
+    interface BooleanCode {
+        boolean eval(long nodeId, double[] properties);
+    }
+
+    @FunctionalInterface
+    interface LongCode {
+        long eval(long nodeId, double[] properties);
+    }
+
+    @FunctionalInterface
+    interface DoubleCode {
+        double eval(long nodeId, double[] properties);
+    }
+
+    private static final class BooleanConstant implements BooleanCode {
+        private static final BooleanConstant TRUE_CONSTANT = new BooleanConstant(true);
+        private static final BooleanConstant FALSE_CONSTANT = new BooleanConstant(false);
+
+        private final boolean value;
+
+        private BooleanConstant(boolean value) {
+            this.value = value;
+        }
+
+        static BooleanConstant of(boolean value) {
+            return value ? TRUE_CONSTANT : FALSE_CONSTANT;
+        }
+
+        @Override
+        public boolean eval(long nodeId, double[] properties) {
+            return value;
+        }
+    }
+
+    private abstract static class Compiler {
+
+        private final Map<String, Object> parameterMap;
+
+        Compiler(Map<String, Object> parameterMap) {
+            this.parameterMap = parameterMap;
+        }
+
+        abstract DoubleCode compileProperty(UnaryExpression.Property property);
+
+        abstract LongCode compileLongProperty(UnaryExpression.Property property);
+
+        abstract BooleanCode compileHasLabelsOrTypes(UnaryExpression.HasLabelsOrTypes hasLabelsOrTypes);
+
+        /**
+         * Equivalent to {@code expression.evaluate(context) == TRUE}.
+         */
+        BooleanCode compileBoolean(Expression expression) {
+            if (expression instanceof Literal.TrueLiteral) {
+                return BooleanConstant.of(true);
+            }
+            if (expression instanceof Literal.FalseLiteral) {
+                return BooleanConstant.of(false);
+            }
+            if (expression instanceof UnaryExpression.Not) {
+                var in = compileBoolean(((UnaryExpression.Not) expression).in());
+                if (in instanceof BooleanConstant) {
+                    return BooleanConstant.of(!((BooleanConstant) in).value);
+                }
+                return (nodeId, properties) -> !in.eval(nodeId, properties);
+            }
+            if (expression instanceof UnaryExpression.HasLabelsOrTypes) {
+                return compileHasLabelsOrTypes((UnaryExpression.HasLabelsOrTypes) expression);
+            }
+            if (expression instanceof BinaryExpression.And) {
+                return compileAnd((BinaryExpression) expression);
+            }
+            if (expression instanceof BinaryExpression.Or) {
+                return compileOr((BinaryExpression) expression);
+            }
+            if (expression instanceof BinaryExpression.Xor) {
+                var lhs = compileBoolean(((BinaryExpression) expression).lhs());
+                var rhs = compileBoolean(((BinaryExpression) expression).rhs());
+                if (lhs instanceof BooleanConstant && rhs instanceof BooleanConstant) {
+                    return BooleanConstant.of(((BooleanConstant) lhs).value ^ ((BooleanConstant) rhs).value);
+                }
+                return (nodeId, properties) -> lhs.eval(nodeId, properties) ^ rhs.eval(nodeId, properties);
+            }
+            if (expression instanceof BinaryExpression.BinaryArithmeticExpression) {
+                return compileComparison((BinaryExpression.BinaryArithmeticExpression) expression);
+            }
+
+            var value = compileDouble(expression);
+            return (nodeId, properties) -> value.eval(nodeId, properties) == TRUE;
+        }
+
+        /**
+         * Equivalent to {@code expression.evaluate(context)}.
+         */
+        DoubleCode compileDouble(Expression expression) {
+            if (expression instanceof Literal.LongLiteral) {
+                double value = Double.longBitsToDouble(((Literal.LongLiteral) expression).value());
+                return (nodeId, properties) -> value;
+            }
+            if (expression instanceof Literal.DoubleLiteral) {
+                double value = ((Literal.DoubleLiteral) expression).value();
+                return (nodeId, properties) -> value;
+            }
+            if (expression instanceof UnaryExpression.NewParameter) {
+                double value = resolveParameter((UnaryExpression.NewParameter) expression);
+                return (nodeId, properties) -> value;
+            }
+            if (expression instanceof UnaryExpression.Property) {
+                return compileProperty((UnaryExpression.Property) expression);
+            }
+            if (expression instanceof LeafExpression.Variable) {
+                return (nodeId, properties) -> Expression.VARIABLE;
+            }
+
+            var predicate = compileBoolean(expression);
+            return (nodeId, properties) -> predicate.eval(nodeId, properties) ? TRUE : FALSE;
+        }
+
+        /**
+         * Equivalent to {@code Double.doubleToRawLongBits(expression.evaluate(context))}.
+         */
+        LongCode compileLong(Expression expression) {
+            if (expression instanceof Literal.LongLiteral) {
+                long value = ((Literal.LongLiteral) expression).value();
+                return (nodeId, properties) -> value;
+            }
+            if (expression instanceof UnaryExpression.Property && expression.valueType() == ValueType.LONG) {
+                return compileLongProperty((UnaryExpression.Property) expression);
+            }
+
+            var value = compileDouble(expression);
+            return (nodeId, properties) -> Double.doubleToRawLongBits(value.eval(nodeId, properties));
+        }
+
+        private BooleanCode compileAnd(BinaryExpression and) {
+            var lhs = compileBoolean(and.lhs());
+            var rhs = compileBoolean(and.rhs());
+            if (lhs instanceof BooleanConstant) {
+                return ((BooleanConstant) lhs).value ? rhs : lhs;
+            }
+            if (rhs instanceof BooleanConstant) {
+                return ((BooleanConstant) rhs).value ? lhs : rhs;
+            }
+            return (nodeId, properties) -> lhs.eval(nodeId, properties) && rhs.eval(nodeId, properties);
+        }
+
+        private BooleanCode compileOr(BinaryExpression or) {
+            var lhs = compileBoolean(or.lhs());
+            var rhs = compileBoolean(or.rhs());
+            if (lhs instanceof BooleanConstant) {
+                return ((BooleanConstant) lhs).value ? lhs : rhs;
+            }
+            if (rhs instanceof BooleanConstant) {
+                return ((BooleanConstant) rhs).value ? rhs : lhs;
+            }
+            return (nodeId, properties) -> lhs.eval(nodeId, properties) || rhs.eval(nodeId, properties);
+        }
+
+        private BooleanCode compileComparison(BinaryExpression.BinaryArithmeticExpression comparison) {
+            // mirrors BinaryArithmeticExpression#evaluate, validation made sure that both types are equal
+            if (comparison.lhs().valueType() == ValueType.LONG) {
+                var lhs = compileLong(comparison.lhs());
+                var rhs = comparison.rhs().valueType() == ValueType.UNKNOWN
+                    ? castToLong(compileDouble(comparison.rhs()))
+                    : compileLong(comparison.rhs());
+                return compileLongComparison(comparison, lhs, rhs);
+            }
+            return compileDoubleComparison(
+                comparison,
+                compileDouble(comparison.lhs()),
+                compileDouble(comparison.rhs())
+            );
+        }
+
+        private static LongCode castToLong(DoubleCode value) {
+            return (nodeId, properties) -> (long) value.eval(nodeId, properties);
+        }
+
+        private static BooleanCode compileLongComparison(
+            BinaryExpression.BinaryArithmeticExpression comparison,
+            LongCode lhs,
+            LongCode rhs
+        ) {
+            if (comparison instanceof BinaryExpression.Equal) {
+                return (nodeId, properties) -> lhs.eval(nodeId, properties) == rhs.eval(nodeId, properties);
+            }
+            if (comparison instanceof BinaryExpression.NotEqual) {
+                return (nodeId, properties) -> lhs.eval(nodeId, properties) != rhs.eval(nodeId, properties);
+            }
+            if (comparison instanceof BinaryExpression.GreaterThan) {
+                return (nodeId, properties) -> lhs.eval(nodeId, properties) > rhs.eval(nodeId, properties);
+            }
+            if (comparison instanceof BinaryExpression.GreaterThanOrEquals) {
+                return (nodeId, properties) -> lhs.eval(nodeId, properties) >= rhs.eval(nodeId, properties);
+            }
+            if (comparison instanceof BinaryExpression.LessThan) {
+                return (nodeId, properties) -> lhs.eval(nodeId, properties) < rhs.eval(nodeId, properties);
+            }
+            if (comparison instanceof BinaryExpression.LessThanOrEquals) {
+                return (nodeId, properties) -> lhs.eval(nodeId, properties) <= rhs.eval(nodeId, properties);
+            }
+            return (nodeId, properties) -> comparison.evaluateLong(
+                lhs.eval(nodeId, properties),
+                rhs.eval(nodeId, properties)
+            ) == TRUE;
+        }
+
+        private static BooleanCode compileDoubleComparison(
+            BinaryExpression.BinaryArithmeticExpression comparison,
+            DoubleCode lhs,
+            DoubleCode rhs
+        ) {
+            if (comparison instanceof BinaryExpression.Equal) {
+                return (nodeId, properties) -> Math.abs(lhs.eval(nodeId, properties) - rhs.eval(nodeId, properties)) < EPSILON;
+            }
+            if (comparison instanceof BinaryExpression.NotEqual) {
+                return (nodeId, properties) -> Math.abs(lhs.eval(nodeId, properties) - rhs.eval(nodeId, properties)) > EPSILON;
+            }
+            if (comparison instanceof BinaryExpression.GreaterThan) {
+                return (nodeId, properties) -> (lhs.eval(nodeId, properties) - rhs.eval(nodeId, properties)) > EPSILON;
+            }
+            if (comparison instanceof BinaryExpression.LessThan) {
+                return (nodeId, properties) -> (rhs.eval(nodeId, properties) - lhs.eval(nodeId, properties)) > EPSILON;
+            }
+            // the remaining comparisons use both operands twice
+            return (nodeId, properties) -> comparison.evaluateDouble(
+                lhs.eval(nodeId, properties),
+                rhs.eval(nodeId, properties)
+            ) == TRUE;
+        }
+
+        private double resolveParameter(UnaryExpression.NewParameter parameter) {
+            var name = parameter.in().name();
+            var resolvedParameter = (Number) parameterMap.get(name);
+            if (resolvedParameter == null) {
+                throw new IllegalArgumentException(formatWithLocale("Missing parameter `%s`.", name));
+            }
+            if (resolvedParameter instanceof Long) {
+                return resolvedParameter.longValue();
+            }
+            return resolvedParameter.doubleValue();
+        }
+    }
+
+    private static final class NodeCompiler extends Compiler {
+
+        private final GraphStore graphStore;
+        private final IdMap idMap;
+
+        NodeCompiler(GraphStore graphStore, Map<String, Object> parameterMap) {
+            super(parameterMap);
+            this.graphStore = graphStore;
+            this.idMap = graphStore.nodes();
+        }
+
+        @Override
+        DoubleCode compileProperty(UnaryExpression.Property property) {
+            if (!graphStore.hasNodeProperty(property.propertyKey())) {
+                return (nodeId, properties) -> DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+            }
+            NodePropertyValues values = graphStore.nodeProperty(property.propertyKey()).values();
+            if (property.valueType() == ValueType.LONG) {
+                return (nodeId, properties) -> Double.longBitsToDouble(values.longValue(nodeId));
+            }
+            return (nodeId, properties) -> values.doubleValue(nodeId);
+        }
+
+        @Override
+        LongCode compileLongProperty(UnaryExpression.Property property) {
+            if (!graphStore.hasNodeProperty(property.propertyKey())) {
+                long fallback = Double.doubleToRawLongBits(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                return (nodeId, properties) -> fallback;
+            }
+            NodePropertyValues values = graphStore.nodeProperty(property.propertyKey()).values();
+            return (nodeId, properties) -> values.longValue(nodeId);
+        }
+
+        @Override
+        BooleanCode compileHasLabelsOrTypes(UnaryExpression.HasLabelsOrTypes hasLabelsOrTypes) {
+            var labels = hasLabelsOrTypes.labelsOrTypes().stream().map(NodeLabel::of).toArray(NodeLabel[]::new);
+            if (labels.length == 1) {
+                var label = labels[0];
+                return (nodeId, properties) -> idMap.hasLabel(nodeId, label);
+            }
+            return (nodeId, properties) -> {
+                for (NodeLabel label : labels) {
+                    if (!idMap.hasLabel(nodeId, label)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+    }
+
+    private static final class RelationshipCompiler extends Compiler {
+
+        private final String relationshipType;
+        private final Map<String, Integer> propertyIndices;
+
+        RelationshipCompiler(
+            String relationshipType,
+            Map<String, Integer> propertyIndices,
+            Map<String, Object> parameterMap
+        ) {
+            super(parameterMap);
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+        }
+
+        @Override
+        DoubleCode compileProperty(UnaryExpression.Property property) {
+            int index = propertyIndices.getOrDefault(property.propertyKey(), 0);
+            return (nodeId, properties) -> properties[index];
+        }
+
+        @Override
+        LongCode compileLongProperty(UnaryExpression.Property property) {
+            int index = propertyIndices.getOrDefault(property.propertyKey(), 0);
+            return (nodeId, properties) -> Double.doubleToRawLongBits(properties[index]);
+        }
+
+        @Override
+        BooleanCode compileHasLabelsOrTypes(UnaryExpression.HasLabelsOrTypes hasLabelsOrTypes) {
+            // a relationship has exactly one type, which is the same for all relationships that are filtered together
+            return BooleanConstant.of(hasLabelsOrTypes.labelsOrTypes().contains(relationshipType));
+        }
+    }
+}
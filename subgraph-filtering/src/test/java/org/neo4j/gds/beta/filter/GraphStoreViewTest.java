@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class GraphStoreViewTest {
+
+    @GdlGraph
+    static final String GDL =
+        "  (a:A { age: 16 })" +
+        ", (b:A { age: 17 })" +
+        ", (c:B { age: 42 })" +
+        ", (d:B { age: 15 })" +
+        ", (a)-[:KNOWS { since: 2010.0 }]->(b)" +
+        ", (b)-[:KNOWS { since: 2014.0 }]->(c)" +
+        ", (b)-[:KNOWS { since: 2016.0 }]->(d)" +
+        ", (d)-[:LIKES { since: 2020.0 }]->(a)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldFilterNodesAndRelationshipTypes() {
+        var view = view(graphStore, "n.age < 18", "r:KNOWS");
+
+        assertThat(view).isInstanceOf(GraphStoreView.class);
+        assertThat(view.nodeCount()).isEqualTo(3);
+        assertThat(view.relationshipTypes()).containsExactly(RelationshipType.of("KNOWS"));
+        assertThat(view.relationshipCount()).isEqualTo(2);
+        assertThat(view.schema().relationshipSchema().availableTypes()).containsExactly(RelationshipType.of("KNOWS"));
+    }
+
+    @Test
+    void shouldSkipRelationshipsToFilteredNodes() {
+        var view = view(graphStore, "n.age < 18", "*");
+        var graph = view.getUnion();
+
+        var b = graph.toMappedNodeId(idFunction.of("b"));
+        var targets = new ArrayList<Long>();
+        graph.forEachRelationship(b, (source, target) -> targets.add(graph.toOriginalNodeId(target)));
+
+        assertThat(targets).containsExactly(idFunction.of("d"));
+        assertThat(view.relationshipCount()).isEqualTo(3);
+        assertThat(view.relationshipCount(RelationshipType.of("LIKES"))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadNodePropertiesOfTheOriginalGraph() {
+        var view = view(graphStore, "n:B", "*");
+        var age = view.nodeProperty("age").values();
+
+        assertThat(age.longValue(view.nodes().toMappedNodeId(idFunction.of("c")))).isEqualTo(42);
+        assertThat(age.longValue(view.nodes().toMappedNodeId(idFunction.of("d")))).isEqualTo(15);
+    }
+
+    @Test
+    void shouldFilterCompositeRelationships() {
+        var view = view(graphStore, "n.age < 18", "r:KNOWS");
+        var iterator = view.getCompositeRelationshipIterator(RelationshipType.of("KNOWS"), List.of("since"));
+
+        var since = new ArrayList<Double>();
+        for (long nodeId = 0; nodeId < view.nodeCount(); nodeId++) {
+            iterator.forEachRelationship(nodeId, (source, target, properties) -> since.add(properties[0]));
+        }
+
+        assertThat(since).containsExactlyInAnyOrder(2010.0, 2016.0);
+    }
+
+    @Test
+    void shouldFlattenViewsOfViews() {
+        var view = (GraphStoreView) view(graphStore, "n.age < 18", "*");
+        var viewOfView = (GraphStoreView) view(view, "n:A", "r:KNOWS");
+
+        assertThat(viewOfView.innerGraphStore()).isSameAs(graphStore);
+        assertThat(viewOfView.nodeCount()).isEqualTo(2);
+        assertThat(viewOfView.relationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMaterializeView() throws Exception {
+        var view = view(graphStore, "n.age < 18", "r:KNOWS");
+        var materialized = GraphStoreFilter.filter(
+            view,
+            config("*", "*", false),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThat(materialized).isNotInstanceOf(GraphStoreView.class);
+        assertThat(materialized.nodeCount()).isEqualTo(3);
+        assertThat(materialized.relationshipCount()).isEqualTo(2);
+        assertThat(materialized.nodePropertyKeys()).containsExactly("age");
+    }
+
+    @Test
+    void shouldRejectMutations() {
+        var view = view(graphStore, "*", "*");
+
+        assertThatThrownBy(() -> view.removeNodeProperty("age"))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("view: false");
+        assertThatThrownBy(() -> view.deleteRelationships(RelationshipType.of("KNOWS")))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldRejectRelationshipPropertyFilters() {
+        assertThatThrownBy(() -> view(graphStore, "*", "r.since > 2012.0"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only support relationship type predicates");
+    }
+
+    @Test
+    void shouldNotReleaseSharedData() {
+        var view = view(graphStore, "*", "*");
+        view.relationshipPropertyValues(RelationshipType.of("KNOWS"), "since");
+        view.release();
+
+        assertThat(graphStore.getUnion().relationshipCount()).isEqualTo(4);
+        assertThat(Set.copyOf(view.relationshipTypes())).isEqualTo(graphStore.relationshipTypes());
+    }
+
+    @Test
+    void shouldExposeTopologiesInTheIdSpaceOfTheView() {
+        var view = view(graphStore, "n.age < 18", "r:KNOWS");
+        var graph = (CSRGraph) view.getGraph(RelationshipType.of("KNOWS"));
+        var adjacencyList = graph.relationshipTopologies().get(RelationshipType.of("KNOWS")).adjacencyList();
+
+        for (long nodeId = 0; nodeId < view.nodeCount(); nodeId++) {
+            var targets = new ArrayList<Long>();
+            graph.forEachRelationship(nodeId, (source, target) -> targets.add(target));
+
+            var cursor = adjacencyList.adjacencyCursor(nodeId);
+            var topologyTargets = new ArrayList<Long>();
+            while (cursor.hasNextVLong()) {
+                topologyTargets.add(cursor.nextVLong());
+            }
+            assertThat(topologyTargets).containsExactlyElementsOf(targets);
+        }
+    }
+
+    @Test
+    void shouldDropCopiedRelationshipsWhenTheViewIsReleased() {
+        var view = (GraphStoreView) view(graphStore, "n.age < 18", "r:KNOWS");
+        var first = view.relationshipPropertyValues(RelationshipType.of("KNOWS"), "since").values().propertiesList();
+        view.releaseWrapper();
+        var second = view.relationshipPropertyValues(RelationshipType.of("KNOWS"), "since").values().propertiesList();
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldOnlyHaveTheLabelsOfItsNodes() {
+        var view = view(graphStore, "n:B", "*");
+
+        assertThat(view.nodeLabels()).containsExactly(NodeLabel.of("B"));
+        assertThat(view.schema().nodeSchema().availableLabels()).containsExactly(NodeLabel.of("B"));
+    }
+
+    @Test
+    void shouldFilterRelationshipPropertyValues() {
+        var view = view(graphStore, "n.age < 18", "r:KNOWS");
+        var property = view.relationshipPropertyValues(RelationshipType.of("KNOWS"), "since");
+
+        assertThat(property.values().elementCount()).isEqualTo(2);
+
+        var graph = (CSRGraph) view.getGraph(RelationshipType.of("KNOWS"));
+        var propertiesList = property.values().propertiesList();
+        var since = new ArrayList<Double>();
+        for (long nodeId = 0; nodeId < view.nodeCount(); nodeId++) {
+            var cursor = propertiesList.propertyCursor(nodeId, 0D);
+            var targets = new ArrayList<Long>();
+            graph.forEachRelationship(nodeId, (source, target) -> targets.add(target));
+            for (int i = 0; i < targets.size(); i++) {
+                since.add(Double.longBitsToDouble(cursor.nextLong()));
+            }
+        }
+        assertThat(since).containsExactlyInAnyOrder(2010.0, 2016.0);
+    }
+
+    private static GraphStore view(GraphStore graphStore, String nodeFilter, String relationshipFilter) {
+        return GraphStoreFilter.view(
+            graphStore,
+            config(nodeFilter, relationshipFilter, true),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+
+    private static GraphProjectFromGraphConfig config(String nodeFilter, String relationshipFilter, boolean view) {
+        return GraphProjectFromGraphConfig.of(
+            "",
+            "subgraph",
+            "graph",
+            nodeFilter,
+            relationshipFilter,
+            GraphProjectFromStoreConfig.emptyWithName("", "graph"),
+            CypherMapWrapper.create(Map.of("view", view))
+        );
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class CompiledExpressionTest {
+
+    @GdlGraph
+    static final String GDL =
+        "  (a:A:B { p1: 42.0, p2: 42 })" +
+        ", (b:B { p1: 1337.0, p2: 1337 })" +
+        ", (c:C { p1: -1.5, p2: -2 })" +
+        ", (a)-[:REL { weight: 0.25 }]->(b)" +
+        ", (b)-[:REL { weight: 0.75 }]->(c)" +
+        ", (c)-[:OTHER { weight: 1.0 }]->(a)";
+
+    private static final Map<String, Object> PARAMETERS = Map.of("long", 42L, "double", 1.5D);
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "FALSE",
+        "n:A",
+        "n:A:B",
+        "NOT n:B",
+        "n.p1 > 42.0",
+        "n.p1 >= 42.0",
+        "n.p1 < 42.0",
+        "n.p1 <= 42.0",
+        "n.p1 = 42.0",
+        "n.p1 <> 42.0",
+        "n.p2 > 42",
+        "n.p2 >= 42",
+        "n.p2 < 0",
+        "n.p2 <= -2",
+        "n.p2 = 1337",
+        "n.p2 <> 1337",
+        "n.p2 = $long",
+        "n.p1 > $double",
+        "n:B AND n.p2 > 100",
+        "n:A OR n.p1 < 0.0",
+        "n:B XOR n.p1 > 100.0",
+        "NOT (n:C AND TRUE) OR FALSE",
+    })
+    void shouldMatchInterpretedNodeFilter(String filter) throws ParseException {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        var compiled = CompiledExpression.forNodes(expression, graphStore, PARAMETERS);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore, PARAMETERS);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            context.init(nodeId);
+            assertThat(compiled.testNode(nodeId))
+                .as("`%s` for node %d", filter, nodeId)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "r:REL",
+        "r:REL:OTHER",
+        "r.weight > 0.5",
+        "r.weight <= 0.25",
+        "r.weight = 1.0",
+        "r:REL AND r.weight > 0.5",
+        "r:OTHER OR r.weight < 0.5",
+        "NOT r:REL",
+        "r.weight < $double",
+    })
+    void shouldMatchInterpretedRelationshipFilter(String filter) throws ParseException {
+        var validationContext = ValidationContext.forRelationships(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        var propertyIndices = Map.of("weight", 0);
+        var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, PARAMETERS);
+
+        for (String relType : new String[]{"REL", "OTHER"}) {
+            var compiled = CompiledExpression.forRelationships(expression, relType, propertyIndices, PARAMETERS);
+            for (double weight : new double[]{0.25, 0.75, 1.0}) {
+                var properties = new double[]{weight};
+                context.init(relType, properties);
+                assertThat(compiled.testRelationship(properties))
+                    .as("`%s` for relationship of type %s with weight %f", filter, relType, weight)
+                    .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+            }
+        }
+    }
+
+    @Test
+    void shouldFoldRelationshipTypeChecks() throws ParseException {
+        var validationContext = ValidationContext.forRelationships(graphStore);
+        var expression = ExpressionParser.parse("r:OTHER AND r.weight > 0.5", validationContext.availableProperties());
+        var propertyIndices = Map.of("weight", 0);
+
+        assertThat(CompiledExpression.forRelationships(expression, "REL", propertyIndices, Map.of()).isAlwaysFalse()).isTrue();
+        assertThat(CompiledExpression.forRelationships(expression, "OTHER", propertyIndices, Map.of()).isAlwaysFalse()).isFalse();
+    }
+}
@@ -34,7 +34,11 @@ public interface TestMethodRunner {
             TestMethodRunner::runCompressedUnordered,
             TestMethodRunner::runCompressedOrdered,
             TestMethodRunner::runUncompressedUnordered,
-            TestMethodRunner::runUncompressedOrdered
+            TestMethodRunner::runUncompressedOrdered,
+            TestMethodRunner::runPackedUnordered,
+            TestMethodRunner::runPackedOrdered,
+            TestMethodRunner::runOffHeapUnordered,
+            TestMethodRunner::runOffHeapOrdered
         );
     }
 
@@ -61,4 +65,32 @@ public interface TestMethodRunner {
         GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.enableAndRun(() ->
             GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
     }
+
+    @TestOnly
+    static <E extends Exception> void runPackedUnordered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code)));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runPackedOrdered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code)));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runOffHeapUnordered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code)));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runOffHeapOrdered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code)));
+    }
 }